@@ -20,10 +20,15 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTaskTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskTracker;
+import seedu.address.model.TaskTrackerFileFormat;
+import seedu.address.model.UndoHistoryJournal;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonTaskTrackerStorage;
+import seedu.address.storage.BinaryTaskTrackerStorage;
+import seedu.address.storage.JournaledTaskTrackerStorage;
+import seedu.address.storage.JsonUndoHistoryJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedTaskTrackerStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TaskTrackerStorage;
@@ -56,23 +61,42 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskTrackerStorage taskTrackerStorage = new JsonTaskTrackerStorage(userPrefs.getTaskTrackerFilePath());
-        storage = new StorageManager(taskTrackerStorage, userPrefsStorage);
+        TaskTrackerStorage taskTrackerStorage = initTaskTrackerStorage(userPrefs);
+        storage = new StorageManager(taskTrackerStorage, userPrefsStorage, userPrefs.getMaxSaveDelay());
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        UndoHistoryJournal undoHistoryJournal = new JsonUndoHistoryJournal(
+                JsonUndoHistoryJournal.getJournalFilePath(userPrefs.getTaskTrackerFilePath()));
+        model = initModelManager(storage, userPrefs, undoHistoryJournal);
 
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data file in the format chosen in {@code userPrefs}.
+     */
+    private TaskTrackerStorage initTaskTrackerStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getTaskTrackerFilePath();
+        switch (userPrefs.getTaskTrackerFileFormat()) {
+        case BINARY:
+            return new BinaryTaskTrackerStorage(filePath);
+        case MAPPED:
+            return new MappedTaskTrackerStorage(filePath);
+        default:
+            return new JournaledTaskTrackerStorage(filePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The undo history in {@code undoHistoryJournal} is only continued if the address book was read successfully.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            UndoHistoryJournal undoHistoryJournal) {
 
         Optional<ReadOnlyTaskTracker> taskTrackerOptional;
 
@@ -81,17 +105,70 @@ public class MainApp extends Application {
             taskTrackerOptional = storage.readTaskTracker();
             if (!taskTrackerOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample TaskTracker");
+                clearUndoHistory(undoHistoryJournal);
+            } else {
+                convertDataFileIfNeeded(storage, userPrefs.getTaskTrackerFileFormat(), taskTrackerOptional.get());
             }
             initialData = taskTrackerOptional.orElseGet(SampleDataUtil::getSampleTaskTracker);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty TaskTracker");
+            backUpDataFile(storage.getTaskTrackerFilePath());
             initialData = new TaskTracker();
+            clearUndoHistory(undoHistoryJournal);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskTracker");
             initialData = new TaskTracker();
+            clearUndoHistory(undoHistoryJournal);
+        }
+
+        return new ModelManager(initialData, userPrefs, undoHistoryJournal);
+    }
+
+    /**
+     * Saves {@code taskTracker}, which was just read from {@code storage}, if the data file is not in the
+     * {@code format} chosen in the user prefs, so that changing the format converts the data file.
+     */
+    private void convertDataFileIfNeeded(Storage storage, TaskTrackerFileFormat format,
+            ReadOnlyTaskTracker taskTracker) {
+        try {
+            if (getFileFormat(storage.getTaskTrackerFilePath()) != format) {
+                logger.info("Converting data file to the " + format + " format");
+                storage.saveTaskTracker(taskTracker);
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while converting the data file: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static TaskTrackerFileFormat getFileFormat(Path filePath) throws IOException {
+        if (BinaryTaskTrackerStorage.isBinaryFile(filePath)) {
+            return TaskTrackerFileFormat.BINARY;
+        }
+        if (MappedTaskTrackerStorage.isMappedFile(filePath)) {
+            return TaskTrackerFileFormat.MAPPED;
+        }
+        return TaskTrackerFileFormat.JSON;
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, which cannot be read, aside, so that the next save does not overwrite
+     * the tasks in it.
+     */
+    private void backUpDataFile(Path filePath) {
+        try {
+            Path backupFilePath = JournaledTaskTrackerStorage.backUpDataFile(filePath);
+            logger.warning("Data file kept as " + backupFilePath);
+        } catch (IOException e) {
+            logger.warning("Problem while keeping the data file: " + StringUtil.getDetails(e));
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    private void clearUndoHistory(UndoHistoryJournal undoHistoryJournal) {
+        try {
+            undoHistoryJournal.clear();
+        } catch (IOException e) {
+            logger.warning("Problem while clearing the undo history: " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -175,6 +252,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Task Tracker ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 
 /**
  * Writes and reads files
@@ -13,6 +21,8 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +90,68 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the location of the file next to {@code file} that has the same name, with its extension replaced by
+     * {@code extension}, such as {@code data/tasktracker.journal} for {@code data/tasktracker.json}.
+     */
+    public static Path getSiblingPath(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return file.resolveSibling(baseName + extension);
+    }
+
+    /**
+     * Replaces {@code target} with {@code source} in a single step where the file system allows it, so that
+     * {@code target} is never left partially written.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Passes each line of the file at {@code file} that is ended by a line feed to {@code reader}, in order, and
+     * returns the length of those lines. A last line without a line feed was only partly written when the
+     * application stopped, so it is cut off the file.
+     * Assumes file exists.
+     */
+    public static long readCompleteLines(Path file, LineReader reader) throws DataConversionException, IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        int lineStart = 0;
+        for (int lineEnd = indexOfLineEnd(bytes, 0); lineEnd != -1; lineEnd = indexOfLineEnd(bytes, lineStart)) {
+            reader.read(bytes, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+        }
+
+        if (lineStart < bytes.length) {
+            logger.info("Discarding incomplete line at the end of " + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+            }
+        }
+        return lineStart;
+    }
+
+    private static int indexOfLineEnd(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads one line of a file, which is the range of {@code bytes} from {@code start} up to its line feed at
+     * {@code end}.
+     */
+    @FunctionalInterface
+    public interface LineReader {
+        void read(byte[] bytes, int start, int end) throws DataConversionException;
+    }
+
 }
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out a canonical instance of an immutable value for each key, so that equal values share a single object.
+ * At most {@code capacity} canonical instances are kept. Once that many are kept, values for new keys are still
+ * created, but are not made canonical, so that an unbounded number of distinct keys cannot exhaust memory.
+ * Safe for use by multiple threads.
+ *
+ * @param <K> type of the keys that values are created from.
+ * @param <V> type of the values.
+ */
+public class Interner<K, V> {
+
+    private final Map<K, V> canonicalInstances = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+    private final int capacity;
+
+    /**
+     * Creates an {@code Interner} which creates values with {@code factory}, and keeps at most {@code capacity}
+     * canonical instances.
+     */
+    public Interner(Function<? super K, ? extends V> factory, int capacity) {
+        requireNonNull(factory);
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating it if there is none yet.
+     * Any exception thrown by the factory for an invalid key is passed on to the caller.
+     */
+    public V intern(K key) {
+        requireNonNull(key);
+        V canonicalInstance = canonicalInstances.get(key);
+        if (canonicalInstance != null) {
+            return canonicalInstance;
+        }
+
+        V newInstance = factory.apply(key);
+        if (canonicalInstances.size() >= capacity) {
+            return newInstance;
+        }
+        V existingInstance = canonicalInstances.putIfAbsent(key, newInstance);
+        return existingInstance == null ? newInstance : existingInstance;
+    }
+
+    /**
+     * Returns the number of canonical instances kept.
+     */
+    public int size() {
+        return canonicalInstances.size();
+    }
+}
@@ -0,0 +1,412 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure with the lists it is derived from.
+ * The elements are kept in a weight-balanced binary tree ordered by position, so {@code get}, {@code set},
+ * {@code add} and {@code remove} all take O(log n) time. Every update returns a new list that shares all but
+ * O(log n) of its nodes with the list it was derived from, which makes holding on to an older version of a
+ * list an O(1) snapshot.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    /*
+     * Balance parameters of the weight-balanced tree, as established by Hirai and Yamamoto for single insertions
+     * and deletions: neither subtree may be more than DELTA times as heavy as the other, and RATIO decides
+     * between a single and a double rotation when rebalancing.
+     */
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the given {@code elements}, in iteration order.
+     * Takes O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end of this list.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements to the right.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of the list.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements to the left.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = removeAt(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list.
+     */
+    public List<E> asList() {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements of this list, which visits each node of the tree once.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements of this list in reverse order.
+     */
+    public Iterator<E> descendingIterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushRightSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushRightSpine(node.left);
+                return node.value;
+            }
+
+            private void pushRightSpine(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.right) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the number of leading elements that this list shares with {@code other}, compared by reference.
+     * Subtrees that the two lists share are skipped without visiting their elements, so comparing a list with one
+     * derived from it by k updates takes O(k log n) time rather than time linear in the length of the lists.
+     */
+    public int commonPrefixLength(PersistentList<E> other) {
+        requireNonNull(other);
+        return commonLength(root, other.root, Math.min(size(), other.size()), false);
+    }
+
+    /**
+     * Returns the number of trailing elements, up to {@code limit}, that this list shares with {@code other},
+     * compared by reference. Takes the same time as {@link #commonPrefixLength(PersistentList)}.
+     */
+    public int commonSuffixLength(PersistentList<E> other, int limit) {
+        requireNonNull(other);
+        return commonLength(root, other.root, Math.min(limit, Math.min(size(), other.size())), true);
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    //// tree operations
+
+    /**
+     * A node of the tree. Nodes are immutable, so they can be shared between lists.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    /**
+     * Returns the number of elements, up to {@code limit}, that the trees under {@code first} and {@code second}
+     * share from their start, or from their end if {@code fromEnd}.
+     * Each tree is walked as a stack of the subtrees still to be visited, in order. A subtree at the top of both
+     * stacks is skipped whole; otherwise the larger of the two is split into its children and its own element,
+     * until single elements are compared.
+     */
+    private static <E> int commonLength(Node<E> first, Node<E> second, int limit, boolean fromEnd) {
+        Deque<Node<E>> firstPending = new ArrayDeque<>();
+        Deque<Node<E>> secondPending = new ArrayDeque<>();
+        pushIfPresent(firstPending, first);
+        pushIfPresent(secondPending, second);
+        int length = 0;
+        while (length < limit) {
+            Node<E> firstNext = firstPending.peek();
+            Node<E> secondNext = secondPending.peek();
+            if (firstNext == secondNext && firstNext.size <= limit - length) {
+                firstPending.pop();
+                secondPending.pop();
+                length += firstNext.size;
+            } else if (firstNext.size == 1 && secondNext.size == 1) {
+                if (firstNext.value != secondNext.value) {
+                    break;
+                }
+                firstPending.pop();
+                secondPending.pop();
+                length++;
+            } else {
+                if (firstNext.size >= secondNext.size) {
+                    split(firstPending, fromEnd);
+                }
+                if (secondNext.size >= firstNext.size) {
+                    split(secondPending, fromEnd);
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Replaces the subtree at the top of {@code pending} with its children and a single node of its own element,
+     * in the order that they are visited from the start, or from the end if {@code fromEnd}.
+     */
+    private static <E> void split(Deque<Node<E>> pending, boolean fromEnd) {
+        Node<E> node = pending.pop();
+        pushIfPresent(pending, fromEnd ? node.left : node.right);
+        pending.push(new Node<>(null, node.value, null));
+        pushIfPresent(pending, fromEnd ? node.right : node.left);
+    }
+
+    private static <E> void pushIfPresent(Deque<Node<E>> pending, Node<E> node) {
+        if (node != null) {
+            pending.push(node);
+        }
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements[mid], build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> setAt(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(setAt(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, setAt(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeAt(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, removeAt(node.right, index - leftSize - 1));
+        } else {
+            return glue(node.left, node.right);
+        }
+    }
+
+    /**
+     * Joins two balanced subtrees whose sizes differ by at most a factor of {@code DELTA}, by moving the
+     * boundary element of the heavier one to the root.
+     */
+    private static <E> Node<E> glue(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            int last = left.size - 1;
+            return balance(removeAt(left, last), elementAt(left, last), right);
+        } else {
+            return balance(left, elementAt(right, 0), removeAt(right, 0));
+        }
+    }
+
+    private static <E> E elementAt(Node<E> node, int index) {
+        return new PersistentList<>(node).get(index);
+    }
+
+    /**
+     * Returns a node with the given children that satisfies the balance invariant, assuming that the children
+     * are balanced and that their sizes were balanced before a single insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftSize = sizeOf(left);
+        int rightSize = sizeOf(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node<>(left, value, right);
+        } else if (rightSize > DELTA * leftSize) {
+            return sizeOf(right.left) < RATIO * sizeOf(right.right)
+                    ? new Node<>(new Node<>(left, value, right.left), right.value, right.right)
+                    : new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                            new Node<>(right.left.right, right.value, right.right));
+        } else if (leftSize > DELTA * rightSize) {
+            return sizeOf(left.right) < RATIO * sizeOf(left.left)
+                    ? new Node<>(left.left, left.value, new Node<>(left.right, value, right))
+                    : new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                            new Node<>(left.right.right, value, right));
+        } else {
+            return new Node<>(left, value, right);
+        }
+    }
+}
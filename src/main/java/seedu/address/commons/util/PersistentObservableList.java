@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * A modifiable {@code ObservableList} whose contents are stored in a {@link PersistentList}.
+ * Every mutation replaces the backing {@code PersistentList} with an updated version, so the current contents
+ * can be captured at any time in O(1) by {@link #snapshot()}, without copying, and are unaffected by later
+ * mutations of this list.
+ */
+public class PersistentObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentList<E> elements = PersistentList.empty();
+
+    /**
+     * Returns the current contents of this list.
+     */
+    public PersistentList<E> snapshot() {
+        return elements;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements}, firing a single change event for the range of
+     * elements where the two differ, or none if they are the same.
+     * Takes O(k log n) time for the k elements in that range, as {@code newElements} is shared rather than copied,
+     * and the parts that it shares with this list, such as when it is an earlier snapshot of this list, are skipped
+     * without visiting their elements.
+     */
+    public void setAll(PersistentList<E> newElements) {
+        requireNonNull(newElements);
+        PersistentList<E> oldElements = elements;
+        int from = oldElements.commonPrefixLength(newElements);
+        int suffixLength = oldElements.commonSuffixLength(newElements,
+                Math.min(oldElements.size(), newElements.size()) - from);
+        int oldTo = oldElements.size() - suffixLength;
+        int newTo = newElements.size() - suffixLength;
+        elements = newElements;
+        if (from == oldTo && from == newTo) {
+            return;
+        }
+
+        beginChange();
+        try {
+            // the old version is immutable, so it can be reported as the removed elements without a copy
+            List<E> removed = oldElements.asList().subList(from, oldTo);
+            if (removed.isEmpty()) {
+                nextAdd(from, newTo);
+            } else if (from == newTo) {
+                nextRemove(from, removed);
+            } else {
+                nextReplace(from, newTo, removed);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements}, firing a single change event.
+     * Unlike {@link ModifiableObservableListBase#setAll(Collection)}, the new contents are built in one pass
+     * instead of being inserted one element at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        setAll(PersistentList.<E>of(newElements));
+        return true;
+    }
+
+    /**
+     * Removes the element at {@code index}, and inserts {@code element} at {@code newIndex} of the remaining
+     * elements, firing a single change event.
+     */
+    public void move(int index, int newIndex, E element) {
+        if (index == newIndex) {
+            set(index, element);
+            return;
+        }
+
+        beginChange();
+        try {
+            remove(index);
+            add(newIndex, element);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E oldElement = elements.get(index);
+        elements = elements.set(index, element);
+        return oldElement;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E oldElement = elements.get(index);
+        elements = elements.remove(index);
+        return oldElement;
+    }
+}
@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -40,6 +43,74 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence} in lower case, in the order they appear.
+     * Words are separated by whitespace, as in {@link #containsWordIgnoreCase(String, String)}, so a word of
+     * {@code sentence} matches a word given to that method exactly when their lower case forms are equal.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords(" ABc  def ") == ["abc", "def"]
+     *       toLowerCaseWords("") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isWordEnd = i == sentence.length() || isWhitespace(sentence.charAt(i));
+            if (isWordEnd && wordStart >= 0) {
+                words.add(sentence.substring(wordStart, i).toLowerCase(Locale.ROOT));
+                wordStart = -1;
+            } else if (!isWordEnd && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the edit (Levenshtein) distance between {@code first} and {@code second}, which is the least number of
+     * characters that must be inserted, deleted or replaced to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("assigment", "assignment") == 1
+     *       editDistance("quiz", "quiz") == 0
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // Only the previous row of the distance table is needed to compute the next one.
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + replaceCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
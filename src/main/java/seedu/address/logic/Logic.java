@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +10,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
 
 /**
@@ -24,6 +27,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the tasks in {@code tasks} that the command would list, in the same order, without executing it.
+     * Returns an empty {@code Optional} if the command cannot be previewed, as it does not only list the tasks that
+     * pass a predicate. Unlike {@link #execute(String)}, this may be called from any thread, with a snapshot of the
+     * task list.
+     *
+     * @param commandText The command as typed by the user so far.
+     * @param tasks The tasks to test, which must not change while they are tested.
+     * @throws ParseException If an error occurs during parsing.
+     * @throws InterruptedException If the thread is interrupted while the tasks are tested.
+     */
+    Optional<List<Task>> previewCommand(String commandText, List<Task> tasks)
+            throws ParseException, InterruptedException;
+
     /**
      * Returns the TaskTracker.
      *
@@ -32,6 +49,14 @@ public interface Logic {
 
     ReadOnlyTaskTracker getTaskTracker();
 
+    /**
+     * Returns the current state of the TaskTracker, which is unaffected by later changes to it, so that its tasks can
+     * be read from any thread. Takes O(1) time, as the state shares its tasks with the TaskTracker.
+     *
+     * @see seedu.address.model.TaskTracker#snapshot()
+     */
+    ReadOnlyTaskTracker getTaskTrackerSnapshot();
+
 
     /**
      * Returns an unmodifiable view of the filtered list of tasks
@@ -44,6 +69,13 @@ public interface Logic {
      */
     ObservableList<Task> getDailyTaskList();
 
+    /**
+     * Returns the tasks bucketed by the day and week of their deadlines.
+     *
+     * @see seedu.address.model.Model#getDeadlineCalendar()
+     */
+    DeadlineCalendar getDeadlineCalendar();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,20 +1,30 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.Observable;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.SortCommandParser;
 import seedu.address.logic.parser.TaskTrackerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.util.NonModifyingCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
 import seedu.address.storage.Storage;
 
@@ -24,12 +34,19 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+
+    /** Number of tasks tested between checks for the interruption of a preview. */
+    private static final int PREVIEW_INTERRUPT_CHECK_INTERVAL = 1024;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TaskTrackerParser taskTrackerParser;
 
+    /** Whether the TaskTracker has changed since it was last saved. */
+    private boolean isTaskTrackerModified;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -37,7 +54,29 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         taskTrackerParser = new TaskTrackerParser();
+        restoreSortOrder();
         model.commitTaskTracker(model.getTaskTracker());
+
+        ReadOnlyTaskTracker taskTracker = model.getTaskTracker();
+        taskTracker.getTaskList().addListener((Observable unused) -> isTaskTrackerModified = true);
+        taskTracker.getDailyTaskList().addListener((Observable unused) -> isTaskTrackerModified = true);
+    }
+
+    /**
+     * Keeps the task list in the sort order saved in the user prefs, if there is one.
+     */
+    private void restoreSortOrder() {
+        String sortOrder = model.getUserPrefs().getSortOrder();
+        if (sortOrder.isEmpty()) {
+            return;
+        }
+
+        try {
+            new SortCommandParser().parse(sortOrder).execute(model);
+        } catch (ParseException pe) {
+            logger.warning("Sort order in user prefs is invalid and will be discarded: " + sortOrder);
+            model.setSortOrder("");
+        }
     }
 
     @Override
@@ -50,8 +89,12 @@ public class LogicManager implements Logic {
 
         commitTaskTracker(command);
 
+        if (!isTaskTrackerModified) {
+            return commandResult;
+        }
         try {
             storage.saveTaskTracker(model.getTaskTracker());
+            isTaskTrackerModified = false;
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -59,6 +102,29 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public Optional<List<Task>> previewCommand(String commandText, List<Task> tasks)
+            throws ParseException, InterruptedException {
+        requireNonNull(commandText);
+        requireNonNull(tasks);
+        Optional<Predicate<Task>> predicate = taskTrackerParser.parseCommand(commandText).getPreviewPredicate();
+        if (predicate.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Task> previewedTasks = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i % PREVIEW_INTERRUPT_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Task task = tasks.get(i);
+            if (predicate.get().test(task)) {
+                previewedTasks.add(task);
+            }
+        }
+        return Optional.of(previewedTasks);
+    }
+
     private void commitTaskTracker(Command command) {
         if (!isNonModifyingCommand(command)) {
             model.commitTaskTracker((model.getTaskTracker()));
@@ -80,6 +146,11 @@ public class LogicManager implements Logic {
 
     }
 
+    @Override
+    public ReadOnlyTaskTracker getTaskTrackerSnapshot() {
+        return TaskTracker.snapshotOf(model.getTaskTracker());
+    }
+
     @Override
     public ObservableList<Task> getFilteredTaskList() {
         return model.getFilteredTaskList();
@@ -91,6 +162,11 @@ public class LogicManager implements Logic {
         return model.getDailyTaskList();
     }
 
+    @Override
+    public DeadlineCalendar getDeadlineCalendar() {
+        return model.getDeadlineCalendar();
+    }
+
     @Override
     public Path getTaskTrackerFilePath() {
         return model.getTaskTrackerFilePath();
@@ -1,7 +1,11 @@
 package seedu.address.logic.commands;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Task;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +21,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the predicate of the tasks that this command lists, if it only lists the tasks that pass a predicate
+     * that can be tested without a model, such as to preview its tasks while it is being typed.
+     * The predicate must be safe to test from any thread.
+     */
+    public Optional<Predicate<Task>> getPreviewPredicate() {
+        return Optional.empty();
+    }
+
 }
@@ -2,7 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.Task;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +21,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Upcoming tasks to be shown apart from the task list, or null if there are none to show. */
+    private final List<Task> upcomingTasks;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +31,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.upcomingTasks = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code upcomingTasks} to be
+     * shown apart from the task list, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, List<Task> upcomingTasks) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.upcomingTasks = List.copyOf(upcomingTasks);
     }
 
     /**
@@ -46,6 +65,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<List<Task>> getUpcomingTasks() {
+        return Optional.ofNullable(upcomingTasks);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +83,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(upcomingTasks, otherCommandResult.upcomingTasks);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, upcomingTasks);
     }
 
 }
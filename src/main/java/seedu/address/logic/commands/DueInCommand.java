@@ -2,23 +2,35 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.DeadlineDateInRangePredicate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Task;
 
 /**
- * Finds and lists all tasks in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all tasks in address book whose deadline date is within the next number of days or weeks, or
+ * between two dates.
+ * Tasks in range are looked up in the deadline index of the task tracker, and the model shows the tasks with their ids
+ * without visiting the other tasks. Tasks that are added or edited while they are listed are tested with the predicate.
  */
 public class DueInCommand extends Command {
 
     public static final String COMMAND_WORD = "dueIn";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose date is "
-            + "in range of the specified days or weeks.\n"
-            + "Parameters: day/NUMBER_OF_DAYS OR week/NUMBER_OF_WEEKS\n"
+            + "in range of the specified days or weeks, or between the specified dates.\n"
+            + "Parameters: day/NUMBER_OF_DAYS OR week/NUMBER_OF_WEEKS OR [from/START_DATE] [to/END_DATE]\n"
             + "NUMBER_OF_DAYS and NUMBER_OF_WEEKS must be a positive integer.\n"
+            + "START_DATE and END_DATE must be in DD-MM-YYYY format, and may be earlier than today. "
+            + "Without START_DATE, the range starts today.\n"
             + "Example: " + COMMAND_WORD + " day/10\n"
+            + "Example: " + COMMAND_WORD + " from/01-10-2022 to/31-10-2022\n"
             + "If no parameters specified, the command will show assignments within the next 7 days.\n"
             + "If multiple parameters specified, an error will be thrown.\n"
             + "The limit for dueIn is until 31-12-2099";
@@ -32,12 +44,19 @@ public class DueInCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        Set<Long> idsInRange = new HashSet<>(
+                model.findTaskIdsDueBetween(predicate.getStartDate(), predicate.getEndDate()));
+        model.updateFilteredTaskList(new IndexedPredicate(predicate, idsInRange));
         return new CommandResult(
                 String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getFilteredTaskList().size())
                         + predicate.toString());
     }
 
+    @Override
+    public Optional<Predicate<Task>> getPreviewPredicate() {
+        return Optional.of(predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
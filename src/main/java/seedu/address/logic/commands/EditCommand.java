@@ -75,15 +75,12 @@ public class EditCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
-        List<Task> lastShownDailyTaskList = model.getDailyTaskList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
         Task taskToEdit = lastShownList.get(index.getZeroBased());
-        int dailyTaskIndex = lastShownDailyTaskList.indexOf(taskToEdit);
-
         Task editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
 
         if (!taskToEdit.isSameTask(editedTask) && model.hasTask(editedTask)) {
@@ -91,7 +88,6 @@ public class EditCommand extends Command {
         }
 
         model.setTask(taskToEdit, editedTask);
-        model.refreshDailyTasks(taskToEdit, editedTask);
 
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, editedTask));
     }
@@ -116,7 +112,7 @@ public class EditCommand extends Command {
         PriorityTag priorityTag = editTaskDescriptor.getPriorityTag().orElse(taskToEdit.getPriorityTag());
         Set<Tag> updatedTags = editTaskDescriptor.getTags().orElse(taskToEdit.getTags());
 
-        return new Task(updatedTaskName, updatedModuleCode, updatedDeadlineDate,
+        return new Task(taskToEdit.getId(), updatedTaskName, updatedModuleCode, updatedDeadlineDate,
             updatedDeadlineTime, updatedStatus, updatedWeightage,
                 updatedNotes, updatedTags, priorityTag);
     }
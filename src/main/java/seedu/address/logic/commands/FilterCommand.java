@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.filter.FilterPredicate;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Task;
+
+/**
+ * Lists all tasks in the task tracker that match a query of conditions on their fields, combined with AND, OR and
+ * NOT. The conditions are tested in the order planned by the filter, cheapest and most selective first, and the tasks
+ * with the module codes, tags and priority tags in the query are looked up in the task tracker instead of tested.
+ * When the query only has those conditions, combined with AND, the model shows the tasks found by their ids without
+ * visiting the other tasks.
+ * Tasks that are added or edited while they are listed are tested against the query.
+ * A query that only narrows the previous query is only tested on the tasks listed by the previous query.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all tasks that match the query, "
+            + "made of conditions combined with AND, OR, NOT and parentheses. Conditions next to each other must "
+            + "all match.\n"
+            + "Conditions: n/WORD (word in name), mc/MODULE_CODE, pt/TAG, ptag/PRIORITY, s/finished OR s/unfinished, "
+            + "w/WEIGHTAGE OR w/MIN_WEIGHTAGE-MAX_WEIGHTAGE, from/START_DATE, to/END_DATE (deadline, DD-MM-YYYY)\n"
+            + "Example: " + COMMAND_WORD + " mc/CS2103 s/unfinished (ptag/HIGH OR pt/URGENT) NOT n/quiz\n"
+            + "Example: " + COMMAND_WORD + " w/20%-100% from/01-04-2021 to/30-04-2021";
+
+    private final TaskFilter filter;
+
+    /**
+     * Creates a FilterCommand to list the tasks that pass {@code filter}.
+     */
+    public FilterCommand(TaskFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        FilterPredicate predicate = new FilterPredicate(filter);
+        Optional<Set<Long>> ids = filter.findTaskIds(model);
+        model.updateFilteredTaskList(ids.isPresent()
+                ? new IndexedPredicate(predicate, ids.get())
+                : new IndexedPredicate(predicate, filter.compile(model)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
+    }
+
+    @Override
+    public Optional<Predicate<Task>> getPreviewPredicate() {
+        return Optional.of(filter.compile());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                && filter.equals(((FilterCommand) other).filter)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return "FILTER";
+    }
+}
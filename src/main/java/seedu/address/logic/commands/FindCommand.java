@@ -2,42 +2,94 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskWordIndex;
 
 /**
  * Finds and lists all tasks in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * In similar mode, tasks whose names have words containing a keyword, or a keyword with a few typos, are also
+ * listed, with the closest matches first.
+ * Matching tasks are looked up in the word index of the task tracker, instead of testing every task with the
+ * predicate. Tasks that are added or edited while they are listed are tested, and ranked, with the keywords.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String SIMILAR_FLAG = "-f";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "With the " + SIMILAR_FLAG + " flag, also finds tasks whose names have words containing a keyword, "
+            + "or a keyword with a few typos, and displays the closest matches first.\n"
+            + "Parameters: [" + SIMILAR_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + SIMILAR_FLAG + " assigment";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isSimilarMode;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand to find tasks matching the keywords of {@code predicate}, or with words similar to them
+     * if {@code isSimilarMode} is true.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isSimilarMode) {
         this.predicate = predicate;
+        this.isSimilarMode = isSimilarMode;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        if (isSimilarMode) {
+            NameSimilarToKeywordsPredicate similarPredicate =
+                    new NameSimilarToKeywordsPredicate(predicate.getKeywords());
+            Map<Long, Integer> ranks = model.findSimilarTaskIds(TaskWordIndex.Field.NAME, predicate.getKeywords());
+            IndexedPredicate indexedPredicate = new IndexedPredicate(similarPredicate, ranks.keySet());
+            // tasks added or edited after the lookup are ranked again, as their ranks in the index may be outdated
+            Comparator<Task> ranking = Comparator.comparingInt(task -> indexedPredicate.isFound(task)
+                    ? ranks.get(task.getId())
+                    : similarPredicate.getRank(task).orElse(Integer.MAX_VALUE));
+            model.updateFilteredTaskList(indexedPredicate, ranking);
+        } else {
+            Set<Long> matchingIds = model.findTaskIds(TaskWordIndex.Field.NAME, predicate.getKeywords());
+            model.updateFilteredTaskList(new IndexedPredicate(predicate, matchingIds));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, model.getFilteredTaskList().size()));
     }
 
+    /**
+     * Returns the predicate of the tasks found, unless similar words are also found, as those are looked up in the
+     * word index of the model.
+     */
+    @Override
+    public Optional<Predicate<Task>> getPreviewPredicate() {
+        return isSimilarMode ? Optional.empty() : Optional.of(predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate) // state check
+                && isSimilarMode == ((FindCommand) other).isSimilarMode);
     }
 
     @Override
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITYTAG;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.Task;
+
+/**
+ * Shows the unfinished tasks with the nearest upcoming deadlines, optionally of a module or priority, apart from the
+ * task list. The order and filter of the task list are left unchanged.
+ * The tasks are found by walking the deadline index of the task tracker from now, instead of sorting the tasks.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the unfinished tasks with the nearest "
+            + "upcoming deadlines, without changing the task list.\n"
+            + "Parameters: [COUNT] [" + PREFIX_CODE + "MODULE_CODE] ["
+            + PREFIX_PRIORITYTAG + "PRIORITY_TAG]\n"
+            + "COUNT must be a positive integer, and is " + DEFAULT_COUNT + " if not specified.\n"
+            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_CODE + "CS2103";
+
+    public static final String MESSAGE_NEXT_TASKS = "Next %1$d unfinished deadline(s) shown";
+
+    public static final String MESSAGE_NO_TASKS = "There are no upcoming unfinished deadlines";
+
+    private final int count;
+    private final TaskFilter filter;
+
+    /**
+     * Creates a {@code NextCommand} that shows the next {@code count} tasks that pass {@code filter}, which should only
+     * pass unfinished tasks.
+     */
+    public NextCommand(int count, TaskFilter filter) {
+        requireNonNull(filter);
+        checkArgument(count > 0, "The number of tasks must be positive.");
+        this.count = count;
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Task> nextTasks = model.findNextTasksDue(LocalDateTime.now(), filter.compile(model), count);
+        String feedback = nextTasks.isEmpty()
+                ? MESSAGE_NO_TASKS
+                : String.format(MESSAGE_NEXT_TASKS, nextTasks.size());
+        return new CommandResult(feedback, nextTasks);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NextCommand // instanceof handles nulls
+                && count == ((NextCommand) other).count
+                && filter.equals(((NextCommand) other).filter)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return "NEXT";
+    }
+}
@@ -54,14 +54,13 @@ public class NotesCommand extends Command {
         }
 
         Task taskToEdit = lastShownList.get(index.getZeroBased());
-        Task editedTask = new Task(taskToEdit.getTaskName(), taskToEdit.getModuleCode(),
+        Task editedTask = new Task(taskToEdit.getId(), taskToEdit.getTaskName(), taskToEdit.getModuleCode(),
                 taskToEdit.getDeadlineDate(), taskToEdit.getDeadlineTime(),
                 taskToEdit.getStatus(), taskToEdit.getWeightage(),
                 notes, taskToEdit.getTags(), taskToEdit.getPriorityTag());
 
         model.setTask(taskToEdit, editedTask);
         model.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
-        model.refreshDailyTasks(taskToEdit, editedTask);
 
         return new CommandResult(generateSuccessMessage(editedTask));
     }
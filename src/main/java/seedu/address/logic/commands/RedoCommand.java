@@ -5,7 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.TaskTracker;
+import seedu.address.model.ReadOnlyTaskTracker;
 
 /**
  * Redoes the last non-undo Command
@@ -25,7 +25,7 @@ public class RedoCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_REDO_COMMAND);
         }
 
-        TaskTracker redoneTaskTracker = model.redoTaskTracker();
+        ReadOnlyTaskTracker redoneTaskTracker = model.redoTaskTracker();
         model.setTaskTracker((redoneTaskTracker));
 
         return new CommandResult(MESSAGE_SUCCESS);
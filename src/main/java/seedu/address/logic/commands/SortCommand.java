@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.comparators.DateTimeComparator;
 import seedu.address.logic.comparators.ModuleCodeComparator;
@@ -10,20 +12,24 @@ import seedu.address.logic.comparators.PriorityTagComparator;
 import seedu.address.logic.comparators.TaskNameComparator;
 import seedu.address.logic.comparators.WeightageComparator;
 import seedu.address.logic.util.SortingFlag;
+import seedu.address.logic.util.SortingType;
 import seedu.address.model.Model;
-import seedu.address.model.person.Task;
+import seedu.address.model.person.ColumnarComparator;
 
 public class SortCommand extends Command {
 
     public static final String COMMAND_WORD = "sort";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all tasks according to one of five"
-            + " specified parameters: date & time, task name, module code, priority tag, or weightage.\n";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts all tasks according to one or more of five"
+            + " specified parameters: date & time, task name, module code, priority tag, or weightage.\n"
+            + "Tasks that are equal by a parameter are sorted by the next parameter. Add "
+            + SortingFlag.REVERSED_SUFFIX + " to the end of a parameter to reverse its order.\n"
+            + "Example: " + COMMAND_WORD + " dateTime priorityTag" + SortingFlag.REVERSED_SUFFIX + " weightage\n";
 
     public static final String MESSAGE_SUCCESS = "Tasks have been successfully sorted according to: ";
 
-    private final SortingFlag sortingFlag;
-    private final Comparator<Task> sortingComparator;
+    private final List<SortingFlag> sortingFlags;
+    private final ColumnarComparator sortingComparator;
 
     /**
      * Creates a SortCommand with the appropriate sorting flag and comparator.
@@ -31,40 +37,64 @@ public class SortCommand extends Command {
      * @throws IllegalStateException if the sorting flag provided is not valid.
      */
     public SortCommand(SortingFlag sortingFlag) {
-        this.sortingFlag = sortingFlag;
-        switch (sortingFlag.getSortingType()) {
+        this(List.of(sortingFlag));
+    }
+
+    /**
+     * Creates a SortCommand which sorts by each of the {@code sortingFlags} in turn, for tasks that are equal by
+     * all the earlier flags.
+     * @param sortingFlags a non-empty list of valid sorting flags
+     * @throws IllegalStateException if any of the sorting flags provided is not valid.
+     */
+    public SortCommand(List<SortingFlag> sortingFlags) {
+        requireNonNull(sortingFlags);
+        checkArgument(!sortingFlags.isEmpty());
+        this.sortingFlags = List.copyOf(sortingFlags);
+
+        ColumnarComparator comparator = null;
+        for (SortingFlag sortingFlag : this.sortingFlags) {
+            ColumnarComparator flagComparator = getComparator(sortingFlag.getSortingType());
+            if (sortingFlag.isReversed()) {
+                flagComparator = flagComparator.reversed();
+            }
+            comparator = comparator == null ? flagComparator : comparator.thenComparing(flagComparator);
+        }
+        sortingComparator = comparator;
+    }
+
+    private static ColumnarComparator getComparator(SortingType sortingType) {
+        switch (sortingType) {
         case DATE_TIME:
-            sortingComparator = new DateTimeComparator();
-            break;
+            return new DateTimeComparator();
         case TASK_NAME:
-            sortingComparator = new TaskNameComparator();
-            break;
+            return new TaskNameComparator();
         case MODULE_CODE:
-            sortingComparator = new ModuleCodeComparator();
-            break;
+            return new ModuleCodeComparator();
         case PRIORITY_TAG:
-            sortingComparator = new PriorityTagComparator();
-            break;
+            return new PriorityTagComparator();
         case WEIGHTAGE:
-            sortingComparator = new WeightageComparator();
-            break;
+            return new WeightageComparator();
         default:
-            throw new IllegalStateException("Unexpected value: " + sortingFlag.getSortingType());
+            throw new IllegalStateException("Unexpected value: " + sortingType);
         }
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        String sortOrder = sortingFlags.stream()
+                .map(SortingFlag::toString)
+                .collect(Collectors.joining(" "));
         model.sortTasks(sortingComparator);
-        return new CommandResult(MESSAGE_SUCCESS + sortingFlag.toString());
+        model.setSortOrder(sortOrder);
+        return new CommandResult(MESSAGE_SUCCESS + sortOrder);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SortCommand) // instanceof handles null
-                && sortingFlag.equals(((SortCommand) other).sortingFlag); // state check
+                && sortingFlags.equals(((SortCommand) other).sortingFlags); // state check
     }
 
     @Override
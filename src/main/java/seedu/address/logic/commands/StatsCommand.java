@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.TaskAggregate;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.tag.PriorityTag;
+
+/**
+ * Shows the workload in the task tracker: the number of tasks and the sum of their weightages, in total and of the
+ * unfinished tasks, over all the tasks and by status, priority, module and week of the deadline.
+ * The numbers are read from the running aggregates of the task tracker, without going through the tasks.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of tasks and their weightage, "
+            + "in total and by status, priority, module and week of the deadline.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_TASKS = "There are no tasks.";
+
+    public static final String MESSAGE_STATS = "Workload: %1$s\nBy status:\n%2$s\nBy priority:\n%3$s\n"
+            + "By module:\n%4$s\nDue by week:\n%5$s";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        TaskAggregates aggregates = model.getTaskAggregates();
+        TaskAggregate total = aggregates.getTotal();
+        if (total.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TASKS);
+        }
+
+        return new CommandResult(String.format(MESSAGE_STATS, describe(total),
+                list(aggregates.getByStatus(), Status::toString, StatsCommand::describeStatus),
+                list(aggregates.getByPriority(), PriorityTag::getTagName, StatsCommand::describe),
+                list(aggregates.getByModuleCode(), ModuleCode::toString, StatsCommand::describe),
+                list(aggregates.getByDueWeek(), StatsCommand::describeWeek, StatsCommand::describe)));
+    }
+
+    private static <K> String list(Map<K, TaskAggregate> aggregates, Function<K, String> describeKey,
+            Function<TaskAggregate, String> describeAggregate) {
+        return aggregates.entrySet().stream()
+                .map(entry -> "  " + describeKey.apply(entry.getKey()) + ": "
+                        + describeAggregate.apply(entry.getValue()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Returns a description of the tasks of {@code aggregate}, such as
+     * "3 tasks, 2 unfinished, 40% of 60% weightage outstanding".
+     */
+    static String describe(TaskAggregate aggregate) {
+        return String.format("%s, %d unfinished, %d%% of %d%% weightage outstanding",
+                describeCount(aggregate.getTaskCount()), aggregate.getUnfinishedTaskCount(),
+                aggregate.getOutstandingWeightage(), aggregate.getTotalWeightage());
+    }
+
+    private static String describeStatus(TaskAggregate aggregate) {
+        return String.format("%s, %d%% weightage", describeCount(aggregate.getTaskCount()),
+                aggregate.getTotalWeightage());
+    }
+
+    private static String describeCount(int taskCount) {
+        return taskCount + (taskCount == 1 ? " task" : " tasks");
+    }
+
+    /**
+     * Returns a description of the ISO week starting on {@code monday}, such as "2022-W40 (03-10-2022 to 09-10-2022)".
+     */
+    static String describeWeek(LocalDate monday) {
+        return String.format("%d-W%02d (%s to %s)", monday.get(IsoFields.WEEK_BASED_YEAR),
+                monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), monday.format(DATE_FORMATTER),
+                monday.plusDays(6).format(DATE_FORMATTER));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof StatsCommand; // all stats commands are the same
+    }
+
+    @Override
+    public String toString() {
+        return "STATS";
+    }
+}
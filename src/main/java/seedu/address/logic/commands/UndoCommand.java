@@ -5,7 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.TaskTracker;
+import seedu.address.model.ReadOnlyTaskTracker;
 
 /**
  * Undoes the last command and reverts to the previous TaskTracker state
@@ -25,7 +25,7 @@ public class UndoCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_UNDO_COMMAND);
         }
 
-        TaskTracker undoneTaskTracker = model.undoTaskTracker();
+        ReadOnlyTaskTracker undoneTaskTracker = model.undoTaskTracker();
         model.setTaskTracker((undoneTaskTracker));
 
         return new CommandResult(MESSAGE_SUCCESS);
@@ -1,13 +1,15 @@
 package seedu.address.logic.comparators;
 
-import java.util.Comparator;
-
+import seedu.address.model.person.ColumnarComparator;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskColumns;
 
 /**
  * Comparator that compares tasks according to their deadline dates and times.
  */
-public class DateTimeComparator implements Comparator<Task> {
+public class DateTimeComparator implements ColumnarComparator {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
 
     @Override
     public int compare(Task firstTask, Task secondTask) {
@@ -17,4 +19,16 @@ public class DateTimeComparator implements Comparator<Task> {
             return firstTask.getDeadlineDate().compareTo(secondTask.getDeadlineDate());
         }
     }
+
+    @Override
+    public long getSortKey(TaskColumns columns, int row) {
+        return (long) (columns.getEpochDay(row) - columns.getMinEpochDay()) * MINUTES_PER_DAY
+                + columns.getMinuteOfDay(row);
+    }
+
+    @Override
+    public int getSortKeyBits(TaskColumns columns) {
+        return ColumnarComparator.bitsToHold(
+                (long) (columns.getMaxEpochDay() - columns.getMinEpochDay() + 1) * MINUTES_PER_DAY - 1);
+    }
 }
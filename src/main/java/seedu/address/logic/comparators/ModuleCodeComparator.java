@@ -1,16 +1,26 @@
 package seedu.address.logic.comparators;
 
-import java.util.Comparator;
-
+import seedu.address.model.person.ColumnarComparator;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskColumns;
 
 /**
  * Comparator that compares tasks according to their module codes.
  */
-public class ModuleCodeComparator implements Comparator<Task> {
+public class ModuleCodeComparator implements ColumnarComparator {
 
     @Override
     public int compare(Task firstTask, Task secondTask) {
         return firstTask.getModuleCode().compareTo(secondTask.getModuleCode());
     }
+
+    @Override
+    public long getSortKey(TaskColumns columns, int row) {
+        return columns.getModuleCodeRank(row);
+    }
+
+    @Override
+    public int getSortKeyBits(TaskColumns columns) {
+        return ColumnarComparator.bitsToHold(Math.max(0, columns.getModuleCodeCount() - 1));
+    }
 }
@@ -1,16 +1,30 @@
 package seedu.address.logic.comparators;
 
-import java.util.Comparator;
-
+import seedu.address.model.person.ColumnarComparator;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskColumns;
+import seedu.address.model.tag.State;
 
 /**
  * Comparator that compares tasks according to their priority tags.
  */
-public class PriorityTagComparator implements Comparator<Task> {
+public class PriorityTagComparator implements ColumnarComparator {
+
+    private static final int HIGHEST_PRIORITY = State.HIGH.getPriorityValue();
 
     @Override
     public int compare(Task firstTask, Task secondTask) {
         return secondTask.getPriorityTag().getPriority() - firstTask.getPriorityTag().getPriority();
     }
+
+    @Override
+    public long getSortKey(TaskColumns columns, int row) {
+        // Tasks of higher priority come first.
+        return HIGHEST_PRIORITY - columns.getPriority(row);
+    }
+
+    @Override
+    public int getSortKeyBits(TaskColumns columns) {
+        return ColumnarComparator.bitsToHold(HIGHEST_PRIORITY);
+    }
 }
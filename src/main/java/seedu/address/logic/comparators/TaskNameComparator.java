@@ -1,16 +1,26 @@
 package seedu.address.logic.comparators;
 
-import java.util.Comparator;
-
+import seedu.address.model.person.ColumnarComparator;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskColumns;
 
 /**
- * Comparator that compares tasks according to their module codes.
+ * Comparator that compares tasks according to their names.
  */
-public class TaskNameComparator implements Comparator<Task> {
+public class TaskNameComparator implements ColumnarComparator {
 
     @Override
     public int compare(Task firstTask, Task secondTask) {
         return firstTask.getTaskName().compareTo(secondTask.getTaskName());
     }
+
+    @Override
+    public long getSortKey(TaskColumns columns, int row) {
+        return columns.getTaskNameRank(row);
+    }
+
+    @Override
+    public int getSortKeyBits(TaskColumns columns) {
+        return ColumnarComparator.bitsToHold(Math.max(0, columns.getTaskNameCount() - 1));
+    }
 }
@@ -1,16 +1,28 @@
 package seedu.address.logic.comparators;
 
-import java.util.Comparator;
-
+import seedu.address.model.person.ColumnarComparator;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskColumns;
+import seedu.address.model.person.Weightage;
 
 /**
  * Comparator that compares tasks according to their weightage.
  */
-public class WeightageComparator implements Comparator<Task> {
+public class WeightageComparator implements ColumnarComparator {
 
     @Override
     public int compare(Task firstTask, Task secondTask) {
         return secondTask.getWeightage().compareTo(firstTask.getWeightage());
     }
+
+    @Override
+    public long getSortKey(TaskColumns columns, int row) {
+        // Tasks of higher weightage come first.
+        return Weightage.MAX_WEIGHTAGE - columns.getWeightage(row);
+    }
+
+    @Override
+    public int getSortKeyBits(TaskColumns columns) {
+        return ColumnarComparator.bitsToHold(Weightage.MAX_WEIGHTAGE);
+    }
 }
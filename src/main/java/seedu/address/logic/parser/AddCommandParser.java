@@ -59,7 +59,7 @@ public class AddCommandParser implements Parser<AddCommand> {
             .getValue(PREFIX_DEADLINE_DATE).get());
         DeadlineTime deadlineTime = ParserUtil.parseDeadlineTime(argMultimap
             .getValue(PREFIX_DEADLINE_TIME).get());
-        Status status = new Status();
+        Status status = Status.unfinished();
         Notes notes = new Notes(""); // add command does not allow adding notes straightaway
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
 
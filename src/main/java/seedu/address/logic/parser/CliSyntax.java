@@ -16,5 +16,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_PRIORITYTAG = new Prefix("ptag/");
     public static final Prefix PREFIX_NUMBER_OF_DAY = new Prefix("day/");
     public static final Prefix PREFIX_NUMBER_OF_WEEK = new Prefix("week/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+    public static final Prefix PREFIX_STATUS = new Prefix("s/");
 
 }
@@ -1,8 +1,12 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_OF_DAY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NUMBER_OF_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
 
 import seedu.address.logic.commands.DueInCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -20,33 +24,63 @@ public class DueInCommandParser implements Parser<DueInCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DueInCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NUMBER_OF_DAY, PREFIX_NUMBER_OF_WEEK);
-        long numberOfDays;
-        if (argMultimap.getValue(PREFIX_NUMBER_OF_DAY).isPresent()
-                && argMultimap.getValue(PREFIX_NUMBER_OF_WEEK).isPresent()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_NUMBER_OF_DAY, PREFIX_NUMBER_OF_WEEK, PREFIX_FROM_DATE, PREFIX_TO_DATE);
+        boolean hasDays = argMultimap.getValue(PREFIX_NUMBER_OF_DAY).isPresent();
+        boolean hasWeeks = argMultimap.getValue(PREFIX_NUMBER_OF_WEEK).isPresent();
+        boolean hasDates = argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                || argMultimap.getValue(PREFIX_TO_DATE).isPresent();
+        if ((hasDays && hasWeeks) || ((hasDays || hasWeeks) && hasDates)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
         }
-        if (argMultimap.getValue(PREFIX_NUMBER_OF_DAY).isPresent()) {
+        if (hasDates) {
+            return new DueInCommand(parseDateRange(argMultimap));
+        }
+
+        long numberOfDays;
+        if (hasDays) {
             try {
                 numberOfDays = ParserUtil.parseNumberOfDays(argMultimap.getValue(PREFIX_NUMBER_OF_DAY).get());
             } catch (ParseException e) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
             }
-        } else if (argMultimap.getValue(PREFIX_NUMBER_OF_WEEK).isPresent()) {
+        } else if (hasWeeks) {
             try {
                 long numberOfWeeks = ParserUtil.parseNumberOfWeeks(argMultimap.getValue(PREFIX_NUMBER_OF_WEEK).get());
-                numberOfDays = numberOfWeeks * 7; // One week consists of 7 days
-            } catch (ParseException e) {
+                numberOfDays = Math.multiplyExact(numberOfWeeks, 7); // One week consists of 7 days
+            } catch (ParseException | ArithmeticException e) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
             }
         } else {
             numberOfDays = DEFAULT_NUMBER_OF_DAYS;
         }
+        if (numberOfDays < 0) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
+        }
         return new DueInCommand(new DeadlineDateInRangePredicate(numberOfDays));
     }
 
+    /**
+     * Parses the from/ and to/ dates of a date window. Without a from/ date, the window starts today, and without a
+     * to/ date, it ends at the latest date allowed.
+     */
+    private static DeadlineDateInRangePredicate parseDateRange(ArgumentMultimap argMultimap) throws ParseException {
+        try {
+            LocalDate startDate = argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                    ? ParserUtil.parseRangeDate(argMultimap.getValue(PREFIX_FROM_DATE).get())
+                    : LocalDate.now();
+            LocalDate endDate = argMultimap.getValue(PREFIX_TO_DATE).isPresent()
+                    ? ParserUtil.parseRangeDate(argMultimap.getValue(PREFIX_TO_DATE).get())
+                    : DeadlineDateInRangePredicate.MAX_DATE;
+            return new DeadlineDateInRangePredicate(startDate, endDate);
+        } catch (ParseException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
+        }
+    }
+
 }
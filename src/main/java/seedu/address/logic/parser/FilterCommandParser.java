@@ -0,0 +1,190 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITYTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHTAGE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.NotFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.DeadlineDateInRangePredicate;
+
+/**
+ * Parses input arguments and creates a new FilterCommand object.
+ * NOT binds tighter than AND, which binds tighter than OR. Conditions next to each other are combined with AND.
+ */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final String STATUS_FINISHED = "finished";
+    private static final String STATUS_UNFINISHED = "unfinished";
+    private static final String WEIGHTAGE_RANGE_SEPARATOR = "-";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand
+     * and returns a FilterCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        String spacedArgs = args.replace(OPEN_PARENTHESIS, " " + OPEN_PARENTHESIS + " ")
+                .replace(CLOSE_PARENTHESIS, " " + CLOSE_PARENTHESIS + " ")
+                .trim();
+        if (spacedArgs.isEmpty()) {
+            throw invalidFormat();
+        }
+        tokens = Arrays.asList(spacedArgs.split("\\s+"));
+        position = 0;
+
+        TaskFilter filter = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(filter);
+    }
+
+    private TaskFilter parseOr() throws ParseException {
+        List<TaskFilter> filters = new ArrayList<>();
+        filters.add(parseAnd());
+        while (isNextOperator(OR)) {
+            position++;
+            filters.add(parseAnd());
+        }
+        return filters.size() == 1 ? filters.get(0) : new OrFilter(filters);
+    }
+
+    private TaskFilter parseAnd() throws ParseException {
+        List<TaskFilter> filters = new ArrayList<>();
+        filters.add(parseUnary());
+        while (position < tokens.size() && !isNextOperator(OR) && !tokens.get(position).equals(CLOSE_PARENTHESIS)) {
+            if (isNextOperator(AND)) {
+                position++;
+            }
+            filters.add(parseUnary());
+        }
+        return filters.size() == 1 ? filters.get(0) : new AndFilter(filters);
+    }
+
+    private TaskFilter parseUnary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidFormat();
+        }
+        if (isNextOperator(NOT)) {
+            position++;
+            return new NotFilter(parseUnary());
+        }
+        if (tokens.get(position).equals(OPEN_PARENTHESIS)) {
+            position++;
+            TaskFilter filter = parseOr();
+            if (position >= tokens.size() || !tokens.get(position).equals(CLOSE_PARENTHESIS)) {
+                throw invalidFormat();
+            }
+            position++;
+            return filter;
+        }
+        return parseTerm();
+    }
+
+    private TaskFilter parseTerm() throws ParseException {
+        String token = tokens.get(position++);
+        if (hasPrefix(token, PREFIX_FROM_DATE)) {
+            LocalDate startDate = ParserUtil.parseRangeDate(valueOf(token, PREFIX_FROM_DATE));
+            LocalDate endDate = DeadlineDateInRangePredicate.MAX_DATE;
+            if (position < tokens.size() && hasPrefix(tokens.get(position), PREFIX_TO_DATE)) {
+                endDate = ParserUtil.parseRangeDate(valueOf(tokens.get(position++), PREFIX_TO_DATE));
+            }
+            return parseDateWindow(startDate, endDate);
+        } else if (hasPrefix(token, PREFIX_TO_DATE)) {
+            LocalDate endDate = ParserUtil.parseRangeDate(valueOf(token, PREFIX_TO_DATE));
+            return parseDateWindow(DeadlineDateInRangePredicate.MIN_DATE, endDate);
+        } else if (hasPrefix(token, PREFIX_NAME)) {
+            String word = valueOf(token, PREFIX_NAME);
+            if (word.isEmpty()) {
+                throw invalidFormat();
+            }
+            return FilterTerm.nameHasWord(word);
+        } else if (hasPrefix(token, PREFIX_CODE)) {
+            return FilterTerm.moduleCode(ParserUtil.parseCode(valueOf(token, PREFIX_CODE)));
+        } else if (hasPrefix(token, PREFIX_PRIORITYTAG)) {
+            String priority = valueOf(token, PREFIX_PRIORITYTAG).toUpperCase(Locale.ROOT);
+            return FilterTerm.priority(ParserUtil.parsePriorityTag(priority));
+        } else if (hasPrefix(token, PREFIX_TAG)) {
+            return FilterTerm.tag(ParserUtil.parseTag(valueOf(token, PREFIX_TAG)));
+        } else if (hasPrefix(token, PREFIX_STATUS)) {
+            return parseStatus(valueOf(token, PREFIX_STATUS));
+        } else if (hasPrefix(token, PREFIX_WEIGHTAGE)) {
+            return parseWeightageRange(valueOf(token, PREFIX_WEIGHTAGE));
+        }
+        throw invalidFormat();
+    }
+
+    private TaskFilter parseDateWindow(LocalDate startDate, LocalDate endDate) throws ParseException {
+        if (endDate.isBefore(startDate)) {
+            throw invalidFormat();
+        }
+        return FilterTerm.dueBetween(startDate, endDate);
+    }
+
+    private TaskFilter parseStatus(String status) throws ParseException {
+        switch (status.toLowerCase(Locale.ROOT)) {
+        case STATUS_FINISHED:
+            return FilterTerm.status(true);
+        case STATUS_UNFINISHED:
+            return FilterTerm.status(false);
+        default:
+            throw invalidFormat();
+        }
+    }
+
+    private TaskFilter parseWeightageRange(String weightageRange) throws ParseException {
+        String[] bounds = weightageRange.split(WEIGHTAGE_RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw invalidFormat();
+        }
+        int minWeightage = ParserUtil.parseWeightage(bounds[0]).weightage;
+        int maxWeightage = bounds.length == 2 ? ParserUtil.parseWeightage(bounds[1]).weightage : minWeightage;
+        if (maxWeightage < minWeightage) {
+            throw invalidFormat();
+        }
+        return FilterTerm.weightageBetween(minWeightage, maxWeightage);
+    }
+
+    private boolean isNextOperator(String operator) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(operator);
+    }
+
+    private static boolean hasPrefix(String token, Prefix prefix) {
+        return token.startsWith(prefix.getPrefix());
+    }
+
+    private static String valueOf(String token, Prefix prefix) {
+        return token.substring(prefix.getPrefix().length());
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
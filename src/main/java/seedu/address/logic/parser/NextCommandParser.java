@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITYTAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.TaskFilter;
+
+/**
+ * Parses input arguments and creates a new NextCommand object.
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand
+     * and returns a NextCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public NextCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CODE, PREFIX_PRIORITYTAG);
+
+        int count = NextCommand.DEFAULT_COUNT;
+        String preamble = argMultimap.getPreamble();
+        if (!preamble.isEmpty()) {
+            count = parseCount(preamble);
+        }
+
+        List<TaskFilter> filters = new ArrayList<>();
+        filters.add(FilterTerm.status(false));
+        Optional<String> moduleCode = argMultimap.getValue(PREFIX_CODE);
+        if (moduleCode.isPresent()) {
+            filters.add(FilterTerm.moduleCode(ParserUtil.parseCode(moduleCode.get())));
+        }
+        Optional<String> priorityTag = argMultimap.getValue(PREFIX_PRIORITYTAG);
+        if (priorityTag.isPresent()) {
+            filters.add(FilterTerm.priority(ParserUtil.parsePriorityTag(priorityTag.get().toUpperCase(Locale.ROOT))));
+        }
+        return new NextCommand(count, filters.size() == 1 ? filters.get(0) : new AndFilter(filters));
+    }
+
+    private static int parseCount(String count) throws ParseException {
+        try {
+            int parsedCount = Integer.parseInt(count);
+            if (parsedCount > 0) {
+                return parsedCount;
+            }
+        } catch (NumberFormatException nfe) {
+            // handled below, like any other count that is not positive
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,6 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -35,6 +39,12 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_NUMBER_OF_WEEKS = "Number of weeks is not a positive integer.";
 
+    public static final String MESSAGE_INVALID_RANGE_DATE = "Date is not in DD-MM-YYYY format or does not exist "
+            + "on calendar.";
+
+    private static final DateTimeFormatter RANGE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu")
+            .withResolverStyle(ResolverStyle.STRICT);
+
 
 
     /**
@@ -92,7 +102,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -139,7 +149,7 @@ public class ParserUtil {
         if (!Weightage.isValidWeightage(intWeightage)) {
             throw new ParseException(Weightage.MESSAGE_CONSTRAINTS);
         }
-        return new Weightage(intWeightage);
+        return Weightage.of(intWeightage);
     }
 
     /**
@@ -164,7 +174,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -178,7 +188,7 @@ public class ParserUtil {
         if (trimmedTag.equals("LOW")
                 || trimmedTag.equals("MEDIUM")
                 || trimmedTag.equals("HIGH")) {
-            return new PriorityTag(trimmedTag);
+            return PriorityTag.of(trimmedTag);
         } else {
             throw new ParseException(PriorityTag.MESSAGE_CONSTRAINTS);
         }
@@ -224,4 +234,24 @@ public class ParserUtil {
         return longNumberOfWeeks;
     }
 
+    /**
+     * Parses a {@code String rangeDate} in DD-MM-YYYY format into a {@code LocalDate}.
+     * Unlike {@link #parseDeadlineDate(String)}, the date may be earlier than today.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code rangeDate} is invalid.
+     */
+    public static LocalDate parseRangeDate(String rangeDate) throws ParseException {
+        requireNonNull(rangeDate);
+        String trimmedRangeDate = rangeDate.trim();
+        if (!trimmedRangeDate.matches("\\d{2}-\\d{2}-\\d{4}")) {
+            throw new ParseException(MESSAGE_INVALID_RANGE_DATE);
+        }
+        try {
+            return LocalDate.parse(trimmedRangeDate, RANGE_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_RANGE_DATE);
+        }
+    }
+
 }
@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.util.SortingFlag;
@@ -18,11 +21,16 @@ public class SortCommandParser implements Parser<SortCommand> {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        } else if (!SortingFlag.isValidSortingType(trimmedArgs)) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortingFlag.MESSAGE_CONSTRAINTS));
         }
 
-        return new SortCommand(new SortingFlag(trimmedArgs));
+        List<SortingFlag> sortingFlags = new ArrayList<>();
+        for (String sortingFlag : trimmedArgs.split("\\s+")) {
+            if (!SortingFlag.isValidSortingType(sortingFlag)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortingFlag.MESSAGE_CONSTRAINTS));
+            }
+            sortingFlags.add(new SortingFlag(sortingFlag));
+        }
+        return new SortCommand(sortingFlags);
     }
 }
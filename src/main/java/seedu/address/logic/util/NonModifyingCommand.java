@@ -4,5 +4,5 @@ package seedu.address.logic.util;
  * Commands which do not modify the TaskTracker state
  */
 public enum NonModifyingCommand {
-    EXIT, FIND, HELP, LIST, SORT, UNDO, DUEIN, REDO
+    EXIT, FIND, HELP, LIST, SORT, UNDO, DUEIN, REDO, FILTER, STATS, NEXT
 }
@@ -21,11 +21,16 @@ public class SortingFlag {
 
     public static final String WEIGHTAGE_FLAG = "weightage";
 
+    public static final String REVERSED_SUFFIX = "-";
+
     public static final String MESSAGE_CONSTRAINTS = "Sorting flag should be one of either [dateTime],"
-            + "[taskName], [moduleCode], [priorityTag] or [weightage] (case-sensitive).";
+            + "[taskName], [moduleCode], [priorityTag] or [weightage] (case-sensitive), optionally followed by "
+            + REVERSED_SUFFIX + " to reverse the order.";
 
     public final SortingType sortingType;
 
+    private final boolean isReversed;
+
     /**
      * Constructs a SortingFlag with the appropriate given type.
      * @throws IllegalArgumentException if the given type is invalid.
@@ -33,7 +38,8 @@ public class SortingFlag {
     public SortingFlag(String sortingFlag) {
         requireNonNull(sortingFlag);
         checkArgument(isValidSortingType(sortingFlag), SortingFlag.MESSAGE_CONSTRAINTS);
-        switch (sortingFlag) {
+        isReversed = sortingFlag.endsWith(REVERSED_SUFFIX);
+        switch (stripReversedSuffix(sortingFlag)) {
         case DATE_TIME_FLAG:
             sortingType = SortingType.DATE_TIME;
             break;
@@ -59,9 +65,17 @@ public class SortingFlag {
     }
 
     /**
-     * Checks if a given string represents a valid sorting type.
+     * Returns true if the tasks are to be sorted in the reverse of the usual order of the sorting type.
+     */
+    public boolean isReversed() {
+        return isReversed;
+    }
+
+    /**
+     * Checks if a given string represents a valid sorting type, optionally followed by {@code REVERSED_SUFFIX}.
      */
-    public static boolean isValidSortingType(String s) {
+    public static boolean isValidSortingType(String test) {
+        String s = stripReversedSuffix(test);
         return s.equals(DATE_TIME_FLAG)
                 || s.equals(TASK_NAME_FLAG)
                 || s.equals(MODULE_CODE_FLAG)
@@ -69,16 +83,23 @@ public class SortingFlag {
                 || s.equals(WEIGHTAGE_FLAG);
     }
 
+    private static String stripReversedSuffix(String sortingFlag) {
+        return sortingFlag.endsWith(REVERSED_SUFFIX)
+                ? sortingFlag.substring(0, sortingFlag.length() - REVERSED_SUFFIX.length())
+                : sortingFlag;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof SortingFlag
-                && sortingType.equals(((SortingFlag) other).sortingType));
+                && sortingType.equals(((SortingFlag) other).sortingType)
+                && isReversed == ((SortingFlag) other).isReversed);
     }
 
     @Override
     public String toString() {
-        return sortingType.getSortingFlag();
+        return sortingType.getSortingFlag() + (isReversed ? REVERSED_SUFFIX : "");
     }
 }
 
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.beans.Observable;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.RefiningPredicate;
+import seedu.address.model.person.Task;
+
+/**
+ * Sets the predicates of a filtered list of tasks, reusing the tasks that passed recent predicates where it can.
+ * The tasks that an {@link IndexedPredicate} found by their ids are shown without testing the other tasks.
+ *
+ * The positions of the tasks that passed a short stack of recent predicates are kept, where each predicate refines the
+ * one below it. When a new predicate refines one of them, it is only tested on the tasks that passed that predicate.
+ * When a new predicate is equal to one of them, such as when going back to a wider query, its positions are shown as
+ * they are, without visiting any task.
+ *
+ * The stack is cleared whenever the tasks in the underlying list change, as the tasks that passed each predicate, and
+ * their positions, may be different then.
+ */
+class FilterRefinementStack {
+
+    /** Maximum number of recent predicates whose passing tasks are kept. */
+    static final int MAX_SIZE = 5;
+
+    private final FilteredTaskList filteredTasks;
+
+    /** The predicates whose passing tasks are kept, from the most recent. */
+    private final Deque<FilterResult> results = new ArrayDeque<>();
+
+    /**
+     * Creates a stack that sets the predicates of {@code filteredTasks}.
+     */
+    FilterRefinementStack(FilteredTaskList filteredTasks) {
+        requireNonNull(filteredTasks);
+        this.filteredTasks = filteredTasks;
+        filteredTasks.getSource().addListener((Observable unused) -> results.clear());
+    }
+
+    /**
+     * Filters the tasks with {@code predicate}.
+     * Predicates that are not {@link RefiningPredicate}s are tested on every task, and clear the stack.
+     * An {@link IndexedPredicate} looks the tasks up while the tasks are filtered with it, and tests the tasks added or
+     * edited afterwards with its predicate. If it found the tasks by their ids, only the tasks with those ids are
+     * looked up.
+     */
+    void setPredicate(Predicate<Task> predicate) {
+        requireNonNull(predicate);
+        filter(predicate);
+        if (predicate instanceof IndexedPredicate) {
+            IndexedPredicate indexedPredicate = (IndexedPredicate) predicate;
+            indexedPredicate.endLookup();
+        }
+    }
+
+    private void filter(Predicate<Task> predicate) {
+        while (!results.isEmpty()) {
+            FilterResult result = results.peek();
+            if (result.predicate.equals(predicate)) {
+                filteredTasks.show(predicate, result.positions);
+                return;
+            }
+            if (predicate instanceof RefiningPredicate && ((RefiningPredicate) predicate).refines(result.predicate)) {
+                int[] refinedPositions = filteredTasks.findPositions(predicate, result.positions);
+                push(new FilterResult(predicate, refinedPositions));
+                filteredTasks.show(predicate, refinedPositions);
+                return;
+            }
+            results.pop();
+        }
+
+        if (predicate == Model.PREDICATE_SHOW_ALL_TASKS) {
+            filteredTasks.showAll();
+            return;
+        }
+
+        Optional<Set<Long>> ids = predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).getIds()
+                : Optional.empty();
+        // the tasks with the ids are still tested, which only looks their ids up, so that they are recorded as found
+        int[] positions = ids.isPresent()
+                ? filteredTasks.findPositions(predicate, filteredTasks.findPositions(ids.get()))
+                : filteredTasks.findPositions(predicate);
+        filteredTasks.show(predicate, positions);
+        if (predicate instanceof RefiningPredicate) {
+            push(new FilterResult(predicate, positions));
+        }
+    }
+
+    /**
+     * Returns the number of recent predicates whose passing tasks are kept.
+     */
+    int size() {
+        return results.size();
+    }
+
+    private void push(FilterResult result) {
+        results.push(result);
+        if (results.size() > MAX_SIZE) {
+            results.removeLast();
+        }
+    }
+
+    /**
+     * The positions in the underlying list of the tasks that passed a predicate, in increasing order.
+     */
+    private static class FilterResult {
+        private final Predicate<Task> predicate;
+        private final int[] positions;
+
+        FilterResult(Predicate<Task> predicate, int[] positions) {
+            this.predicate = predicate;
+            this.positions = positions;
+        }
+    }
+}
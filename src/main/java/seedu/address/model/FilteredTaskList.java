@@ -0,0 +1,380 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Task;
+
+/**
+ * A view of the tasks in the task list of a {@code TaskTracker} that pass a predicate, in the order of the task list.
+ *
+ * Unlike a {@code FilteredList}, which tests every task in the task list whenever its predicate changes, the tasks to
+ * show are given by their positions in the task list, such as the positions of the tasks found in an index of the
+ * task tracker, or of the tasks that passed a recent predicate. Showing them takes O(1) time, besides what the
+ * listeners of this list do with the change, and the tasks that are not shown are not visited.
+ *
+ * As the task list changes, only the tasks added to it are tested with the predicate of the shown tasks, and the
+ * positions of the shown tasks are updated in time proportional to the number of shown tasks.
+ */
+class FilteredTaskList extends TransformationList<Task, Task> {
+
+    private final TaskTracker taskTracker;
+
+    /**
+     * Positions in the task list of the shown tasks, in increasing order, or null if every task is shown.
+     * The array is never modified once it is shown, so that it can be shared with the caller that gave it.
+     */
+    private int[] positions;
+
+    /** The predicate that tasks added to the task list are tested with, if not every task is shown. */
+    private Predicate<Task> predicate;
+
+    /**
+     * Creates a view that shows every task in the task list of {@code taskTracker}.
+     */
+    FilteredTaskList(TaskTracker taskTracker) {
+        super(taskTracker.getTaskList());
+        this.taskTracker = taskTracker;
+    }
+
+    /**
+     * Shows every task in the task list.
+     */
+    void showAll() {
+        if (positions == null) {
+            return;
+        }
+        List<Task> shownTasks = new PositionedTasks(getSource(), positions);
+        positions = null;
+        predicate = null;
+        fireReplacement(shownTasks);
+    }
+
+    /**
+     * Shows the tasks at {@code positions} in the task list, which must be in increasing order, without testing any
+     * task. The tasks must pass {@code predicate}, which the tasks added to the task list afterwards are tested with.
+     * {@code positions} must not be modified afterwards.
+     */
+    void show(Predicate<Task> predicate, int[] positions) {
+        requireAllNonNull(predicate, positions);
+        List<Task> shownTasks = this.positions == null
+                ? Collections.unmodifiableList(getSource())
+                : new PositionedTasks(getSource(), this.positions);
+        this.positions = positions;
+        this.predicate = predicate;
+        fireReplacement(shownTasks);
+    }
+
+    /**
+     * Returns the positions in the task list of the shown tasks, in increasing order, or null if every task is shown.
+     * The returned array must not be modified.
+     */
+    int[] getPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the positions of the tasks in the task list that pass {@code predicate}, testing every task.
+     */
+    int[] findPositions(Predicate<Task> predicate) {
+        requireNonNull(predicate);
+        int[] passingPositions = new int[getSource().size()];
+        int count = 0;
+        int position = 0;
+        for (Task task : getSource()) {
+            if (predicate.test(task)) {
+                passingPositions[count++] = position;
+            }
+            position++;
+        }
+        return Arrays.copyOf(passingPositions, count);
+    }
+
+    /**
+     * Returns the positions among {@code candidatePositions} of the tasks that pass {@code predicate}, only testing
+     * the tasks at those positions.
+     */
+    int[] findPositions(Predicate<Task> predicate, int[] candidatePositions) {
+        requireAllNonNull(predicate, candidatePositions);
+        int[] passingPositions = new int[candidatePositions.length];
+        int count = 0;
+        for (int position : candidatePositions) {
+            if (predicate.test(getSource().get(position))) {
+                passingPositions[count++] = position;
+            }
+        }
+        return Arrays.copyOf(passingPositions, count);
+    }
+
+    /**
+     * Returns the positions of the tasks in the task list with the given {@code ids}, in increasing order.
+     */
+    int[] findPositions(Collection<Long> ids) {
+        requireNonNull(ids);
+        return taskTracker.getTaskPositions(ids);
+    }
+
+    @Override
+    public Task get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? getSource().size() : positions.length;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (positions == null) {
+            return index;
+        }
+        if (index < 0 || index >= positions.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + positions.length);
+        }
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int sourceIndex) {
+        if (positions == null) {
+            return sourceIndex;
+        }
+        int index = Arrays.binarySearch(positions, sourceIndex);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                if (positions == null) {
+                    followChange(change);
+                } else if (change.wasPermutated()) {
+                    permute(change);
+                } else if (change.wasUpdated()) {
+                    update(change);
+                } else {
+                    addRemove(change);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Reports the current part of {@code change} as a change to this list, while every task is shown.
+     */
+    private void followChange(ListChangeListener.Change<? extends Task> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permutation[i - change.getFrom()] = change.getPermutation(i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+    }
+
+    /**
+     * Updates the shown tasks with the current part of {@code change}, which adds or removes tasks.
+     * The shown tasks that are removed are no longer shown, the added tasks that pass the predicate are shown, and
+     * the positions of the shown tasks after them are shifted.
+     */
+    private void addRemove(ListChangeListener.Change<? extends Task> change) {
+        int from = change.getFrom();
+        int start = findIndex(from);
+        int end = findIndex(from + change.getRemovedSize());
+
+        List<Task> removedTasks = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            removedTasks.add(change.getRemoved().get(positions[i] - from));
+        }
+        int[] addedPositions = new int[change.getAddedSize()];
+        int addedCount = 0;
+        if (change.wasAdded()) {
+            List<? extends Task> addedTasks = change.getAddedSubList();
+            for (int i = 0; i < addedTasks.size(); i++) {
+                if (predicate.test(addedTasks.get(i))) {
+                    addedPositions[addedCount++] = from + i;
+                }
+            }
+        }
+
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        int[] newPositions = new int[positions.length - (end - start) + addedCount];
+        System.arraycopy(positions, 0, newPositions, 0, start);
+        System.arraycopy(addedPositions, 0, newPositions, start, addedCount);
+        for (int i = end; i < positions.length; i++) {
+            newPositions[i - end + start + addedCount] = positions[i] + shift;
+        }
+        positions = newPositions;
+
+        if (!removedTasks.isEmpty()) {
+            nextRemove(start, removedTasks);
+        }
+        if (addedCount > 0) {
+            nextAdd(start, start + addedCount);
+        }
+    }
+
+    /**
+     * Updates the shown tasks with the current part of {@code change}, which reorders tasks.
+     * The positions are sorted with packed keys of their new position and their index, as in {@code TaskColumns}.
+     */
+    private void permute(ListChangeListener.Change<? extends Task> change) {
+        int start = findIndex(change.getFrom());
+        int end = findIndex(change.getTo());
+        if (start == end) {
+            return;
+        }
+
+        long[] keys = new long[end - start];
+        for (int i = start; i < end; i++) {
+            keys[i - start] = ((long) change.getPermutation(positions[i]) << Integer.SIZE) | (i - start);
+        }
+        Arrays.sort(keys);
+
+        int[] newPositions = positions.clone();
+        int[] permutation = new int[end - start];
+        for (int i = 0; i < keys.length; i++) {
+            newPositions[start + i] = (int) (keys[i] >>> Integer.SIZE);
+            permutation[(int) keys[i]] = start + i;
+        }
+        positions = newPositions;
+        nextPermutation(start, end, permutation);
+    }
+
+    /**
+     * Reports the shown tasks in the current part of {@code change}, which updates tasks in place, as updated.
+     */
+    private void update(ListChangeListener.Change<? extends Task> change) {
+        for (int i = findIndex(change.getFrom()); i < findIndex(change.getTo()); i++) {
+            nextUpdate(i);
+        }
+    }
+
+    /**
+     * Returns the index in this list of the first shown task at or after {@code sourceIndex} in the task list.
+     */
+    private int findIndex(int sourceIndex) {
+        int index = Arrays.binarySearch(positions, sourceIndex);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    /**
+     * Reports that the tasks in this list have been replaced, where {@code shownTasks} were the tasks shown before.
+     */
+    private void fireReplacement(List<Task> shownTasks) {
+        if (shownTasks.isEmpty() && isEmpty()) {
+            return;
+        }
+        fireChange(new ReplacementChange(this, shownTasks));
+    }
+
+    /**
+     * The tasks at some positions in the task list.
+     * Only valid until the task list next changes, which is enough to report them as the removed tasks of a change.
+     */
+    private static class PositionedTasks extends AbstractList<Task> {
+        private final List<? extends Task> tasks;
+        private final int[] positions;
+
+        PositionedTasks(List<? extends Task> tasks, int[] positions) {
+            this.tasks = tasks;
+            this.positions = positions;
+        }
+
+        @Override
+        public Task get(int index) {
+            return tasks.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+
+    /**
+     * A change that replaces every task in a list, which reports the tasks shown before as they are, without copying
+     * them.
+     */
+    private static class ReplacementChange extends ListChangeListener.Change<Task> {
+        private final List<Task> removedTasks;
+        private boolean isAtChange = false;
+        private boolean isDone = false;
+
+        ReplacementChange(ObservableList<Task> list, List<Task> removedTasks) {
+            super(list);
+            this.removedTasks = removedTasks;
+        }
+
+        @Override
+        public boolean next() {
+            isAtChange = !isDone;
+            isDone = true;
+            return isAtChange;
+        }
+
+        @Override
+        public void reset() {
+            isAtChange = false;
+            isDone = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkAtChange();
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            checkAtChange();
+            return getList().size();
+        }
+
+        @Override
+        public List<Task> getRemoved() {
+            checkAtChange();
+            return removedTasks;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkAtChange();
+            return new int[0];
+        }
+
+        private void checkAtChange() {
+            if (!isAtChange) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting "
+                        + "the Change.");
+            }
+        }
+    }
+}
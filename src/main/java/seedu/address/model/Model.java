@@ -1,12 +1,22 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.person.TaskKey;
+import seedu.address.model.person.TaskWordIndex;
 
 /**
  * The API of the Model component.
@@ -47,6 +57,12 @@ public interface Model {
      */
     void setTaskTrackerFilePath(Path taskTrackerFilePath);
 
+    /**
+     * Sets the user prefs' sort order, which holds the parameters of the {@code sort} command that the task list
+     * is kept sorted by, or is empty if there are none.
+     */
+    void setSortOrder(String sortOrder);
+
     /**
      * Replaces task tracker data with the data in {@code taskTracker}.
      */
@@ -68,20 +84,70 @@ public interface Model {
     boolean hasDailyTask(Task taskToAdd);
 
     /**
-     * Deletes the given task.
+     * Deletes the given task, removing it from the daily to-do list too if it is there.
      * The task must exist in the task tracker.
      */
     void deleteTask(Task target);
 
-    void deleteDailyTask(Task target);
-
     /**
-     * Finishes the given task.
+     * Finishes the given task, in the daily to-do list too if it is there.
      * The task must exist in the task tracker.
      */
     void finishTask(Task target);
 
-    void finishDailyTask(Task target);
+    /**
+     * Returns the ids of the tasks with any of {@code words} in the given {@code field}.
+     * Words are matched in full, ignoring case.
+     */
+    Set<Long> findTaskIds(TaskWordIndex.Field field, List<String> words);
+
+    /**
+     * Returns the ids of the tasks with a word similar to any of {@code words} in the given {@code field}, each
+     * mapped to how close its closest word is, with lower ranks being closer.
+     * Similar words are the same word, words containing it, or words with a few typos.
+     */
+    Map<Long, Integer> findSimilarTaskIds(TaskWordIndex.Field field, List<String> words);
+
+    /**
+     * Returns the ids of the tasks due from {@code startDate} to {@code endDate}, both inclusive, in order of their
+     * deadlines.
+     */
+    List<Long> findTaskIdsDueBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the first {@code limit} tasks due at or after {@code start} that pass {@code predicate}, in order of
+     * their deadlines, without changing the order or filter of the task list.
+     */
+    List<Task> findNextTasksDue(LocalDateTime start, Predicate<Task> predicate, int limit);
+
+    /**
+     * Returns the ids of the tasks with all of {@code keys}, such as a module code, priority tag and tags.
+     * {@code keys} must not be empty.
+     */
+    Set<Long> findTaskIdsWithAllKeys(Collection<? extends TaskKey> keys);
+
+    /**
+     * Returns the number of tasks with {@code key}.
+     */
+    int countTasksWithKey(TaskKey key);
+
+    /**
+     * Returns the number of tasks with each key of the type {@code keyType}, such as each module code, that some
+     * task has.
+     */
+    <K extends TaskKey> Map<K, Integer> countTasksByKey(Class<K> keyType);
+
+    /**
+     * Returns the running aggregates of the tasks, such as the number of unfinished tasks and their weightage by
+     * module, which are read without going through the tasks.
+     */
+    TaskAggregates getTaskAggregates();
+
+    /**
+     * Returns the tasks bucketed by the day and week of their deadlines, with the days and weeks that go over the
+     * workload limits in the user prefs.
+     */
+    DeadlineCalendar getDeadlineCalendar();
 
     /**
      * Adds the given task.
@@ -91,32 +157,26 @@ public interface Model {
 
     /**
      * Adds the given task to the daily to-do list.
-     * {@code task} must not already exist in the daily to-do list.
+     * {@code task} must exist in the task tracker, and must not already exist in the daily to-do list.
      */
     void addToDailyToDoList(Task taskToAdd);
 
     /**
      * Removes the given task from the daily to-do list.
-     * {@code task} must not already exist in the daily to-do list.
+     * {@code task} must exist in the daily to-do list.
      */
     void removeFromDailyToDoList(Task dailyTask);
 
     /**
-     * Replaces the given task {@code target} with {@code editedTask}.
+     * Replaces the given task {@code target} with {@code editedTask}, in the daily to-do list too if it is there.
      * {@code target} must exist in the task tracker.
      * The task identity of {@code editedTask} must not be the same as another existing task in the task tracker.
      */
     void setTask(Task target, Task editedTask);
 
     /**
-     * Replaces the given task {@code target} with {@code editedTask} in the daily task tracker.
-     * {@code target} must exist in the task tracker.
-     * The task identity of {@code editedTask} must not be the same as another existing task in the task tracker.
-     */
-    void setDailyTask(Task target, Task editedTask);
-
-    /**
-     * Sorts the TaskTracker according to the given {@code comparator}.
+     * Sorts the TaskTracker according to the given {@code comparator}, and keeps it sorted in that order as tasks
+     * are added or edited. Any ranking of the filtered task list is cleared.
      */
     void sortTasks(Comparator<Task> comparator);
 
@@ -133,11 +193,20 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered task list to filter by the given {@code predicate}.
+     * The filtered task list is then in the order of the task list.
      *
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filter of the filtered task list to filter by the given {@code predicate}, and orders the
+     * filtered tasks by {@code ranking} until the filter is next updated or the task list is sorted.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
+     */
+    void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> ranking);
+
     /**
      * Updates the filter of the daily task list to filter by the given {@code predicate}.
      *
@@ -145,8 +214,6 @@ public interface Model {
      */
     void updateDailyTaskList(Predicate<Task> predicate);
 
-    void refreshDailyTasks(Task target, Task editedTask);
-
     /**
      * Commits the taskTracker
      */
@@ -157,14 +224,14 @@ public interface Model {
      *
      * @return Previous state of TaskTracker
      */
-    TaskTracker undoTaskTracker();
+    ReadOnlyTaskTracker undoTaskTracker();
 
     /**
      * Redoes the last change to the TaskTracker after an "undo"
      *
      * @return Previous state of TaskTracker after an "undo"
      */
-    TaskTracker redoTaskTracker();
+    ReadOnlyTaskTracker redoTaskTracker();
 
     /**
      * Checks if there is a valid TaskTracker state for undo
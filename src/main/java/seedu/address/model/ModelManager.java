@@ -4,15 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.person.TaskKey;
+import seedu.address.model.person.TaskWordIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,7 +33,9 @@ public class ModelManager implements Model {
 
     private final TaskTracker taskTracker;
     private final UserPrefs userPrefs;
-    private final FilteredList<Task> filteredTasks;
+    private final FilteredTaskList filteredTasks;
+    private final FilterRefinementStack filterRefinements;
+    private final SortedList<Task> rankedTasks;
     private final FilteredList<Task> dailyTasks;
     private VersionedTaskTracker versionedTaskTracker;
 
@@ -38,9 +51,24 @@ public class ModelManager implements Model {
 
         this.taskTracker = new TaskTracker(taskTracker);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredTasks = new FilteredList<>(this.taskTracker.getTaskList());
+        this.taskTracker.getDeadlineCalendar().setLimits(this.userPrefs.getWorkloadLimits());
+        filteredTasks = new FilteredTaskList(this.taskTracker);
+        filterRefinements = new FilterRefinementStack(filteredTasks);
+        rankedTasks = new SortedList<>(filteredTasks);
         dailyTasks = new FilteredList<>(this.taskTracker.getDailyTaskList());
-        this.versionedTaskTracker = new VersionedTaskTracker();
+        this.versionedTaskTracker = new VersionedTaskTracker(this.userPrefs.getUndoHistoryLimit());
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskTracker and userPrefs, whose undo history is recorded in
+     * {@code undoHistoryJournal}.
+     */
+    public ModelManager(ReadOnlyTaskTracker taskTracker, ReadOnlyUserPrefs userPrefs,
+            UndoHistoryJournal undoHistoryJournal) {
+        this(taskTracker, userPrefs);
+        requireNonNull(undoHistoryJournal);
+        this.versionedTaskTracker = new VersionedTaskTracker(this.userPrefs.getUndoHistoryLimit(),
+                undoHistoryJournal);
     }
 
     public ModelManager() {
@@ -53,6 +81,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        taskTracker.getDeadlineCalendar().setLimits(this.userPrefs.getWorkloadLimits());
     }
 
     @Override
@@ -82,6 +111,12 @@ public class ModelManager implements Model {
         userPrefs.setTaskTrackerFilePath(taskTrackerFilePath);
     }
 
+    @Override
+    public void setSortOrder(String sortOrder) {
+        requireNonNull(sortOrder);
+        userPrefs.setSortOrder(sortOrder);
+    }
+
     //=========== TaskTracker ================================================================================
 
     @Override
@@ -112,22 +147,60 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void deleteDailyTask(Task target) {
-        if (taskTracker.hasDailyTask(target)) {
-            taskTracker.removeDailyTask(target);
-        }
+    public void finishTask(Task target) {
+        taskTracker.finishTask(target);
     }
 
     @Override
-    public void finishTask(Task target) {
-        taskTracker.finishTask(target);
+    public Set<Long> findTaskIds(TaskWordIndex.Field field, List<String> words) {
+        requireAllNonNull(field, words);
+        return taskTracker.findTaskIds(field, words);
     }
 
     @Override
-    public void finishDailyTask(Task target) {
-        if (taskTracker.hasDailyTask(target)) {
-            taskTracker.finishDailyTask(target);
-        }
+    public Map<Long, Integer> findSimilarTaskIds(TaskWordIndex.Field field, List<String> words) {
+        requireAllNonNull(field, words);
+        return taskTracker.findSimilarTaskIds(field, words);
+    }
+
+    @Override
+    public List<Long> findTaskIdsDueBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return taskTracker.findTaskIdsDueBetween(startDate, endDate);
+    }
+
+    @Override
+    public List<Task> findNextTasksDue(LocalDateTime start, Predicate<Task> predicate, int limit) {
+        requireAllNonNull(start, predicate);
+        return taskTracker.findNextTasksDue(start, predicate, limit);
+    }
+
+    @Override
+    public Set<Long> findTaskIdsWithAllKeys(Collection<? extends TaskKey> keys) {
+        requireNonNull(keys);
+        return taskTracker.findTaskIdsWithAllKeys(keys);
+    }
+
+    @Override
+    public int countTasksWithKey(TaskKey key) {
+        requireNonNull(key);
+        return taskTracker.countTasksWithKey(key);
+    }
+
+    @Override
+    public <K extends TaskKey> Map<K, Integer> countTasksByKey(Class<K> keyType) {
+        requireNonNull(keyType);
+        return taskTracker.countTasksByKey(keyType);
+    }
+
+    @Override
+    public TaskAggregates getTaskAggregates() {
+        return taskTracker.getTaskAggregates();
+    }
+
+    @Override
+    public DeadlineCalendar getDeadlineCalendar() {
+        return taskTracker.getDeadlineCalendar();
     }
 
     @Override
@@ -156,36 +229,26 @@ public class ModelManager implements Model {
         taskTracker.setTask(target, editedTask);
     }
 
-    @Override
-    public void setDailyTask(Task target, Task editedTask) {
-        requireAllNonNull(target, editedTask);
-        taskTracker.setDailyTask(target, editedTask);
-    }
-
     @Override
     public void sortTasks(Comparator<Task> comparator) {
         requireNonNull(comparator);
         taskTracker.sortTasks(comparator);
-    }
-
-    @Override
-    public void refreshDailyTasks(Task target, Task editedTask) {
-        taskTracker.refreshDailyTasks(target, editedTask);
+        rankedTasks.setComparator(null);
     }
 
     @Override
     public void commitTaskTracker(ReadOnlyTaskTracker taskTracker) {
         requireNonNull(taskTracker);
-        versionedTaskTracker.commit(new TaskTracker(taskTracker));
+        versionedTaskTracker.commit(taskTracker);
     }
 
     @Override
-    public TaskTracker undoTaskTracker() {
+    public ReadOnlyTaskTracker undoTaskTracker() {
         return versionedTaskTracker.undo();
     }
 
     @Override
-    public TaskTracker redoTaskTracker() {
+    public ReadOnlyTaskTracker redoTaskTracker() {
         return versionedTaskTracker.redo();
     }
 
@@ -204,11 +267,11 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
-     * {@code versionedTaskTracker}
+     * {@code versionedTaskTracker}, in the order of that list unless the tasks are ranked.
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return rankedTasks;
     }
 
 
@@ -217,10 +280,25 @@ public class ModelManager implements Model {
         return dailyTasks;
     }
 
+    /**
+     * {@inheritDoc}
+     * If {@code predicate} refines one of the recent predicates, only the tasks that passed that predicate are
+     * tested, and the tasks of a recent predicate equal to {@code predicate} are reused. If {@code predicate} is an
+     * {@code IndexedPredicate} that found the tasks by their ids, the tasks with those ids are shown without visiting
+     * the other tasks.
+     */
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        filterRefinements.setPredicate(predicate);
+        rankedTasks.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> ranking) {
+        requireAllNonNull(predicate, ranking);
+        filterRefinements.setPredicate(predicate);
+        rankedTasks.setComparator(ranking);
     }
 
     @Override
@@ -245,7 +323,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return taskTracker.equals(other.taskTracker)
             && userPrefs.equals(other.userPrefs)
-            && filteredTasks.equals(other.filteredTasks);
+            && rankedTasks.equals(other.rankedTasks);
     }
 
 }
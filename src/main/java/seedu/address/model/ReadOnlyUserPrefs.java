@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getTaskTrackerFilePath();
 
+    int getUndoHistoryLimit();
+
+    String getSortOrder();
+
+    WorkloadLimits getWorkloadLimits();
+
+    int getMaxSaveDelay();
+
+    TaskTrackerFileFormat getTaskTrackerFileFormat();
+
 }
@@ -1,12 +1,29 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.DailyTaskList;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.person.TaskDeadlineIndex;
+import seedu.address.model.person.TaskKey;
+import seedu.address.model.person.TaskKeyIndex;
+import seedu.address.model.person.TaskWordIndex;
 import seedu.address.model.person.UniqueTaskList;
 
 /**
@@ -18,7 +35,12 @@ public class TaskTracker implements ReadOnlyTaskTracker {
 
 
     private final UniqueTaskList tasks;
-    private final UniqueTaskList dailyTasks;
+    private final DailyTaskList dailyTasks;
+    private final TaskWordIndex wordIndex;
+    private final TaskDeadlineIndex deadlineIndex;
+    private final TaskKeyIndex keyIndex;
+    private final TaskAggregates aggregates;
+    private final DeadlineCalendar deadlineCalendar;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -29,7 +51,12 @@ public class TaskTracker implements ReadOnlyTaskTracker {
      */
     {
         tasks = new UniqueTaskList();
-        dailyTasks = new UniqueTaskList();
+        dailyTasks = new DailyTaskList(tasks);
+        wordIndex = new TaskWordIndex(tasks);
+        deadlineIndex = new TaskDeadlineIndex(tasks);
+        keyIndex = new TaskKeyIndex(tasks);
+        aggregates = new TaskAggregates(tasks);
+        deadlineCalendar = new DeadlineCalendar(tasks);
     }
 
     public TaskTracker() {
@@ -55,16 +82,28 @@ public class TaskTracker implements ReadOnlyTaskTracker {
         this.tasks.setTasks(tasks);
     }
 
+    /**
+     * Replaces the contents of the daily task list with the tasks in the task list that have the same ids as
+     * {@code dailyTasks}. Tasks which are not in the task list are left out.
+     */
     public void setDailyTasks(List<Task> dailyTasks) {
         this.dailyTasks.setTasks(dailyTasks);
     }
 
     /**
      * Resets the existing data of this {@code TaskTracker} with {@code newData}.
+     * If {@code newData} is a snapshot, such as a state restored by undo or redo, only the tasks where it differs
+     * from this task tracker are replaced, so the indexes of the tasks only process those tasks.
      */
     public void resetData(ReadOnlyTaskTracker newData) {
         requireNonNull(newData);
 
+        if (newData instanceof TaskTrackerSnapshot || newData instanceof TaskTracker) {
+            TaskTrackerSnapshot snapshot = TaskTrackerSnapshot.of(newData);
+            tasks.setTasks(snapshot.getPersistentTaskList());
+            dailyTasks.setTasks(snapshot.getPersistentDailyTaskList());
+            return;
+        }
         setTasks(newData.getTaskList());
         setDailyTasks(newData.getDailyTaskList());
     }
@@ -72,10 +111,11 @@ public class TaskTracker implements ReadOnlyTaskTracker {
     //// sorting operation
 
     /**
-     * Sorts the task list with the given {@code comparator}.
+     * Sorts the task list with the given {@code comparator}, and keeps it sorted in that order as tasks are added
+     * or replaced.
      */
     public void sortTasks(Comparator<Task> comparator) {
-        tasks.sort(comparator);
+        tasks.setSortOrder(comparator);
     }
 
     //// task-level operations
@@ -96,6 +136,88 @@ public class TaskTracker implements ReadOnlyTaskTracker {
         return dailyTasks.contains(task);
     }
 
+    /**
+     * Returns the positions in the task list of the tasks with the given {@code ids}, in increasing order.
+     * Ids of tasks that are not in the task list are left out.
+     */
+    public int[] getTaskPositions(Collection<Long> ids) {
+        return tasks.getPositions(ids);
+    }
+
+    /**
+     * Returns the ids of the tasks with any of {@code words} in the given {@code field}.
+     * Takes time proportional to the number of matching tasks, instead of the number of tasks.
+     */
+    public Set<Long> findTaskIds(TaskWordIndex.Field field, Collection<String> words) {
+        return wordIndex.getIdsWithAnyWord(field, words);
+    }
+
+    /**
+     * Returns the ids of the tasks with a word similar to any of {@code words} in the given {@code field}, each
+     * mapped to how close its closest word is. See {@link TaskWordIndex#getIdsWithSimilarWord}.
+     */
+    public Map<Long, Integer> findSimilarTaskIds(TaskWordIndex.Field field, Collection<String> words) {
+        return wordIndex.getIdsWithSimilarWord(field, words);
+    }
+
+    /**
+     * Returns the ids of the tasks due from {@code startDate} to {@code endDate}, both inclusive, in order of their
+     * deadlines. Takes time logarithmic in the number of tasks, plus the number of tasks due in the range.
+     */
+    public List<Long> findTaskIdsDueBetween(LocalDate startDate, LocalDate endDate) {
+        return deadlineIndex.getIdsDueBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the first {@code limit} tasks due at or after {@code start} that pass {@code predicate}, in order of
+     * their deadlines. Walks the deadline index from {@code start}, so it takes time logarithmic in the number of
+     * tasks, plus the number of tasks tested, instead of sorting the tasks.
+     */
+    public List<Task> findNextTasksDue(LocalDateTime start, Predicate<Task> predicate, int limit) {
+        return deadlineIndex.streamIdsDueFrom(start)
+                .map(tasks::getTask)
+                .flatMap(Optional::stream)
+                .filter(predicate)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the ids of the tasks with all of {@code keys}, which must not be empty.
+     * Takes time proportional to the number of tasks with the rarest key, instead of the number of tasks.
+     */
+    public Set<Long> findTaskIdsWithAllKeys(Collection<? extends TaskKey> keys) {
+        return keyIndex.getIdsWithAllKeys(keys);
+    }
+
+    /**
+     * Returns the number of tasks with {@code key}.
+     */
+    public int countTasksWithKey(TaskKey key) {
+        return keyIndex.getCount(key);
+    }
+
+    /**
+     * Returns the number of tasks with each key of the type {@code keyType} that some task has.
+     */
+    public <K extends TaskKey> Map<K, Integer> countTasksByKey(Class<K> keyType) {
+        return keyIndex.getCounts(keyType);
+    }
+
+    /**
+     * Returns the running aggregates of the tasks, which are kept up to date as the tasks change.
+     */
+    public TaskAggregates getTaskAggregates() {
+        return aggregates;
+    }
+
+    /**
+     * Returns the tasks bucketed by the day and week of their deadlines, which are kept up to date as the tasks change.
+     */
+    public DeadlineCalendar getDeadlineCalendar() {
+        return deadlineCalendar;
+    }
+
     /**
      * Adds a task to the address book.
      * The task must not already exist in the address book.
@@ -106,7 +228,7 @@ public class TaskTracker implements ReadOnlyTaskTracker {
 
     /**
      * Adds a task to the daily task list.
-     * The task must not already exist in the task tracker.
+     * The task must exist in the task tracker, and must not already exist in the daily task list.
      */
     public void addDailyTask(Task taskToAdd) {
         dailyTasks.add(taskToAdd);
@@ -114,6 +236,7 @@ public class TaskTracker implements ReadOnlyTaskTracker {
 
     /**
      * Replaces the given task {@code target} in the list with {@code editedTask}.
+     * The daily task list shows {@code editedTask} in place of {@code target} if it has the same id.
      * {@code target} must exist in the address book.
      * The task identity of {@code editedTask} must not be the same as another existing task in the address book.
      */
@@ -124,19 +247,7 @@ public class TaskTracker implements ReadOnlyTaskTracker {
     }
 
     /**
-     * Replaces the given task {@code target} in the list with {@code editedTask} in the daily task list.
-     * {@code target} must exist in the address book.
-     * The task identity of {@code editedTask} must not be the same as another existing task in the address book.
-     */
-    public void setDailyTask(Task target, Task editedTask) {
-        requireNonNull(editedTask);
-
-        dailyTasks.setTask(target, editedTask);
-    }
-
-
-    /**
-     * Removes {@code key} from this {@code TaskTracker}.
+     * Removes {@code key} from this {@code TaskTracker}, and from the daily task list if it is there.
      * {@code key} must exist in the address book.
      */
     public void removeTask(Task key) {
@@ -145,7 +256,7 @@ public class TaskTracker implements ReadOnlyTaskTracker {
 
     /**
      * Removes {@code key} from the daily task list.
-     * {@code key} must exist in the task tracker.
+     * {@code key} must exist in the daily task list.
      */
     public void removeDailyTask(Task key) {
         dailyTasks.remove(key);
@@ -158,17 +269,187 @@ public class TaskTracker implements ReadOnlyTaskTracker {
         tasks.finish(task);
     }
 
-    public void finishDailyTask(Task task) {
-        dailyTasks.finish(task);
+    //// snapshots
+
+    /**
+     * Returns the current state of this {@code TaskTracker}, which is unaffected by later changes to it.
+     * Takes O(1) time, as the snapshot shares its tasks with this task tracker instead of copying them.
+     */
+    public ReadOnlyTaskTracker snapshot() {
+        return new TaskTrackerSnapshot(tasks.snapshot(), dailyTasks.snapshot());
     }
 
     /**
-     * Refreshes the daily task list after any changes have been made.
-     * {@code task} must exist in the task tracker.
+     * Returns the current state of {@code taskTracker}, which is unaffected by later changes to it.
+     * Takes O(1) time if {@code taskTracker} is a {@code TaskTracker} or a snapshot of one, and copies its tasks
+     * otherwise.
+     */
+    public static ReadOnlyTaskTracker snapshotOf(ReadOnlyTaskTracker taskTracker) {
+        requireNonNull(taskTracker);
+        return TaskTrackerSnapshot.of(taskTracker);
+    }
+
+    /**
+     * Returns a state with {@code tasks} and {@code dailyTasks}, without building the indexes of a task tracker, such
+     * as a task tracker read from storage, which is only indexed once it is loaded into a {@code TaskTracker}.
+     * {@code tasks} must not contain duplicate tasks or tasks with the same id, and {@code dailyTasks} must be among
+     * them, as neither is checked.
+     * Takes O(n) time.
+     */
+    public static ReadOnlyTaskTracker snapshotOf(List<Task> tasks, List<Task> dailyTasks) {
+        requireAllNonNull(tasks, dailyTasks);
+        return new TaskTrackerSnapshot(PersistentList.of(tasks), PersistentList.of(dailyTasks));
+    }
+
+    //// batch operations
+
+    /**
+     * Starts a batch of mutations to this {@code TaskTracker}.
+     * The mutations are staged and only take effect when {@link Batch#commit()} is called, at which point
+     * each list that was changed by the batch fires a single change event.
+     */
+    public Batch startBatch() {
+        return new Batch();
+    }
+
+    /**
+     * A group of mutations to a {@code TaskTracker} that is applied as a single change.
+     * Mutations are validated in the order they are made, in the same way as their {@code TaskTracker}
+     * counterparts, against the state of the task tracker with all earlier mutations of the batch applied.
      */
-    public void refreshDailyTasks(Task target, Task editedTask) {
-        if (dailyTasks.contains(target)) {
-            dailyTasks.setTask(target, editedTask);
+    public class Batch {
+        private UniqueTaskList stagedTasks;
+        private DailyTaskList stagedDailyTasks;
+        private boolean isCommitted;
+
+        private Batch() {
+        }
+
+        /**
+         * Returns true if a task with the same identity as {@code task} exists in the staged task list.
+         */
+        public boolean hasTask(Task task) {
+            requireNonNull(task);
+            return getStagedTasks().contains(task);
+        }
+
+        /**
+         * Stages the addition of {@code task}.
+         * The task must not already exist in the staged task list.
+         */
+        public Batch addTask(Task task) {
+            getStagedTasks().add(task);
+            return this;
+        }
+
+        /**
+         * Stages the replacement of {@code target} with {@code editedTask}.
+         * {@code target} must exist in the staged task list.
+         */
+        public Batch setTask(Task target, Task editedTask) {
+            requireNonNull(editedTask);
+            getStagedTasks().setTask(target, editedTask);
+            return this;
+        }
+
+        /**
+         * Stages the removal of {@code task}.
+         * {@code task} must exist in the staged task list.
+         */
+        public Batch removeTask(Task task) {
+            getStagedTasks().remove(task);
+            return this;
+        }
+
+        /**
+         * Stages the finishing of {@code task}.
+         * {@code task} must exist in the staged task list.
+         */
+        public Batch finishTask(Task task) {
+            getStagedTasks().finish(task);
+            return this;
+        }
+
+        /**
+         * Stages the addition of {@code task} to the daily task list.
+         * The task must exist in the staged task list, and must not already exist in the staged daily task list.
+         */
+        public Batch addDailyTask(Task task) {
+            getStagedDailyTasks().add(task);
+            return this;
+        }
+
+        /**
+         * Stages the removal of {@code task} from the daily task list.
+         * {@code task} must exist in the staged daily task list.
+         */
+        public Batch removeDailyTask(Task task) {
+            getStagedDailyTasks().remove(task);
+            return this;
+        }
+
+        /**
+         * Applies all staged mutations to the task tracker.
+         * Each list that has staged mutations is changed once, in the range of tasks where it differs from the staged
+         * list, so listeners observe a single change per list, apart from the daily task list also following any
+         * staged changes to tasks in it.
+         *
+         * @throws IllegalStateException if this batch has already been committed.
+         */
+        public void commit() {
+            if (isCommitted) {
+                throw new IllegalStateException("This batch has already been committed.");
+            }
+            isCommitted = true;
+
+            if (stagedTasks != null) {
+                tasks.setTasks(stagedTasks.snapshot());
+            }
+            if (stagedDailyTasks != null) {
+                dailyTasks.setTasks(stagedDailyTasks.snapshot());
+            }
+        }
+
+        /**
+         * Returns the staged task list, which starts as a copy of the task list of the task tracker.
+         * A daily task list staged before it is moved over to it.
+         */
+        private UniqueTaskList getStagedTasks() {
+            if (stagedTasks == null) {
+                stagedTasks = stage(tasks);
+                if (stagedDailyTasks != null) {
+                    DailyTaskList movedDailyTasks = new DailyTaskList(stagedTasks);
+                    movedDailyTasks.setTasks(stagedDailyTasks.snapshot());
+                    stagedDailyTasks = movedDailyTasks;
+                }
+            }
+            return stagedTasks;
+        }
+
+        /**
+         * Returns the staged daily task list. Unless task mutations have been staged, it is staged over the task
+         * list of the task tracker, which the batch does not change, so the task list is not copied.
+         */
+        private DailyTaskList getStagedDailyTasks() {
+            if (stagedDailyTasks == null) {
+                if (isCommitted) {
+                    throw new IllegalStateException("This batch has already been committed.");
+                }
+                stagedDailyTasks = stagedTasks == null
+                        ? DailyTaskList.notFollowing(tasks)
+                        : new DailyTaskList(stagedTasks);
+                stagedDailyTasks.setTasks(dailyTasks.snapshot());
+            }
+            return stagedDailyTasks;
+        }
+
+        private UniqueTaskList stage(UniqueTaskList source) {
+            if (isCommitted) {
+                throw new IllegalStateException("This batch has already been committed.");
+            }
+            UniqueTaskList staged = new UniqueTaskList();
+            staged.setTasks(source);
+            return staged;
         }
     }
 
@@ -0,0 +1,255 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Task;
+
+/**
+ * The difference between two consecutive states of a {@code TaskTracker}.
+ * Each list of the task tracker is changed by replacing one contiguous range of tasks with another, which covers
+ * the effect of any single command, and only stores the tasks that the command actually touched.
+ */
+public class TaskTrackerChange {
+
+    private final ListChange taskListChange;
+    private final ListChange dailyTaskListChange;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TaskTrackerChange(ListChange taskListChange, ListChange dailyTaskListChange) {
+        requireAllNonNull(taskListChange, dailyTaskListChange);
+        this.taskListChange = taskListChange;
+        this.dailyTaskListChange = dailyTaskListChange;
+    }
+
+    /**
+     * Returns the change that turns {@code before} into {@code after}.
+     * Takes O(log n) time for each task that the two states do not share, as the parts of the lists that they
+     * share are skipped without visiting their tasks.
+     */
+    public static TaskTrackerChange between(ReadOnlyTaskTracker before, ReadOnlyTaskTracker after) {
+        TaskTrackerSnapshot beforeSnapshot = TaskTrackerSnapshot.of(before);
+        TaskTrackerSnapshot afterSnapshot = TaskTrackerSnapshot.of(after);
+        return new TaskTrackerChange(
+                ListChange.between(beforeSnapshot.getPersistentTaskList(), afterSnapshot.getPersistentTaskList()),
+                ListChange.between(beforeSnapshot.getPersistentDailyTaskList(),
+                        afterSnapshot.getPersistentDailyTaskList()));
+    }
+
+    public ListChange getTaskListChange() {
+        return taskListChange;
+    }
+
+    public ListChange getDailyTaskListChange() {
+        return dailyTaskListChange;
+    }
+
+    /**
+     * Returns true if this change leaves every list unchanged.
+     */
+    public boolean isEmpty() {
+        return taskListChange.isEmpty() && dailyTaskListChange.isEmpty();
+    }
+
+    /**
+     * Returns the state that this change turns {@code before} into, or an empty {@code Optional} if
+     * {@code before} is not the state that this change was made to.
+     * Takes O(log n) time for each task in the change, as the returned state shares its tasks with {@code before}.
+     */
+    public Optional<ReadOnlyTaskTracker> replay(ReadOnlyTaskTracker before) {
+        return applyTo(TaskTrackerSnapshot.of(before)).map(after -> after);
+    }
+
+    /**
+     * Returns the state that this change turns {@code before} into, or an empty {@code Optional} if
+     * {@code before} is not the state that this change was made to.
+     */
+    Optional<TaskTrackerSnapshot> applyTo(TaskTrackerSnapshot before) {
+        Optional<PersistentList<Task>> taskList = taskListChange.applyTo(before.getPersistentTaskList());
+        Optional<PersistentList<Task>> dailyTaskList =
+                dailyTaskListChange.applyTo(before.getPersistentDailyTaskList());
+        if (taskList.isEmpty() || dailyTaskList.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new TaskTrackerSnapshot(taskList.get(), dailyTaskList.get()));
+    }
+
+    /**
+     * Returns the state that this change turned into {@code after}, or an empty {@code Optional} if
+     * {@code after} is not the state that this change resulted in.
+     */
+    Optional<TaskTrackerSnapshot> revertFrom(TaskTrackerSnapshot after) {
+        Optional<PersistentList<Task>> taskList = taskListChange.revertFrom(after.getPersistentTaskList());
+        Optional<PersistentList<Task>> dailyTaskList =
+                dailyTaskListChange.revertFrom(after.getPersistentDailyTaskList());
+        if (taskList.isEmpty() || dailyTaskList.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new TaskTrackerSnapshot(taskList.get(), dailyTaskList.get()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskTrackerChange // instanceof handles nulls
+                && taskListChange.equals(((TaskTrackerChange) other).taskListChange)
+                && dailyTaskListChange.equals(((TaskTrackerChange) other).dailyTaskListChange));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskListChange, dailyTaskListChange);
+    }
+
+    /**
+     * The replacement of the tasks starting at {@code position} of a list of {@code sizeBefore} tasks.
+     */
+    public static class ListChange {
+        public static final String MESSAGE_CONSTRAINTS =
+                "The removed tasks of a change should be within the list that it was made to";
+
+        private static final ListChange UNTRACKED = new ListChange(0, 0, List.of(), List.of());
+
+        private final int position;
+        private final int sizeBefore;
+        private final List<Task> removedTasks;
+        private final List<Task> addedTasks;
+
+        /**
+         * Every field must be present and not null, and the removed tasks must be within the list.
+         */
+        public ListChange(int position, int sizeBefore, List<Task> removedTasks, List<Task> addedTasks) {
+            requireAllNonNull(removedTasks, addedTasks);
+            checkArgument(isValidListChange(position, sizeBefore, removedTasks.size()), MESSAGE_CONSTRAINTS);
+            this.position = position;
+            this.sizeBefore = sizeBefore;
+            this.removedTasks = Collections.unmodifiableList(new ArrayList<>(removedTasks));
+            this.addedTasks = Collections.unmodifiableList(new ArrayList<>(addedTasks));
+        }
+
+        /**
+         * Returns a change to a list whose changes are not tracked, which leaves any list unchanged.
+         */
+        public static ListChange untracked() {
+            return UNTRACKED;
+        }
+
+        /**
+         * Returns true if {@code removedCount} tasks starting at {@code position} are within a list of
+         * {@code sizeBefore} tasks.
+         */
+        public static boolean isValidListChange(int position, int sizeBefore, int removedCount) {
+            return position >= 0 && position + removedCount <= sizeBefore;
+        }
+
+        /**
+         * Returns the change that turns {@code before} into {@code after}.
+         * Tasks are compared by reference, and the parts of the two lists that share their structure are skipped
+         * whole, so only the tasks around the change are visited.
+         */
+        static ListChange between(PersistentList<Task> before, PersistentList<Task> after) {
+            requireAllNonNull(before, after);
+            int prefixLength = before.commonPrefixLength(after);
+            int suffixLength = before.commonSuffixLength(after,
+                    Math.min(before.size(), after.size()) - prefixLength);
+
+            return new ListChange(prefixLength, before.size(),
+                    before.asList().subList(prefixLength, before.size() - suffixLength),
+                    after.asList().subList(prefixLength, after.size() - suffixLength));
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        public int getSizeBefore() {
+            return sizeBefore;
+        }
+
+        public boolean isUntracked() {
+            return this == UNTRACKED;
+        }
+
+        /**
+         * Returns true if this change leaves any list unchanged.
+         */
+        public boolean isEmpty() {
+            return removedTasks.isEmpty() && addedTasks.isEmpty();
+        }
+
+        public List<Task> getRemovedTasks() {
+            return removedTasks;
+        }
+
+        public List<Task> getAddedTasks() {
+            return addedTasks;
+        }
+
+        Optional<PersistentList<Task>> applyTo(PersistentList<Task> before) {
+            return replace(before, sizeBefore, removedTasks, addedTasks);
+        }
+
+        Optional<PersistentList<Task>> revertFrom(PersistentList<Task> after) {
+            return replace(after, sizeBefore - removedTasks.size() + addedTasks.size(), addedTasks, removedTasks);
+        }
+
+        /**
+         * Returns {@code list} with {@code expected} at {@code position} replaced by {@code replacement}, or an
+         * empty {@code Optional} if {@code list} does not have {@code expectedSize} tasks with {@code expected}
+         * at {@code position}.
+         */
+        private Optional<PersistentList<Task>> replace(PersistentList<Task> list, int expectedSize,
+                List<Task> expected, List<Task> replacement) {
+            requireNonNull(list);
+            if (isUntracked()) {
+                return Optional.of(list);
+            }
+            if (list.size() != expectedSize) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < expected.size(); i++) {
+                Task actual = list.get(position + i);
+                if (!actual.equals(expected.get(i)) || actual.getId() != expected.get(i).getId()) {
+                    return Optional.empty();
+                }
+            }
+
+            if (expected.size() == list.size()) {
+                return Optional.of(PersistentList.of(replacement));
+            }
+            PersistentList<Task> result = list;
+            for (int i = 0; i < expected.size(); i++) {
+                result = result.remove(position);
+            }
+            for (int i = 0; i < replacement.size(); i++) {
+                result = result.add(position + i, replacement.get(i));
+            }
+            return Optional.of(result);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ListChange // instanceof handles nulls
+                    && position == ((ListChange) other).position
+                    && sizeBefore == ((ListChange) other).sizeBefore
+                    && removedTasks.equals(((ListChange) other).removedTasks)
+                    && addedTasks.equals(((ListChange) other).addedTasks));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(position, sizeBefore, removedTasks, addedTasks);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * The format that the task tracker data file is saved in.
+ * A data file in any format can be read whatever the format chosen, so changing the format converts the data file.
+ */
+public enum TaskTrackerFileFormat {
+    /** Human-readable json, with a journal of the changes since the data file was last written. */
+    JSON,
+    /** Compact binary, which is smaller and faster to read and write, but cannot be edited by hand. */
+    BINARY,
+    /** Fixed-size records in a memory-mapped file, so that changing a task only writes that task. */
+    MAPPED;
+
+    /**
+     * Returns the format named {@code name}, or null if there is no such format, so that an unknown format in the
+     * preferences file is replaced with the default format rather than making the whole file unreadable.
+     */
+    @JsonCreator
+    public static TaskTrackerFileFormat fromName(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
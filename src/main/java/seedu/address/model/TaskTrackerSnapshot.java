@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Task;
+
+/**
+ * An immutable state of a {@code TaskTracker}.
+ * The lists of a snapshot share their structure with the lists of the task tracker it was taken from, so taking a
+ * snapshot does not copy any tasks.
+ */
+class TaskTrackerSnapshot implements ReadOnlyTaskTracker {
+
+    private final PersistentList<Task> taskList;
+    private final PersistentList<Task> dailyTaskList;
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Task> dailyTasks;
+
+    TaskTrackerSnapshot(PersistentList<Task> taskList, PersistentList<Task> dailyTaskList) {
+        requireAllNonNull(taskList, dailyTaskList);
+        this.taskList = taskList;
+        this.dailyTaskList = dailyTaskList;
+        this.tasks = asObservableList(taskList);
+        this.dailyTasks = asObservableList(dailyTaskList);
+    }
+
+    /**
+     * Returns the current state of {@code taskTracker}.
+     * Takes O(1) time unless {@code taskTracker} is neither a {@code TaskTracker} nor a snapshot.
+     */
+    static TaskTrackerSnapshot of(ReadOnlyTaskTracker taskTracker) {
+        if (taskTracker instanceof TaskTrackerSnapshot) {
+            return (TaskTrackerSnapshot) taskTracker;
+        }
+        TaskTracker source = taskTracker instanceof TaskTracker
+                ? (TaskTracker) taskTracker
+                : new TaskTracker(taskTracker);
+        return (TaskTrackerSnapshot) source.snapshot();
+    }
+
+    PersistentList<Task> getPersistentTaskList() {
+        return taskList;
+    }
+
+    PersistentList<Task> getPersistentDailyTaskList() {
+        return dailyTaskList;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Task> getDailyTaskList() {
+        return dailyTasks;
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskTrackerSnapshot // instanceof handles nulls
+                && tasks.equals(((TaskTrackerSnapshot) other).tasks));
+    }
+
+    @Override
+    public int hashCode() {
+        return tasks.hashCode();
+    }
+
+    private static ObservableList<Task> asObservableList(PersistentList<Task> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list.asList()));
+    }
+}
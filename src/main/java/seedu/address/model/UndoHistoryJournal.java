@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * A durable record of the undo history of a {@code TaskTracker}, which lets the history outlive the application.
+ * Changes are numbered consecutively: the change numbered {@code n} turns the state numbered {@code n - 1} into
+ * the state numbered {@code n}.
+ */
+public interface UndoHistoryJournal {
+
+    /**
+     * Reads the journal and returns the range of the history recorded in it.
+     * Returns an empty history if there is no journal yet.
+     *
+     * @throws DataConversionException if the journal is not in the expected format.
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    HistoryRange load() throws DataConversionException, IOException;
+
+    /**
+     * Records {@code change} as the change numbered {@code sequenceNumber}, which becomes both the newest change
+     * and the current state. Any change numbered {@code sequenceNumber} or higher is discarded.
+     */
+    void appendChange(long sequenceNumber, TaskTrackerChange change) throws IOException;
+
+    /**
+     * Records that the state numbered {@code sequenceNumber} is now the current state.
+     */
+    void appendCurrent(long sequenceNumber) throws IOException;
+
+    /**
+     * Records that changes numbered below {@code sequenceNumber} are discarded.
+     */
+    void appendOldest(long sequenceNumber) throws IOException;
+
+    /**
+     * Returns the change numbered {@code sequenceNumber}, or an empty {@code Optional} if it is not in the journal.
+     *
+     * @throws DataConversionException if the change is not in the expected format.
+     * @throws IOException if there was any problem when reading from the journal.
+     */
+    Optional<TaskTrackerChange> readChange(long sequenceNumber) throws DataConversionException, IOException;
+
+    /**
+     * Discards the whole history.
+     */
+    void clear() throws IOException;
+
+    /**
+     * The changes kept in a history, and the state that is current.
+     * A history without changes has an oldest change one above its newest change.
+     */
+    class HistoryRange {
+        private final long oldestChange;
+        private final long newestChange;
+        private final long currentState;
+
+        /**
+         * Creates a {@code HistoryRange} of the changes numbered {@code oldestChange} to {@code newestChange}.
+         */
+        public HistoryRange(long oldestChange, long newestChange, long currentState) {
+            this.oldestChange = oldestChange;
+            this.newestChange = newestChange;
+            this.currentState = currentState;
+        }
+
+        public long getOldestChange() {
+            return oldestChange;
+        }
+
+        public long getNewestChange() {
+            return newestChange;
+        }
+
+        public long getCurrentState() {
+            return currentState;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +16,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS =
+            "The undo history limit should be a positive number";
+    public static final int DEFAULT_MAX_SAVE_DELAY = 500;
+    public static final String MESSAGE_MAX_SAVE_DELAY_CONSTRAINTS =
+            "The maximum save delay should be a number of milliseconds that is not negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskTrackerFilePath = Paths.get("data", "tasktracker.json");
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private String sortOrder = "";
+    private WorkloadLimits workloadLimits = new WorkloadLimits();
+    private int maxSaveDelay = DEFAULT_MAX_SAVE_DELAY;
+    private TaskTrackerFileFormat taskTrackerFileFormat = TaskTrackerFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +51,50 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTaskTrackerFilePath(newUserPrefs.getTaskTrackerFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setSortOrder(newUserPrefs.getSortOrder());
+        setWorkloadLimits(newUserPrefs.getWorkloadLimits());
+        setMaxSaveDelay(newUserPrefs.getMaxSaveDelay());
+        setTaskTrackerFileFormat(newUserPrefs.getTaskTrackerFileFormat());
+    }
+
+    /**
+     * Replaces the prefs that are missing or break their constraints with their default values, as prefs read from
+     * a preferences file are filled in without going through the setters that check them.
+     * Returns the names of the prefs that were replaced.
+     */
+    public List<String> replaceInvalidPrefs() {
+        UserPrefs defaultPrefs = new UserPrefs();
+        List<String> replacedPrefs = new ArrayList<>();
+        if (guiSettings == null) {
+            guiSettings = defaultPrefs.guiSettings;
+            replacedPrefs.add("guiSettings");
+        }
+        if (taskTrackerFilePath == null) {
+            taskTrackerFilePath = defaultPrefs.taskTrackerFilePath;
+            replacedPrefs.add("taskTrackerFilePath");
+        }
+        if (undoHistoryLimit <= 0) {
+            undoHistoryLimit = defaultPrefs.undoHistoryLimit;
+            replacedPrefs.add("undoHistoryLimit");
+        }
+        if (sortOrder == null) {
+            sortOrder = defaultPrefs.sortOrder;
+            replacedPrefs.add("sortOrder");
+        }
+        if (workloadLimits == null || !workloadLimits.isValid()) {
+            workloadLimits = defaultPrefs.workloadLimits;
+            replacedPrefs.add("workloadLimits");
+        }
+        if (maxSaveDelay < 0) {
+            maxSaveDelay = defaultPrefs.maxSaveDelay;
+            replacedPrefs.add("maxSaveDelay");
+        }
+        if (taskTrackerFileFormat == null) {
+            taskTrackerFileFormat = defaultPrefs.taskTrackerFileFormat;
+            replacedPrefs.add("taskTrackerFileFormat");
+        }
+        return replacedPrefs;
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +115,62 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.taskTrackerFilePath = taskTrackerFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the number of changes kept in the undo history to {@code undoHistoryLimit}, which must be positive.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        checkArgument(undoHistoryLimit > 0, MESSAGE_UNDO_HISTORY_LIMIT_CONSTRAINTS);
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public String getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * Sets the order that the task list is kept in to {@code sortOrder}, which holds the parameters of the
+     * {@code sort} command that set the order, or is empty if the task list is kept in the order tasks were added.
+     */
+    public void setSortOrder(String sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    public WorkloadLimits getWorkloadLimits() {
+        return workloadLimits;
+    }
+
+    public void setWorkloadLimits(WorkloadLimits workloadLimits) {
+        requireNonNull(workloadLimits);
+        this.workloadLimits = workloadLimits;
+    }
+
+    public int getMaxSaveDelay() {
+        return maxSaveDelay;
+    }
+
+    /**
+     * Sets the longest time, in milliseconds, that changes to the task tracker wait before they are saved to
+     * {@code maxSaveDelay}, which must not be negative.
+     */
+    public void setMaxSaveDelay(int maxSaveDelay) {
+        checkArgument(maxSaveDelay >= 0, MESSAGE_MAX_SAVE_DELAY_CONSTRAINTS);
+        this.maxSaveDelay = maxSaveDelay;
+    }
+
+    public TaskTrackerFileFormat getTaskTrackerFileFormat() {
+        return taskTrackerFileFormat;
+    }
+
+    public void setTaskTrackerFileFormat(TaskTrackerFileFormat taskTrackerFileFormat) {
+        requireNonNull(taskTrackerFileFormat);
+        this.taskTrackerFileFormat = taskTrackerFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +183,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && taskTrackerFilePath.equals(o.taskTrackerFilePath);
+                && taskTrackerFilePath.equals(o.taskTrackerFilePath)
+                && undoHistoryLimit == o.undoHistoryLimit
+                && Objects.equals(sortOrder, o.sortOrder)
+                && workloadLimits.equals(o.workloadLimits)
+                && maxSaveDelay == o.maxSaveDelay
+                && taskTrackerFileFormat == o.taskTrackerFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, taskTrackerFilePath);
+        return Objects.hash(guiSettings, taskTrackerFilePath, undoHistoryLimit, sortOrder, workloadLimits,
+                maxSaveDelay, taskTrackerFileFormat);
     }
 
     @Override
@@ -81,6 +202,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + taskTrackerFilePath);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nSort order : " + sortOrder);
+        sb.append("\nWorkload limits : " + workloadLimits);
+        sb.append("\nMaximum save delay : " + maxSaveDelay);
+        sb.append("\nData file format : " + taskTrackerFileFormat);
         return sb.toString();
     }
 
@@ -1,58 +1,143 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 
 /**
  * TaskTracker with an undo/redo history
+ * The history is kept as the changes between consecutive states, and is bounded to the given number of changes,
+ * beyond which the oldest changes are discarded. If an {@code UndoHistoryJournal} is given, the history is also
+ * recorded in it, so that it survives restarts, and only the most recently used changes are kept in memory.
  */
-public class VersionedTaskTracker extends TaskTracker {
-    private List<TaskTracker> taskTrackerStateList = new ArrayList<TaskTracker>();
-    private int currentStatePointer;
+public class VersionedTaskTracker {
+    private static final Logger logger = LogsCenter.getLogger(VersionedTaskTracker.class);
+
+    /** Number of changes kept in memory when the rest of the history can be read back from a journal. */
+    private static final int CACHED_CHANGE_LIMIT = 16;
+
+    private final int historyLimit;
+    private UndoHistoryJournal journal;
+    private final Map<Long, TaskTrackerChange> cachedChanges;
+
+    private TaskTrackerSnapshot currentState;
+    private long oldestChange = 1;
+    private long newestChange = 0;
+    private long currentStatePointer = 0;
 
     /**
-     * Creates a VersionedTaskTracker
-     * Initializes the currentStatePointer as 0
+     * Creates a VersionedTaskTracker which keeps at most {@code historyLimit} changes in memory.
+     * A limit below 1 is treated as 1.
      */
-    public VersionedTaskTracker() {
-        this.currentStatePointer = 0;
+    public VersionedTaskTracker(int historyLimit) {
+        this.historyLimit = Math.max(1, historyLimit);
+        this.cachedChanges = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TaskTrackerChange> eldest) {
+                return journal != null && size() > CACHED_CHANGE_LIMIT;
+            }
+        };
     }
 
     /**
-     * Commits the taskTrackerToBeCommitted into the taskTrackerStateList
+     * Creates a VersionedTaskTracker which keeps at most {@code historyLimit} changes in {@code journal}, and
+     * continues the history already recorded in it.
+     */
+    public VersionedTaskTracker(int historyLimit, UndoHistoryJournal journal) {
+        this(historyLimit);
+        this.journal = journal;
+
+        try {
+            UndoHistoryJournal.HistoryRange range = journal.load();
+            oldestChange = range.getOldestChange();
+            newestChange = range.getNewestChange();
+            currentStatePointer = range.getCurrentState();
+            discardOldestChanges();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Undo history could not be loaded. Will be starting with an empty history: " + e);
+            clearHistory();
+        }
+    }
+
+    /**
+     * Commits the taskTrackerToBeCommitted into the history
+     * The first state committed is the current state that the history starts from, and every later state is
+     * recorded as the change from the state before it.
      *
-     * @param taskTrackerToBeCommitted the TaskTracker to be committed
+     * @param taskTrackerToBeCommitted the TaskTracker state to be committed, which must not change afterwards
      */
-    public void commit(TaskTracker taskTrackerToBeCommitted) {
+    public void commit(ReadOnlyTaskTracker taskTrackerToBeCommitted) {
+        TaskTrackerSnapshot newState = TaskTrackerSnapshot.of(taskTrackerToBeCommitted);
+        if (currentState == null) {
+            currentState = newState;
+            return;
+        }
+
+        TaskTrackerChange change = TaskTrackerChange.between(currentState, newState);
         if (!isCurrentStateNewest()) {
             purgeRedundantStates();
         }
-        taskTrackerStateList.add(taskTrackerToBeCommitted);
-        currentStatePointer = taskTrackerStateList.size() - 1;
+        currentStatePointer += 1;
+        newestChange = currentStatePointer;
+        cachedChanges.put(newestChange, change);
+        currentState = newState;
+
+        long sequenceNumber = newestChange;
+        record(() -> journal.appendChange(sequenceNumber, change));
+        discardOldestChanges();
     }
 
     /**
      * Undoes the last change by reverting to the previous TaskTracker state
+     * If the change cannot be reverted, because the history does not match the current state, the history is
+     * discarded and the current state is returned.
      *
-     * @return previous TaskTracker as stored in the taskTrackerStateList
+     * @return previous TaskTracker state
      */
-    public TaskTracker undo() {
-        currentStatePointer -= 1;
+    public ReadOnlyTaskTracker undo() {
+        Optional<TaskTrackerSnapshot> previousState = getChange(currentStatePointer)
+                .flatMap(change -> change.revertFrom(currentState));
+        if (previousState.isEmpty()) {
+            logger.warning("Undo history does not match the current state and will be discarded");
+            clearHistory();
+            return currentState;
+        }
 
-        return taskTrackerStateList.get(currentStatePointer);
+        currentState = previousState.get();
+        currentStatePointer -= 1;
+        long sequenceNumber = currentStatePointer;
+        record(() -> journal.appendCurrent(sequenceNumber));
+        return currentState;
     }
 
     /**
      * Redoes the "undo" change by reverting to the TaskTracker state before the Undo
      *
-     * @return previous TaskTracker before the "undo" as stored in the taskTrackerStateList
+     * @return TaskTracker state before the "undo"
      */
-    public TaskTracker redo() {
-        if (canRedoTaskTracker()) {
-            currentStatePointer += 1;
+    public ReadOnlyTaskTracker redo() {
+        if (!canRedoTaskTracker()) {
+            return currentState;
         }
 
-        return taskTrackerStateList.get(currentStatePointer);
+        Optional<TaskTrackerSnapshot> nextState = getChange(currentStatePointer + 1)
+                .flatMap(change -> change.applyTo(currentState));
+        if (nextState.isEmpty()) {
+            logger.warning("Undo history does not match the current state and will be discarded");
+            clearHistory();
+            return currentState;
+        }
+
+        currentState = nextState.get();
+        currentStatePointer += 1;
+        long sequenceNumber = currentStatePointer;
+        record(() -> journal.appendCurrent(sequenceNumber));
+        return currentState;
     }
 
     /**
@@ -61,11 +146,7 @@ public class VersionedTaskTracker extends TaskTracker {
      * @return True if there is a valid TaskTracker state for redo
      */
     public boolean canRedoTaskTracker() {
-        if (currentStatePointer + 1 <= taskTrackerStateList.size() - 1) {
-            return true;
-        }
-
-        return false;
+        return currentState != null && currentStatePointer < newestChange;
     }
 
     /**
@@ -74,19 +155,97 @@ public class VersionedTaskTracker extends TaskTracker {
      * @return True if there is a valid TaskTracker state for undo
      */
     public boolean canUndoTaskTracker() {
-        return currentStatePointer > 0;
+        return currentState != null && currentStatePointer >= oldestChange;
     }
 
     private boolean isCurrentStateNewest() {
-        if (currentStatePointer < taskTrackerStateList.size() - 1) {
-            return false;
-        }
-        return true;
+        return currentStatePointer == newestChange;
     }
 
     private void purgeRedundantStates() {
-        taskTrackerStateList.subList(currentStatePointer + 1, taskTrackerStateList.size()).clear();
+        cachedChanges.keySet().removeIf(sequenceNumber -> sequenceNumber > currentStatePointer);
+        newestChange = currentStatePointer;
     }
 
+    /**
+     * Discards the oldest changes until the history is within its limit, but never a change needed to redo.
+     */
+    private void discardOldestChanges() {
+        long oldestChangeToKeep = Math.min(newestChange - historyLimit + 1, currentStatePointer + 1);
+        if (oldestChangeToKeep <= oldestChange) {
+            return;
+        }
+
+        cachedChanges.keySet().removeIf(sequenceNumber -> sequenceNumber < oldestChangeToKeep);
+        oldestChange = oldestChangeToKeep;
+        record(() -> journal.appendOldest(oldestChangeToKeep));
+    }
 
+    private void clearHistory() {
+        cachedChanges.clear();
+        oldestChange = currentStatePointer + 1;
+        newestChange = currentStatePointer;
+        record(() -> journal.clear());
+    }
+
+    /**
+     * Returns the change numbered {@code sequenceNumber}, reading it from the journal if it is not in memory.
+     */
+    private Optional<TaskTrackerChange> getChange(long sequenceNumber) {
+        TaskTrackerChange change = cachedChanges.get(sequenceNumber);
+        if (change != null || journal == null) {
+            return Optional.ofNullable(change);
+        }
+
+        try {
+            Optional<TaskTrackerChange> changeFromJournal = journal.readChange(sequenceNumber);
+            changeFromJournal.ifPresent(c -> cachedChanges.put(sequenceNumber, c));
+            return changeFromJournal;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Undo history could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records an update of the history in the journal, if there is one.
+     * If the journal cannot be written to, it is no longer used, and only the changes in memory are kept.
+     */
+    private void record(JournalUpdate update) {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            update.run();
+        } catch (IOException e) {
+            logger.warning("Undo history could not be saved and will only be kept in memory: " + e);
+            journal = null;
+            keepChangesInMemoryOnly();
+        }
+    }
+
+    /**
+     * Shrinks the history to the changes around the current state that are still in memory.
+     */
+    private void keepChangesInMemoryOnly() {
+        long oldestChangeInMemory = currentStatePointer + 1;
+        while (oldestChangeInMemory > oldestChange && cachedChanges.containsKey(oldestChangeInMemory - 1)) {
+            oldestChangeInMemory -= 1;
+        }
+        long newestChangeInMemory = currentStatePointer;
+        while (newestChangeInMemory < newestChange && cachedChanges.containsKey(newestChangeInMemory + 1)) {
+            newestChangeInMemory += 1;
+        }
+        oldestChange = oldestChangeInMemory;
+        newestChange = newestChangeInMemory;
+    }
+
+    /**
+     * An update of the journal.
+     */
+    @FunctionalInterface
+    private interface JournalUpdate {
+        void run() throws IOException;
+    }
 }
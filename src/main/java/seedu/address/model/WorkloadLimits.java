@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.model.person.TaskAggregate;
+
+/**
+ * The most unfinished work that may be due on a day or in a week before it is overloaded: the number of unfinished
+ * tasks, and the sum of their weightages.
+ * Guarantees: immutable.
+ */
+public class WorkloadLimits {
+
+    public static final String MESSAGE_CONSTRAINTS = "Workload limits should be positive numbers";
+
+    public static final int DEFAULT_DAILY_TASK_LIMIT = 3;
+    public static final int DEFAULT_DAILY_WEIGHTAGE_LIMIT = 30;
+    public static final int DEFAULT_WEEKLY_TASK_LIMIT = 6;
+    public static final int DEFAULT_WEEKLY_WEIGHTAGE_LIMIT = 50;
+
+    private final int dailyTaskLimit;
+    private final int dailyWeightageLimit;
+    private final int weeklyTaskLimit;
+    private final int weeklyWeightageLimit;
+
+    /**
+     * Constructs {@code WorkloadLimits} with the default limits.
+     */
+    public WorkloadLimits() {
+        this(DEFAULT_DAILY_TASK_LIMIT, DEFAULT_DAILY_WEIGHTAGE_LIMIT, DEFAULT_WEEKLY_TASK_LIMIT,
+                DEFAULT_WEEKLY_WEIGHTAGE_LIMIT);
+    }
+
+    /**
+     * Constructs {@code WorkloadLimits} with the given limits, which must be positive.
+     */
+    public WorkloadLimits(int dailyTaskLimit, int dailyWeightageLimit, int weeklyTaskLimit, int weeklyWeightageLimit) {
+        checkArgument(dailyTaskLimit > 0 && dailyWeightageLimit > 0 && weeklyTaskLimit > 0
+                && weeklyWeightageLimit > 0, MESSAGE_CONSTRAINTS);
+        this.dailyTaskLimit = dailyTaskLimit;
+        this.dailyWeightageLimit = dailyWeightageLimit;
+        this.weeklyTaskLimit = weeklyTaskLimit;
+        this.weeklyWeightageLimit = weeklyWeightageLimit;
+    }
+
+    /**
+     * Returns true if all the limits are positive, which limits read from a preferences file may not be.
+     */
+    public boolean isValid() {
+        return dailyTaskLimit > 0 && dailyWeightageLimit > 0 && weeklyTaskLimit > 0 && weeklyWeightageLimit > 0;
+    }
+
+    public int getDailyTaskLimit() {
+        return dailyTaskLimit;
+    }
+
+    public int getDailyWeightageLimit() {
+        return dailyWeightageLimit;
+    }
+
+    public int getWeeklyTaskLimit() {
+        return weeklyTaskLimit;
+    }
+
+    public int getWeeklyWeightageLimit() {
+        return weeklyWeightageLimit;
+    }
+
+    /**
+     * Returns how much of the daily limits the unfinished tasks of {@code dueOnDay} take up, as the larger of the
+     * fractions of the task limit and of the weightage limit. A day is overloaded when this is more than 1.
+     */
+    public double getDailyLoad(TaskAggregate dueOnDay) {
+        requireNonNull(dueOnDay);
+        return loadOf(dueOnDay, dailyTaskLimit, dailyWeightageLimit);
+    }
+
+    /**
+     * Returns how much of the weekly limits the unfinished tasks of {@code dueInWeek} take up, as the larger of the
+     * fractions of the task limit and of the weightage limit. A week is overloaded when this is more than 1.
+     */
+    public double getWeeklyLoad(TaskAggregate dueInWeek) {
+        requireNonNull(dueInWeek);
+        return loadOf(dueInWeek, weeklyTaskLimit, weeklyWeightageLimit);
+    }
+
+    private static double loadOf(TaskAggregate aggregate, int taskLimit, int weightageLimit) {
+        return Math.max((double) aggregate.getUnfinishedTaskCount() / taskLimit,
+                (double) aggregate.getOutstandingWeightage() / weightageLimit);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof WorkloadLimits)) { //this handles null as well.
+            return false;
+        }
+
+        WorkloadLimits o = (WorkloadLimits) other;
+
+        return dailyTaskLimit == o.dailyTaskLimit
+                && dailyWeightageLimit == o.dailyWeightageLimit
+                && weeklyTaskLimit == o.weeklyTaskLimit
+                && weeklyWeightageLimit == o.weeklyWeightageLimit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dailyTaskLimit, dailyWeightageLimit, weeklyTaskLimit, weeklyWeightageLimit);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Daily: %d tasks, %d%% weightage; weekly: %d tasks, %d%% weightage",
+                dailyTaskLimit, dailyWeightageLimit, weeklyTaskLimit, weeklyWeightageLimit);
+    }
+}
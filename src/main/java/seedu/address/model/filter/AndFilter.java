@@ -0,0 +1,88 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskKey;
+
+/**
+ * A filter that passes the tasks that pass all of its filters.
+ * When compiled against a model, the tasks with all the keys of its filters are looked up together, by intersecting
+ * the tasks of each key, and the other filters are only tested on those tasks. When all of its filters are conditions
+ * on keys, the tasks that pass it are found by their ids alone.
+ */
+public class AndFilter extends CompositeFilter {
+
+    public AndFilter(List<TaskFilter> filters) {
+        super(filters);
+    }
+
+    @Override
+    boolean isConjunction() {
+        return true;
+    }
+
+    @Override
+    List<TaskFilter> plan(List<TaskFilter> filters) {
+        return FilterPlanner.orderConjuncts(filters);
+    }
+
+    @Override
+    public Predicate<Task> compile(Model model) {
+        requireNonNull(model);
+        List<TaskKey> keys = new ArrayList<>();
+        List<Predicate<Task>> otherPredicates = new ArrayList<>();
+        for (TaskFilter filter : getPlannedFilters()) {
+            Optional<TaskKey> key = filter.getKey();
+            if (key.isPresent()) {
+                keys.add(key.get());
+            } else {
+                otherPredicates.add(filter.compile(model));
+            }
+        }
+        if (keys.isEmpty()) {
+            return combine(otherPredicates);
+        }
+
+        Set<Long> ids = model.findTaskIdsWithAllKeys(keys);
+        List<Predicate<Task>> predicates = new ArrayList<>();
+        predicates.add(task -> ids.contains(task.getId()));
+        predicates.addAll(otherPredicates);
+        return combine(predicates);
+    }
+
+    @Override
+    public Optional<Set<Long>> findTaskIds(Model model) {
+        requireNonNull(model);
+        List<TaskKey> keys = new ArrayList<>();
+        for (TaskFilter filter : getFilters()) {
+            Optional<TaskKey> key = filter.getKey();
+            if (key.isEmpty()) {
+                return Optional.empty();
+            }
+            keys.add(key.get());
+        }
+        return Optional.of(model.findTaskIdsWithAllKeys(keys));
+    }
+
+    @Override
+    public boolean refines(TaskFilter other) {
+        return super.refines(other) || getFilters().stream().anyMatch(filter -> filter.refines(other));
+    }
+
+    @Override
+    public double getSelectivity() {
+        double selectivity = 1;
+        for (TaskFilter filter : getFilters()) {
+            selectivity *= filter.getSelectivity();
+        }
+        return selectivity;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Task;
+
+/**
+ * A filter made of several filters, which are tested in the order planned by {@link FilterPlanner} until one of
+ * them decides the outcome.
+ */
+abstract class CompositeFilter extends TaskFilter {
+
+    private final List<TaskFilter> filters;
+    private final List<TaskFilter> plannedFilters;
+
+    CompositeFilter(List<TaskFilter> filters) {
+        requireNonNull(filters);
+        checkArgument(!filters.isEmpty(), "A composite filter must have at least one filter.");
+        this.filters = List.copyOf(filters);
+        this.plannedFilters = List.copyOf(plan(this.filters));
+    }
+
+    /**
+     * Returns true if all the filters must pass, or false if any of them may pass.
+     */
+    abstract boolean isConjunction();
+
+    /**
+     * Returns {@code filters} in the order they should be tested.
+     */
+    abstract List<TaskFilter> plan(List<TaskFilter> filters);
+
+    /**
+     * Returns the filters in the order they were given.
+     */
+    public List<TaskFilter> getFilters() {
+        return filters;
+    }
+
+    /**
+     * Returns the filters in the order they are tested.
+     */
+    public List<TaskFilter> getPlannedFilters() {
+        return plannedFilters;
+    }
+
+    @Override
+    public double getCost() {
+        return FilterPlanner.getExpectedCost(plannedFilters, isConjunction());
+    }
+
+    @Override
+    public Predicate<Task> compile() {
+        return combine(plannedFilters.stream()
+                .map(TaskFilter::compile)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Predicate<Task> compile(Model model) {
+        requireNonNull(model);
+        return combine(plannedFilters.stream()
+                .map(filter -> filter.compile(model))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a predicate that tests {@code predicates} in order, until one of them decides the outcome.
+     */
+    Predicate<Task> combine(List<Predicate<Task>> predicates) {
+        boolean isConjunction = isConjunction();
+        return task -> {
+            for (Predicate<Task> predicate : predicates) {
+                if (predicate.test(task) != isConjunction) {
+                    return !isConjunction;
+                }
+            }
+            return isConjunction;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // same kind of composite, handles nulls
+                && filters.equals(((CompositeFilter) other).filters)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return filters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return filters.stream()
+                .map(TaskFilter::toString)
+                .collect(Collectors.joining(isConjunction() ? " AND " : " OR ", "(", ")"));
+    }
+}
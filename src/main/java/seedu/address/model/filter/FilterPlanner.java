@@ -0,0 +1,61 @@
+package seedu.address.model.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Orders the conditions of a filter so that a task is rejected (or accepted) by the cheapest conditions that are
+ * likely to decide it, before the expensive ones are tested.
+ *
+ * For conditions that must all pass, testing them in increasing order of {@code cost / (1 - selectivity)} minimises
+ * the expected cost of testing a task, and for conditions of which any may pass, in increasing order of
+ * {@code cost / selectivity}. This assumes that the conditions are independent.
+ */
+public class FilterPlanner {
+
+    private FilterPlanner() {
+    }
+
+    /**
+     * Returns {@code filters}, which must all pass, in the order that they should be tested.
+     */
+    public static List<TaskFilter> orderConjuncts(List<TaskFilter> filters) {
+        return sortedBy(filters, filter -> rank(filter.getCost(), 1 - filter.getSelectivity()));
+    }
+
+    /**
+     * Returns {@code filters}, of which any may pass, in the order that they should be tested.
+     */
+    public static List<TaskFilter> orderDisjuncts(List<TaskFilter> filters) {
+        return sortedBy(filters, filter -> rank(filter.getCost(), filter.getSelectivity()));
+    }
+
+    /**
+     * Returns the expected cost of testing a task against {@code orderedFilters} in order, stopping at the first
+     * filter that fails if {@code isConjunction}, or at the first that passes otherwise.
+     */
+    public static double getExpectedCost(List<TaskFilter> orderedFilters, boolean isConjunction) {
+        double expectedCost = 0;
+        double reachProbability = 1;
+        for (TaskFilter filter : orderedFilters) {
+            expectedCost += reachProbability * filter.getCost();
+            reachProbability *= isConjunction ? filter.getSelectivity() : 1 - filter.getSelectivity();
+        }
+        return expectedCost;
+    }
+
+    /**
+     * Returns the cost of a condition per unit of probability that it decides the outcome.
+     */
+    private static double rank(double cost, double decidingProbability) {
+        return decidingProbability <= 0 ? Double.POSITIVE_INFINITY : cost / decidingProbability;
+    }
+
+    private static List<TaskFilter> sortedBy(List<TaskFilter> filters, ToDoubleFunction<TaskFilter> rank) {
+        List<TaskFilter> ordered = new ArrayList<>(filters);
+        ordered.sort(Comparator.comparingDouble(rank));
+        return ordered;
+    }
+}
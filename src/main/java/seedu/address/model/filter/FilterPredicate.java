@@ -0,0 +1,48 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.RefiningPredicate;
+import seedu.address.model.person.Task;
+
+/**
+ * Tests that a {@code Task} passes a {@link TaskFilter}.
+ * It refines the filter predicates whose filters its filter refines, such as those of queries with fewer conditions.
+ */
+public class FilterPredicate implements RefiningPredicate {
+    private final TaskFilter filter;
+    private final Predicate<Task> compiledFilter;
+
+    /**
+     * Creates a predicate that tests tasks against {@code filter}.
+     */
+    public FilterPredicate(TaskFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+        this.compiledFilter = filter.compile();
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return compiledFilter.test(task);
+    }
+
+    @Override
+    public boolean refines(Predicate<Task> other) {
+        return other instanceof FilterPredicate && filter.refines(((FilterPredicate) other).filter);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterPredicate // instanceof handles nulls
+                && filter.equals(((FilterPredicate) other).filter)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return filter.toString();
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskKey;
+import seedu.address.model.person.Weightage;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single condition on a field of a task, such as its module code or deadline.
+ * The selectivity of each kind of condition is a fixed estimate.
+ * Conditions on a module code, tag or priority tag are keys, whose tasks can be looked up in the task tracker.
+ * A condition on a range of weightages or deadline dates refines the conditions on wider ranges of the same field.
+ */
+public class FilterTerm extends TaskFilter {
+
+    /** Cost of comparing a field of a task with a value. */
+    public static final double FIELD_COST = 1;
+
+    /** Cost of looking up a value in a set of a task, such as its tags. */
+    public static final double SET_LOOKUP_COST = 3;
+
+    /** Cost of splitting the name of a task into words to match one of them. */
+    public static final double WORD_MATCH_COST = 20;
+
+    private static final double MODULE_CODE_SELECTIVITY = 0.1;
+    private static final double TAG_SELECTIVITY = 0.2;
+    private static final double NAME_WORD_SELECTIVITY = 0.05;
+    private static final double PRIORITY_SELECTIVITY = 1.0 / 3;
+    private static final double STATUS_SELECTIVITY = 0.5;
+
+    /** Number of days over which the deadlines of most tasks are assumed to be spread, such as a semester. */
+    private static final double DEADLINE_SPREAD_DAYS = 120;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+
+    private final String description;
+    private final Predicate<Task> predicate;
+    private final double selectivity;
+    private final double cost;
+    private final TaskKey key;
+    private final Range range;
+
+    private FilterTerm(String description, Predicate<Task> predicate, double selectivity, double cost) {
+        this(description, predicate, selectivity, cost, null, null);
+    }
+
+    private FilterTerm(String description, Predicate<Task> predicate, double selectivity, double cost,
+            TaskKey key, Range range) {
+        this.description = description;
+        this.predicate = predicate;
+        this.selectivity = selectivity;
+        this.cost = cost;
+        this.key = key;
+        this.range = range;
+    }
+
+    /**
+     * Returns a condition that the module code of a task is {@code moduleCode}.
+     */
+    public static FilterTerm moduleCode(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return new FilterTerm("mc/" + moduleCode, task -> task.getModuleCode().equals(moduleCode),
+                MODULE_CODE_SELECTIVITY, FIELD_COST, moduleCode, null);
+    }
+
+    /**
+     * Returns a condition that a task has the tag {@code tag}.
+     */
+    public static FilterTerm tag(Tag tag) {
+        requireNonNull(tag);
+        return new FilterTerm("pt/" + tag.tagName, task -> task.getTags().contains(tag), TAG_SELECTIVITY,
+                SET_LOOKUP_COST, tag, null);
+    }
+
+    /**
+     * Returns a condition that the priority of a task is {@code priorityTag}.
+     */
+    public static FilterTerm priority(PriorityTag priorityTag) {
+        requireNonNull(priorityTag);
+        return new FilterTerm("ptag/" + priorityTag.getTagName(), task -> task.getPriorityTag().equals(priorityTag),
+                PRIORITY_SELECTIVITY, FIELD_COST, priorityTag, null);
+    }
+
+    /**
+     * Returns a condition that a task is finished, or unfinished if {@code isFinished} is false.
+     */
+    public static FilterTerm status(boolean isFinished) {
+        Predicate<Task> predicate = task -> task.getStatus().hasFinished() == isFinished;
+        return new FilterTerm("s/" + (isFinished ? "finished" : "unfinished"), predicate, STATUS_SELECTIVITY,
+                FIELD_COST);
+    }
+
+    /**
+     * Returns a condition that the weightage of a task is from {@code minWeightage} to {@code maxWeightage} percent,
+     * both inclusive.
+     */
+    public static FilterTerm weightageBetween(int minWeightage, int maxWeightage) {
+        checkArgument(Weightage.isValidWeightage(minWeightage) && Weightage.isValidWeightage(maxWeightage)
+                && minWeightage <= maxWeightage, Weightage.MESSAGE_CONSTRAINTS);
+        Predicate<Task> predicate = task -> {
+            int weightage = task.getWeightage().weightage;
+            return weightage >= minWeightage && weightage <= maxWeightage;
+        };
+        double selectivity = (maxWeightage - minWeightage + 1.0) / (Weightage.MAX_WEIGHTAGE + 1);
+        return new FilterTerm("w/" + minWeightage + "%-" + maxWeightage + "%", predicate, selectivity, FIELD_COST,
+                null, new Range(Range.WEIGHTAGE, minWeightage, maxWeightage));
+    }
+
+    /**
+     * Returns a condition that the deadline date of a task is from {@code startDate} to {@code endDate}, both
+     * inclusive.
+     */
+    public static FilterTerm dueBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        checkArgument(!endDate.isBefore(startDate), "The end date must not be before the start date.");
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        Predicate<Task> predicate = task -> {
+            long deadlineDay = task.getDeadlineDate().toEpochDay();
+            return deadlineDay >= startDay && deadlineDay <= endDay;
+        };
+        double selectivity = Math.min(1, (ChronoUnit.DAYS.between(startDate, endDate) + 1) / DEADLINE_SPREAD_DAYS);
+        return new FilterTerm("from/" + startDate.format(DATE_FORMATTER) + " to/" + endDate.format(DATE_FORMATTER),
+                predicate, selectivity, FIELD_COST, null, new Range(Range.DEADLINE_DATE, startDay, endDay));
+    }
+
+    /**
+     * Returns a condition that the name of a task has the word {@code word}, ignoring case.
+     */
+    public static FilterTerm nameHasWord(String word) {
+        requireNonNull(word);
+        checkArgument(!word.isEmpty() && !word.contains(" "), "Word parameter should be a single word");
+        Predicate<Task> predicate = task -> StringUtil.containsWordIgnoreCase(task.getTaskName().fullName, word);
+        return new FilterTerm("n/" + word, predicate, NAME_WORD_SELECTIVITY, WORD_MATCH_COST);
+    }
+
+    @Override
+    public double getSelectivity() {
+        return selectivity;
+    }
+
+    @Override
+    public double getCost() {
+        return cost;
+    }
+
+    @Override
+    public Predicate<Task> compile() {
+        return predicate;
+    }
+
+    @Override
+    public Predicate<Task> compile(Model model) {
+        requireNonNull(model);
+        if (key == null) {
+            return predicate;
+        }
+        Set<Long> ids = model.findTaskIdsWithAllKeys(List.of(key));
+        return task -> ids.contains(task.getId());
+    }
+
+    @Override
+    Optional<TaskKey> getKey() {
+        return Optional.ofNullable(key);
+    }
+
+    @Override
+    public boolean refines(TaskFilter other) {
+        return super.refines(other)
+                || (range != null && other instanceof FilterTerm && range.isWithin(((FilterTerm) other).range));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterTerm // instanceof handles nulls
+                && description.equals(((FilterTerm) other).description)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    /**
+     * The values of a field of a task that pass a condition, from {@code min} to {@code max}, both inclusive.
+     */
+    private static class Range {
+        private static final String WEIGHTAGE = "weightage";
+        private static final String DEADLINE_DATE = "deadline date";
+
+        private final String field;
+        private final long min;
+        private final long max;
+
+        Range(String field, long min, long max) {
+            this.field = field;
+            this.min = min;
+            this.max = max;
+        }
+
+        boolean isWithin(Range other) {
+            return other != null && field.equals(other.field) && min >= other.min && max <= other.max;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Task;
+
+/**
+ * A filter that passes the tasks that fail its filter.
+ */
+public class NotFilter extends TaskFilter {
+
+    private final TaskFilter filter;
+
+    /**
+     * Creates a filter that passes the tasks that fail {@code filter}.
+     */
+    public NotFilter(TaskFilter filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public double getSelectivity() {
+        return 1 - filter.getSelectivity();
+    }
+
+    @Override
+    public double getCost() {
+        return filter.getCost();
+    }
+
+    @Override
+    public Predicate<Task> compile() {
+        return filter.compile().negate();
+    }
+
+    @Override
+    public boolean refines(TaskFilter other) {
+        return super.refines(other)
+                || (other instanceof NotFilter && ((NotFilter) other).filter.refines(filter));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotFilter // instanceof handles nulls
+                && filter.equals(((NotFilter) other).filter)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + filter;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.filter;
+
+import java.util.List;
+
+/**
+ * A filter that passes the tasks that pass any of its filters.
+ */
+public class OrFilter extends CompositeFilter {
+
+    public OrFilter(List<TaskFilter> filters) {
+        super(filters);
+    }
+
+    @Override
+    boolean isConjunction() {
+        return false;
+    }
+
+    @Override
+    List<TaskFilter> plan(List<TaskFilter> filters) {
+        return FilterPlanner.orderDisjuncts(filters);
+    }
+
+    @Override
+    public boolean refines(TaskFilter other) {
+        return super.refines(other) || getFilters().stream().allMatch(filter -> filter.refines(other));
+    }
+
+    @Override
+    public double getSelectivity() {
+        double rejectedFraction = 1;
+        for (TaskFilter filter : getFilters()) {
+            rejectedFraction *= 1 - filter.getSelectivity();
+        }
+        return 1 - rejectedFraction;
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskKey;
+
+/**
+ * A condition on tasks in a filter query, which can be combined with others through {@link AndFilter},
+ * {@link OrFilter} and {@link NotFilter}.
+ * Each filter estimates the fraction of tasks it keeps and its cost of testing a task, so that
+ * {@link FilterPlanner} can order the conditions to test the cheap and selective ones first.
+ */
+public abstract class TaskFilter {
+
+    /**
+     * Returns the estimated fraction of tasks that pass this filter, from 0 to 1.
+     */
+    public abstract double getSelectivity();
+
+    /**
+     * Returns the estimated cost of testing a task against this filter, relative to comparing a field of the task.
+     */
+    public abstract double getCost();
+
+    /**
+     * Returns a predicate that tests tasks against this filter, with the conditions in their planned order.
+     */
+    public abstract Predicate<Task> compile();
+
+    /**
+     * Returns a predicate like {@link #compile()}, which looks up the tasks with the module codes, tags and priority
+     * tags of this filter in {@code model} once, instead of checking them on every task.
+     * The tasks looked up only hold for the tasks in {@code model} when it is compiled, so tasks added or edited
+     * afterwards must be tested with {@link #compile()}, such as through an {@code IndexedPredicate}.
+     */
+    public Predicate<Task> compile(Model model) {
+        requireNonNull(model);
+        return compile();
+    }
+
+    /**
+     * Returns the ids of the tasks in {@code model} that pass this filter, if they can all be looked up by their keys
+     * without testing any task, or an empty Optional otherwise.
+     * Like {@link #compile(Model)}, the ids only hold for the tasks in {@code model} when they are looked up.
+     */
+    public Optional<Set<Long>> findTaskIds(Model model) {
+        requireNonNull(model);
+        return getKey().map(key -> model.findTaskIdsWithAllKeys(List.of(key)));
+    }
+
+    /**
+     * Returns true if every task that passes this filter also passes {@code other}.
+     * Returns false if that is not known from the conditions of the filters.
+     */
+    public boolean refines(TaskFilter other) {
+        requireNonNull(other);
+        if (equals(other)) {
+            return true;
+        }
+        if (other instanceof CompositeFilter) {
+            CompositeFilter otherComposite = (CompositeFilter) other;
+            return otherComposite.isConjunction()
+                    ? otherComposite.getFilters().stream().allMatch(this::refines)
+                    : otherComposite.getFilters().stream().anyMatch(this::refines);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key that the tasks passing this filter must have, if this filter is a single condition on a key.
+     */
+    Optional<TaskKey> getKey() {
+        return Optional.empty();
+    }
+}
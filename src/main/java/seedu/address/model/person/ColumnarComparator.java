@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+/**
+ * A comparator of tasks which can also order tasks by a key read from the {@link TaskColumns} of a list,
+ * so that the list can be sorted without comparing the tasks themselves.
+ */
+public interface ColumnarComparator extends Comparator<Task> {
+
+    /**
+     * Returns the sort key of the task in {@code row} of {@code columns}.
+     * Keys are ordered the same way as the tasks are by {@link #compare}, and fit in the number of bits given by
+     * {@link #getSortKeyBits(TaskColumns)}.
+     */
+    long getSortKey(TaskColumns columns, int row);
+
+    /**
+     * Returns the number of bits needed to hold the sort key of any task in {@code columns}.
+     * Sort keys can only be computed if this is at most 63.
+     */
+    int getSortKeyBits(TaskColumns columns);
+
+    /**
+     * Returns the number of bits needed to hold any sort key from 0 to {@code maxKey}.
+     */
+    static int bitsToHold(long maxKey) {
+        return Long.SIZE - Long.numberOfLeadingZeros(maxKey);
+    }
+
+    @Override
+    default ColumnarComparator reversed() {
+        ColumnarComparator original = this;
+        return new ColumnarComparator() {
+            @Override
+            public int compare(Task firstTask, Task secondTask) {
+                return original.compare(secondTask, firstTask);
+            }
+
+            @Override
+            public long getSortKey(TaskColumns columns, int row) {
+                long maxKey = (1L << original.getSortKeyBits(columns)) - 1;
+                return maxKey - original.getSortKey(columns, row);
+            }
+
+            @Override
+            public int getSortKeyBits(TaskColumns columns) {
+                return original.getSortKeyBits(columns);
+            }
+        };
+    }
+
+    /**
+     * Returns a comparator which orders tasks by this comparator, and then by {@code other} for tasks that are
+     * equal under this comparator.
+     * The sort key of a task under the returned comparator is its key under this comparator followed by its key
+     * under {@code other}.
+     */
+    default ColumnarComparator thenComparing(ColumnarComparator other) {
+        requireNonNull(other);
+        ColumnarComparator first = this;
+        return new ColumnarComparator() {
+            @Override
+            public int compare(Task firstTask, Task secondTask) {
+                int result = first.compare(firstTask, secondTask);
+                return result != 0 ? result : other.compare(firstTask, secondTask);
+            }
+
+            @Override
+            public long getSortKey(TaskColumns columns, int row) {
+                return (first.getSortKey(columns, row) << other.getSortKeyBits(columns))
+                        | other.getSortKey(columns, row);
+            }
+
+            @Override
+            public int getSortKeyBits(TaskColumns columns) {
+                return first.getSortKeyBits(columns) + other.getSortKeyBits(columns);
+            }
+        };
+    }
+}
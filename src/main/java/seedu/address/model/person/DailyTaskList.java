@@ -0,0 +1,235 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.model.person.exceptions.DuplicateTaskException;
+import seedu.address.model.person.exceptions.TaskNotFoundException;
+
+/**
+ * A list of tasks from a {@link UniqueTaskList} that are to be done today, in the order they were added.
+ * Does not allow a task to be added more than once.
+ *
+ * Tasks are referred to by their id. Membership and positions are answered from a map of the ids in the list to their
+ * positions, and the list follows
+ * the task list it was created over: when a task in that list is replaced, such as when it is edited or finished,
+ * this list shows the replacement, and when a task is removed from that list, it is removed from this list too.
+ */
+public class DailyTaskList {
+
+    private final UniqueTaskList tasks;
+    private final PersistentObservableList<Task> internalList = new PersistentObservableList<>();
+    private final ObservableList<Task> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    /**
+     * Position of each task in {@code internalList}, keyed by task id.
+     * Positions from {@code firstStalePosition} onwards may be outdated after a removal, and are only
+     * recomputed when they are next needed, so that consecutive removals do not each renumber the list.
+     */
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int firstStalePosition = Integer.MAX_VALUE;
+
+    /**
+     * Creates an empty daily task list over the tasks in {@code tasks}.
+     */
+    public DailyTaskList(UniqueTaskList tasks) {
+        this(tasks, true);
+    }
+
+    private DailyTaskList(UniqueTaskList tasks, boolean isFollowingTasks) {
+        requireNonNull(tasks);
+        this.tasks = tasks;
+        if (isFollowingTasks) {
+            tasks.asUnmodifiableObservableList().addListener(this::followTaskListChange);
+        }
+    }
+
+    /**
+     * Returns an empty daily task list over the tasks in {@code tasks}, which does not follow the changes to
+     * {@code tasks}, so that {@code tasks} does not keep it alive once it is discarded.
+     * The returned list is only to be used while {@code tasks} does not change.
+     */
+    public static DailyTaskList notFollowing(UniqueTaskList tasks) {
+        return new DailyTaskList(tasks, false);
+    }
+
+    /**
+     * Returns true if the list contains the task with the same id as the given task.
+     */
+    public boolean contains(Task toCheck) {
+        requireNonNull(toCheck);
+        return positions.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Adds the task with the same id as {@code toAdd} to the end of the list.
+     * The task must exist in the underlying task list, and must not already exist in this list.
+     */
+    public void add(Task toAdd) {
+        requireNonNull(toAdd);
+        Task task = tasks.getTask(toAdd.getId()).orElseThrow(TaskNotFoundException::new);
+        if (positions.containsKey(task.getId())) {
+            throw new DuplicateTaskException();
+        }
+        positions.put(task.getId(), internalList.size());
+        internalList.add(task);
+    }
+
+    /**
+     * Removes the task with the same id as {@code toRemove} from the list.
+     * The task must exist in the list.
+     */
+    public void remove(Task toRemove) {
+        requireNonNull(toRemove);
+        removeAt(indexOf(toRemove.getId()));
+    }
+
+    /**
+     * Replaces the contents of this list with the tasks in the underlying task list that have the same ids as
+     * {@code replacement}, in the order of {@code replacement}.
+     * Tasks which are not in the underlying task list, and repeated tasks, are left out.
+     */
+    public void setTasks(List<Task> replacement) {
+        requireNonNull(replacement);
+        List<Task> dailyTasks = new ArrayList<>();
+        Set<Long> dailyTaskIds = new HashSet<>();
+        for (Task task : replacement) {
+            Optional<Task> currentTask = tasks.getTask(task.getId());
+            if (currentTask.isPresent() && dailyTaskIds.add(task.getId())) {
+                dailyTasks.add(currentTask.get());
+            }
+        }
+
+        internalList.setAll(dailyTasks);
+        positions.clear();
+        for (int i = 0; i < dailyTasks.size(); i++) {
+            positions.put(dailyTasks.get(i).getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, such as an earlier snapshot of this list, in the
+     * same way as {@link #setTasks(List)}.
+     * If the tasks where {@code replacement} differs from this list are all in the underlying task list, only that
+     * range of tasks is replaced, and the parts that they share are skipped without visiting their tasks.
+     */
+    public void setTasks(PersistentList<Task> replacement) {
+        requireNonNull(replacement);
+        PersistentList<Task> currentTasks = internalList.snapshot();
+        int from = currentTasks.commonPrefixLength(replacement);
+        int suffixLength = currentTasks.commonSuffixLength(replacement,
+                Math.min(currentTasks.size(), replacement.size()) - from);
+        List<Task> removedTasks = currentTasks.asList().subList(from, currentTasks.size() - suffixLength);
+        List<Task> addedTasks = replacement.asList().subList(from, replacement.size() - suffixLength);
+        Set<Long> removedIds = new HashSet<>();
+        for (Task task : removedTasks) {
+            removedIds.add(task.getId());
+        }
+        Set<Long> addedIds = new HashSet<>();
+        for (Task task : addedTasks) {
+            boolean isCurrentTask = tasks.getTask(task.getId()).filter(currentTask -> currentTask == task).isPresent();
+            if (!isCurrentTask || !addedIds.add(task.getId())
+                    || (positions.containsKey(task.getId()) && !removedIds.contains(task.getId()))) {
+                setTasks(replacement.asList());
+                return;
+            }
+        }
+
+        for (Task task : removedTasks) {
+            positions.remove(task.getId());
+        }
+        for (int i = 0; i < addedTasks.size(); i++) {
+            positions.put(addedTasks.get(i).getId(), from + i);
+        }
+        if (removedTasks.size() != addedTasks.size()) {
+            firstStalePosition = Math.min(firstStalePosition, from + addedTasks.size());
+        }
+        internalList.setAll(replacement);
+    }
+
+    /**
+     * Returns the current contents of this list, which are unaffected by later changes to this list.
+     */
+    public PersistentList<Task> snapshot() {
+        return internalList.snapshot();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Task> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Updates this list with a {@code change} to the underlying task list.
+     * Only tasks whose ids are in this list are looked at, so changes to other tasks cost O(1) per task.
+     */
+    private void followTaskListChange(ListChangeListener.Change<? extends Task> change) {
+        // The latest version of each task in this list that was changed, or null if the task was removed.
+        // A task that is moved is removed and added again in the same change, in either order.
+        Map<Long, Task> changedTasks = new HashMap<>();
+        while (change.next()) {
+            for (Task removedTask : change.getRemoved()) {
+                if (positions.containsKey(removedTask.getId())) {
+                    changedTasks.putIfAbsent(removedTask.getId(), null);
+                }
+            }
+            if (change.wasAdded()) {
+                for (Task addedTask : change.getAddedSubList()) {
+                    if (positions.containsKey(addedTask.getId())) {
+                        changedTasks.put(addedTask.getId(), addedTask);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Long, Task> changedTask : changedTasks.entrySet()) {
+            int index = indexOf(changedTask.getKey());
+            if (changedTask.getValue() == null) {
+                removeAt(index);
+            } else if (internalList.get(index) != changedTask.getValue()) {
+                internalList.set(index, changedTask.getValue());
+            }
+        }
+    }
+
+    private void removeAt(int index) {
+        Task removedTask = internalList.remove(index);
+        positions.remove(removedTask.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
+    }
+
+    /**
+     * Returns the position of the task with the given {@code id}, which must be in this list.
+     */
+    private int indexOf(long id) {
+        Integer position = positions.get(id);
+        if (position == null) {
+            throw new TaskNotFoundException();
+        }
+        if (position < firstStalePosition) {
+            return position;
+        }
+
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        return positions.get(id);
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.model.WorkloadLimits;
+
+/**
+ * The tasks in a {@link UniqueTaskList} bucketed by the day and by the ISO week of their deadlines, with the number of
+ * tasks and the sum of their weightages in each bucket. The days and weeks whose unfinished tasks go over the
+ * {@link WorkloadLimits} are kept as overloaded.
+ *
+ * The calendar follows the task list it was created over. Each changed task only updates the bucket of its day and of
+ * its week, and whether those are overloaded, so the cost of a change does not grow with the number of tasks or days.
+ */
+public class DeadlineCalendar extends TaskListIndex {
+
+    private final Map<LocalDate, TaskAggregate> byDueDate = new HashMap<>();
+
+    /** Buckets of the tasks due in each week, keyed by the Monday that starts the week. */
+    private final Map<LocalDate, TaskAggregate> byDueWeek = new HashMap<>();
+
+    private final Set<LocalDate> overloadedDates = new HashSet<>();
+    private final Set<LocalDate> overloadedWeeks = new HashSet<>();
+    private WorkloadLimits limits = new WorkloadLimits();
+
+    /**
+     * Creates a calendar of the tasks in {@code tasks}, which is kept up to date as {@code tasks} changes.
+     */
+    public DeadlineCalendar(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        follow(tasks);
+    }
+
+    public WorkloadLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Sets the limits over which a day or week is overloaded to {@code limits}, and finds the overloaded days and
+     * weeks again.
+     */
+    public void setLimits(WorkloadLimits limits) {
+        requireNonNull(limits);
+        if (limits.equals(this.limits)) {
+            return;
+        }
+        this.limits = limits;
+        overloadedDates.clear();
+        byDueDate.forEach((date, bucket) -> updateOverload(overloadedDates, date, bucket, limits::getDailyLoad));
+        overloadedWeeks.clear();
+        byDueWeek.forEach((monday, bucket) -> updateOverload(overloadedWeeks, monday, bucket, limits::getWeeklyLoad));
+    }
+
+    /**
+     * Returns the tasks due on {@code date}.
+     */
+    public TaskAggregate getDueOn(LocalDate date) {
+        requireNonNull(date);
+        return copyOf(byDueDate.get(date));
+    }
+
+    /**
+     * Returns the tasks due in the ISO week of {@code date}.
+     */
+    public TaskAggregate getDueInWeekOf(LocalDate date) {
+        requireNonNull(date);
+        return copyOf(byDueWeek.get(TaskAggregates.weekOf(date)));
+    }
+
+    /**
+     * Returns true if the unfinished tasks due on {@code date} go over the daily limits.
+     */
+    public boolean isOverloadedDate(LocalDate date) {
+        requireNonNull(date);
+        return overloadedDates.contains(date);
+    }
+
+    /**
+     * Returns true if the unfinished tasks due in the ISO week of {@code date} go over the weekly limits.
+     */
+    public boolean isOverloadedWeek(LocalDate date) {
+        requireNonNull(date);
+        return overloadedWeeks.contains(TaskAggregates.weekOf(date));
+    }
+
+    /**
+     * Returns the overloaded days from {@code startDate} on, from the earliest.
+     */
+    public List<LocalDate> getOverloadedDatesFrom(LocalDate startDate) {
+        requireNonNull(startDate);
+        return sortedFrom(overloadedDates, startDate);
+    }
+
+    /**
+     * Returns the Mondays that start the overloaded weeks, from the week of {@code startDate} on, from the earliest.
+     */
+    public List<LocalDate> getOverloadedWeeksFrom(LocalDate startDate) {
+        requireNonNull(startDate);
+        return sortedFrom(overloadedWeeks, TaskAggregates.weekOf(startDate));
+    }
+
+    private static List<LocalDate> sortedFrom(Set<LocalDate> dates, LocalDate startDate) {
+        return dates.stream()
+                .filter(date -> !date.isBefore(startDate))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static TaskAggregate copyOf(TaskAggregate bucket) {
+        return bucket == null ? new TaskAggregate() : new TaskAggregate(bucket);
+    }
+
+    @Override
+    protected void index(Task task) {
+        LocalDate date = dueDateOf(task);
+        TaskAggregate dayBucket = byDueDate.computeIfAbsent(date, unused -> new TaskAggregate());
+        dayBucket.add(task);
+        updateOverload(overloadedDates, date, dayBucket, limits::getDailyLoad);
+
+        LocalDate monday = TaskAggregates.weekOf(date);
+        TaskAggregate weekBucket = byDueWeek.computeIfAbsent(monday, unused -> new TaskAggregate());
+        weekBucket.add(task);
+        updateOverload(overloadedWeeks, monday, weekBucket, limits::getWeeklyLoad);
+    }
+
+    @Override
+    protected void unindex(Task task) {
+        LocalDate date = dueDateOf(task);
+        unindex(byDueDate, overloadedDates, date, task, limits::getDailyLoad);
+        unindex(byDueWeek, overloadedWeeks, TaskAggregates.weekOf(date), task, limits::getWeeklyLoad);
+    }
+
+    private static void unindex(Map<LocalDate, TaskAggregate> buckets, Set<LocalDate> overloaded, LocalDate key,
+            Task task, ToDoubleFunction<TaskAggregate> load) {
+        TaskAggregate bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(task);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+        updateOverload(overloaded, key, bucket, load);
+    }
+
+    private static void updateOverload(Set<LocalDate> overloaded, LocalDate key, TaskAggregate bucket,
+            ToDoubleFunction<TaskAggregate> load) {
+        if (load.applyAsDouble(bucket) > 1) {
+            overloaded.add(key);
+        } else {
+            overloaded.remove(key);
+        }
+    }
+
+    private static LocalDate dueDateOf(Task task) {
+        return LocalDate.ofEpochDay(task.getDeadlineDate().toEpochDay());
+    }
+}
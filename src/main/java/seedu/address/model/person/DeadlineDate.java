@@ -22,6 +22,8 @@ public class DeadlineDate implements Comparable<DeadlineDate> {
     public static final String VALIDATION_REGEX = "^(0[1-9]|[12][0-9]|3[01])-(0[1-9]|1[012])-((20)[2-9][0-9])$";
     private static final DateTimeFormatter dateDateFormatter = DateTimeFormatter.ofPattern("dd-MM-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
+    private static final long FIRST_VALID_EPOCH_DAY = LocalDate.of(2020, 1, 1).toEpochDay();
+    private static final long LAST_VALID_EPOCH_DAY = LocalDate.of(2099, 12, 31).toEpochDay();
 
     private LocalDate deadlineDate;
 
@@ -36,6 +38,21 @@ public class DeadlineDate implements Comparable<DeadlineDate> {
         this.deadlineDate = LocalDate.parse(deadlineDate, dateDateFormatter);
     }
 
+    private DeadlineDate(LocalDate deadlineDate) {
+        this.deadlineDate = deadlineDate;
+    }
+
+    /**
+     * Returns the deadline date {@code epochDay} days from the epoch 1970-01-01, without going through its
+     * {@code String} form.
+     *
+     * @param epochDay A day that is a valid deadline date, as declared in {@link #isValidDeadlineDate(long)}.
+     */
+    public static DeadlineDate ofEpochDay(long epochDay) {
+        checkArgument(isValidDeadlineDate(epochDay), MESSAGE_CONSTRAINTS);
+        return new DeadlineDate(LocalDate.ofEpochDay(epochDay));
+    }
+
     /**
      * Returns true if a given String is a valid deadline date.
      */
@@ -54,6 +71,20 @@ public class DeadlineDate implements Comparable<DeadlineDate> {
         return true;
     }
 
+    /**
+     * Returns true if the day {@code epochDay} days from the epoch 1970-01-01 is a valid deadline date.
+     */
+    public static boolean isValidDeadlineDate(long epochDay) {
+        return epochDay >= FIRST_VALID_EPOCH_DAY && epochDay <= LAST_VALID_EPOCH_DAY
+                && epochDay >= LocalDate.now().toEpochDay();
+    }
+
+    /**
+     * Returns the number of days from the epoch 1970-01-01 to this deadline date.
+     */
+    public long toEpochDay() {
+        return deadlineDate.toEpochDay();
+    }
 
     @Override
     public String toString() {
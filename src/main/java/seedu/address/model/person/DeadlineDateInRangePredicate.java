@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.time.DateTimeException;
@@ -12,67 +13,104 @@ import seedu.address.logic.commands.DueInCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Tests that a {@code Task}'s {@code DeadlineDate} within the range of the given days/weeks.
+ * Tests that a {@code Task}'s {@code DeadlineDate} within the range of the given days/weeks, or between two dates.
+ * It refines the predicates whose range contains its range.
  */
-public class DeadlineDateInRangePredicate implements Predicate<Task> {
+public class DeadlineDateInRangePredicate implements RefiningPredicate {
+    public static final LocalDate MIN_DATE = LocalDate.of(2020, 1, 1); // Earliest date allowed
+    public static final LocalDate MAX_DATE = LocalDate.of(2099, 12, 31); // Latest date allowed
+
     private static final DateTimeFormatter dateDateFormatter = DateTimeFormatter.ofPattern("dd-MM-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
-    private static DeadlineDate maxDate = new DeadlineDate("31-12-2099"); // Latest date allowed
-    private static DeadlineDate today = new DeadlineDate(LocalDate.now().format(dateDateFormatter));
 
-    private final DeadlineDate endDate;
-    private final long numberOfDays;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String description;
 
     /**
      * A predicate to check deadlinedate of a task
      * @param numberOfDays number of days ahead from today's date
+     * @throws ParseException if {@code numberOfDays} is negative, or ends the range after the latest date allowed
      */
     public DeadlineDateInRangePredicate(long numberOfDays) throws ParseException {
-        DeadlineDate dateSpecifiedByUser;
+        if (numberOfDays < 0) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate dateSpecifiedByUser;
         try {
-            dateSpecifiedByUser = new DeadlineDate(
-                    LocalDate.now().plusDays(numberOfDays).format(dateDateFormatter));
+            dateSpecifiedByUser = today.plusDays(numberOfDays);
         } catch (DateTimeException e) {
             throw new ParseException(
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
-        } catch (IllegalArgumentException re) {
+        }
+        if (dateSpecifiedByUser.isAfter(MAX_DATE)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
         }
-        this.numberOfDays = numberOfDays;
-        this.endDate = minimumOf(dateSpecifiedByUser, maxDate);
+        this.startDate = today;
+        this.endDate = dateSpecifiedByUser;
+        this.description = " Show deadline for the next " + numberOfDays + " days";
     }
 
     /**
-     * Compare 2 deadlineDate and returns the minimum
-     * @param firstDeadlineDate
-     * @param secondDeadlineDate
-     * @return DeadlineDate with smaller date
+     * A predicate to check that the deadline date of a task is from {@code startDate} to {@code endDate}, both
+     * inclusive. Unlike the number of days ahead, the dates may be earlier than today, to show overdue tasks.
+     * @throws ParseException if {@code endDate} is earlier than {@code startDate}
      */
-
-    private DeadlineDate minimumOf(DeadlineDate firstDeadlineDate, DeadlineDate secondDeadlineDate) {
-        if (firstDeadlineDate.compareTo(secondDeadlineDate) < 0) {
-            return firstDeadlineDate;
-        } else {
-            return secondDeadlineDate;
+    public DeadlineDateInRangePredicate(LocalDate startDate, LocalDate endDate) throws ParseException {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE));
         }
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.description = " Show deadline from " + startDate.format(dateDateFormatter)
+                + " to " + endDate.format(dateDateFormatter);
+    }
+
+    /**
+     * Returns the earliest deadline date in range.
+     */
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the latest deadline date in range.
+     */
+    public LocalDate getEndDate() {
+        return endDate;
     }
 
     @Override
     public boolean test(Task task) {
-        return task.getDeadlineDate().compareTo(endDate) <= 0
-                && task.getDeadlineDate().compareTo(today) >= 0;
+        long deadlineDay = task.getDeadlineDate().toEpochDay();
+        return deadlineDay >= startDate.toEpochDay() && deadlineDay <= endDate.toEpochDay();
+    }
+
+    @Override
+    public boolean refines(Predicate<Task> other) {
+        if (!(other instanceof DeadlineDateInRangePredicate)) {
+            return false;
+        }
+        DeadlineDateInRangePredicate otherPredicate = (DeadlineDateInRangePredicate) other;
+        return !startDate.isBefore(otherPredicate.startDate) && !endDate.isAfter(otherPredicate.endDate);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeadlineDateInRangePredicate // instanceof handles nulls
+                && startDate.equals(((DeadlineDateInRangePredicate) other).startDate)
                 && endDate.equals(((DeadlineDateInRangePredicate) other).endDate)); // task's deadline within range
     }
 
     @Override
     public String toString() {
-        return " Show deadline for the next " + numberOfDays + " days";
+        return description;
     }
 }
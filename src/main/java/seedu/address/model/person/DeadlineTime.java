@@ -17,6 +17,7 @@ public class DeadlineTime implements Comparable<DeadlineTime> {
 
     public static final String VALIDATION_REGEX = "^([01][0-9]|2[0-3]):([0-5][0-9])$";
     private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int MINUTES_PER_DAY = 24 * 60;
 
     private LocalTime deadlineTime;
 
@@ -31,6 +32,21 @@ public class DeadlineTime implements Comparable<DeadlineTime> {
         this.deadlineTime = LocalTime.parse(deadlineTime, dateTimeFormatter);
     }
 
+    private DeadlineTime(LocalTime deadlineTime) {
+        this.deadlineTime = deadlineTime;
+    }
+
+    /**
+     * Returns the deadline time {@code minuteOfDay} minutes after midnight, without going through its {@code String}
+     * form.
+     *
+     * @param minuteOfDay A valid minute of the day, as declared in {@link #isValidDeadlineTime(int)}.
+     */
+    public static DeadlineTime ofMinuteOfDay(int minuteOfDay) {
+        checkArgument(isValidDeadlineTime(minuteOfDay), MESSAGE_CONSTRAINTS);
+        return new DeadlineTime(LocalTime.of(minuteOfDay / 60, minuteOfDay % 60));
+    }
+
     /**
      * Returns true if a given String is a valid deadline date.
      */
@@ -38,6 +54,19 @@ public class DeadlineTime implements Comparable<DeadlineTime> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code minuteOfDay} minutes after midnight is a valid deadline time.
+     */
+    public static boolean isValidDeadlineTime(int minuteOfDay) {
+        return minuteOfDay >= 0 && minuteOfDay < MINUTES_PER_DAY;
+    }
+
+    /**
+     * Returns the number of minutes from midnight to this deadline time.
+     */
+    public int toMinuteOfDay() {
+        return deadlineTime.getHour() * 60 + deadlineTime.getMinute();
+    }
 
     @Override
     public String toString() {
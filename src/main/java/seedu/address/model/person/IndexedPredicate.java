@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Task} passes a predicate, by looking it up among the tasks that were found to pass it in an
+ * index of the task tracker, instead of testing the predicate.
+ * The tasks found in the index only hold for the tasks in the task tracker when they were looked up, so they are only
+ * used until {@link #endLookup()} is called, once the filtered list has been filtered with this predicate. Tasks added
+ * or edited afterwards are tested with the predicate itself.
+ * When the tasks are found by their ids, the model shows the tasks with those ids without visiting the other tasks.
+ * It refines the predicates that its predicate refines.
+ */
+public class IndexedPredicate implements RefiningPredicate {
+    private final RefiningPredicate predicate;
+    private final Predicate<Task> lookup;
+    private final Set<Long> ids;
+
+    /** The tasks that were found in the index, compared by identity. */
+    private final Set<Task> foundTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isLookupDone = false;
+
+    /**
+     * Creates a predicate that passes the tasks with {@code ids}, which were found to pass {@code predicate}.
+     */
+    public IndexedPredicate(RefiningPredicate predicate, Set<Long> ids) {
+        requireAllNonNull(predicate, ids);
+        this.predicate = predicate;
+        this.lookup = task -> ids.contains(task.getId());
+        this.ids = ids;
+    }
+
+    /**
+     * Creates a predicate that passes the tasks that pass {@code lookup}, which passes the tasks in the task tracker
+     * that were found to pass {@code predicate}, such as a predicate compiled against the task tracker.
+     */
+    public IndexedPredicate(RefiningPredicate predicate, Predicate<Task> lookup) {
+        requireAllNonNull(predicate, lookup);
+        this.predicate = predicate;
+        this.lookup = lookup;
+        this.ids = null;
+    }
+
+    /**
+     * Returns the ids of the tasks that were found to pass the predicate, if the tasks were found by their ids.
+     */
+    public Optional<Set<Long>> getIds() {
+        return Optional.ofNullable(ids);
+    }
+
+    @Override
+    public boolean test(Task task) {
+        if (!isLookupDone) {
+            if (!lookup.test(task)) {
+                return false;
+            }
+            foundTasks.add(task);
+            return true;
+        }
+        return foundTasks.contains(task) || predicate.test(task);
+    }
+
+    /**
+     * Returns true if {@code task} itself was found in the index, rather than added or edited after the lookup.
+     */
+    public boolean isFound(Task task) {
+        return foundTasks.contains(task);
+    }
+
+    /**
+     * Stops looking tasks up by their ids, as the tasks tested from now on may have been added or edited since the
+     * ids were found. Only the tasks that were found before are still passed without testing the predicate.
+     */
+    public void endLookup() {
+        isLookupDone = true;
+    }
+
+    @Override
+    public boolean refines(Predicate<Task> other) {
+        if (other instanceof IndexedPredicate) {
+            return predicate.refines(((IndexedPredicate) other).predicate);
+        }
+        return predicate.refines(other);
+    }
+
+    /**
+     * Returns true if {@code other} is an indexed predicate of an equal predicate, as the tasks that were found to pass
+     * equal predicates are the same.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedPredicate // instanceof handles nulls
+                && predicate.equals(((IndexedPredicate) other).predicate)); // state check
+    }
+}
@@ -3,11 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Task's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidModuleCode(String)}
  */
-public class ModuleCode implements Comparable<ModuleCode> {
+public class ModuleCode implements Comparable<ModuleCode>, TaskKey {
 
     public static final String MESSAGE_CONSTRAINTS =
         "Codes should begin with uppercase CS, have 4 digits, end optionally with a "
@@ -16,6 +18,11 @@ public class ModuleCode implements Comparable<ModuleCode> {
 
     public static final String VALIDATION_REGEX = "[C][S][1-6]\\d{3}[A-Z]?";
 
+    /** Maximum number of distinct module codes that are given a canonical instance. */
+    private static final int INTERNED_MODULE_CODE_LIMIT = 4096;
+    private static final Interner<String, ModuleCode> interner =
+            new Interner<>(ModuleCode::new, INTERNED_MODULE_CODE_LIMIT);
+
     public final String moduleCode;
 
     /**
@@ -29,6 +36,15 @@ public class ModuleCode implements Comparable<ModuleCode> {
         moduleCode = code;
     }
 
+    /**
+     * Returns the canonical {@code ModuleCode} of the given code, which is shared by every task with that code.
+     *
+     * @param code A valid module code.
+     */
+    public static ModuleCode of(String code) {
+        return interner.intern(code);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
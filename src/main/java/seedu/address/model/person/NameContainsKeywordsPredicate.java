@@ -1,26 +1,46 @@
 package seedu.address.model.person;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Task}'s {@code TaskName} matches any of the keywords given.
+ * It refines the predicates with all of its keywords, ignoring case.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Task> {
+public class NameContainsKeywordsPredicate implements RefiningPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Task task) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getTaskName().fullName, keyword));
     }
 
+    @Override
+    public boolean refines(Predicate<Task> other) {
+        if (!(other instanceof NameContainsKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((NameContainsKeywordsPredicate) other).keywords;
+        return toLowerCaseKeywords(otherKeywords).containsAll(toLowerCaseKeywords(keywords));
+    }
+
+    private static Set<String> toLowerCaseKeywords(List<String> keywords) {
+        return new HashSet<>(StringUtil.toLowerCaseWords(String.join(" ", keywords)));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
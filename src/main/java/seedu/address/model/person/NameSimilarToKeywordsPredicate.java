@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Task}'s {@code TaskName} has a word similar to any of the keywords given, as ranked by
+ * {@link TaskWordIndex#getSimilarWordRank}.
+ * It refines the predicates with all of its keywords, ignoring case.
+ */
+public class NameSimilarToKeywordsPredicate implements RefiningPredicate {
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns how close the closest word in the name of {@code task} is to any of the keywords, or an empty Optional
+     * if it has no word similar to them.
+     */
+    public Optional<Integer> getRank(Task task) {
+        return TaskWordIndex.getSimilarWordRank(TaskWordIndex.Field.NAME, task, keywords);
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return getRank(task).isPresent();
+    }
+
+    @Override
+    public boolean refines(Predicate<Task> other) {
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherKeywords = ((NameSimilarToKeywordsPredicate) other).keywords;
+        return toLowerCaseKeywords(otherKeywords).containsAll(toLowerCaseKeywords(keywords));
+    }
+
+    private static Set<String> toLowerCaseKeywords(List<String> keywords) {
+        return new HashSet<>(StringUtil.toLowerCaseWords(String.join(" ", keywords)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameSimilarToKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameSimilarToKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
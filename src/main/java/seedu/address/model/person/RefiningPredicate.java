@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate on tasks that can tell when it only passes tasks that another predicate passes.
+ * The tasks that pass a predicate refining another can be found among the tasks that passed the other one, instead
+ * of among all the tasks. Equal predicates must pass the same tasks, so that their results can be reused.
+ */
+public interface RefiningPredicate extends Predicate<Task> {
+
+    /**
+     * Returns true if every task that passes this predicate also passes {@code other}.
+     * Returns false if that is not known, such as when {@code other} is a different kind of predicate.
+     */
+    boolean refines(Predicate<Task> other);
+}
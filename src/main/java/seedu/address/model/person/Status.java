@@ -8,6 +8,9 @@ import static java.util.Objects.requireNonNull;
 
 public class Status {
 
+    private static final Status FINISHED = new Status("Finished");
+    private static final Status UNFINISHED = new Status();
+
     private final boolean isDone;
 
     /**
@@ -31,14 +34,25 @@ public class Status {
     }
 
     /**
-     * Constructs a {@code Status} with the boolean switch.
+     * Returns the canonical {@code Status} given the string given, without creating a new one.
+     */
+    public static Status of(String status) {
+        requireNonNull(status);
+        return status.equals("Finished") ? FINISHED : UNFINISHED;
+    }
+
+    /**
+     * Returns the canonical unfinished {@code Status}, which is the status of a new task.
+     */
+    public static Status unfinished() {
+        return UNFINISHED;
+    }
+
+    /**
+     * Returns the canonical {@code Status} with the boolean switch.
      */
     public Status toggle() {
-        if (isDone) {
-            return new Status("Unfinished");
-        } else {
-            return new Status("Finished");
-        }
+        return isDone ? UNFINISHED : FINISHED;
     }
 
 
@@ -61,4 +75,9 @@ public class Status {
                 && (isDone == (((Status) other).isDone))); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isDone);
+    }
+
 }
@@ -1,11 +1,13 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.address.model.tag.PriorityTag;
 import seedu.address.model.tag.Tag;
@@ -13,9 +15,18 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Every task also carries a stable id, which is preserved across edits of the task and is used to address the
+ * task in constant time. The id does not take part in equality.
  */
 public class Task {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Task ids should be positive integers";
+
+    private static final AtomicLong lastAssignedId = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final TaskName taskName;
     private final ModuleCode moduleCode;
@@ -30,12 +41,16 @@ public class Task {
     private final Set<Tag> tags = new HashSet<>();
 
     /**
-     * Task takes in priorityTag as an additional attribute
+     * Creates a task with the given {@code id}, which must satisfy {@link #isValidId(long)}.
+     * Used to recreate a task that already has an id, such as an edited or stored task.
      */
-    public Task(TaskName taskName, ModuleCode moduleCode, DeadlineDate deadlineDate,
+    public Task(long id, TaskName taskName, ModuleCode moduleCode, DeadlineDate deadlineDate,
                 DeadlineTime deadlineTime, Status status, Weightage weightage,
                 Notes notes, Set<Tag> tags, PriorityTag priorityTag) {
         requireAllNonNull(taskName, moduleCode, status, tags);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        lastAssignedId.accumulateAndGet(id, Math::max);
+        this.id = id;
         this.taskName = taskName;
         this.moduleCode = moduleCode;
         this.deadlineDate = deadlineDate;
@@ -48,24 +63,35 @@ public class Task {
 
     }
 
+    /**
+     * Task takes in priorityTag as an additional attribute
+     */
+    public Task(TaskName taskName, ModuleCode moduleCode, DeadlineDate deadlineDate,
+                DeadlineTime deadlineTime, Status status, Weightage weightage,
+                Notes notes, Set<Tag> tags, PriorityTag priorityTag) {
+        this(lastAssignedId.incrementAndGet(), taskName, moduleCode, deadlineDate, deadlineTime, status,
+                weightage, notes, tags, priorityTag);
+    }
+
     /**
      * Every field must be present and not null.
      */
     public Task(TaskName taskName, ModuleCode moduleCode, DeadlineDate deadlineDate,
                 DeadlineTime deadlineTime, Status status, Weightage weightage,
                 Notes notes, Set<Tag> tags) {
-        requireAllNonNull(taskName, moduleCode, status, tags);
-        this.taskName = taskName;
-        this.moduleCode = moduleCode;
-        this.deadlineDate = deadlineDate;
-        this.deadlineTime = deadlineTime;
-        this.status = status;
-        this.weightage = weightage;
-        this.notes = notes;
-        this.tags.addAll(tags);
-        this.priorityTag = new PriorityTag("LOW");
+        this(taskName, moduleCode, deadlineDate, deadlineTime, status, weightage, notes, tags,
+                PriorityTag.getDefault());
+    }
 
+    /**
+     * Returns true if {@code id} is a valid task id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
 
+    public long getId() {
+        return id;
     }
 
 
@@ -109,7 +135,7 @@ public class Task {
      * Finish a task and return a new Task with status finished
      */
     public Task finishTask() {
-        return new Task(this.taskName, this.moduleCode, this.deadlineDate,
+        return new Task(this.id, this.taskName, this.moduleCode, this.deadlineDate,
                 this.deadlineTime, this.status.toggle(), this.weightage, this.notes, this.tags, this.priorityTag);
     }
 
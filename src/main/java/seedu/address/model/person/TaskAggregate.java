@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+/**
+ * The number of tasks in a group of tasks and the sum of their weightages, in total and of the unfinished tasks.
+ * Tasks are only added to and removed from an aggregate by {@link TaskAggregates}.
+ */
+public class TaskAggregate {
+
+    private int taskCount;
+    private int unfinishedTaskCount;
+    private long totalWeightage;
+    private long outstandingWeightage;
+
+    /**
+     * Creates an aggregate of no tasks.
+     */
+    public TaskAggregate() {
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    public TaskAggregate(TaskAggregate toCopy) {
+        taskCount = toCopy.taskCount;
+        unfinishedTaskCount = toCopy.unfinishedTaskCount;
+        totalWeightage = toCopy.totalWeightage;
+        outstandingWeightage = toCopy.outstandingWeightage;
+    }
+
+    /**
+     * Adds {@code task} to this aggregate.
+     */
+    void add(Task task) {
+        update(task, 1);
+    }
+
+    /**
+     * Removes {@code task}, which was added to this aggregate before, from this aggregate.
+     */
+    void remove(Task task) {
+        update(task, -1);
+    }
+
+    private void update(Task task, int sign) {
+        int weightage = task.getWeightage().weightage;
+        taskCount += sign;
+        totalWeightage += sign * weightage;
+        if (!task.getStatus().hasFinished()) {
+            unfinishedTaskCount += sign;
+            outstandingWeightage += sign * weightage;
+        }
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public int getUnfinishedTaskCount() {
+        return unfinishedTaskCount;
+    }
+
+    /**
+     * Returns the sum of the weightages of the tasks, in percent.
+     */
+    public long getTotalWeightage() {
+        return totalWeightage;
+    }
+
+    /**
+     * Returns the sum of the weightages of the unfinished tasks, in percent.
+     */
+    public long getOutstandingWeightage() {
+        return outstandingWeightage;
+    }
+
+    public boolean isEmpty() {
+        return taskCount == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TaskAggregate)) {
+            return false;
+        }
+        TaskAggregate otherAggregate = (TaskAggregate) other;
+        return taskCount == otherAggregate.taskCount
+                && unfinishedTaskCount == otherAggregate.unfinishedTaskCount
+                && totalWeightage == otherAggregate.totalWeightage
+                && outstandingWeightage == otherAggregate.outstandingWeightage;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(((taskCount * 31L + unfinishedTaskCount) * 31 + totalWeightage) * 31
+                + outstandingWeightage);
+    }
+
+    @Override
+    public String toString() {
+        return taskCount + " tasks (" + unfinishedTaskCount + " unfinished), weightage " + outstandingWeightage
+                + "% outstanding of " + totalWeightage + "%";
+    }
+}
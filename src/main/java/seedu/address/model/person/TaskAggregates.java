@@ -0,0 +1,126 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.PriorityTag;
+
+/**
+ * Running aggregates of the tasks in a {@link UniqueTaskList}: the number of tasks and the sum of their weightages,
+ * in total and of the unfinished tasks, over all the tasks and by module code, status, priority and ISO week of the
+ * deadline. Reading them takes time proportional to the number of groups, instead of the number of tasks.
+ *
+ * The aggregates follow the task list they were created over, at a constant cost for each changed task.
+ */
+public class TaskAggregates extends TaskListIndex {
+
+    private final TaskAggregate total = new TaskAggregate();
+    private final Map<ModuleCode, TaskAggregate> byModuleCode = new HashMap<>();
+    private final Map<Status, TaskAggregate> byStatus = new HashMap<>();
+    private final Map<PriorityTag, TaskAggregate> byPriority = new HashMap<>();
+
+    /** Aggregates of the tasks due in each week, keyed by the Monday that starts the week. */
+    private final Map<LocalDate, TaskAggregate> byDueWeek = new HashMap<>();
+
+    /**
+     * Creates aggregates of the tasks in {@code tasks}, which are kept up to date as {@code tasks} changes.
+     */
+    public TaskAggregates(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        follow(tasks);
+    }
+
+    /**
+     * Returns the aggregate of all the tasks.
+     */
+    public TaskAggregate getTotal() {
+        return new TaskAggregate(total);
+    }
+
+    /**
+     * Returns the aggregates of the tasks of each module, in order of module code.
+     */
+    public Map<ModuleCode, TaskAggregate> getByModuleCode() {
+        return copyOf(byModuleCode, Comparator.comparing(ModuleCode::toString));
+    }
+
+    /**
+     * Returns the aggregates of the unfinished and finished tasks, unfinished first.
+     */
+    public Map<Status, TaskAggregate> getByStatus() {
+        return copyOf(byStatus, Comparator.comparing(Status::hasFinished));
+    }
+
+    /**
+     * Returns the aggregates of the tasks of each priority, from the highest priority.
+     */
+    public Map<PriorityTag, TaskAggregate> getByPriority() {
+        return copyOf(byPriority, Comparator.comparingInt(PriorityTag::getPriority).reversed());
+    }
+
+    /**
+     * Returns the aggregates of the tasks due in each ISO week, from the earliest week. Each week is keyed by the
+     * Monday that starts it.
+     */
+    public Map<LocalDate, TaskAggregate> getByDueWeek() {
+        return copyOf(byDueWeek, Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the Monday that starts the ISO week of the deadline of {@code task}.
+     */
+    public static LocalDate dueWeekOf(Task task) {
+        return weekOf(LocalDate.ofEpochDay(task.getDeadlineDate().toEpochDay()));
+    }
+
+    /**
+     * Returns the Monday that starts the ISO week of {@code date}.
+     */
+    public static LocalDate weekOf(LocalDate date) {
+        return date.with(DayOfWeek.MONDAY);
+    }
+
+    private static <K> Map<K, TaskAggregate> copyOf(Map<K, TaskAggregate> aggregates, Comparator<K> order) {
+        Map<K, TaskAggregate> copy = new TreeMap<>(order);
+        aggregates.forEach((key, aggregate) -> copy.put(key, new TaskAggregate(aggregate)));
+        return copy;
+    }
+
+    @Override
+    protected void index(Task task) {
+        total.add(task);
+        add(byModuleCode, task.getModuleCode(), task);
+        add(byStatus, task.getStatus(), task);
+        add(byPriority, task.getPriorityTag(), task);
+        add(byDueWeek, dueWeekOf(task), task);
+    }
+
+    @Override
+    protected void unindex(Task task) {
+        total.remove(task);
+        remove(byModuleCode, task.getModuleCode(), task);
+        remove(byStatus, task.getStatus(), task);
+        remove(byPriority, task.getPriorityTag(), task);
+        remove(byDueWeek, dueWeekOf(task), task);
+    }
+
+    private static <K> void add(Map<K, TaskAggregate> aggregates, K key, Task task) {
+        aggregates.computeIfAbsent(key, unused -> new TaskAggregate()).add(task);
+    }
+
+    private static <K> void remove(Map<K, TaskAggregate> aggregates, K key, Task task) {
+        TaskAggregate aggregate = aggregates.get(key);
+        if (aggregate != null) {
+            aggregate.remove(task);
+            if (aggregate.isEmpty()) {
+                aggregates.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.util.PersistentList;
+
+/**
+ * An immutable, column-oriented copy of the sortable fields of a list of tasks.
+ * Each field is held in a primitive array indexed by the position (row) of its task in the list, so that sorts
+ * and scans over many tasks read contiguous memory, instead of following references from every task to its
+ * field objects.
+ */
+public class TaskColumns {
+
+    /** Minimum number of tasks for which sort keys are sorted in parallel. */
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private final PersistentList<Task> tasks;
+    private final int[] epochDays;
+    private final short[] minutesOfDay;
+    private final byte[] weightages;
+    private final byte[] priorities;
+    private final int minEpochDay;
+    private final int maxEpochDay;
+
+    // Rank columns are only built when they are first needed, as building them involves sorting.
+    private Ranks moduleCodeRanks;
+    private Ranks taskNameRanks;
+
+    /**
+     * Builds the columns of {@code tasks}.
+     */
+    public TaskColumns(PersistentList<Task> tasks) {
+        requireNonNull(tasks);
+        this.tasks = tasks;
+        int size = tasks.size();
+        epochDays = new int[size];
+        minutesOfDay = new short[size];
+        weightages = new byte[size];
+        priorities = new byte[size];
+
+        int row = 0;
+        int minDay = Integer.MAX_VALUE;
+        int maxDay = Integer.MIN_VALUE;
+        for (Task task : tasks) {
+            epochDays[row] = Math.toIntExact(task.getDeadlineDate().toEpochDay());
+            minutesOfDay[row] = (short) task.getDeadlineTime().toMinuteOfDay();
+            weightages[row] = task.getWeightage().weightage.byteValue();
+            priorities[row] = (byte) task.getPriorityTag().getPriority();
+            minDay = Math.min(minDay, epochDays[row]);
+            maxDay = Math.max(maxDay, epochDays[row]);
+            row++;
+        }
+        minEpochDay = size == 0 ? 0 : minDay;
+        maxEpochDay = size == 0 ? 0 : maxDay;
+    }
+
+    private TaskColumns(PersistentList<Task> tasks, int[] epochDays, short[] minutesOfDay, byte[] weightages,
+            byte[] priorities, int minEpochDay, int maxEpochDay, Ranks moduleCodeRanks, Ranks taskNameRanks) {
+        this.tasks = tasks;
+        this.epochDays = epochDays;
+        this.minutesOfDay = minutesOfDay;
+        this.weightages = weightages;
+        this.priorities = priorities;
+        this.minEpochDay = minEpochDay;
+        this.maxEpochDay = maxEpochDay;
+        this.moduleCodeRanks = moduleCodeRanks;
+        this.taskNameRanks = taskNameRanks;
+    }
+
+    /**
+     * Returns the tasks that these columns were built from.
+     */
+    public PersistentList<Task> getTasks() {
+        return tasks;
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    public Task getTask(int row) {
+        return tasks.get(row);
+    }
+
+    public int getEpochDay(int row) {
+        return epochDays[row];
+    }
+
+    /**
+     * Returns the earliest deadline date of the tasks as an epoch day, or 0 if there are no tasks.
+     */
+    public int getMinEpochDay() {
+        return minEpochDay;
+    }
+
+    /**
+     * Returns the latest deadline date of the tasks as an epoch day, or 0 if there are no tasks.
+     */
+    public int getMaxEpochDay() {
+        return maxEpochDay;
+    }
+
+    public int getMinuteOfDay(int row) {
+        return minutesOfDay[row];
+    }
+
+    public int getWeightage(int row) {
+        return weightages[row];
+    }
+
+    public int getPriority(int row) {
+        return priorities[row];
+    }
+
+    /**
+     * Returns the position of the module code of the task in {@code row} among the distinct module codes of all
+     * the tasks, in the natural order of module codes.
+     */
+    public int getModuleCodeRank(int row) {
+        return getModuleCodeRanks().ranks[row];
+    }
+
+    /**
+     * Returns the number of distinct module codes of the tasks.
+     */
+    public int getModuleCodeCount() {
+        return getModuleCodeRanks().distinctCount;
+    }
+
+    /**
+     * Returns the position of the name of the task in {@code row} among the distinct names of all the tasks,
+     * in the natural order of task names.
+     */
+    public int getTaskNameRank(int row) {
+        return getTaskNameRanks().ranks[row];
+    }
+
+    /**
+     * Returns the number of distinct names of the tasks.
+     */
+    public int getTaskNameCount() {
+        return getTaskNameRanks().distinctCount;
+    }
+
+    /**
+     * Returns the tasks sorted by {@code comparator}.
+     * Tasks that are equal under {@code comparator} keep their relative order, so the result is the same as a
+     * stable sort of the tasks with {@code comparator}.
+     */
+    public List<Task> sortedBy(ColumnarComparator comparator) {
+        return permutedBy(sortedRows(comparator)).getTasks().asList();
+    }
+
+    /**
+     * Returns the rows of the tasks in the order that {@code comparator} sorts the tasks in.
+     * Rows of tasks that are equal under {@code comparator} keep their relative order, as in a stable sort.
+     *
+     * The rows are sorted by the sort keys of their tasks, which are computed once for each task. If the sort keys
+     * are too wide for that, the tasks are compared with {@code comparator} instead.
+     */
+    public int[] sortedRows(ColumnarComparator comparator) {
+        requireNonNull(comparator);
+        int size = size();
+        int rowBits = ColumnarComparator.bitsToHold(Math.max(0, size - 1));
+        int sortKeyBits = comparator.getSortKeyBits(this);
+        int[] sortedRows = new int[size];
+        if (sortKeyBits + rowBits >= Long.SIZE) {
+            Task[] tasksByRow = tasks.asList().toArray(new Task[0]);
+            Integer[] rows = new Integer[size];
+            for (int row = 0; row < size; row++) {
+                rows[row] = row;
+            }
+            Arrays.sort(rows, (first, second) -> comparator.compare(tasksByRow[first], tasksByRow[second]));
+            for (int i = 0; i < size; i++) {
+                sortedRows[i] = rows[i];
+            }
+            return sortedRows;
+        }
+
+        // Each entry packs the sort key of a row above the row itself, so that sorting the entries as plain
+        // longs orders the rows by key, and then by position for equal keys. As no two entries are equal,
+        // the order does not depend on the stability of the sort.
+        long[] keyedRows = new long[size];
+        for (int row = 0; row < size; row++) {
+            keyedRows[row] = (comparator.getSortKey(this, row) << rowBits) | row;
+        }
+        if (size >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keyedRows);
+        } else {
+            Arrays.sort(keyedRows);
+        }
+
+        long rowMask = (1L << rowBits) - 1;
+        for (int i = 0; i < size; i++) {
+            sortedRows[i] = (int) (keyedRows[i] & rowMask);
+        }
+        return sortedRows;
+    }
+
+    /**
+     * Returns the columns of the tasks rearranged so that row i of the returned columns holds the task in row
+     * {@code rows[i]} of these columns.
+     * The fields of the tasks, and any ranks already built, are copied from these columns instead of being read
+     * from the tasks again, so a sorted list gets its columns without visiting its tasks.
+     *
+     * @param rows every row of these columns, once each, in the order of the returned columns.
+     */
+    public TaskColumns permutedBy(int[] rows) {
+        requireNonNull(rows);
+        int size = size();
+        checkArgument(rows.length == size, "Rows do not match the " + size + " tasks of the columns");
+        Task[] tasksByRow = tasks.asList().toArray(new Task[0]);
+        Task[] permutedTasks = new Task[size];
+        int[] permutedEpochDays = new int[size];
+        short[] permutedMinutesOfDay = new short[size];
+        byte[] permutedWeightages = new byte[size];
+        byte[] permutedPriorities = new byte[size];
+        for (int i = 0; i < size; i++) {
+            int row = rows[i];
+            permutedTasks[i] = tasksByRow[row];
+            permutedEpochDays[i] = epochDays[row];
+            permutedMinutesOfDay[i] = minutesOfDay[row];
+            permutedWeightages[i] = weightages[row];
+            permutedPriorities[i] = priorities[row];
+        }
+        return new TaskColumns(PersistentList.of(Arrays.asList(permutedTasks)), permutedEpochDays,
+                permutedMinutesOfDay, permutedWeightages, permutedPriorities, minEpochDay, maxEpochDay,
+                moduleCodeRanks == null ? null : moduleCodeRanks.permutedBy(rows),
+                taskNameRanks == null ? null : taskNameRanks.permutedBy(rows));
+    }
+
+    private Ranks getModuleCodeRanks() {
+        if (moduleCodeRanks == null) {
+            moduleCodeRanks = new Ranks(tasks, Task::getModuleCode);
+        }
+        return moduleCodeRanks;
+    }
+
+    private Ranks getTaskNameRanks() {
+        if (taskNameRanks == null) {
+            taskNameRanks = new Ranks(tasks, Task::getTaskName);
+        }
+        return taskNameRanks;
+    }
+
+    /**
+     * The rank of a field of each task among the distinct values of that field, in their natural order.
+     */
+    private static class Ranks {
+        private final int[] ranks;
+        private final int distinctCount;
+
+        <T extends Comparable<? super T>> Ranks(PersistentList<Task> tasks, Function<Task, T> field) {
+            Map<T, Integer> ranking = new HashMap<>();
+            for (Task task : tasks) {
+                ranking.putIfAbsent(field.apply(task), 0);
+            }
+            List<T> distinctValues = new ArrayList<>(ranking.keySet());
+            Collections.sort(distinctValues);
+            for (int rank = 0; rank < distinctValues.size(); rank++) {
+                ranking.put(distinctValues.get(rank), rank);
+            }
+
+            ranks = new int[tasks.size()];
+            int row = 0;
+            for (Task task : tasks) {
+                ranks[row++] = ranking.get(field.apply(task));
+            }
+            distinctCount = distinctValues.size();
+        }
+
+        private Ranks(int[] ranks, int distinctCount) {
+            this.ranks = ranks;
+            this.distinctCount = distinctCount;
+        }
+
+        Ranks permutedBy(int[] rows) {
+            int[] permutedRanks = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                permutedRanks[i] = ranks[rows[i]];
+            }
+            return new Ranks(permutedRanks, distinctCount);
+        }
+    }
+}
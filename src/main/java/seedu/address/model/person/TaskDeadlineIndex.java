@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An ordered index from the deadlines of the tasks in a {@link UniqueTaskList} to the ids of the tasks due then.
+ * Finding the tasks due within a range of dates takes time logarithmic in the number of tasks, plus the number of
+ * tasks found, instead of testing the deadline of every task.
+ *
+ * The index follows the task list it was created over, at a cost logarithmic in the number of tasks for each changed
+ * task.
+ */
+public class TaskDeadlineIndex extends TaskListIndex {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    /** Ids of the tasks due at each deadline, keyed by the number of minutes from the epoch to the deadline. */
+    private final NavigableMap<Long, Set<Long>> idsByDeadline = new TreeMap<>();
+
+    /**
+     * Creates an index of the tasks in {@code tasks}, which is kept up to date as {@code tasks} changes.
+     */
+    public TaskDeadlineIndex(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        follow(tasks);
+    }
+
+    /**
+     * Returns the ids of the tasks due from {@code startDate} to {@code endDate}, both inclusive, in order of their
+     * deadlines. Tasks with the same deadline are in the order they were indexed.
+     */
+    public List<Long> getIdsDueBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        checkArgument(!endDate.isBefore(startDate), "The end date must not be before the start date.");
+
+        long startKey = startDate.toEpochDay() * MINUTES_PER_DAY;
+        long endKey = (endDate.toEpochDay() + 1) * MINUTES_PER_DAY;
+        List<Long> ids = new ArrayList<>();
+        for (Set<Long> deadlineIds : idsByDeadline.subMap(startKey, true, endKey, false).values()) {
+            ids.addAll(deadlineIds);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the tasks due at or after {@code start}, in order of their deadlines. Tasks with the same
+     * deadline are in the order they were indexed.
+     * The ids are found lazily, so taking the first few of them takes time logarithmic in the number of tasks, plus
+     * the number of ids taken. The returned stream must be used before the index next changes.
+     */
+    public Stream<Long> streamIdsDueFrom(LocalDateTime start) {
+        requireNonNull(start);
+        LocalDateTime startMinute = start.truncatedTo(ChronoUnit.MINUTES);
+        // deadlines are to the minute, so a deadline earlier in the minute of start has passed
+        long startKey = startMinute.toLocalDate().toEpochDay() * MINUTES_PER_DAY
+                + startMinute.get(ChronoField.MINUTE_OF_DAY) + (startMinute.equals(start) ? 0 : 1);
+        // the spliterator of a sub map's values counts the sub map first, so its iterator is streamed instead
+        Iterator<Set<Long>> deadlineIds = idsByDeadline.tailMap(startKey, true).values().iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(deadlineIds, Spliterator.ORDERED), false)
+                .flatMap(Set::stream);
+    }
+
+    private static long deadlineKeyOf(Task task) {
+        return task.getDeadlineDate().toEpochDay() * MINUTES_PER_DAY + task.getDeadlineTime().toMinuteOfDay();
+    }
+
+    @Override
+    protected void index(Task task) {
+        idsByDeadline.computeIfAbsent(deadlineKeyOf(task), unused -> new LinkedHashSet<>()).add(task.getId());
+    }
+
+    @Override
+    protected void unindex(Task task) {
+        long key = deadlineKeyOf(task);
+        Set<Long> deadlineIds = idsByDeadline.get(key);
+        if (deadlineIds != null) {
+            deadlineIds.remove(task.getId());
+            if (deadlineIds.isEmpty()) {
+                idsByDeadline.remove(key);
+            }
+        }
+    }
+}
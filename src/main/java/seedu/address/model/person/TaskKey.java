@@ -0,0 +1,8 @@
+package seedu.address.model.person;
+
+/**
+ * A value of a task field that tasks can be looked up by in a {@link TaskKeyIndex}, such as a module code or tag.
+ * Keys of different fields are never equal to each other.
+ */
+public interface TaskKey {
+}
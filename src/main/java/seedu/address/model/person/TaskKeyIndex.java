@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A multimap index from the module code, priority tag and tags of the tasks in a {@link UniqueTaskList} to the ids
+ * of the tasks with them. Finding the tasks with several keys intersects the ids of each key, starting from the key
+ * with the fewest tasks, and the number of tasks with a key is known without going through the tasks.
+ *
+ * The index follows the task list it was created over, at a cost proportional to the number of keys of the changed
+ * tasks.
+ */
+public class TaskKeyIndex extends TaskListIndex {
+
+    private final Map<TaskKey, Set<Long>> idsByKey = new HashMap<>();
+
+    /**
+     * Creates an index of the tasks in {@code tasks}, which is kept up to date as {@code tasks} changes.
+     */
+    public TaskKeyIndex(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        follow(tasks);
+    }
+
+    /**
+     * Returns the ids of the tasks with all of {@code keys}, which must not be empty.
+     */
+    public Set<Long> getIdsWithAllKeys(Collection<? extends TaskKey> keys) {
+        requireNonNull(keys);
+        checkArgument(!keys.isEmpty(), "At least one key must be given.");
+        List<Set<Long>> keyIds = new ArrayList<>();
+        for (TaskKey key : keys) {
+            keyIds.add(idsByKey.getOrDefault(key, Collections.emptySet()));
+        }
+        keyIds.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> ids = new HashSet<>(keyIds.get(0));
+        for (int i = 1; i < keyIds.size() && !ids.isEmpty(); i++) {
+            ids.retainAll(keyIds.get(i));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of tasks with {@code key}.
+     */
+    public int getCount(TaskKey key) {
+        requireNonNull(key);
+        return idsByKey.getOrDefault(key, Collections.emptySet()).size();
+    }
+
+    /**
+     * Returns the number of tasks with each key of the type {@code keyType} that some task has.
+     * Takes time proportional to the number of distinct keys, instead of the number of tasks.
+     */
+    public <K extends TaskKey> Map<K, Integer> getCounts(Class<K> keyType) {
+        requireNonNull(keyType);
+        Map<K, Integer> counts = new HashMap<>();
+        for (Map.Entry<TaskKey, Set<Long>> entry : idsByKey.entrySet()) {
+            if (keyType.isInstance(entry.getKey())) {
+                counts.put(keyType.cast(entry.getKey()), entry.getValue().size());
+            }
+        }
+        return counts;
+    }
+
+    private static List<TaskKey> keysOf(Task task) {
+        List<TaskKey> keys = new ArrayList<>(task.getTags());
+        keys.add(task.getModuleCode());
+        keys.add(task.getPriorityTag());
+        return keys;
+    }
+
+    @Override
+    protected void index(Task task) {
+        for (TaskKey key : keysOf(task)) {
+            idsByKey.computeIfAbsent(key, unused -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    @Override
+    protected void unindex(Task task) {
+        for (TaskKey key : keysOf(task)) {
+            Set<Long> keyIds = idsByKey.get(key);
+            if (keyIds != null) {
+                keyIds.remove(task.getId());
+                if (keyIds.isEmpty()) {
+                    idsByKey.remove(key);
+                }
+            }
+        }
+    }
+}
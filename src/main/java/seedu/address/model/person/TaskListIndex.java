@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * An index over the tasks in a {@link UniqueTaskList}, which follows the list so that it is updated as tasks are
+ * added, edited or removed, at a cost proportional to the number of changed tasks.
+ */
+public abstract class TaskListIndex {
+
+    /**
+     * Indexes the tasks in {@code tasks}, and keeps the index up to date as {@code tasks} changes.
+     * To be called once by subclasses, at the end of their constructors.
+     */
+    protected final void follow(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        tasks.asUnmodifiableObservableList().forEach(this::index);
+        tasks.asUnmodifiableObservableList().addListener(this::followTaskListChange);
+    }
+
+    /**
+     * Adds {@code task} to the index.
+     */
+    protected abstract void index(Task task);
+
+    /**
+     * Removes {@code task}, which was added to the index before, from the index.
+     */
+    protected abstract void unindex(Task task);
+
+    /**
+     * Updates this index with a {@code change} to the underlying task list.
+     * Tasks that are both removed and added by the change, such as tasks that are moved within the list or kept
+     * when the whole list is replaced, are not indexed again.
+     */
+    private void followTaskListChange(ListChangeListener.Change<? extends Task> change) {
+        Set<Task> removedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (change.next()) {
+            removedTasks.addAll(change.getRemoved());
+        }
+        List<Task> addedTasks = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (change.wasAdded()) {
+                for (Task addedTask : change.getAddedSubList()) {
+                    if (!removedTasks.remove(addedTask)) {
+                        addedTasks.add(addedTask);
+                    }
+                }
+            }
+        }
+
+        removedTasks.forEach(this::unindex);
+        addedTasks.forEach(this::index);
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in the text fields of the tasks in a {@link UniqueTaskList} to the ids of the
+ * tasks with those words. Words are matched in the same way as {@link StringUtil#containsWordIgnoreCase}.
+ *
+ * The index follows the task list it was created over, at a cost proportional to the number of words of the changed
+ * tasks.
+ *
+ * To find words that are similar to a given word, the distinct words of each field are also indexed by their
+ * trigrams (substrings of three characters). Only the words sharing enough trigrams with the given word are compared
+ * with it, instead of every word of the field.
+ */
+public class TaskWordIndex extends TaskListIndex {
+
+    /** Minimum length of a word for other words to be similar to it without being the same word. */
+    public static final int MIN_SIMILAR_WORD_LENGTH = 3;
+
+    /** How close the same word is, in the ranks returned by {@link #getIdsWithSimilarWord}. */
+    public static final int SAME_WORD_RANK = 0;
+
+    /** How close a word containing another word is, in the ranks returned by {@link #getIdsWithSimilarWord}. */
+    public static final int CONTAINING_WORD_RANK = 1;
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    /**
+     * The text fields of a task that are indexed. Only the fields that tasks are searched by are indexed, as each
+     * field adds to the cost of every change to the tasks. Tags are looked up in {@link TaskKeyIndex} instead.
+     */
+    public enum Field {
+        NAME(task -> StringUtil.toLowerCaseWords(task.getTaskName().fullName));
+
+        private final Function<Task, List<String>> wordsOf;
+
+        Field(Function<Task, List<String>> wordsOf) {
+            this.wordsOf = wordsOf;
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<String>>> trigramPostings = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an index of the tasks in {@code tasks}, which is kept up to date as {@code tasks} changes.
+     */
+    public TaskWordIndex(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+            trigramPostings.put(field, new HashMap<>());
+        }
+        follow(tasks);
+    }
+
+    /**
+     * Returns the ids of the tasks with any of {@code words} in {@code field}.
+     */
+    public Set<Long> getIdsWithAnyWord(Field field, Collection<String> words) {
+        requireNonNull(field);
+        requireNonNull(words);
+        Set<Long> ids = new HashSet<>();
+        for (String word : words) {
+            ids.addAll(getPostings(field, word));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the tasks with all of {@code words} in {@code field}.
+     * If {@code words} is empty, no ids are returned.
+     */
+    public Set<Long> getIdsWithAllWords(Field field, Collection<String> words) {
+        requireNonNull(field);
+        requireNonNull(words);
+        if (words.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // Starting from the shortest posting list bounds the work by the size of the smallest result.
+        Set<Long> shortestPostings = null;
+        for (String word : words) {
+            Set<Long> wordPostings = getPostings(field, word);
+            if (shortestPostings == null || wordPostings.size() < shortestPostings.size()) {
+                shortestPostings = wordPostings;
+            }
+        }
+        Set<Long> ids = new HashSet<>(shortestPostings);
+        for (String word : words) {
+            ids.retainAll(getPostings(field, word));
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the tasks with a word in {@code field} that is similar to any of {@code words}, each mapped
+     * to how close the closest such word is. Lower ranks are closer: {@link #SAME_WORD_RANK} for the same word,
+     * {@link #CONTAINING_WORD_RANK} for a word that contains it, and 1 more than the edit distance for a word that
+     * is within {@link #getMaxTypos(int)} typos of it.
+     * Words shorter than {@link #MIN_SIMILAR_WORD_LENGTH} only match the same word.
+     */
+    public Map<Long, Integer> getIdsWithSimilarWord(Field field, Collection<String> words) {
+        requireNonNull(field);
+        requireNonNull(words);
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (String word : words) {
+            List<String> normalizedWords = StringUtil.toLowerCaseWords(word);
+            if (normalizedWords.size() != 1) {
+                continue;
+            }
+            for (Map.Entry<String, Integer> similarWord : getSimilarWords(field, normalizedWords.get(0)).entrySet()) {
+                for (Long id : postings.get(field).get(similarWord.getKey())) {
+                    ranks.merge(id, similarWord.getValue(), Math::min);
+                }
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * Returns how close the closest word in {@code field} of {@code task} is to any of {@code words}, ranked in the
+     * same way as {@link #getIdsWithSimilarWord}, or an empty Optional if it has no word similar to them.
+     * Ranks a single task, such as an edited task, without an index.
+     */
+    public static Optional<Integer> getSimilarWordRank(Field field, Task task, Collection<String> words) {
+        requireNonNull(field);
+        requireNonNull(task);
+        requireNonNull(words);
+        Set<String> taskWords = new HashSet<>(field.wordsOf.apply(task));
+        Optional<Integer> closestRank = Optional.empty();
+        for (String word : words) {
+            List<String> normalizedWords = StringUtil.toLowerCaseWords(word);
+            if (normalizedWords.size() != 1) {
+                continue;
+            }
+            String normalizedWord = normalizedWords.get(0);
+            Set<String> trigrams = trigramsOf(normalizedWord);
+            for (String taskWord : taskWords) {
+                Set<String> sharedTrigrams = trigramsOf(taskWord);
+                sharedTrigrams.retainAll(trigrams);
+                Optional<Integer> rank = rankSimilarWord(normalizedWord, trigrams, taskWord, sharedTrigrams.size());
+                if (rank.isPresent() && (closestRank.isEmpty() || rank.get() < closestRank.get())) {
+                    closestRank = rank;
+                }
+            }
+        }
+        return closestRank;
+    }
+
+    /**
+     * Returns the number of typos allowed in a word similar to a word of {@code wordLength} characters.
+     */
+    public static int getMaxTypos(int wordLength) {
+        if (wordLength < 5) {
+            return 0;
+        }
+        return wordLength < 9 ? 1 : 2;
+    }
+
+    /**
+     * Returns the words in {@code field} that are similar to the lower case {@code word}, mapped to their ranks.
+     */
+    private Map<String, Integer> getSimilarWords(Field field, String word) {
+        Map<String, Integer> similarWords = new HashMap<>();
+        if (postings.get(field).containsKey(word)) {
+            similarWords.put(word, SAME_WORD_RANK);
+        }
+        if (word.length() < MIN_SIMILAR_WORD_LENGTH) {
+            return similarWords;
+        }
+
+        Set<String> trigrams = trigramsOf(word);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String candidate : trigramPostings.get(field).getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(candidate, 1, Integer::sum);
+            }
+        }
+
+        for (Map.Entry<String, Integer> candidate : sharedTrigramCounts.entrySet()) {
+            String candidateWord = candidate.getKey();
+            if (!candidateWord.equals(word)) {
+                rankSimilarWord(word, trigrams, candidateWord, candidate.getValue())
+                        .ifPresent(rank -> similarWords.put(candidateWord, rank));
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns how close {@code candidateWord} is to the lower case {@code word}, which has {@code trigrams} and shares
+     * {@code sharedTrigrams} of them with {@code candidateWord}, or an empty Optional if it is not similar.
+     */
+    private static Optional<Integer> rankSimilarWord(String word, Set<String> trigrams, String candidateWord,
+            int sharedTrigrams) {
+        if (candidateWord.equals(word)) {
+            return Optional.of(SAME_WORD_RANK);
+        }
+        if (word.length() < MIN_SIMILAR_WORD_LENGTH) {
+            return Optional.empty();
+        }
+        if (sharedTrigrams == trigrams.size() && candidateWord.contains(word)) {
+            return Optional.of(CONTAINING_WORD_RANK);
+        }
+
+        // Each typo changes at most TRIGRAM_LENGTH of the trigrams of the word, so a word within maxTypos typos
+        // shares at least this many trigrams with it. Candidates are only compared if they share at least one.
+        int maxTypos = getMaxTypos(word.length());
+        int minSharedTrigrams = Math.max(1, trigrams.size() - TRIGRAM_LENGTH * maxTypos);
+        if (sharedTrigrams < minSharedTrigrams || Math.abs(candidateWord.length() - word.length()) > maxTypos) {
+            return Optional.empty();
+        }
+        int distance = StringUtil.editDistance(word, candidateWord);
+        return distance <= maxTypos ? Optional.of(CONTAINING_WORD_RANK + distance) : Optional.empty();
+    }
+
+    private static Set<String> trigramsOf(String word) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= word.length(); i++) {
+            trigrams.add(word.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the ids of the tasks with {@code word} in {@code field}.
+     */
+    private Set<Long> getPostings(Field field, String word) {
+        List<String> normalizedWords = StringUtil.toLowerCaseWords(word);
+        if (normalizedWords.size() != 1) {
+            return Collections.emptySet();
+        }
+        return postings.get(field).getOrDefault(normalizedWords.get(0), Collections.emptySet());
+    }
+
+    @Override
+    protected void index(Task task) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String word : field.wordsOf.apply(task)) {
+                Set<Long> wordPostings = fieldPostings.get(word);
+                if (wordPostings == null) {
+                    wordPostings = new HashSet<>();
+                    fieldPostings.put(word, wordPostings);
+                    indexTrigrams(field, word);
+                }
+                wordPostings.add(task.getId());
+            }
+        }
+    }
+
+    @Override
+    protected void unindex(Task task) {
+        for (Field field : Field.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String word : field.wordsOf.apply(task)) {
+                Set<Long> wordPostings = fieldPostings.get(word);
+                if (wordPostings != null) {
+                    wordPostings.remove(task.getId());
+                    if (wordPostings.isEmpty()) {
+                        fieldPostings.remove(word);
+                        unindexTrigrams(field, word);
+                    }
+                }
+            }
+        }
+    }
+
+    private void indexTrigrams(Field field, String word) {
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : trigramsOf(word)) {
+            fieldTrigramPostings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void unindexTrigrams(Field field, String word) {
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : trigramsOf(word)) {
+            Set<String> trigramWords = fieldTrigramPostings.get(trigram);
+            trigramWords.remove(word);
+            if (trigramWords.isEmpty()) {
+                fieldTrigramPostings.remove(trigram);
+            }
+        }
+    }
+}
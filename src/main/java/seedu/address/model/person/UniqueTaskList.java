@@ -3,12 +3,22 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
 import seedu.address.model.person.exceptions.DuplicateTaskException;
 import seedu.address.model.person.exceptions.TaskNotFoundException;
 
@@ -19,34 +29,102 @@ import seedu.address.model.person.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a task uses Task#equals(Object) so
  * as to ensure that the task with exactly the same fields will be removed.
  *
+ * Membership is answered from a hash index of the tasks in the list, and tasks are located by their id through
+ * a map from id to position. Both are kept in sync with the backing list on every mutation, so that neither
+ * identity checks nor updates need to scan the whole list.
+ *
+ * The tasks themselves are stored in a {@link PersistentList}, so {@link #snapshot()} can capture the contents of
+ * the list in O(1), and lists can share their contents with each other without copying them.
+ *
+ * The sortable fields of the tasks are also available in column-oriented form through {@link #columns()}, which
+ * is used to sort the list by a {@link ColumnarComparator} without comparing the tasks themselves.
+ *
+ * The list can be given a standing sort order with {@link #setSortOrder(Comparator)}. The list is then kept sorted
+ * as tasks are added or replaced, by placing each new task at its position in the order, as found by binary
+ * search, instead of sorting the whole list again.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Task> internalList = new PersistentObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /**
+     * Number of occurrences of each task in {@code internalList}, keyed by task identity.
+     * A count greater than one can only arise from toggling the status of a task via {@link #finish(Task)}.
+     */
+    private final Map<Task, Integer> taskIndex = new HashMap<>();
+
+    /**
+     * Position of each task in {@code internalList}, keyed by task id.
+     * Positions from {@code firstStalePosition} onwards may be outdated after a removal or a sort, and are only
+     * recomputed when they are next needed, so that consecutive removals do not each renumber the list.
+     */
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int firstStalePosition = Integer.MAX_VALUE;
+
+    /** Columns of the tasks in {@code internalList}, which are rebuilt when they are next needed after a change. */
+    private TaskColumns columns;
+
+    /** The order that the list is kept in, or null if tasks are kept in the order they were added. */
+    private Comparator<Task> sortOrder;
+
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return taskIndex.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the task with the given {@code id}, if it is in the list.
+     */
+    public Optional<Task> getTask(long id) {
+        Integer position = getPosition(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the positions in the list of the tasks with the given {@code ids}, in increasing order.
+     * Ids of tasks that are not in the list are left out.
+     * Takes O(k log k) time for k ids, as the tasks are located through their ids instead of a scan of the list.
+     */
+    public int[] getPositions(Collection<Long> ids) {
+        requireNonNull(ids);
+        int[] foundPositions = new int[ids.size()];
+        int count = 0;
+        for (long id : ids) {
+            Integer position = getPosition(id);
+            if (position != null) {
+                foundPositions[count++] = position;
+            }
+        }
+        foundPositions = Arrays.copyOf(foundPositions, count);
+        Arrays.sort(foundPositions);
+        return foundPositions;
     }
 
     /**
      * Adds a task to the list.
-     * The task must not already exist in the list.
+     * The task must not already exist in the list, and its id must not be used by another task in the list.
      */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positions.containsKey(toAdd.getId())) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        int index = sortOrder == null ? internalList.size() : findInsertionPoint(toAdd, -1);
+        internalList.add(index, toAdd);
+        indexTask(toAdd);
+        positions.put(toAdd.getId(), index);
+        if (index < internalList.size() - 1) {
+            firstStalePosition = Math.min(firstStalePosition, index);
+        }
     }
 
     /**
@@ -57,16 +135,25 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
 
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
+        Task replacedTask = internalList.get(index);
+        boolean isIdChanged = replacedTask.getId() != editedTask.getId();
+        if ((!target.isSameTask(editedTask) && contains(editedTask))
+                || (isIdChanged && positions.containsKey(editedTask.getId()))) {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        if (isIdChanged) {
+            positions.remove(replacedTask.getId());
+            positions.put(editedTask.getId(), index);
+        }
+        replaceAt(index, editedTask);
+        unindexTask(replacedTask);
+        indexTask(editedTask);
     }
 
     /**
@@ -75,9 +162,16 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        Task removedTask = internalList.remove(index);
+        unindexTask(removedTask);
+        positions.remove(removedTask.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
     }
 
     /**
@@ -87,38 +181,136 @@ public class UniqueTaskList implements Iterable<Task> {
     public void finish(Task toFinish) {
         requireNonNull(toFinish);
 
-        int index = internalList.indexOf(toFinish);
+        int index = indexOf(toFinish);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
 
-        internalList.set(index, toFinish.finishTask());
+        Task unfinishedTask = internalList.get(index);
+        Task finishedTask = unfinishedTask.finishTask();
+        replaceAt(index, finishedTask);
+        unindexTask(unfinishedTask);
+        indexTask(finishedTask);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, and keeps this list in the sort
+     * order of {@code replacement}.
+     */
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        sortOrder = replacement.sortOrder;
+        internalList.setAll(replacement.snapshot());
+        taskIndex.clear();
+        taskIndex.putAll(replacement.taskIndex);
+        rebuildPositions();
     }
 
     /**
      * Replaces the contents of this list with {@code tasks}.
-     * {@code tasks} must not contain duplicate tasks.
+     * {@code tasks} must not contain duplicate tasks or tasks with the same id.
+     * If this list has a sort order, and {@code tasks} are not in that order, they are sorted first.
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
+        Map<Task, Integer> replacementIndex = buildIndex(tasks);
+        if (replacementIndex.size() != tasks.size()) {
             throw new DuplicateTaskException();
         }
+        if (tasks.stream().mapToLong(Task::getId).distinct().count() != tasks.size()) {
+            throw new DuplicateTaskException();
+        }
+
+        internalList.setAll(isInSortOrder(tasks) ? tasks : sortedCopyOf(tasks));
+        taskIndex.clear();
+        taskIndex.putAll(replacementIndex);
+        rebuildPositions();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code tasks}, such as an earlier snapshot of this list.
+     * Only the range of tasks where {@code tasks} differs from this list is replaced, and the parts that they share
+     * are skipped without visiting their tasks, so restoring a snapshot that differs from this list in k tasks takes
+     * O(k log n) time, and listeners are only told about those k tasks.
+     * {@code tasks} must not contain duplicate tasks or tasks with the same id.
+     * If this list has a sort order, and {@code tasks} are not in that order, they are sorted first.
+     */
+    public void setTasks(PersistentList<Task> tasks) {
+        requireNonNull(tasks);
+        PersistentList<Task> currentTasks = internalList.snapshot();
+        int from = currentTasks.commonPrefixLength(tasks);
+        int suffixLength = currentTasks.commonSuffixLength(tasks,
+                Math.min(currentTasks.size(), tasks.size()) - from);
+        List<Task> removedTasks = currentTasks.asList().subList(from, currentTasks.size() - suffixLength);
+        List<Task> addedTasks = tasks.asList().subList(from, tasks.size() - suffixLength);
+        if (!canReplace(removedTasks, addedTasks) || !isInSortOrder(tasks, from, from + addedTasks.size())) {
+            setTasks(tasks.asList());
+            return;
+        }
 
+        for (Task task : removedTasks) {
+            unindexTask(task);
+            positions.remove(task.getId());
+        }
+        for (int i = 0; i < addedTasks.size(); i++) {
+            indexTask(addedTasks.get(i));
+            positions.put(addedTasks.get(i).getId(), from + i);
+        }
+        if (removedTasks.size() != addedTasks.size()) {
+            firstStalePosition = Math.min(firstStalePosition, from + addedTasks.size());
+        }
         internalList.setAll(tasks);
     }
 
     /**
      * Sorts this list with the given {@code comparator}.
+     * Any sort order that the list was kept in is discarded.
+     * A {@link ColumnarComparator} sorts the rows of the columns of the list, and the columns are then rearranged
+     * in that order and kept for the sorted list, so the next sort does not read the fields of the tasks again.
+     * The tasks stay the same, so their positions are only renumbered when they are next needed.
      */
     public void sort(Comparator<Task> comparator) {
         requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+        sortOrder = null;
+        if (comparator instanceof ColumnarComparator) {
+            TaskColumns currentColumns = columns();
+            TaskColumns sortedColumns = currentColumns.permutedBy(
+                    currentColumns.sortedRows((ColumnarComparator) comparator));
+            internalList.setAll(sortedColumns.getTasks());
+            columns = sortedColumns;
+        } else {
+            FXCollections.sort(internalList, comparator);
+        }
+        firstStalePosition = 0;
+    }
+
+    /**
+     * Sorts this list with the given {@code comparator}, and keeps it sorted in that order as tasks are added or
+     * replaced.
+     */
+    public void setSortOrder(Comparator<Task> comparator) {
+        requireNonNull(comparator);
+        sort(comparator);
+        sortOrder = comparator;
+    }
+
+    /**
+     * Returns the sortable fields of the tasks in this list in column-oriented form.
+     * The columns are only rebuilt if the list has changed since they were last returned.
+     */
+    public TaskColumns columns() {
+        PersistentList<Task> currentTasks = internalList.snapshot();
+        if (columns == null || columns.getTasks() != currentTasks) {
+            columns = new TaskColumns(currentTasks);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the current contents of this list, which are unaffected by later mutations of this list.
+     */
+    public PersistentList<Task> snapshot() {
+        return internalList.snapshot();
     }
 
     /**
@@ -130,7 +322,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return internalList.snapshot().iterator();
     }
 
     @Override
@@ -146,16 +338,175 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code tasks} contains only unique tasks.
+     * Returns the position of {@code target} in the list, or -1 if it is not in the list.
+     * The task is located through its id, and only falls back to a scan of the list if the task at that
+     * position is not equivalent to {@code target}, which can only happen if {@code target} is an equivalent
+     * copy of a task in the list, rather than the task itself.
+     */
+    private int indexOf(Task target) {
+        Integer position = getPosition(target.getId());
+        if (position != null && internalList.get(position).equals(target)) {
+            return position;
+        }
+        if (!contains(target)) {
+            return -1;
+        }
+        return internalList.indexOf(target);
+    }
+
+    /**
+     * Replaces the task at {@code index} with {@code replacement}, moving it to keep the list in its sort order.
+     * The task is only moved if it is out of order with its neighbours, so a task that keeps its sort key also
+     * keeps its position.
+     */
+    private void replaceAt(int index, Task replacement) {
+        if (sortOrder == null || isInOrderAt(index, replacement)) {
+            internalList.set(index, replacement);
+            return;
+        }
+
+        int newIndex = findInsertionPoint(replacement, index);
+        internalList.move(index, newIndex, replacement);
+        firstStalePosition = Math.min(firstStalePosition, Math.min(index, newIndex));
+    }
+
+    private boolean isInSortOrder(List<Task> tasks) {
+        if (sortOrder == null) {
+            return true;
+        }
+        Task previousTask = null;
+        for (Task task : tasks) {
+            if (previousTask != null && sortOrder.compare(previousTask, task) > 0) {
+                return false;
+            }
+            previousTask = task;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the tasks of {@code tasks} from {@code from} to {@code to}, and their neighbours, are in the
+     * sort order of this list.
+     */
+    private boolean isInSortOrder(PersistentList<Task> tasks, int from, int to) {
+        if (sortOrder == null) {
+            return true;
+        }
+        for (int i = Math.max(from, 1); i <= to && i < tasks.size(); i++) {
+            if (sortOrder.compare(tasks.get(i - 1), tasks.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if replacing {@code removedTasks} in this list with {@code addedTasks} leaves no duplicate tasks,
+     * and no two tasks with the same id.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+    private boolean canReplace(List<Task> removedTasks, List<Task> addedTasks) {
+        Map<Task, Integer> removedIndex = buildIndex(removedTasks);
+        Set<Long> removedIds = new HashSet<>();
+        for (Task task : removedTasks) {
+            removedIds.add(task.getId());
+        }
+        Set<Long> addedIds = new HashSet<>();
+        for (Task task : addedTasks) {
+            if (!addedIds.add(task.getId())) {
+                return false;
+            }
+        }
+        if (buildIndex(addedTasks).size() != addedTasks.size()) {
+            return false;
+        }
+        for (Task task : addedTasks) {
+            if (taskIndex.getOrDefault(task, 0) > removedIndex.getOrDefault(task, 0)
+                    || (positions.containsKey(task.getId()) && !removedIds.contains(task.getId()))) {
+                return false;
             }
         }
         return true;
     }
+
+    private List<Task> sortedCopyOf(List<Task> tasks) {
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(sortOrder);
+        return sortedTasks;
+    }
+
+    private boolean isInOrderAt(int index, Task task) {
+        return (index == 0 || sortOrder.compare(internalList.get(index - 1), task) <= 0)
+                && (index == internalList.size() - 1 || sortOrder.compare(task, internalList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns the position at which {@code task} is to be inserted to keep the list in its sort order, after any
+     * tasks which are equal to it in that order. The task at {@code excludedIndex}, if any, is left out, and the
+     * position is given as if that task was removed from the list.
+     */
+    private int findInsertionPoint(Task task, int excludedIndex) {
+        int low = 0;
+        int high = excludedIndex == -1 ? internalList.size() : internalList.size() - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int listIndex = excludedIndex != -1 && middle >= excludedIndex ? middle + 1 : middle;
+            if (sortOrder.compare(internalList.get(listIndex), task) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the task with the given {@code id}, or null if there is no such task.
+     */
+    private Integer getPosition(long id) {
+        Integer position = positions.get(id);
+        if (position == null || position < firstStalePosition) {
+            return position;
+        }
+
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        return positions.get(id);
+    }
+
+    private void rebuildPositions() {
+        positions.clear();
+        int position = 0;
+        for (Task task : internalList.snapshot()) {
+            positions.put(task.getId(), position++);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Records one more occurrence of {@code task} in the hash index.
+     */
+    private void indexTask(Task task) {
+        taskIndex.merge(task, 1, Integer::sum);
+    }
+
+    /**
+     * Records one less occurrence of {@code task} in the hash index.
+     */
+    private void unindexTask(Task task) {
+        taskIndex.computeIfPresent(task, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns a hash index of {@code tasks}.
+     * The index has fewer entries than {@code tasks} if and only if {@code tasks} contains duplicate tasks.
+     */
+    private static Map<Task, Integer> buildIndex(List<Task> tasks) {
+        Map<Task, Integer> index = new HashMap<>(Math.max(16, (int) (tasks.size() / 0.75f) + 1));
+        for (Task task : tasks) {
+            index.merge(task, 1, Integer::sum);
+        }
+        return index;
+    }
 }
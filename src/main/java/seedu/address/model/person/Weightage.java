@@ -11,6 +11,16 @@ public class Weightage implements Comparable<Weightage> {
     public static final String MESSAGE_CONSTRAINTS = "Weightage should be a percentage value greater or equal to 0%,"
             + " and lesser or equal to 100%.";
 
+    public static final int MAX_WEIGHTAGE = 100;
+
+    private static final Weightage[] CANONICAL_WEIGHTAGES = new Weightage[MAX_WEIGHTAGE + 1];
+
+    static {
+        for (int i = 0; i < CANONICAL_WEIGHTAGES.length; i++) {
+            CANONICAL_WEIGHTAGES[i] = new Weightage(i);
+        }
+    }
+
     public final Integer weightage;
 
     /**
@@ -24,12 +34,22 @@ public class Weightage implements Comparable<Weightage> {
         this.weightage = weightage;
     }
 
+    /**
+     * Returns the canonical {@code Weightage} of the given percentage, without creating a new one.
+     *
+     * @param weightage a valid integer representing the weightage of a task.
+     */
+    public static Weightage of(Integer weightage) {
+        requireNonNull(weightage);
+        checkArgument(isValidWeightage(weightage), MESSAGE_CONSTRAINTS);
+        return CANONICAL_WEIGHTAGES[weightage];
+    }
 
     /**
      * Returns true if the weightage is a value greater or equal to 0, and less or equal to 100.
      */
     public static boolean isValidWeightage(Integer weightage) {
-        return weightage >= 0 && weightage <= 100;
+        return weightage >= 0 && weightage <= MAX_WEIGHTAGE;
     }
 
     @Override
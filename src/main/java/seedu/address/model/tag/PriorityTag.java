@@ -2,16 +2,22 @@ package seedu.address.model.tag;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.person.TaskKey;
+
 /**
  * Represents a priority tag in the task
  *
  */
 
-public class PriorityTag {
+public class PriorityTag implements TaskKey {
 
     public static final String MESSAGE_CONSTRAINTS = "PriorityTag should be a LOW/MEDIUM/HIGH";
     public static final String MESSAGE_INVALID_INPUT = "Invalid Input, setting priority tag to default LOW";
 
+    private static final PriorityTag LOW = new PriorityTag("LOW");
+    private static final PriorityTag MEDIUM = new PriorityTag("MEDIUM");
+    private static final PriorityTag HIGH = new PriorityTag("HIGH");
+
     private State state;
     private String tagName;
 
@@ -34,6 +40,30 @@ public class PriorityTag {
 
     }
 
+    /**
+     * Returns the canonical {@code PriorityTag} with the given tag name, without creating a new one.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static PriorityTag of(String tagName) {
+        checkArgument(validateTag(tagName), MESSAGE_CONSTRAINTS);
+        switch (tagName) {
+        case "MEDIUM":
+            return MEDIUM;
+        case "HIGH":
+            return HIGH;
+        default:
+            return LOW;
+        }
+    }
+
+    /**
+     * Returns the canonical {@code PriorityTag} of the lowest priority, which is the default priority of a task.
+     */
+    public static PriorityTag getDefault() {
+        return LOW;
+    }
+
     /**
      * method to return state of ptag
      * @return state of the ptag
@@ -105,5 +135,10 @@ public class PriorityTag {
                 && tagName.equals(((PriorityTag) other).tagName)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return tagName.hashCode();
+    }
+
 
 }
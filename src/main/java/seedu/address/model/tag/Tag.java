@@ -3,15 +3,22 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.model.person.TaskKey;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
-public class Tag {
+public class Tag implements TaskKey {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** Maximum number of distinct tag names that are given a canonical instance. */
+    private static final int INTERNED_TAG_LIMIT = 4096;
+    private static final Interner<String, Tag> interner = new Interner<>(Tag::new, INTERNED_TAG_LIMIT);
+
     public final String tagName;
 
     /**
@@ -25,6 +32,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the given name, which is shared by every task with that tag.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return interner.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
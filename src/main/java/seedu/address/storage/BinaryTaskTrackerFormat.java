@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.person.DeadlineDate;
+import seedu.address.model.person.DeadlineTime;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskName;
+import seedu.address.model.person.Weightage;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes and reads a task tracker in a compact binary format, one task at a time.
+ *
+ * A data file starts with {@link #MAGIC} and a version byte. It then has the number of tasks followed by each task,
+ * and the number of daily tasks followed by the id of each of them. All numbers are unsigned varints of 7 bits per
+ * byte, and strings are UTF-8 prefixed with their length in bytes. Each task is made up of:
+ * <ul>
+ *     <li>its id, name and module code,</li>
+ *     <li>its deadline, packed into the number of minutes from the epoch 1970-01-01 to the deadline,</li>
+ *     <li>one byte of flags, holding whether it has finished and its priority,</li>
+ *     <li>its weightage, notes, and the number of tags followed by each tag.</li>
+ * </ul>
+ * Module codes and tags are dictionary-encoded: each is written as its index among the module codes or tags seen so
+ * far in the file, and the first time that one is seen, its index is the number seen so far and the string follows.
+ */
+class BinaryTaskTrackerFormat {
+
+    /** First bytes of every binary data file. The first byte cannot start a json file. */
+    public static final byte[] MAGIC = {(byte) 0x89, 'T', 'T', 'B'};
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data is in version %d of the binary format, "
+            + "which is not supported.";
+    public static final String MESSAGE_INVALID_DICTIONARY_INDEX = "Data refers to a %s that it does not define.";
+    public static final String MESSAGE_INVALID_LENGTH = "Data has a length that is longer than the data.";
+    public static final String MESSAGE_INVALID_NUMBER = "Data has a number that is too large.";
+    public static final String MESSAGE_INVALID_FLAGS = "Data has a task with invalid flags.";
+    public static final String MESSAGE_TRAILING_DATA = "Data has more bytes after the task tracker.";
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int FINISHED_FLAG = 1;
+    private static final int PRIORITY_SHIFT = 1;
+    private static final int MAX_FLAGS = 0b101;
+    private static final List<String> PRIORITY_TAG_NAMES = List.of("LOW", "MEDIUM", "HIGH");
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, marks the file as being in the binary format.
+     */
+    public static boolean isBinaryHeader(byte[] header) {
+        return Arrays.equals(header, MAGIC);
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the binary format.
+     */
+    public static void writeTaskTracker(ReadOnlyTaskTracker source, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        out.write(MAGIC);
+        out.write(VERSION);
+        encoder.writeVarLong(source.getTaskList().size());
+        for (Task task : source.getTaskList()) {
+            encoder.writeTask(task);
+        }
+        encoder.writeVarLong(source.getDailyTaskList().size());
+        for (Task task : source.getDailyTaskList()) {
+            encoder.writeVarLong(task.getId());
+        }
+    }
+
+    /**
+     * Reads a task tracker in the binary format, that is at most {@code length} bytes long, from {@code in}.
+     *
+     * @throws IllegalValueException if the data is not a task tracker, or there were any data constraints violated.
+     */
+    public static ReadOnlyTaskTracker readTaskTracker(InputStream in, long length)
+            throws IOException, IllegalValueException {
+        Decoder decoder = new Decoder(in, length);
+        byte[] header = decoder.readBytes(MAGIC.length);
+        if (!isBinaryHeader(header)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = decoder.readByte();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        JsonSerializableTaskTracker.TaskTrackerBuilder builder = new JsonSerializableTaskTracker.TaskTrackerBuilder();
+        for (long i = decoder.readLength(); i > 0; i--) {
+            builder.addTask(decoder.readTask());
+        }
+        long dailyTaskCount = decoder.readLength();
+        List<Long> dailyTaskIds = new ArrayList<>();
+        for (long i = 0; i < dailyTaskCount; i++) {
+            dailyTaskIds.add(decoder.readVarLong());
+        }
+        if (in.read() != -1) {
+            throw new IllegalValueException(MESSAGE_TRAILING_DATA);
+        }
+        return builder.build(dailyTaskIds);
+    }
+
+    //// fields packed into numbers, which are shared with the mapped format of {@code MappedTaskTrackerStorage}
+
+    /**
+     * Returns the deadline of {@code task} as the number of minutes from the epoch 1970-01-01 to the deadline.
+     */
+    static long toDeadlineMinutes(Task task) {
+        return task.getDeadlineDate().toEpochDay() * MINUTES_PER_DAY + task.getDeadlineTime().toMinuteOfDay();
+    }
+
+    /**
+     * Returns the date of a deadline packed by {@link #toDeadlineMinutes(Task)}.
+     *
+     * @throws IllegalValueException if the date is not a valid deadline date.
+     */
+    static DeadlineDate toDeadlineDate(long deadlineMinutes) throws IllegalValueException {
+        long epochDay = deadlineMinutes / MINUTES_PER_DAY;
+        if (!DeadlineDate.isValidDeadlineDate(epochDay)) {
+            throw new IllegalValueException(DeadlineDate.MESSAGE_CONSTRAINTS);
+        }
+        return DeadlineDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the time of a deadline packed by {@link #toDeadlineMinutes(Task)}.
+     */
+    static DeadlineTime toDeadlineTime(long deadlineMinutes) {
+        return DeadlineTime.ofMinuteOfDay((int) (deadlineMinutes % MINUTES_PER_DAY));
+    }
+
+    /**
+     * Returns the flags of {@code task}, which hold whether it has finished and its priority.
+     */
+    static int toFlags(Task task) {
+        int priority = PRIORITY_TAG_NAMES.indexOf(task.getPriorityTag().getTagName());
+        return (priority << PRIORITY_SHIFT) | (task.getStatus().hasFinished() ? FINISHED_FLAG : 0);
+    }
+
+    /**
+     * Returns the status held by flags packed by {@link #toFlags(Task)}.
+     *
+     * @throws IllegalValueException if the flags are not valid.
+     */
+    static Status toStatus(long flags) throws IllegalValueException {
+        if (flags < 0 || flags > MAX_FLAGS) {
+            throw new IllegalValueException(MESSAGE_INVALID_FLAGS);
+        }
+        return Status.of((flags & FINISHED_FLAG) != 0 ? "Finished" : "Unfinished");
+    }
+
+    /**
+     * Returns the priority held by flags packed by {@link #toFlags(Task)}, which must be valid.
+     */
+    static PriorityTag toPriorityTag(long flags) {
+        return PriorityTag.of(PRIORITY_TAG_NAMES.get((int) (flags >> PRIORITY_SHIFT)));
+    }
+
+    /**
+     * Writes tasks to a stream, keeping the dictionaries of the module codes and tags written so far.
+     */
+    private static class Encoder {
+        private final OutputStream out;
+        private final Map<ModuleCode, Integer> moduleCodeIndices = new HashMap<>();
+        private final Map<Tag, Integer> tagIndices = new HashMap<>();
+
+        Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeTask(Task task) throws IOException {
+            writeVarLong(task.getId());
+            writeString(task.getTaskName().fullName);
+            writeDictionaryEntry(moduleCodeIndices, task.getModuleCode(), task.getModuleCode().moduleCode);
+            writeVarLong(toDeadlineMinutes(task));
+            writeVarLong(toFlags(task));
+            writeVarLong(task.getWeightage().weightage);
+            writeString(task.getNotes().value);
+            writeVarLong(task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                writeDictionaryEntry(tagIndices, tag, tag.tagName);
+            }
+        }
+
+        private <T> void writeDictionaryEntry(Map<T, Integer> indices, T entry, String value) throws IOException {
+            Integer index = indices.get(entry);
+            if (index != null) {
+                writeVarLong(index);
+                return;
+            }
+            writeVarLong(indices.size());
+            writeString(value);
+            indices.put(entry, indices.size());
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    /**
+     * Reads tasks from a stream, keeping the dictionaries of the module codes and tags read so far.
+     */
+    private static class Decoder {
+        private final InputStream in;
+        private final long length;
+        private final List<ModuleCode> moduleCodes = new ArrayList<>();
+        private final List<Tag> tags = new ArrayList<>();
+
+        Decoder(InputStream in, long length) {
+            this.in = in;
+            this.length = length;
+        }
+
+        Task readTask() throws IOException, IllegalValueException {
+            long id = readVarLong();
+            if (!Task.isValidId(id)) {
+                throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+            }
+            String taskName = readString();
+            if (!TaskName.isValidName(taskName)) {
+                throw new IllegalValueException(TaskName.MESSAGE_CONSTRAINTS);
+            }
+            ModuleCode moduleCode = readModuleCode();
+
+            long deadlineMinutes = readVarLong();
+            DeadlineDate deadlineDate = toDeadlineDate(deadlineMinutes);
+            long flags = readVarLong();
+            Status status = toStatus(flags);
+
+            long weightage = readVarLong();
+            if (weightage > Weightage.MAX_WEIGHTAGE) {
+                throw new IllegalValueException(Weightage.MESSAGE_CONSTRAINTS);
+            }
+            Notes notes = new Notes(readString());
+
+            long tagCount = readLength();
+            Set<Tag> taskTags = new HashSet<>();
+            for (long i = 0; i < tagCount; i++) {
+                taskTags.add(readTag());
+            }
+            return new Task(id, new TaskName(taskName), moduleCode, deadlineDate, toDeadlineTime(deadlineMinutes),
+                    status, Weightage.of((int) weightage), notes, taskTags, toPriorityTag(flags));
+        }
+
+        private ModuleCode readModuleCode() throws IOException, IllegalValueException {
+            long index = readVarLong();
+            if (index < moduleCodes.size()) {
+                return moduleCodes.get((int) index);
+            }
+            if (index > moduleCodes.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DICTIONARY_INDEX, "module code"));
+            }
+            String moduleCode = readString();
+            if (!ModuleCode.isValidModuleCode(moduleCode)) {
+                throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+            }
+            moduleCodes.add(ModuleCode.of(moduleCode));
+            return moduleCodes.get((int) index);
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            long index = readVarLong();
+            if (index < tags.size()) {
+                return tags.get((int) index);
+            }
+            if (index > tags.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_DICTIONARY_INDEX, "tag"));
+            }
+            String tagName = readString();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(Tag.of(tagName));
+            return tags.get((int) index);
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            return new String(readBytes((int) readLength()), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a length or count, which cannot be more than the length of the data.
+         */
+        long readLength() throws IOException, IllegalValueException {
+            long value = readVarLong();
+            if (value > length) {
+                throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+            }
+            return value;
+        }
+
+        byte[] readBytes(int count) throws IOException {
+            byte[] bytes = in.readNBytes(count);
+            if (bytes.length < count) {
+                throw new EOFException();
+            }
+            return bytes;
+        }
+
+        int readByte() throws IOException {
+            int value = in.read();
+            if (value == -1) {
+                throw new EOFException();
+            }
+            return value;
+        }
+
+        /**
+         * Reads a varint of at most 63 bits, so that it is never negative.
+         */
+        long readVarLong() throws IOException, IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE - 1; shift += 7) {
+                int next = readByte();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_INVALID_NUMBER);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
+
+/**
+ * A class to access TaskTracker data stored in the binary format of {@link BinaryTaskTrackerFormat} on the hard disk.
+ *
+ * The format of a data file is detected from its first bytes when it is read, so a json data file, together with its
+ * journal, or a mapped data file can be read too. Saving always writes the binary format, which converts a data file
+ * in any other format.
+ */
+public class BinaryTaskTrackerStorage implements TaskTrackerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskTrackerStorage.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}.
+     */
+    public BinaryTaskTrackerStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTaskTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskTracker> readTaskTracker() throws DataConversionException, IOException {
+        return readTaskTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskTracker()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskTracker> readTaskTracker(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            return new JournaledTaskTrackerStorage(filePath).readTaskTracker();
+        }
+        return Optional.of(readBinaryFile(filePath));
+    }
+
+    @Override
+    public void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException {
+        saveTaskTracker(taskTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskTracker(ReadOnlyTaskTracker)}.
+     * The task tracker is written to a temporary file next to {@code filePath}, which then replaces the data file,
+     * so that a save that is interrupted does not leave the data file partially written.
+     * Deletes the journal of a json data file, or the heap file of a mapped data file, that was at {@code filePath},
+     * as neither applies to the binary data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskTracker(ReadOnlyTaskTracker taskTracker, Path filePath) throws IOException {
+        requireNonNull(taskTracker);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        Path temporaryFile = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile), BUFFER_SIZE)) {
+                BinaryTaskTrackerFormat.writeTaskTracker(taskTracker, out);
+            }
+            FileUtil.replaceFile(temporaryFile, filePath);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+        Files.deleteIfExists(JournaledTaskTrackerStorage.getJournalFilePath(filePath));
+        Files.deleteIfExists(MappedTaskTrackerStorage.getHeapFilePath(filePath));
+        Files.deleteIfExists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath));
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} is in the binary format, and false if it is in any other
+     * format or does not exist.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return BinaryTaskTrackerFormat.isBinaryHeader(in.readNBytes(BinaryTaskTrackerFormat.MAGIC.length));
+        }
+    }
+
+    /**
+     * Reads the task tracker in the binary data file at {@code filePath}, which must exist.
+     *
+     * @throws DataConversionException if the file is not in the binary format, or has data constraints violated.
+     */
+    static ReadOnlyTaskTracker readBinaryFile(Path filePath) throws DataConversionException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return BinaryTaskTrackerFormat.readTaskTracker(in, Files.size(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+}
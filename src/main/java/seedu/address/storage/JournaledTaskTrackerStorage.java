@@ -0,0 +1,377 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.TaskTrackerChange;
+import seedu.address.storage.JsonSerializableTaskTracker.StreamedTaskTracker;
+
+/**
+ * A class to access TaskTracker data stored as a json file on the hard disk, together with a journal of the changes
+ * made to it since the file was written.
+ *
+ * Saving the task tracker appends the change since it was last saved to the journal, one json record per line, so
+ * each save only writes the tasks that changed. Once the journal grows past a threshold, the task tracker is written
+ * to the data file on a background thread, and the changes that the data file then has are dropped from the journal.
+ * Reading the task tracker reads the data file and replays the changes in the journal that it does not have yet.
+ */
+public class JournaledTaskTrackerStorage implements TaskTrackerStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    /** Size of the journal, in bytes, beyond which it is folded into the data file. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskTrackerStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-tracker-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** State of the task tracker in the data file and journal, or null if the data file has to be written first. */
+    private ReadOnlyTaskTracker savedState;
+    private long sequenceNumber;
+    private Future<?> compaction;
+
+    // guarded by this, as they are also updated by the compaction
+    private long dataFileSequenceNumber;
+    private long journalLength;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which folds its journal into the data file once the
+     * journal is larger than {@link #DEFAULT_COMPACTION_THRESHOLD}.
+     */
+    public JournaledTaskTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which folds its journal into the data file once the
+     * journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledTaskTrackerStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = getJournalFilePath(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal for the data file at {@code taskTrackerFilePath}, which is next to the
+     * data file and has the same name, with the {@code JOURNAL_FILE_EXTENSION} extension.
+     */
+    public static Path getJournalFilePath(Path taskTrackerFilePath) {
+        return FileUtil.getSiblingPath(taskTrackerFilePath, JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Path getTaskTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskTracker> readTaskTracker() throws DataConversionException, IOException {
+        return readTaskTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskTracker()}.
+     * Later saves to the data file of this storage only append to the journal if it was read with this method.
+     * A data file in the binary or mapped format is read without its journal, and is converted to json by the next
+     * save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data file or its journal is not in the correct format, or the journal
+     *     has changes that do not follow the data file.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskTracker> readTaskTracker(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isBinaryFile = BinaryTaskTrackerStorage.isBinaryFile(filePath);
+        if (isBinaryFile || MappedTaskTrackerStorage.isMappedFile(filePath)) {
+            // any journal was written before the data file was converted, and the next save converts it back
+            if (filePath.equals(this.filePath)) {
+                savedState = null;
+            }
+            return Optional.of(isBinaryFile
+                    ? BinaryTaskTrackerStorage.readBinaryFile(filePath)
+                    : MappedTaskTrackerStorage.readMappedFile(filePath));
+        }
+        Optional<StreamedTaskTracker> dataFile = JsonTaskTrackerStorage.readDataFile(filePath);
+        if (dataFile.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ReadOnlyTaskTracker state = dataFile.get().getTaskTracker();
+        long fileSequenceNumber = dataFile.get().getJournalSequenceNumber();
+        long lastSequenceNumber = fileSequenceNumber;
+
+        Path journal = getJournalFilePath(filePath);
+        long replayedLength = 0;
+        if (Files.exists(journal)) {
+            List<JsonAdaptedHistoryRecord> records = new ArrayList<>();
+            replayedLength = FileUtil.readCompleteLines(journal, (bytes, recordStart, recordEnd) ->
+                    records.add(readRecord(journal, bytes, recordStart, recordEnd)));
+            for (JsonAdaptedHistoryRecord record : records) {
+                if (record.getSequenceNumber() > lastSequenceNumber) {
+                    state = replay(journal, record, lastSequenceNumber, state);
+                    lastSequenceNumber = record.getSequenceNumber();
+                }
+            }
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedState = state;
+            sequenceNumber = lastSequenceNumber;
+            dataFileSequenceNumber = fileSequenceNumber;
+            journalLength = replayedLength;
+        }
+        return Optional.of(state);
+    }
+
+    @Override
+    public void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException {
+        saveTaskTracker(taskTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskTracker(ReadOnlyTaskTracker)}.
+     * Only saves to the data file of this storage are appended to the journal. Saves to any other file write the
+     * whole task tracker to it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTaskTracker(ReadOnlyTaskTracker taskTracker, Path filePath) throws IOException {
+        requireNonNull(taskTracker);
+        requireNonNull(filePath);
+
+        ReadOnlyTaskTracker state = TaskTracker.snapshotOf(taskTracker);
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.replaceFile(writeTemporaryDataFile(state, 0, filePath), filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(MappedTaskTrackerStorage.getHeapFilePath(filePath));
+            Files.deleteIfExists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath));
+            return;
+        }
+        if (savedState == null) {
+            writeDataFile(state);
+            Files.deleteIfExists(MappedTaskTrackerStorage.getHeapFilePath(filePath));
+            Files.deleteIfExists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath));
+            savedState = state;
+            return;
+        }
+
+        TaskTrackerChange change = TaskTrackerChange.between(savedState, state);
+        if (change.isEmpty()) {
+            savedState = state;
+            return;
+        }
+        try {
+            appendToJournal(sequenceNumber + 1, change);
+        } catch (IOException e) {
+            // the journal may end with part of the change, so the next save writes the data file instead
+            savedState = null;
+            throw e;
+        }
+        sequenceNumber++;
+        savedState = state;
+        startCompactionIfNeeded();
+    }
+
+    /**
+     * Waits for the journal to be folded into the data file, if that is in progress.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        if (compaction != null) {
+            compaction.get();
+        }
+    }
+
+    //// journal
+
+    private synchronized void appendToJournal(long recordSequenceNumber, TaskTrackerChange change)
+            throws IOException {
+        byte[] bytes = (JsonUtil.toCompactJsonString(JsonAdaptedHistoryRecord.ofChange(recordSequenceNumber, change))
+                + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(journalFilePath);
+        Files.write(journalFilePath, bytes, StandardOpenOption.APPEND);
+        journalLength += bytes.length;
+    }
+
+    private JsonAdaptedHistoryRecord readRecord(Path journal, byte[] bytes, int recordStart, int recordEnd)
+            throws DataConversionException {
+        try {
+            String json = new String(bytes, recordStart, recordEnd - recordStart, StandardCharsets.UTF_8);
+            JsonAdaptedHistoryRecord record = JsonUtil.fromJsonString(json, JsonAdaptedHistoryRecord.class);
+            if (record.getSequenceNumber() == null || record.getChange() == null) {
+                throw new IllegalValueException("Record is not a change");
+            }
+            return record;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal record found in " + journal + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the state that the change of {@code record} turns {@code state} into.
+     *
+     * @throws DataConversionException if the change does not directly follow the change numbered
+     *     {@code lastSequenceNumber}, or was not made to {@code state}.
+     */
+    private ReadOnlyTaskTracker replay(Path journal, JsonAdaptedHistoryRecord record, long lastSequenceNumber,
+            ReadOnlyTaskTracker state) throws DataConversionException {
+        if (record.getSequenceNumber() != lastSequenceNumber + 1) {
+            throw new DataConversionException(new IllegalValueException(
+                    "Change " + (lastSequenceNumber + 1) + " is missing from " + journal));
+        }
+
+        Optional<ReadOnlyTaskTracker> nextState;
+        try {
+            nextState = record.getChange().toModelType().replay(state);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        if (nextState.isEmpty()) {
+            throw new DataConversionException(new IllegalValueException(
+                    "Change " + record.getSequenceNumber() + " in " + journal + " does not match the data file"));
+        }
+        return nextState.get();
+    }
+
+    //// data file
+
+    /**
+     * Writes {@code state}, with every change in the journal, to the data file, and empties the journal.
+     */
+    private synchronized void writeDataFile(ReadOnlyTaskTracker state) throws IOException {
+        FileUtil.replaceFile(writeTemporaryDataFile(state, sequenceNumber, filePath), filePath);
+        dataFileSequenceNumber = sequenceNumber;
+        Files.deleteIfExists(journalFilePath);
+        journalLength = 0;
+    }
+
+    /**
+     * Starts folding the journal into the data file on the background thread, once the journal is past the
+     * threshold and the journal is not being folded already.
+     */
+    private synchronized void startCompactionIfNeeded() {
+        if (journalLength <= compactionThreshold || (compaction != null && !compaction.isDone())) {
+            return;
+        }
+
+        ReadOnlyTaskTracker state = savedState;
+        long compactedSequenceNumber = sequenceNumber;
+        long compactedJournalLength = journalLength;
+        compaction = compactionExecutor.submit(() -> compact(state, compactedSequenceNumber, compactedJournalLength));
+    }
+
+    /**
+     * Writes {@code state}, which has the changes of the first {@code compactedJournalLength} bytes of the journal,
+     * to the data file, and drops those bytes from the journal.
+     * The data file is written without holding the lock, so saves can go on appending to the journal meanwhile.
+     */
+    private void compact(ReadOnlyTaskTracker state, long compactedSequenceNumber, long compactedJournalLength) {
+        try {
+            Path temporaryFile = writeTemporaryDataFile(state, compactedSequenceNumber, filePath);
+            foldJournal(temporaryFile, compactedSequenceNumber, compactedJournalLength);
+        } catch (IOException e) {
+            logger.warning("Journal could not be folded into the data file and will keep growing: " + e);
+        }
+    }
+
+    private synchronized void foldJournal(Path temporaryFile, long compactedSequenceNumber,
+            long compactedJournalLength) throws IOException {
+        if (compactedSequenceNumber <= dataFileSequenceNumber) {
+            // the data file was written with these changes while the compaction was in progress
+            Files.deleteIfExists(temporaryFile);
+            return;
+        }
+        FileUtil.replaceFile(temporaryFile, filePath);
+        dataFileSequenceNumber = compactedSequenceNumber;
+
+        Path temporaryJournal = Files.createTempFile(journalFilePath.toAbsolutePath().getParent(),
+                journalFilePath.getFileName().toString(), ".tmp");
+        try (FileChannel source = FileChannel.open(journalFilePath, StandardOpenOption.READ);
+             InputStream tail = Channels.newInputStream(source.position(compactedJournalLength));
+             OutputStream target = Files.newOutputStream(temporaryJournal)) {
+            tail.transferTo(target);
+        }
+        FileUtil.replaceFile(temporaryJournal, journalFilePath);
+        journalLength -= compactedJournalLength;
+    }
+
+    /**
+     * Writes {@code state} as a data file with the changes up to {@code journalSequenceNumber} to a temporary file
+     * next to {@code filePath}, and returns the temporary file.
+     */
+    private static Path writeTemporaryDataFile(ReadOnlyTaskTracker state, long journalSequenceNumber, Path filePath)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        Path temporaryFile = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        JsonTaskTrackerStorage.writeDataFile(state, journalSequenceNumber, temporaryFile, false);
+        return temporaryFile;
+    }
+
+    /**
+     * Moves the data file at {@code filePath}, together with its journal and the heap file and redo log of a mapped
+     * data file if there are any, aside to backup files next to them, which have the {@code BACKUP_FILE_EXTENSION}
+     * extension added and replace any earlier backups. Returns the backup of the data file.
+     * Keeps a data file that cannot be read from being overwritten by the next save.
+     */
+    public static Path backUpDataFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        Path backupFilePath = getBackupFilePath(filePath);
+        for (Path file : List.of(getJournalFilePath(filePath), MappedTaskTrackerStorage.getHeapFilePath(filePath),
+                MappedTaskTrackerStorage.getRedoLogFilePath(filePath))) {
+            if (Files.exists(file)) {
+                FileUtil.replaceFile(file, getBackupFilePath(file));
+            }
+        }
+        FileUtil.replaceFile(filePath, backupFilePath);
+        return backupFilePath;
+    }
+
+    private static Path getBackupFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+}
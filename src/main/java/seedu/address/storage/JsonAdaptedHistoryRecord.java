@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.TaskTrackerChange;
+
+/**
+ * Jackson-friendly version of a record of an {@link seedu.address.model.UndoHistoryJournal}.
+ * A record either adds a change to the history, moves the current state, or discards the oldest changes, and only
+ * has the fields needed for that. The journal of a {@link JournaledTaskTrackerStorage} only has records of changes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedHistoryRecord {
+
+    public static final String SEQUENCE_NUMBER_FIELD = "sequenceNumber";
+    public static final String CURRENT_FIELD = "current";
+    public static final String OLDEST_FIELD = "oldest";
+
+    private final Long sequenceNumber;
+    private final JsonAdaptedTaskTrackerChange change;
+    private final Long current;
+    private final Long oldest;
+
+    /**
+     * Constructs a {@code JsonAdaptedHistoryRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedHistoryRecord(@JsonProperty(SEQUENCE_NUMBER_FIELD) Long sequenceNumber,
+                                    @JsonProperty("change") JsonAdaptedTaskTrackerChange change,
+                                    @JsonProperty(CURRENT_FIELD) Long current,
+                                    @JsonProperty(OLDEST_FIELD) Long oldest) {
+        this.sequenceNumber = sequenceNumber;
+        this.change = change;
+        this.current = current;
+        this.oldest = oldest;
+    }
+
+    /**
+     * Returns a record that adds {@code change} to the history as the change numbered {@code sequenceNumber}.
+     */
+    public static JsonAdaptedHistoryRecord ofChange(long sequenceNumber, TaskTrackerChange change) {
+        return new JsonAdaptedHistoryRecord(sequenceNumber, new JsonAdaptedTaskTrackerChange(change), null, null);
+    }
+
+    /**
+     * Returns a record that makes the state numbered {@code sequenceNumber} the current state.
+     */
+    public static JsonAdaptedHistoryRecord ofCurrent(long sequenceNumber) {
+        return new JsonAdaptedHistoryRecord(null, null, sequenceNumber, null);
+    }
+
+    /**
+     * Returns a record that discards the changes numbered below {@code sequenceNumber}.
+     */
+    public static JsonAdaptedHistoryRecord ofOldest(long sequenceNumber) {
+        return new JsonAdaptedHistoryRecord(null, null, null, sequenceNumber);
+    }
+
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public JsonAdaptedTaskTrackerChange getChange() {
+        return change;
+    }
+}
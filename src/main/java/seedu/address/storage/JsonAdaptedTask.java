@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,9 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.DeadlineDate;
@@ -23,11 +27,16 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Task}.
+ * Tasks can also be written and read in the same format directly with Jackson's streaming api, without building a
+ * {@code JsonAdaptedTask} for each task.
  */
 class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String NOT_AN_OBJECT_MESSAGE = "Task is not a json object!";
+    public static final String INVALID_FIELD_MESSAGE_FORMAT = "Task's %s field is not a %s!";
 
+    private final Long id;
     private final String taskName;
     private final String moduleCode;
     private final String deadlineDate;
@@ -42,7 +51,8 @@ class JsonAdaptedTask {
      * Constructs a {@code JsonAdaptedTask} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedTask(@JsonProperty("taskName") String taskName,
+    public JsonAdaptedTask(@JsonProperty("id") Long id,
+                           @JsonProperty("taskName") String taskName,
                            @JsonProperty("moduleCode") String moduleCode,
                            @JsonProperty("deadlineDate") String deadlineDate,
                            @JsonProperty("deadlineTime") String deadlineTime,
@@ -51,6 +61,7 @@ class JsonAdaptedTask {
                            @JsonProperty("notes") String notes,
                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                            @JsonProperty("priorityTag)") String priorityTag) {
+        this.id = id;
         this.taskName = taskName;
         this.moduleCode = moduleCode;
         this.deadlineDate = deadlineDate;
@@ -68,6 +79,7 @@ class JsonAdaptedTask {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedTask(Task source) {
+        id = source.getId();
         taskName = source.getTaskName().fullName;
         moduleCode = source.getModuleCode().moduleCode;
         deadlineDate = source.getDeadlineDate().toString();
@@ -87,6 +99,13 @@ class JsonAdaptedTask {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Task toModelType() throws IllegalValueException {
+        return toModelType(id, taskName, moduleCode, deadlineDate, deadlineTime, status, weightage, notes, tagged,
+                priorityTag);
+    }
+
+    private static Task toModelType(Long id, String taskName, String moduleCode, String deadlineDate,
+            String deadlineTime, String status, Integer weightage, String notes, List<JsonAdaptedTag> tagged,
+            String priorityTag) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -108,7 +127,7 @@ class JsonAdaptedTask {
         if (!ModuleCode.isValidModuleCode(moduleCode)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        final ModuleCode modelModuleCode = new ModuleCode(moduleCode);
+        final ModuleCode modelModuleCode = ModuleCode.of(moduleCode);
 
         if (deadlineDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -132,7 +151,7 @@ class JsonAdaptedTask {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 Status.class.getSimpleName()));
         }
-        final Status modelStatus = new Status(status);
+        final Status modelStatus = Status.of(status);
 
         if (weightage == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -141,7 +160,7 @@ class JsonAdaptedTask {
         if (!Weightage.isValidWeightage(weightage)) {
             throw new IllegalValueException(Weightage.MESSAGE_CONSTRAINTS);
         }
-        final Weightage modelWeightage = new Weightage(weightage);
+        final Weightage modelWeightage = Weightage.of(weightage);
 
         if (notes == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Notes.class.getSimpleName()));
@@ -152,11 +171,125 @@ class JsonAdaptedTask {
             throw new IllegalValueException(PriorityTag.MESSAGE_INVALID_INPUT);
         }
 
-        final PriorityTag modelPriorityTag = new PriorityTag(priorityTag);
+        final PriorityTag modelPriorityTag = PriorityTag.of(priorityTag);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Task(modelTaskName, modelModuleCode, modelDeadlineDate,
+
+        // Data files written before tasks had ids do not contain them, so such tasks are given a new id.
+        if (id == null) {
+            return new Task(modelTaskName, modelModuleCode, modelDeadlineDate,
+                modelDeadlineTime, modelStatus, modelWeightage, modelNotes, modelTags, modelPriorityTag);
+        }
+        if (!Task.isValidId(id)) {
+            throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Task(id, modelTaskName, modelModuleCode, modelDeadlineDate,
             modelDeadlineTime, modelStatus, modelWeightage, modelNotes, modelTags, modelPriorityTag);
     }
 
+    /**
+     * Writes {@code task} to {@code generator} as a json object in the format of this class.
+     */
+    public static void writeTask(Task task, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", task.getId());
+        generator.writeStringField("taskName", task.getTaskName().fullName);
+        generator.writeStringField("moduleCode", task.getModuleCode().moduleCode);
+        generator.writeStringField("deadlineDate", task.getDeadlineDate().toString());
+        generator.writeStringField("deadlineTime", task.getDeadlineTime().toString());
+        generator.writeStringField("status", task.getStatus().toString());
+        generator.writeNumberField("weightage", task.getWeightage().weightage);
+        generator.writeStringField("notes", task.getNotes().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : task.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("priorityTag", task.getPriorityTag().getTagName());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the json object that {@code parser} is at the start of as a task, and leaves {@code parser} at the end
+     * of the object. Unknown fields are skipped.
+     *
+     * @throws IllegalValueException if the object is not a task, or there were any data constraints violated in it.
+     */
+    public static Task readTask(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(NOT_AN_OBJECT_MESSAGE);
+        }
+
+        Long id = null;
+        String taskName = null;
+        String moduleCode = null;
+        String deadlineDate = null;
+        String deadlineTime = null;
+        String status = null;
+        Integer weightage = null;
+        String notes = null;
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+        String priorityTag = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "id":
+                id = value == JsonToken.VALUE_NULL ? null : readNumber(parser, fieldName).longValue();
+                break;
+            case "taskName":
+                taskName = parser.getValueAsString();
+                break;
+            case "moduleCode":
+                moduleCode = parser.getValueAsString();
+                break;
+            case "deadlineDate":
+                deadlineDate = parser.getValueAsString();
+                break;
+            case "deadlineTime":
+                deadlineTime = parser.getValueAsString();
+                break;
+            case "status":
+                status = parser.getValueAsString();
+                break;
+            case "weightage":
+                weightage = value == JsonToken.VALUE_NULL ? null : readNumber(parser, fieldName).intValue();
+                break;
+            case "notes":
+                notes = parser.getValueAsString();
+                break;
+            case "tagged":
+                readTags(parser, tagged);
+                break;
+            case "priorityTag":
+                priorityTag = parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return toModelType(id, taskName, moduleCode, deadlineDate, deadlineTime, status, weightage, notes, tagged,
+                priorityTag);
+    }
+
+    private static Number readNumber(JsonParser parser, String fieldName) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, fieldName, "whole number"));
+        }
+        return parser.getNumberValue();
+    }
+
+    private static void readTags(JsonParser parser, List<JsonAdaptedTag> tagged)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "tagged", "list"));
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            tagged.add(new JsonAdaptedTag(parser.getValueAsString()));
+        }
+    }
+
 }
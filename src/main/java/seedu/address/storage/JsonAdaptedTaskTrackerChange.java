@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskTrackerChange;
+import seedu.address.model.TaskTrackerChange.ListChange;
+import seedu.address.model.person.Task;
+
+/**
+ * Jackson-friendly version of {@link TaskTrackerChange}.
+ * The change to the daily task list is optional, as changes saved before it was stored only have the change to the
+ * task list. Their daily task list change is untracked.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedTaskTrackerChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+
+    private final Integer position;
+    private final Integer sizeBefore;
+    private final List<JsonAdaptedTask> removedTasks = new ArrayList<>();
+    private final List<JsonAdaptedTask> addedTasks = new ArrayList<>();
+    private final Integer dailyPosition;
+    private final Integer dailySizeBefore;
+    private final List<JsonAdaptedTask> removedDailyTasks;
+    private final List<JsonAdaptedTask> addedDailyTasks;
+
+    /**
+     * Constructs a {@code JsonAdaptedTaskTrackerChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedTaskTrackerChange(@JsonProperty("position") Integer position,
+                                        @JsonProperty("sizeBefore") Integer sizeBefore,
+                                        @JsonProperty("removedTasks") List<JsonAdaptedTask> removedTasks,
+                                        @JsonProperty("addedTasks") List<JsonAdaptedTask> addedTasks,
+                                        @JsonProperty("dailyPosition") Integer dailyPosition,
+                                        @JsonProperty("dailySizeBefore") Integer dailySizeBefore,
+                                        @JsonProperty("removedDailyTasks") List<JsonAdaptedTask> removedDailyTasks,
+                                        @JsonProperty("addedDailyTasks") List<JsonAdaptedTask> addedDailyTasks) {
+        this.position = position;
+        this.sizeBefore = sizeBefore;
+        if (removedTasks != null) {
+            this.removedTasks.addAll(removedTasks);
+        }
+        if (addedTasks != null) {
+            this.addedTasks.addAll(addedTasks);
+        }
+        this.dailyPosition = dailyPosition;
+        this.dailySizeBefore = dailySizeBefore;
+        this.removedDailyTasks = removedDailyTasks;
+        this.addedDailyTasks = addedDailyTasks;
+    }
+
+    /**
+     * Converts a given {@code TaskTrackerChange} into this class for Jackson use.
+     */
+    public JsonAdaptedTaskTrackerChange(TaskTrackerChange source) {
+        ListChange taskListChange = source.getTaskListChange();
+        position = taskListChange.getPosition();
+        sizeBefore = taskListChange.getSizeBefore();
+        removedTasks.addAll(taskListChange.getRemovedTasks().stream()
+                .map(JsonAdaptedTask::new)
+                .collect(Collectors.toList()));
+        addedTasks.addAll(taskListChange.getAddedTasks().stream()
+                .map(JsonAdaptedTask::new)
+                .collect(Collectors.toList()));
+
+        ListChange dailyTaskListChange = source.getDailyTaskListChange();
+        if (dailyTaskListChange.isUntracked()) {
+            dailyPosition = null;
+            dailySizeBefore = null;
+            removedDailyTasks = null;
+            addedDailyTasks = null;
+        } else {
+            dailyPosition = dailyTaskListChange.getPosition();
+            dailySizeBefore = dailyTaskListChange.getSizeBefore();
+            removedDailyTasks = dailyTaskListChange.getRemovedTasks().stream()
+                    .map(JsonAdaptedTask::new)
+                    .collect(Collectors.toList());
+            addedDailyTasks = dailyTaskListChange.getAddedTasks().stream()
+                    .map(JsonAdaptedTask::new)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code TaskTrackerChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public TaskTrackerChange toModelType() throws IllegalValueException {
+        if (position == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "position"));
+        }
+        if (sizeBefore == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sizeBefore"));
+        }
+        ListChange taskListChange = toListChange(position, sizeBefore, removedTasks, addedTasks);
+
+        if (dailyPosition == null && dailySizeBefore == null) {
+            return new TaskTrackerChange(taskListChange, ListChange.untracked());
+        }
+        if (dailyPosition == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dailyPosition"));
+        }
+        if (dailySizeBefore == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dailySizeBefore"));
+        }
+        ListChange dailyTaskListChange = toListChange(dailyPosition, dailySizeBefore,
+                removedDailyTasks == null ? List.of() : removedDailyTasks,
+                addedDailyTasks == null ? List.of() : addedDailyTasks);
+        return new TaskTrackerChange(taskListChange, dailyTaskListChange);
+    }
+
+    private static ListChange toListChange(int position, int sizeBefore, List<JsonAdaptedTask> removedTasks,
+            List<JsonAdaptedTask> addedTasks) throws IllegalValueException {
+        if (!ListChange.isValidListChange(position, sizeBefore, removedTasks.size())) {
+            throw new IllegalValueException(ListChange.MESSAGE_CONSTRAINTS);
+        }
+
+        List<Task> modelRemovedTasks = new ArrayList<>();
+        for (JsonAdaptedTask task : removedTasks) {
+            modelRemovedTasks.add(task.toModelType());
+        }
+        List<Task> modelAddedTasks = new ArrayList<>();
+        for (JsonAdaptedTask task : addedTasks) {
+            modelAddedTasks.add(task.toModelType());
+        }
+        return new ListChange(position, sizeBefore, modelRemovedTasks, modelAddedTasks);
+    }
+}
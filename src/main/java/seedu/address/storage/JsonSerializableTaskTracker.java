@@ -1,12 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTaskTracker;
@@ -15,20 +23,32 @@ import seedu.address.model.person.Task;
 
 /**
  * An Immutable TaskTracker that is serializable to JSON format.
+ * Data files are written and read in the same format with {@link #writeTaskTracker} and {@link #readTaskTracker},
+ * which stream the tasks to and from Jackson's streaming api instead of building this class.
  */
 @JsonRootName(value = "tasktracker")
 class JsonSerializableTaskTracker {
 
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
+    public static final String MESSAGE_DUPLICATE_TASK_ID = "Tasks list contains tasks with the same id.";
+    public static final String MESSAGE_UNKNOWN_DAILY_TASK_ID = "Daily task list refers to a task that does not exist.";
+    public static final String MESSAGE_DUPLICATE_DAILY_TASK_ID = "Daily task list contains duplicate task(s).";
+    public static final String MESSAGE_NOT_A_TASK_TRACKER = "Data is not a json object with a list of tasks.";
 
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final List<Long> dailyTaskIds = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableTaskTracker} with the given tasks.
+     * Constructs a {@code JsonSerializableTaskTracker} with the given tasks and ids of daily tasks.
+     * Data files saved before the daily task list was saved have no ids of daily tasks.
      */
     @JsonCreator
-    public JsonSerializableTaskTracker(@JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+    public JsonSerializableTaskTracker(@JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+                                       @JsonProperty("dailyTaskIds") List<Long> dailyTaskIds) {
         this.tasks.addAll(tasks);
+        if (dailyTaskIds != null) {
+            this.dailyTaskIds.addAll(dailyTaskIds);
+        }
     }
 
     /**
@@ -39,23 +59,162 @@ class JsonSerializableTaskTracker {
     public JsonSerializableTaskTracker(ReadOnlyTaskTracker source) {
 
         tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        dailyTaskIds.addAll(source.getDailyTaskList().stream().map(Task::getId).collect(Collectors.toList()));
     }
 
     /**
-     * Converts this address book into the model's {@code TaskTracker} object.
+     * Converts this address book into the tasks of the model, which are indexed once they are loaded into a
+     * {@code TaskTracker}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public TaskTracker toModelType() throws IllegalValueException {
-        TaskTracker taskTracker = new TaskTracker();
+    public ReadOnlyTaskTracker toModelType() throws IllegalValueException {
+        TaskTrackerBuilder builder = new TaskTrackerBuilder();
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType();
-            if (taskTracker.hasTask(task)) {
+            builder.addTask(jsonAdaptedTask.toModelType());
+        }
+        return builder.build(dailyTaskIds);
+    }
+
+    /**
+     * Writes {@code source}, which has every change of a journal up to the change numbered
+     * {@code journalSequenceNumber}, to {@code generator} in the format of this class, one task at a time.
+     *
+     * @param journalSequenceNumber null if {@code source} is not saved with a journal.
+     */
+    public static void writeTaskTracker(ReadOnlyTaskTracker source, Long journalSequenceNumber,
+            JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("tasks");
+        for (Task task : source.getTaskList()) {
+            JsonAdaptedTask.writeTask(task, generator);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("dailyTaskIds");
+        for (Task task : source.getDailyTaskList()) {
+            generator.writeNumber(task.getId());
+        }
+        generator.writeEndArray();
+        if (journalSequenceNumber != null) {
+            generator.writeNumberField("journalSequenceNumber", journalSequenceNumber);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a task tracker in the format of this class from {@code parser}, building each task as soon as it is
+     * read. Unknown fields are skipped.
+     *
+     * @throws IllegalValueException if the data is not a task tracker, or there were any data constraints violated.
+     */
+    public static StreamedTaskTracker readTaskTracker(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_A_TASK_TRACKER);
+        }
+
+        TaskTrackerBuilder builder = new TaskTrackerBuilder();
+        List<Long> dailyTaskIds = new ArrayList<>();
+        Long journalSequenceNumber = null;
+        boolean hasTasks = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+            case "tasks":
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IllegalValueException(MESSAGE_NOT_A_TASK_TRACKER);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    builder.addTask(JsonAdaptedTask.readTask(parser));
+                }
+                hasTasks = true;
+                break;
+            case "dailyTaskIds":
+                if (value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        dailyTaskIds.add(readId(parser));
+                    }
+                } else if (value != JsonToken.VALUE_NULL) {
+                    throw new IllegalValueException(MESSAGE_UNKNOWN_DAILY_TASK_ID);
+                }
+                break;
+            case "journalSequenceNumber":
+                journalSequenceNumber = value == JsonToken.VALUE_NULL ? null : readId(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        if (!hasTasks) {
+            throw new IllegalValueException(MESSAGE_NOT_A_TASK_TRACKER);
+        }
+        return new StreamedTaskTracker(builder.build(dailyTaskIds),
+                journalSequenceNumber == null ? 0 : journalSequenceNumber);
+    }
+
+    private static long readId(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+        }
+        return parser.getLongValue();
+    }
+
+    /**
+     * A task tracker read by {@link #readTaskTracker}, with the sequence number of the last change of the journal
+     * in it, or 0 if it has none.
+     */
+    public static class StreamedTaskTracker {
+        private final ReadOnlyTaskTracker taskTracker;
+        private final long journalSequenceNumber;
+
+        private StreamedTaskTracker(ReadOnlyTaskTracker taskTracker, long journalSequenceNumber) {
+            this.taskTracker = taskTracker;
+            this.journalSequenceNumber = journalSequenceNumber;
+        }
+
+        public ReadOnlyTaskTracker getTaskTracker() {
+            return taskTracker;
+        }
+
+        public long getJournalSequenceNumber() {
+            return journalSequenceNumber;
+        }
+    }
+
+    /**
+     * Builds the state of a task tracker from tasks given one at a time, checking that they are consistent with each
+     * other. The tasks are not indexed, as they are indexed once the state is loaded into a {@code TaskTracker}.
+     * Also used to read the binary format, so that both formats are checked the same way.
+     */
+    static class TaskTrackerBuilder {
+        private final List<Task> tasks = new ArrayList<>();
+        private final Set<Task> uniqueTasks = new HashSet<>();
+        private final Map<Long, Task> tasksById = new HashMap<>();
+
+        void addTask(Task task) throws IllegalValueException {
+            if (!uniqueTasks.add(task)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
-            taskTracker.addTask(task);
+            if (tasksById.putIfAbsent(task.getId(), task) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK_ID);
+            }
+            tasks.add(task);
+        }
+
+        ReadOnlyTaskTracker build(List<Long> dailyTaskIds) throws IllegalValueException {
+            Set<Long> seenDailyTaskIds = new HashSet<>();
+            List<Task> dailyTasks = new ArrayList<>(dailyTaskIds.size());
+            for (Long dailyTaskId : dailyTaskIds) {
+                if (!tasksById.containsKey(dailyTaskId)) {
+                    throw new IllegalValueException(MESSAGE_UNKNOWN_DAILY_TASK_ID);
+                }
+                if (!seenDailyTaskIds.add(dailyTaskId)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_DAILY_TASK_ID);
+                }
+                dailyTasks.add(tasksById.get(dailyTaskId));
+            }
+            return TaskTracker.snapshotOf(tasks, dailyTasks);
         }
-        return taskTracker;
     }
 
 }
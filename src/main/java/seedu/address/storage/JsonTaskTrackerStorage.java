@@ -3,28 +3,47 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.storage.JsonSerializableTaskTracker.StreamedTaskTracker;
 
 /**
  * A class to access TaskTracker data stored as a json file on the hard disk.
+ * The file is streamed to and from the task tracker one task at a time, so reading and saving need no more memory
+ * than the task tracker itself, whatever the number of tasks.
  */
 public class JsonTaskTrackerStorage implements TaskTrackerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTaskTrackerStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonTaskTrackerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which is saved with line breaks and indentation if
+     * {@code isPrettyPrinted}, and on a single line otherwise.
+     */
+    public JsonTaskTrackerStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getTaskTrackerFilePath() {
@@ -40,6 +59,9 @@ public class JsonTaskTrackerStorage implements TaskTrackerStorage {
     /**
      * Similar to {@link #readTaskTracker()}.
      *
+     * A data file in the binary format of {@link BinaryTaskTrackerStorage}, or in the mapped format of
+     * {@link MappedTaskTrackerStorage}, is detected and read too.
+     *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
@@ -47,18 +69,13 @@ public class JsonTaskTrackerStorage implements TaskTrackerStorage {
 
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskTracker> jsonTaskTracker = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTaskTracker.class);
-        if (!jsonTaskTracker.isPresent()) {
-            return Optional.empty();
+        if (isBinaryFile(filePath)) {
+            return Optional.of(BinaryTaskTrackerStorage.readBinaryFile(filePath));
         }
-
-        try {
-            return Optional.of(jsonTaskTracker.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+        if (isMappedFile(filePath)) {
+            return Optional.of(MappedTaskTrackerStorage.readMappedFile(filePath));
         }
+        return readDataFile(filePath).map(StreamedTaskTracker::getTaskTracker);
     }
 
     @Override
@@ -77,7 +94,63 @@ public class JsonTaskTrackerStorage implements TaskTrackerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskTracker(taskTracker), filePath);
+        writeDataFile(taskTracker, null, filePath, isPrettyPrinted);
+    }
+
+    private static boolean isBinaryFile(Path filePath) throws DataConversionException {
+        try {
+            return BinaryTaskTrackerStorage.isBinaryFile(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static boolean isMappedFile(Path filePath) throws DataConversionException {
+        try {
+            return MappedTaskTrackerStorage.isMappedFile(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the task tracker in the data file at {@code filePath}, or returns {@code Optional.empty()} if the file
+     * is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    static Optional<StreamedTaskTracker> readDataFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = Files.newInputStream(filePath);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(JsonSerializableTaskTracker.readTaskTracker(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code taskTracker}, which has every change of a journal up to the change numbered
+     * {@code journalSequenceNumber}, to the data file at {@code filePath}, which must exist.
+     *
+     * @param journalSequenceNumber null if {@code taskTracker} is not saved with a journal.
+     */
+    static void writeDataFile(ReadOnlyTaskTracker taskTracker, Long journalSequenceNumber, Path filePath,
+            boolean isPrettyPrinted) throws IOException {
+        try (OutputStream out = Files.newOutputStream(filePath);
+             JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            JsonSerializableTaskTracker.writeTaskTracker(taskTracker, journalSequenceNumber, generator);
+        }
     }
 
 }
@@ -0,0 +1,301 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TaskTrackerChange;
+import seedu.address.model.UndoHistoryJournal;
+
+/**
+ * An {@code UndoHistoryJournal} stored as an append-only file of json records, one per line, on the hard disk.
+ * Only the location of each change in the file is kept in memory, and a change is read back when it is needed.
+ * Once most records in the file are obsolete, the file is rewritten with only the records that are still needed.
+ */
+public class JsonUndoHistoryJournal implements UndoHistoryJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".history";
+
+    /** Number of obsolete records tolerated in the file before it is compacted, on top of one per change kept. */
+    private static final int COMPACTION_SLACK = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonUndoHistoryJournal.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Path filePath;
+    private final Map<Long, Extent> changeExtents = new HashMap<>();
+    private long fileLength;
+    private int recordCount;
+
+    private long oldestChange = 1;
+    private long newestChange = 0;
+    private long currentState = 0;
+
+    /**
+     * Creates a journal stored in the file at {@code filePath}, which is only read when {@link #load()} is called.
+     */
+    public JsonUndoHistoryJournal(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the location of the journal for the data file at {@code taskTrackerFilePath}, which is next to the
+     * data file and has the same name, with the {@code JOURNAL_FILE_EXTENSION} extension.
+     */
+    public static Path getJournalFilePath(Path taskTrackerFilePath) {
+        return FileUtil.getSiblingPath(taskTrackerFilePath, JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public HistoryRange load() throws DataConversionException, IOException {
+        resetState();
+        if (!Files.exists(filePath)) {
+            return getHistoryRange();
+        }
+
+        fileLength = FileUtil.readCompleteLines(filePath, (bytes, recordStart, recordEnd) ->
+                readRecord(bytes, new Extent(recordStart, recordEnd - recordStart)));
+        if (changeExtents.size() != newestChange - oldestChange + 1) {
+            throw new DataConversionException(new IllegalValueException("Changes are missing from " + filePath));
+        }
+        if (currentState < oldestChange - 1 || currentState > newestChange) {
+            throw new DataConversionException(new IllegalValueException(
+                    "Current state " + currentState + " is outside of the history in " + filePath));
+        }
+        return getHistoryRange();
+    }
+
+    @Override
+    public void appendChange(long sequenceNumber, TaskTrackerChange change) throws IOException {
+        requireNonNull(change);
+        Extent extent = append(JsonAdaptedHistoryRecord.ofChange(sequenceNumber, change));
+        addChange(sequenceNumber, extent);
+        compactIfNeeded();
+    }
+
+    @Override
+    public void appendCurrent(long sequenceNumber) throws IOException {
+        append(JsonAdaptedHistoryRecord.ofCurrent(sequenceNumber));
+        currentState = sequenceNumber;
+        compactIfNeeded();
+    }
+
+    @Override
+    public void appendOldest(long sequenceNumber) throws IOException {
+        append(JsonAdaptedHistoryRecord.ofOldest(sequenceNumber));
+        discardChangesBefore(sequenceNumber);
+        compactIfNeeded();
+    }
+
+    @Override
+    public Optional<TaskTrackerChange> readChange(long sequenceNumber) throws DataConversionException, IOException {
+        Extent extent = changeExtents.get(sequenceNumber);
+        if (extent == null) {
+            return Optional.empty();
+        }
+
+        String json;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            json = new String(read(channel, extent), StandardCharsets.UTF_8);
+        }
+        try {
+            JsonAdaptedHistoryRecord record = JsonUtil.fromJsonString(json, JsonAdaptedHistoryRecord.class);
+            if (record.getChange() == null) {
+                throw new IllegalValueException("Record of change " + sequenceNumber + " has no change");
+            }
+            return Optional.of(record.getChange().toModelType());
+        } catch (IllegalValueException | IOException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        resetState();
+    }
+
+    //// reading records
+
+    /**
+     * Reads the record at {@code extent} of {@code bytes} and updates the history accordingly.
+     * Only the sequence numbers of the record are parsed; the tasks of a change are skipped until they are needed.
+     */
+    private void readRecord(byte[] bytes, Extent extent) throws DataConversionException {
+        Long sequenceNumber = null;
+        Long current = null;
+        Long oldest = null;
+
+        try (JsonParser parser = jsonFactory.createParser(bytes, (int) extent.offset, extent.length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException("Record is not a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case JsonAdaptedHistoryRecord.SEQUENCE_NUMBER_FIELD:
+                    sequenceNumber = parser.getLongValue();
+                    break;
+                case JsonAdaptedHistoryRecord.CURRENT_FIELD:
+                    current = parser.getLongValue();
+                    break;
+                case JsonAdaptedHistoryRecord.OLDEST_FIELD:
+                    oldest = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal record found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (sequenceNumber != null) {
+            addChange(sequenceNumber, extent);
+        } else if (current != null) {
+            currentState = current;
+        } else if (oldest != null) {
+            discardChangesBefore(oldest);
+        } else {
+            throw new DataConversionException(new IllegalValueException("Empty record found in " + filePath));
+        }
+        recordCount++;
+    }
+
+    private static byte[] read(FileChannel channel, Extent extent) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(extent.length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, extent.offset + buffer.position()) == -1) {
+                throw new IOException("Unexpected end of journal file");
+            }
+        }
+        return buffer.array();
+    }
+
+    //// writing records
+
+    /**
+     * Appends {@code record} to the file, and returns where it was written.
+     */
+    private Extent append(JsonAdaptedHistoryRecord record) throws IOException {
+        byte[] bytes = (JsonUtil.toCompactJsonString(record) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, bytes, StandardOpenOption.APPEND);
+
+        Extent extent = new Extent(fileLength, bytes.length - 1);
+        fileLength += bytes.length;
+        recordCount++;
+        return extent;
+    }
+
+    /**
+     * Rewrites the file with only the records of the changes still in the history, once most of its records are
+     * obsolete. The rewritten file replaces the old one in a single step, so the journal is never left incomplete.
+     */
+    private void compactIfNeeded() throws IOException {
+        if (recordCount <= 2 * changeExtents.size() + COMPACTION_SLACK) {
+            return;
+        }
+
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Map<Long, Extent> compactedExtents = new HashMap<>();
+        long compactedLength = 0;
+        int compactedRecordCount = 0;
+        try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ);
+             OutputStream target = Files.newOutputStream(compactedFilePath)) {
+            for (long sequenceNumber = oldestChange; sequenceNumber <= newestChange; sequenceNumber++) {
+                Extent extent = changeExtents.get(sequenceNumber);
+                target.write(read(source, extent));
+                target.write('\n');
+                compactedExtents.put(sequenceNumber, new Extent(compactedLength, extent.length));
+                compactedLength += extent.length + 1;
+                compactedRecordCount++;
+            }
+            if (currentState != newestChange) {
+                byte[] record = (JsonUtil.toCompactJsonString(JsonAdaptedHistoryRecord.ofCurrent(currentState))
+                        + "\n").getBytes(StandardCharsets.UTF_8);
+                target.write(record);
+                compactedLength += record.length;
+                compactedRecordCount++;
+            }
+        }
+
+        FileUtil.replaceFile(compactedFilePath, filePath);
+        changeExtents.clear();
+        changeExtents.putAll(compactedExtents);
+        fileLength = compactedLength;
+        recordCount = compactedRecordCount;
+    }
+
+    //// history bookkeeping
+
+    private void addChange(long sequenceNumber, Extent extent) {
+        changeExtents.keySet().removeIf(number -> number >= sequenceNumber);
+        if (changeExtents.isEmpty()) {
+            oldestChange = sequenceNumber;
+        }
+        changeExtents.put(sequenceNumber, extent);
+        newestChange = sequenceNumber;
+        currentState = sequenceNumber;
+    }
+
+    private void discardChangesBefore(long sequenceNumber) {
+        changeExtents.keySet().removeIf(number -> number < sequenceNumber);
+        oldestChange = sequenceNumber;
+        newestChange = Math.max(newestChange, sequenceNumber - 1);
+    }
+
+    private void resetState() {
+        changeExtents.clear();
+        fileLength = 0;
+        recordCount = 0;
+        oldestChange = 1;
+        newestChange = 0;
+        currentState = 0;
+    }
+
+    private HistoryRange getHistoryRange() {
+        return new HistoryRange(oldestChange, newestChange, currentState);
+    }
+
+    /**
+     * The location of a record in the file, excluding its line break.
+     */
+    private static class Extent {
+        private final long offset;
+        private final int length;
+
+        Extent(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
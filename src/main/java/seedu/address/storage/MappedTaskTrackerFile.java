@@ -0,0 +1,930 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskName;
+import seedu.address.model.person.Weightage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A task tracker data file whose tasks are fixed-size records in a memory-mapped file, so that a task is changed by
+ * writing its record in place.
+ *
+ * The data file starts with a header of {@link #HEADER_SIZE} bytes, followed by records of {@link #RECORD_SIZE}
+ * bytes, so that no record spans two pages. Each record holds the id of a task, the slot of the record of the next
+ * task in the task list, the deadline, flags and weightage of the task, and where the rest of the task is in the heap
+ * file. A record whose id is 0 is free, and its next slot is the next free record instead.
+ * The heap file is next to the data file, and holds the name, module code, notes and tags of each task, and the ids of
+ * the daily tasks. Entries are only ever appended to it, so an entry that is replaced becomes garbage, which is
+ * dropped by writing the whole data file again. Both files start with the same random id when they are written, so a
+ * data file is never read with a heap file that was written for another one.
+ *
+ * A save appends the entries it needs to the heap file, and collects the records and header it changes as blocks of
+ * {@link #RECORD_SIZE} bytes, without touching the data file. It then writes the blocks to a redo log next to the data
+ * file, with a checksum, and moves the log into place once it is on disk, which commits the save. Only then are the
+ * blocks copied into the mapped data file, and the log deleted once the data file is on disk. When the data file is
+ * opened, a log that is still there is replayed first, so a save that is interrupted at any point leaves the tasks of
+ * either the previous save or the new one. A log whose checksum does not match was never committed, and is dropped.
+ * Opening the data file reads its header and records through a file channel, and the data file is only mapped by the
+ * first commit, so a data file that cannot be read is never mapped and can be moved aside. A mapping is never unmapped
+ * early, only dropped, and is unmapped when it is garbage collected. As a mapped file cannot be replaced on some
+ * platforms, a data file that is already there is rewritten whole in place instead, through a redo log that also
+ * moves a new heap file into place.
+ */
+class MappedTaskTrackerFile {
+
+    /** First bytes of every mapped data file. The first byte cannot start a json file. */
+    public static final byte[] MAGIC = {(byte) 0x89, 'T', 'T', 'M'};
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 64;
+    public static final int RECORD_SIZE = 64;
+
+    /** First bytes of every redo log. */
+    public static final byte[] REDO_LOG_MAGIC = {(byte) 0x89, 'T', 'T', 'R'};
+
+    public static final String MESSAGE_NOT_MAPPED = "Data is not in the mapped format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data is in version %d of the mapped format, "
+            + "which is not supported.";
+    public static final String MESSAGE_INVALID_HEADER = "Data has a header that does not match its records.";
+    public static final String MESSAGE_INVALID_SLOT = "Data has a record that links to a record it does not have.";
+    public static final String MESSAGE_OTHER_HEAP_FILE = "Data was not written together with its heap file.";
+    public static final String MESSAGE_INVALID_HEAP_ENTRY = "Data refers to an entry outside of the heap file.";
+    public static final String MESSAGE_INVALID_LENGTH = "Data has a length that is longer than its entry.";
+    public static final String MESSAGE_INVALID_WEIGHTAGE = "Data has a task with an invalid weightage.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTaskTrackerFile.class);
+
+    private static final int NO_SLOT = -1;
+    private static final int MIN_CAPACITY = 1024;
+
+    // header fields, at these offsets from the start of the data file
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_COUNT_OFFSET = 8;
+    private static final int TASK_COUNT_OFFSET = 12;
+    private static final int FIRST_SLOT_OFFSET = 16;
+    private static final int FREE_SLOT_OFFSET = 20;
+    private static final int HEAP_LENGTH_OFFSET = 24;
+    private static final int HEAP_GARBAGE_OFFSET = 32;
+    private static final int DAILY_TASKS_OFFSET = 40;
+    private static final int DAILY_TASKS_LENGTH_OFFSET = 48;
+    private static final int HEAP_ID_OFFSET = 56;
+
+    // record fields, at these offsets from the start of the record
+    private static final int ID_OFFSET = 0;
+    private static final int NEXT_SLOT_OFFSET = 8;
+    private static final int FLAGS_OFFSET = 12;
+    private static final int WEIGHTAGE_OFFSET = 13;
+    private static final int DEADLINE_OFFSET = 16;
+    private static final int BODY_OFFSET = 24;
+    private static final int BODY_LENGTH_OFFSET = 32;
+
+    private final Path filePath;
+    private final Path heapFilePath;
+    private final Path redoLogFilePath;
+
+    /** The header and records, as read when the data file was opened or written, or as mapped by the first commit. */
+    private ByteBuffer records;
+    private MappedByteBuffer mappedRecords;
+    private int capacity;
+
+    /** Slots of the records of the tasks, in the order of the task list. */
+    private final List<Integer> slots;
+
+    /** Copies of the header and records changed since the last commit, by their offsets in the data file. */
+    private final Map<Integer, ByteBuffer> changedBlocks = new TreeMap<>();
+    private boolean isHeapAppended = false;
+
+    private MappedTaskTrackerFile(Path filePath, Path heapFilePath, ByteBuffer records, List<Integer> slots) {
+        this.filePath = filePath;
+        this.heapFilePath = heapFilePath;
+        this.redoLogFilePath = MappedTaskTrackerStorage.getRedoLogFilePath(filePath);
+        this.records = records;
+        this.capacity = (records.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, marks the file as being in the mapped format.
+     */
+    public static boolean isMappedHeader(byte[] header) {
+        return Arrays.equals(header, MAGIC);
+    }
+
+    //// whole data file
+
+    /**
+     * Writes {@code source} as a new data file at {@code filePath} with its heap file at {@code heapFilePath},
+     * replacing any that are there, and returns the new data file.
+     * A data file in the mapped format that is already at {@code filePath} may be mapped, so it is rewritten in place
+     * through the redo log instead, which replaces the heap file when it is applied. Otherwise both files are written
+     * to temporary files first, which are deleted if the data file cannot be written.
+     */
+    public static MappedTaskTrackerFile write(ReadOnlyTaskTracker source, Path filePath, Path heapFilePath)
+            throws IOException {
+        requireNonNull(source);
+        if (MappedTaskTrackerStorage.isMappedFile(filePath)) {
+            ByteBuffer records = writeRewriteRedoLog(source, filePath, heapFilePath);
+            replayRedoLog(filePath, heapFilePath);
+            return new MappedTaskTrackerFile(filePath, heapFilePath, records, getSlots(records));
+        }
+
+        FileUtil.createParentDirsOfFile(filePath.toAbsolutePath());
+        Path temporaryHeapFile = createTemporaryFile(heapFilePath);
+        Path temporaryFile = null;
+        try {
+            ByteBuffer records = writeHeapFile(source, temporaryHeapFile);
+            temporaryFile = createTemporaryFile(filePath);
+            writeFile(temporaryFile, records);
+            // a redo log of the data file being replaced does not apply to the new one
+            Files.deleteIfExists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath));
+            FileUtil.replaceFile(temporaryHeapFile, heapFilePath);
+            FileUtil.replaceFile(temporaryFile, filePath);
+            return new MappedTaskTrackerFile(filePath, heapFilePath, records, getSlots(records));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryHeapFile);
+            if (temporaryFile != null) {
+                Files.deleteIfExists(temporaryFile);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code source} to a new heap file next to {@code heapFilePath}, and a redo log that moves the new heap
+     * file into place and rewrites the data file at {@code filePath} with the records of {@code source}, and returns
+     * those records. The data file and its heap file are not touched until the log is applied.
+     */
+    static ByteBuffer writeRewriteRedoLog(ReadOnlyTaskTracker source, Path filePath, Path heapFilePath)
+            throws IOException {
+        Path newHeapFilePath = getNewHeapFilePath(heapFilePath);
+        try {
+            ByteBuffer records = writeHeapFile(source, newHeapFilePath);
+            long heapId;
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                heapId = readHeapId(channel);
+            }
+            // the records past the last one are left as they are, as they are not read
+            int length = recordOffset(records.getInt(RECORD_COUNT_OFFSET));
+            writeRedoLog(MappedTaskTrackerStorage.getRedoLogFilePath(filePath), heapId,
+                    records.getLong(HEAP_ID_OFFSET), Map.of(0, ByteBuffer.wrap(records.array(), 0, length).slice()));
+            return records;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(newHeapFilePath);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the heap file of {@code source} at {@code heapFilePath}, with a new heap id, and returns the header and
+     * records of its data file, in which the records of the tasks are in the order of the task list.
+     */
+    private static ByteBuffer writeHeapFile(ReadOnlyTaskTracker source, Path heapFilePath) throws IOException {
+        List<Task> tasks = source.getTaskList();
+        long heapId = ThreadLocalRandom.current().nextLong();
+        long[] bodyOffsets = new long[tasks.size()];
+        int[] bodyLengths = new int[tasks.size()];
+        long dailyTasksOffset = Long.BYTES;
+        byte[] dailyTasks = encodeDailyTasks(source.getDailyTaskList());
+        try (FileChannel channel = FileChannel.open(heapFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+            out.write(ByteBuffer.allocate(Long.BYTES).putLong(heapId).array());
+            for (int i = 0; i < tasks.size(); i++) {
+                byte[] body = encodeBody(tasks.get(i));
+                bodyOffsets[i] = dailyTasksOffset;
+                bodyLengths[i] = body.length;
+                out.write(body);
+                dailyTasksOffset += body.length;
+            }
+            out.write(dailyTasks);
+            out.flush();
+            channel.force(false);
+        }
+
+        int capacity = Math.max(MIN_CAPACITY, tasks.size() + tasks.size() / 2);
+        ByteBuffer records = ByteBuffer.allocate(Math.toIntExact(mappedSize(capacity)));
+        records.put(MAGIC);
+        records.putInt(VERSION_OFFSET, VERSION);
+        records.putInt(RECORD_COUNT_OFFSET, tasks.size());
+        records.putInt(TASK_COUNT_OFFSET, tasks.size());
+        records.putInt(FIRST_SLOT_OFFSET, tasks.isEmpty() ? NO_SLOT : 0);
+        records.putInt(FREE_SLOT_OFFSET, NO_SLOT);
+        records.putLong(HEAP_LENGTH_OFFSET, dailyTasksOffset + dailyTasks.length);
+        records.putLong(HEAP_GARBAGE_OFFSET, 0);
+        records.putLong(DAILY_TASKS_OFFSET, dailyTasksOffset);
+        records.putInt(DAILY_TASKS_LENGTH_OFFSET, dailyTasks.length);
+        records.putLong(HEAP_ID_OFFSET, heapId);
+        for (int i = 0; i < tasks.size(); i++) {
+            int record = recordOffset(i);
+            records.putInt(record + NEXT_SLOT_OFFSET, i + 1 < tasks.size() ? i + 1 : NO_SLOT);
+            putFields(records, record, tasks.get(i));
+            records.putLong(record + BODY_OFFSET, bodyOffsets[i]);
+            records.putInt(record + BODY_LENGTH_OFFSET, bodyLengths[i]);
+        }
+        return records.clear();
+    }
+
+    /**
+     * Returns the slots of the records of the tasks in {@code records} that were just written, in the order of the
+     * task list.
+     */
+    private static List<Integer> getSlots(ByteBuffer records) {
+        int taskCount = records.getInt(TASK_COUNT_OFFSET);
+        List<Integer> slots = new ArrayList<>(taskCount);
+        for (int slot = 0; slot < taskCount; slot++) {
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    /**
+     * Reads the header and records of the data file at {@code filePath}, with its heap file at {@code heapFilePath},
+     * and checks that its records are consistent, without reading the tasks or mapping the data file.
+     * Replays the redo log of a save that was committed but not fully written to the data file, and drops any entries
+     * at the end of the heap file that were appended by a save that was not committed.
+     *
+     * @throws IllegalValueException if the data file is not in the mapped format, or its records are inconsistent.
+     */
+    public static MappedTaskTrackerFile open(Path filePath, Path heapFilePath)
+            throws IOException, IllegalValueException {
+        if (Files.size(filePath) < HEADER_SIZE) {
+            throw new IllegalValueException(MESSAGE_NOT_MAPPED);
+        }
+        replayRedoLog(filePath, heapFilePath);
+        ByteBuffer records = readFile(filePath, Files.size(filePath));
+        List<Integer> slots = checkRecords(records, heapFilePath);
+        return new MappedTaskTrackerFile(filePath, heapFilePath, records, slots);
+    }
+
+    /**
+     * Checks that the {@code records} of a data file are consistent with each other and with the heap file at
+     * {@code heapFilePath}, and returns the slots of the records of its tasks, in the order of the task list.
+     */
+    private static List<Integer> checkRecords(ByteBuffer records, Path heapFilePath)
+            throws IOException, IllegalValueException {
+        byte[] header = new byte[MAGIC.length];
+        records.duplicate().get(header);
+        if (!isMappedHeader(header)) {
+            throw new IllegalValueException(MESSAGE_NOT_MAPPED);
+        }
+        int version = records.getInt(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int recordCount = records.getInt(RECORD_COUNT_OFFSET);
+        int taskCount = records.getInt(TASK_COUNT_OFFSET);
+        if (recordCount < 0 || recordCount > (records.capacity() - HEADER_SIZE) / RECORD_SIZE
+                || taskCount < 0 || taskCount > recordCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER);
+        }
+
+        BitSet seenSlots = new BitSet(recordCount);
+        List<Integer> slots = new ArrayList<>(taskCount);
+        for (int slot = records.getInt(FIRST_SLOT_OFFSET); slot != NO_SLOT;
+                slot = records.getInt(recordOffset(slot) + NEXT_SLOT_OFFSET)) {
+            checkUnseenSlot(seenSlots, slot, recordCount);
+            if (!Task.isValidId(records.getLong(recordOffset(slot) + ID_OFFSET))) {
+                throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+            }
+            slots.add(slot);
+        }
+        for (int slot = records.getInt(FREE_SLOT_OFFSET); slot != NO_SLOT;
+                slot = records.getInt(recordOffset(slot) + NEXT_SLOT_OFFSET)) {
+            checkUnseenSlot(seenSlots, slot, recordCount);
+            if (records.getLong(recordOffset(slot) + ID_OFFSET) != 0) {
+                throw new IllegalValueException(MESSAGE_INVALID_SLOT);
+            }
+        }
+        if (slots.size() != taskCount || seenSlots.cardinality() != recordCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER);
+        }
+
+        long heapLength = records.getLong(HEAP_LENGTH_OFFSET);
+        try (FileChannel channel = FileChannel.open(heapFilePath, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer heapId = ByteBuffer.allocate(Long.BYTES);
+            channel.read(heapId, 0);
+            if (heapId.hasRemaining() || heapId.getLong(0) != records.getLong(HEAP_ID_OFFSET)) {
+                throw new IllegalValueException(MESSAGE_OTHER_HEAP_FILE);
+            }
+            if (heapLength < Long.BYTES || heapLength > channel.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_HEAP_ENTRY);
+            }
+            if (heapLength < channel.size()) {
+                channel.truncate(heapLength);
+            }
+        }
+        return slots;
+    }
+
+    private static void checkUnseenSlot(BitSet seenSlots, int slot, int recordCount) throws IllegalValueException {
+        if (slot < 0 || slot >= recordCount || seenSlots.get(slot)) {
+            throw new IllegalValueException(MESSAGE_INVALID_SLOT);
+        }
+        seenSlots.set(slot);
+    }
+
+    /**
+     * Reads the tasks in this data file, in the order of the task list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public ReadOnlyTaskTracker readTaskTracker() throws IOException, IllegalValueException {
+        // the heap file is read rather than mapped, so that it can be replaced when the data file is rewritten
+        return readTaskTracker(readFile(heapFilePath, getHeapLength()));
+    }
+
+    private ReadOnlyTaskTracker readTaskTracker(ByteBuffer heap) throws IllegalValueException {
+        JsonSerializableTaskTracker.TaskTrackerBuilder builder = new JsonSerializableTaskTracker.TaskTrackerBuilder();
+        for (int slot : slots) {
+            int record = recordOffset(slot);
+            ByteBuffer body = slice(heap, records.getLong(record + BODY_OFFSET),
+                    records.getInt(record + BODY_LENGTH_OFFSET));
+            builder.addTask(decodeTask(records, record, body));
+        }
+
+        ByteBuffer dailyTasks = slice(heap, records.getLong(DAILY_TASKS_OFFSET),
+                records.getInt(DAILY_TASKS_LENGTH_OFFSET));
+        int dailyTaskCount = readLength(dailyTasks, Long.BYTES);
+        List<Long> dailyTaskIds = new ArrayList<>(dailyTaskCount);
+        for (int i = 0; i < dailyTaskCount; i++) {
+            dailyTaskIds.add(dailyTasks.getLong());
+        }
+        return builder.build(dailyTaskIds);
+    }
+
+    //// changes written in place
+
+    /**
+     * Replaces the {@code removedTasks} starting at {@code position} of the task list with {@code addedTasks}.
+     * A removed task that has the same id as an added task is updated in its record, which only touches the heap file
+     * if its name, module code, notes or tags changed. The records of the other removed tasks are freed, and the other
+     * added tasks take free records, or new records at the end of the data file.
+     * The changed records are only written to the data file by {@link #commit()}.
+     */
+    public void replaceTasks(int position, List<Task> removedTasks, List<Task> addedTasks) throws IOException {
+        List<Integer> removedSlots = slots.subList(position, position + removedTasks.size());
+        Set<Long> addedIds = new HashSet<>();
+        for (Task task : addedTasks) {
+            addedIds.add(task.getId());
+        }
+        Map<Long, Integer> keptSlots = new HashMap<>();
+        Map<Long, Task> keptTasks = new HashMap<>();
+        for (int i = 0; i < removedTasks.size(); i++) {
+            Task task = removedTasks.get(i);
+            if (addedIds.contains(task.getId())) {
+                keptSlots.put(task.getId(), removedSlots.get(i));
+                keptTasks.put(task.getId(), task);
+            } else {
+                freeRecord(removedSlots.get(i));
+            }
+        }
+
+        List<Integer> addedSlots = new ArrayList<>(addedTasks.size());
+        for (Task task : addedTasks) {
+            Integer slot = keptSlots.get(task.getId());
+            if (slot == null) {
+                slot = allocateRecord();
+                writeBody(slot, task);
+            } else if (!hasSameBody(keptTasks.get(task.getId()), task)) {
+                addHeapGarbage(readBlock(recordOffset(slot)).getInt(BODY_LENGTH_OFFSET));
+                writeBody(slot, task);
+            }
+            putFields(writeBlock(recordOffset(slot)), 0, task);
+            addedSlots.add(slot);
+        }
+
+        if (addedSlots.size() == removedSlots.size()) {
+            // tasks edited in place keep their positions, without shifting the slots of the tasks after them
+            for (int i = 0; i < addedSlots.size(); i++) {
+                removedSlots.set(i, addedSlots.get(i));
+            }
+        } else {
+            removedSlots.clear();
+            slots.addAll(position, addedSlots);
+            writeBlock(0).putInt(TASK_COUNT_OFFSET, slots.size());
+        }
+        relink(position - 1, position + addedSlots.size());
+    }
+
+    /**
+     * Replaces the daily tasks in this data file with {@code dailyTasks}.
+     * The header is only written to the data file by {@link #commit()}.
+     */
+    public void writeDailyTasks(List<Task> dailyTasks) throws IOException {
+        byte[] entry = encodeDailyTasks(dailyTasks);
+        long offset = appendToHeap(entry);
+        addHeapGarbage(readBlock(0).getInt(DAILY_TASKS_LENGTH_OFFSET));
+        ByteBuffer header = writeBlock(0);
+        header.putLong(DAILY_TASKS_OFFSET, offset);
+        header.putInt(DAILY_TASKS_LENGTH_OFFSET, entry.length);
+    }
+
+    /**
+     * Writes the records and header changed since the last commit to the data file, through the redo log.
+     * Once the redo log is in place, the changes are kept even if writing the data file is interrupted, as the redo log
+     * is replayed when the data file is next opened.
+     * If this throws, the data file may have been changed or not, and this data file must not be used afterwards.
+     */
+    public void commit() throws IOException {
+        if (changedBlocks.isEmpty()) {
+            return;
+        }
+        writeRedoLog();
+        MappedByteBuffer mappedRecords = mapRecords();
+        for (Map.Entry<Integer, ByteBuffer> block : changedBlocks.entrySet()) {
+            mappedRecords.duplicate().position(block.getKey()).put(block.getValue().array());
+        }
+        mappedRecords.force();
+        Files.delete(redoLogFilePath);
+        changedBlocks.clear();
+    }
+
+    /**
+     * Returns the mapping of this data file, mapping it first if it is not mapped yet, or has grown past its mapping.
+     * A mapping that is too small is dropped, and unmapped when it is garbage collected.
+     */
+    private MappedByteBuffer mapRecords() throws IOException {
+        if (mappedRecords == null || mappedRecords.capacity() < mappedSize(capacity)) {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                mappedRecords = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize(capacity));
+            }
+            records = mappedRecords;
+        }
+        return mappedRecords;
+    }
+
+    /**
+     * Writes the records and header changed since the last commit to a new redo log, which replaces any redo log of
+     * the data file once it is on disk, after the entries appended to the heap file are on disk.
+     */
+    void writeRedoLog() throws IOException {
+        if (isHeapAppended) {
+            try (FileChannel channel = FileChannel.open(heapFilePath, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            }
+            isHeapAppended = false;
+        }
+        long heapId = readBlock(0).getLong(HEAP_ID_OFFSET);
+        writeRedoLog(redoLogFilePath, heapId, heapId, changedBlocks);
+    }
+
+    /**
+     * Writes {@code blocks}, by their offsets in the data file, to a new redo log that replaces any log at
+     * {@code redoLogFilePath} once it is on disk.
+     * The log holds the ids of the heap file before and after it is applied, the number of blocks, the offset, length
+     * and bytes of each block, and a CRC-32 checksum of all of these.
+     */
+    private static void writeRedoLog(Path redoLogFilePath, long heapId, long newHeapId,
+            Map<Integer, ByteBuffer> blocks) throws IOException {
+        Path temporaryFile = createTemporaryFile(redoLogFilePath);
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                CheckedOutputStream checkedOut = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), new CRC32());
+                DataOutputStream out = new DataOutputStream(checkedOut);
+                out.write(REDO_LOG_MAGIC);
+                out.writeLong(heapId);
+                out.writeLong(newHeapId);
+                out.writeInt(blocks.size());
+                for (Map.Entry<Integer, ByteBuffer> block : blocks.entrySet()) {
+                    ByteBuffer bytes = block.getValue();
+                    out.writeInt(block.getKey());
+                    out.writeInt(bytes.capacity());
+                    out.write(bytes.array(), bytes.arrayOffset(), bytes.capacity());
+                }
+                out.writeLong(checkedOut.getChecksum().getValue());
+                out.flush();
+                channel.force(false);
+            }
+            FileUtil.replaceFile(temporaryFile, redoLogFilePath);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the redo log of the data file at {@code filePath}, if there is one, and deletes it once the data file
+     * is on disk. A log that rewrites the whole data file first moves its new heap file over the heap file at
+     * {@code heapFilePath}, unless it was moved already.
+     * A log that is not complete, or that was written for another data file, is deleted without being applied,
+     * together with any new heap file, as its save was never committed.
+     */
+    private static void replayRedoLog(Path filePath, Path heapFilePath) throws IOException {
+        Path redoLogFilePath = MappedTaskTrackerStorage.getRedoLogFilePath(filePath);
+        Path newHeapFilePath = getNewHeapFilePath(heapFilePath);
+        if (!Files.exists(redoLogFilePath)) {
+            Files.deleteIfExists(newHeapFilePath);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (isCommittedRedoLog(redoLogFilePath, readHeapId(channel))) {
+                logger.info("Replaying redo log " + redoLogFilePath);
+                if (Files.exists(newHeapFilePath)) {
+                    FileUtil.replaceFile(newHeapFilePath, heapFilePath);
+                }
+                applyRedoLog(redoLogFilePath, channel);
+                channel.force(false);
+            } else {
+                logger.warning("Redo log " + redoLogFilePath + " was not committed, and is dropped");
+                Files.deleteIfExists(newHeapFilePath);
+            }
+        }
+        Files.delete(redoLogFilePath);
+    }
+
+    /**
+     * Returns true if the redo log at {@code redoLogFilePath} is complete, with a matching checksum, and was written
+     * for the data file whose heap file has {@code heapId}, either before or after the log is applied.
+     */
+    private static boolean isCommittedRedoLog(Path redoLogFilePath, long heapId) throws IOException {
+        try (CheckedInputStream checkedIn = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(redoLogFilePath), 1 << 16), new CRC32())) {
+            DataInputStream in = new DataInputStream(checkedIn);
+            if (!isRedoLogHeader(in.readNBytes(REDO_LOG_MAGIC.length))) {
+                return false;
+            }
+            long oldHeapId = in.readLong();
+            long newHeapId = in.readLong();
+            if (heapId != oldHeapId && heapId != newHeapId) {
+                return false;
+            }
+            int blockCount = in.readInt();
+            for (int i = 0; i < blockCount; i++) {
+                in.readInt();
+                int length = in.readInt();
+                if (in.skipBytes(length) != length) {
+                    return false;
+                }
+            }
+            long checksum = checkedIn.getChecksum().getValue();
+            return in.readLong() == checksum && in.read() == -1;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static boolean isRedoLogHeader(byte[] header) {
+        return Arrays.equals(header, REDO_LOG_MAGIC);
+    }
+
+    /**
+     * Writes the blocks in the committed redo log at {@code redoLogFilePath} to the data file open in
+     * {@code channel}.
+     */
+    private static void applyRedoLog(Path redoLogFilePath, FileChannel channel) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(redoLogFilePath), 1 << 16))) {
+            in.skipBytes(REDO_LOG_MAGIC.length + 2 * Long.BYTES);
+            int blockCount = in.readInt();
+            for (int i = 0; i < blockCount; i++) {
+                long offset = in.readInt();
+                ByteBuffer block = ByteBuffer.wrap(in.readNBytes(in.readInt()));
+                while (block.hasRemaining()) {
+                    channel.write(block, offset + block.position());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records in this data file, whether they hold a task or are free.
+     */
+    public int getRecordCount() {
+        return readBlock(0).getInt(RECORD_COUNT_OFFSET);
+    }
+
+    public long getHeapLength() {
+        return readBlock(0).getLong(HEAP_LENGTH_OFFSET);
+    }
+
+    /**
+     * Returns the number of bytes in the heap file that no record refers to anymore.
+     */
+    public long getHeapGarbage() {
+        return readBlock(0).getLong(HEAP_GARBAGE_OFFSET);
+    }
+
+    /**
+     * Returns the header, or the record, at {@code offset} in the data file, with the changes that are not committed
+     * yet. The returned block must not be changed.
+     */
+    private ByteBuffer readBlock(int offset) {
+        ByteBuffer block = changedBlocks.get(offset);
+        if (block != null) {
+            return block;
+        }
+        if (offset >= records.capacity()) {
+            // a record past the end of the data file, which the next commit extends
+            return ByteBuffer.allocate(RECORD_SIZE);
+        }
+        return records.duplicate().position(offset).limit(offset + RECORD_SIZE).slice();
+    }
+
+    /**
+     * Returns a copy of the header, or the record, at {@code offset} in the data file, whose changes are written to
+     * the data file by the next commit.
+     */
+    private ByteBuffer writeBlock(int offset) {
+        ByteBuffer block = changedBlocks.get(offset);
+        if (block == null) {
+            block = ByteBuffer.allocate(RECORD_SIZE).put(readBlock(offset));
+            changedBlocks.put(offset, block);
+        }
+        return block;
+    }
+
+    /**
+     * Makes the next slot of each record from the one at {@code from} to the one at {@code to} in the task list,
+     * and the first slot of the header if {@code from} is before the start of the list, match the task list.
+     * Only slots that changed are written, so that records that did not move are not touched.
+     */
+    private void relink(int from, int to) {
+        int firstSlot = slots.isEmpty() ? NO_SLOT : slots.get(0);
+        if (readBlock(0).getInt(FIRST_SLOT_OFFSET) != firstSlot) {
+            writeBlock(0).putInt(FIRST_SLOT_OFFSET, firstSlot);
+        }
+        for (int i = Math.max(from, 0); i <= to && i < slots.size(); i++) {
+            int record = recordOffset(slots.get(i));
+            int nextSlot = i + 1 < slots.size() ? slots.get(i + 1) : NO_SLOT;
+            if (readBlock(record).getInt(NEXT_SLOT_OFFSET) != nextSlot) {
+                writeBlock(record).putInt(NEXT_SLOT_OFFSET, nextSlot);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of a free record, taking one off the free list, or adding one to the end of the data file if
+     * there are none.
+     */
+    private int allocateRecord() {
+        int slot = readBlock(0).getInt(FREE_SLOT_OFFSET);
+        if (slot != NO_SLOT) {
+            writeBlock(0).putInt(FREE_SLOT_OFFSET, readBlock(recordOffset(slot)).getInt(NEXT_SLOT_OFFSET));
+            return slot;
+        }
+
+        slot = readBlock(0).getInt(RECORD_COUNT_OFFSET);
+        if (slot == capacity) {
+            grow();
+        }
+        // a data file rewritten in place with fewer records still holds the old records past its last one
+        Arrays.fill(writeBlock(recordOffset(slot)).array(), (byte) 0);
+        writeBlock(0).putInt(RECORD_COUNT_OFFSET, slot + 1);
+        return slot;
+    }
+
+    private void freeRecord(int slot) {
+        int record = recordOffset(slot);
+        addHeapGarbage(readBlock(record).getInt(BODY_LENGTH_OFFSET));
+        ByteBuffer block = writeBlock(record);
+        Arrays.fill(block.array(), (byte) 0);
+        block.putInt(NEXT_SLOT_OFFSET, readBlock(0).getInt(FREE_SLOT_OFFSET));
+        writeBlock(0).putInt(FREE_SLOT_OFFSET, slot);
+    }
+
+    /**
+     * Adds half of its records to the capacity of this data file. The next commit extends the data file, and maps it
+     * again.
+     */
+    private void grow() {
+        capacity += capacity / 2;
+    }
+
+    private void writeBody(int slot, Task task) throws IOException {
+        byte[] body = encodeBody(task);
+        long offset = appendToHeap(body);
+        ByteBuffer record = writeBlock(recordOffset(slot));
+        record.putLong(BODY_OFFSET, offset);
+        record.putInt(BODY_LENGTH_OFFSET, body.length);
+    }
+
+    /**
+     * Appends {@code entry} to the heap file, and returns where it starts.
+     */
+    private long appendToHeap(byte[] entry) throws IOException {
+        long offset = getHeapLength();
+        try (FileChannel channel = FileChannel.open(heapFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+        }
+        isHeapAppended = true;
+        writeBlock(0).putLong(HEAP_LENGTH_OFFSET, offset + entry.length);
+        return offset;
+    }
+
+    private void addHeapGarbage(long length) {
+        writeBlock(0).putLong(HEAP_GARBAGE_OFFSET, getHeapGarbage() + length);
+    }
+
+    //// encoding of records and heap entries
+
+    private static void putFields(ByteBuffer records, int record, Task task) {
+        records.putLong(record + ID_OFFSET, task.getId());
+        records.put(record + FLAGS_OFFSET, (byte) BinaryTaskTrackerFormat.toFlags(task));
+        records.put(record + WEIGHTAGE_OFFSET, (byte) (int) task.getWeightage().weightage);
+        records.putLong(record + DEADLINE_OFFSET, BinaryTaskTrackerFormat.toDeadlineMinutes(task));
+    }
+
+    private static boolean hasSameBody(Task before, Task after) {
+        return before.getTaskName().equals(after.getTaskName())
+                && before.getModuleCode().equals(after.getModuleCode())
+                && before.getNotes().equals(after.getNotes())
+                && before.getTags().equals(after.getTags());
+    }
+
+    /**
+     * Returns the heap entry of {@code task}, which holds its name, module code and notes, followed by the number of
+     * its tags and each tag. Each string is UTF-8 prefixed with its length in bytes.
+     */
+    private static byte[] encodeBody(Task task) {
+        byte[] taskName = task.getTaskName().fullName.getBytes(StandardCharsets.UTF_8);
+        byte[] moduleCode = task.getModuleCode().moduleCode.getBytes(StandardCharsets.UTF_8);
+        byte[] notes = task.getNotes().value.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> tagNames = new ArrayList<>();
+        int length = 4 * Integer.BYTES + taskName.length + moduleCode.length + notes.length;
+        for (Tag tag : task.getTags()) {
+            byte[] tagName = tag.tagName.getBytes(StandardCharsets.UTF_8);
+            tagNames.add(tagName);
+            length += Integer.BYTES + tagName.length;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(length);
+        body.putInt(taskName.length).put(taskName);
+        body.putInt(moduleCode.length).put(moduleCode);
+        body.putInt(notes.length).put(notes);
+        body.putInt(tagNames.size());
+        for (byte[] tagName : tagNames) {
+            body.putInt(tagName.length).put(tagName);
+        }
+        return body.array();
+    }
+
+    private static Task decodeTask(ByteBuffer records, int record, ByteBuffer body) throws IllegalValueException {
+        long id = records.getLong(record + ID_OFFSET);
+        String taskName = readString(body);
+        if (!TaskName.isValidName(taskName)) {
+            throw new IllegalValueException(TaskName.MESSAGE_CONSTRAINTS);
+        }
+        String moduleCode = readString(body);
+        if (!ModuleCode.isValidModuleCode(moduleCode)) {
+            throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
+        }
+        Notes notes = new Notes(readString(body));
+        int tagCount = readLength(body, Integer.BYTES);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(body);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(Tag.of(tagName));
+        }
+
+        long deadlineMinutes = records.getLong(record + DEADLINE_OFFSET);
+        long flags = records.get(record + FLAGS_OFFSET);
+        int weightage = records.get(record + WEIGHTAGE_OFFSET);
+        if (weightage < 0 || weightage > Weightage.MAX_WEIGHTAGE) {
+            throw new IllegalValueException(MESSAGE_INVALID_WEIGHTAGE);
+        }
+        return new Task(id, new TaskName(taskName), ModuleCode.of(moduleCode),
+                BinaryTaskTrackerFormat.toDeadlineDate(deadlineMinutes),
+                BinaryTaskTrackerFormat.toDeadlineTime(deadlineMinutes), BinaryTaskTrackerFormat.toStatus(flags),
+                Weightage.of(weightage), notes, tags, BinaryTaskTrackerFormat.toPriorityTag(flags));
+    }
+
+    private static byte[] encodeDailyTasks(List<Task> dailyTasks) {
+        ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + dailyTasks.size() * Long.BYTES);
+        entry.putInt(dailyTasks.size());
+        for (Task task : dailyTasks) {
+            entry.putLong(task.getId());
+        }
+        return entry.array();
+    }
+
+    private static String readString(ByteBuffer entry) throws IllegalValueException {
+        byte[] bytes = new byte[readLength(entry, 1)];
+        entry.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of items of {@code itemSize} bytes that follow in {@code entry}.
+     *
+     * @throws IllegalValueException if the items would go past the end of the entry.
+     */
+    private static int readLength(ByteBuffer entry, int itemSize) throws IllegalValueException {
+        if (entry.remaining() < Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        int length = entry.getInt();
+        if (length < 0 || (long) length * itemSize > entry.remaining()) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+
+    private static ByteBuffer slice(ByteBuffer heap, long offset, int length) throws IllegalValueException {
+        if (offset < 0 || length < 0 || offset + length > heap.capacity()) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEAP_ENTRY);
+        }
+        return heap.duplicate().position((int) offset).limit((int) offset + length).slice();
+    }
+
+    /**
+     * Reads the first {@code length} bytes of the file at {@code filePath}.
+     */
+    private static ByteBuffer readFile(Path filePath, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new EOFException(filePath + " is shorter than " + length + " bytes");
+                }
+            }
+        }
+        return buffer.clear();
+    }
+
+    /**
+     * Writes all of {@code buffer} to the empty file at {@code filePath}, and returns once it is on disk.
+     */
+    private static void writeFile(Path filePath, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            ByteBuffer remaining = buffer.duplicate().clear();
+            while (remaining.hasRemaining()) {
+                channel.write(remaining);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static long readHeapId(FileChannel channel) throws IOException {
+        ByteBuffer heapId = ByteBuffer.allocate(Long.BYTES);
+        channel.read(heapId, HEAP_ID_OFFSET);
+        return heapId.getLong(0);
+    }
+
+    /**
+     * Returns the location of the heap file that a redo log which rewrites the whole data file moves over the heap
+     * file at {@code heapFilePath}.
+     */
+    private static Path getNewHeapFilePath(Path heapFilePath) {
+        return heapFilePath.resolveSibling(heapFilePath.getFileName() + ".new");
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private static long mappedSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * RECORD_SIZE;
+    }
+
+    private static Path createTemporaryFile(Path filePath) throws IOException {
+        return Files.createTempFile(filePath.toAbsolutePath().getParent(), filePath.getFileName().toString(), ".tmp");
+    }
+}
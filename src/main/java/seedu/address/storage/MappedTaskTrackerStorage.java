@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.TaskTrackerChange;
+import seedu.address.model.TaskTrackerChange.ListChange;
+
+/**
+ * A class to access TaskTracker data stored as fixed-size records in a memory-mapped file on the hard disk, as laid
+ * out by {@link MappedTaskTrackerFile}, together with a heap file for the parts of each task that vary in length.
+ *
+ * Saving the task tracker writes only the records of the tasks that changed since it was last saved, in place, so
+ * finishing a task or changing its priority or deadline writes one record. Added tasks take the records of deleted
+ * tasks, or new records at the end of the file. The changed records go through a redo log first, so that a save that
+ * is interrupted partway is either replayed or dropped when the data file is next read. Once the heap file has more
+ * entries that are no longer used than the threshold, and than entries in use, the whole data file is written again.
+ * The format of a data file is detected from its first bytes when it is read, so a data file in any of the other
+ * formats can be read too, and is converted by the next save.
+ */
+public class MappedTaskTrackerStorage implements TaskTrackerStorage {
+
+    public static final String HEAP_FILE_EXTENSION = ".heap";
+    public static final String REDO_LOG_FILE_EXTENSION = ".redo";
+
+    /** Size of the unused entries of the heap file, in bytes, beyond which the whole data file is written again. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedTaskTrackerStorage.class);
+
+    private final Path filePath;
+    private final Path heapFilePath;
+    private final Path journalFilePath;
+    private final long compactionThreshold;
+
+    /** The mapped data file, and its state, or null if the data file has to be written whole first. */
+    private MappedTaskTrackerFile dataFile;
+    private ReadOnlyTaskTracker savedState;
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which writes the whole data file again once the heap
+     * file has more than {@link #DEFAULT_COMPACTION_THRESHOLD} bytes of unused entries.
+     */
+    public MappedTaskTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage for the data file at {@code filePath}, which writes the whole data file again once the heap
+     * file has more than {@code compactionThreshold} bytes of unused entries.
+     */
+    public MappedTaskTrackerStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.heapFilePath = getHeapFilePath(filePath);
+        this.journalFilePath = FileUtil.getSiblingPath(filePath, JournaledTaskTrackerStorage.JOURNAL_FILE_EXTENSION);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the heap file for the data file at {@code taskTrackerFilePath}, which is next to the
+     * data file and has the same name, with the {@code HEAP_FILE_EXTENSION} extension.
+     */
+    public static Path getHeapFilePath(Path taskTrackerFilePath) {
+        return FileUtil.getSiblingPath(taskTrackerFilePath, HEAP_FILE_EXTENSION);
+    }
+
+    public Path getHeapFilePath() {
+        return heapFilePath;
+    }
+
+    /**
+     * Returns the location of the redo log for the data file at {@code taskTrackerFilePath}, which is next to the
+     * data file and has the same name, with the {@code REDO_LOG_FILE_EXTENSION} extension.
+     */
+    public static Path getRedoLogFilePath(Path taskTrackerFilePath) {
+        return FileUtil.getSiblingPath(taskTrackerFilePath, REDO_LOG_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTaskTrackerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskTracker> readTaskTracker() throws DataConversionException, IOException {
+        return readTaskTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskTracker()}.
+     * Later saves to the data file of this storage only write the records that changed if it was read with this
+     * method. A data file in any other format is converted by the next save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data file or its heap file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskTracker> readTaskTracker(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data file " + filePath + " not found");
+            return Optional.empty();
+        }
+        boolean isOwnDataFile = filePath.equals(this.filePath);
+        if (isOwnDataFile) {
+            dropDataFile();
+        }
+        if (!isMappedFile(filePath)) {
+            return new BinaryTaskTrackerStorage(filePath).readTaskTracker();
+        }
+
+        MappedTaskTrackerFile file = openDataFile(filePath);
+        ReadOnlyTaskTracker taskTracker = readDataFile(filePath, file);
+        if (!isOwnDataFile) {
+            return Optional.of(taskTracker);
+        }
+        dataFile = file;
+        savedState = taskTracker;
+        return Optional.of(taskTracker);
+    }
+
+    @Override
+    public void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException {
+        saveTaskTracker(taskTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskTracker(ReadOnlyTaskTracker)}.
+     * Only saves to the data file of this storage write the records that changed in place. Saves to any other file
+     * write the whole task tracker to it.
+     * Deletes the journal of a json data file that was at {@code filePath}, as the journal does not apply to the
+     * mapped data file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTaskTracker(ReadOnlyTaskTracker taskTracker, Path filePath) throws IOException {
+        requireNonNull(taskTracker);
+        requireNonNull(filePath);
+
+        ReadOnlyTaskTracker state = TaskTracker.snapshotOf(taskTracker);
+        if (!filePath.equals(this.filePath)) {
+            MappedTaskTrackerFile.write(state, filePath, getHeapFilePath(filePath));
+            Files.deleteIfExists(FileUtil.getSiblingPath(filePath,
+                    JournaledTaskTrackerStorage.JOURNAL_FILE_EXTENSION));
+            return;
+        }
+        if (dataFile == null) {
+            writeDataFile(state);
+            return;
+        }
+
+        TaskTrackerChange change = TaskTrackerChange.between(savedState, state);
+        try {
+            ListChange taskListChange = change.getTaskListChange();
+            if (!taskListChange.isEmpty()) {
+                dataFile.replaceTasks(taskListChange.getPosition(), taskListChange.getRemovedTasks(),
+                        taskListChange.getAddedTasks());
+            }
+            if (!change.getDailyTaskListChange().isEmpty()) {
+                dataFile.writeDailyTasks(state.getDailyTaskList());
+            }
+            dataFile.commit();
+        } catch (IOException e) {
+            // the data file may hold either state, so the next save writes the whole data file instead
+            dropDataFile();
+            throw e;
+        }
+        savedState = state;
+
+        long heapGarbage = dataFile.getHeapGarbage();
+        if (heapGarbage > compactionThreshold && heapGarbage > dataFile.getHeapLength() - heapGarbage) {
+            writeDataFile(state);
+        }
+    }
+
+    /**
+     * Writes {@code state} as the whole data file. A data file that is already there is rewritten in place, as it may
+     * still be mapped.
+     */
+    private void writeDataFile(ReadOnlyTaskTracker state) throws IOException {
+        dropDataFile();
+        dataFile = MappedTaskTrackerFile.write(state, filePath, heapFilePath);
+        savedState = state;
+        Files.deleteIfExists(journalFilePath);
+    }
+
+    private void dropDataFile() {
+        dataFile = null;
+        savedState = null;
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} is in the mapped format, and false if it is in any other
+     * format or does not exist.
+     */
+    public static boolean isMappedFile(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return MappedTaskTrackerFile.isMappedHeader(in.readNBytes(MappedTaskTrackerFile.MAGIC.length));
+        }
+    }
+
+    /**
+     * Reads the task tracker in the mapped data file at {@code filePath}, which must exist, and its heap file.
+     *
+     * @throws DataConversionException if the file is not in the mapped format, or has data constraints violated.
+     */
+    static ReadOnlyTaskTracker readMappedFile(Path filePath) throws DataConversionException {
+        return readDataFile(filePath, openDataFile(filePath));
+    }
+
+    private static MappedTaskTrackerFile openDataFile(Path filePath) throws DataConversionException {
+        try {
+            return MappedTaskTrackerFile.open(filePath, getHeapFilePath(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static ReadOnlyTaskTracker readDataFile(Path filePath, MappedTaskTrackerFile file)
+            throws DataConversionException {
+        try {
+            return file.readTaskTracker();
+        } catch (IOException e) {
+            logger.warning("Error reading from mapped file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+}
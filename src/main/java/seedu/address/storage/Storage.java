@@ -29,5 +29,12 @@ public interface Storage extends TaskTrackerStorage, UserPrefsStorage {
     @Override
     void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException;
 
+    /**
+     * Writes the TaskTracker data that is still waiting to be saved, and waits for it to be written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
 
 }
@@ -13,12 +13,15 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of TaskTracker data in local storage.
+ * In write-behind mode, the TaskTracker is saved to its data file on a background thread, so saving it does not
+ * wait for it to be written.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaskTrackerStorage taskTrackerStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WriteBehindSaver writeBehindSaver;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TaskTrackerStorage} and {@code UserPrefStorage}.
@@ -29,6 +32,17 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given {@code TaskTrackerStorage} and {@code UserPrefStorage} in
+     * write-behind mode, which saves the TaskTracker to its data file at most {@code maxSaveDelay} milliseconds
+     * after it is saved.
+     */
+    public StorageManager(TaskTrackerStorage taskTrackerStorage, UserPrefsStorage userPrefsStorage,
+            long maxSaveDelay) {
+        this(taskTrackerStorage, userPrefsStorage);
+        this.writeBehindSaver = new WriteBehindSaver(taskTrackerStorage, maxSaveDelay);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -66,9 +80,22 @@ public class StorageManager implements Storage {
         return taskTrackerStorage.readTaskTracker(filePath);
     }
 
+    /**
+     * Saves the given {@link ReadOnlyTaskTracker} to the data file.
+     * In write-behind mode, only a snapshot of it is taken, and it is written on the background thread.
+     *
+     * @throws IOException if there was any problem writing to the file, or, in write-behind mode, if the last write
+     *     on the background thread failed.
+     */
     @Override
     public void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException {
-        saveTaskTracker(taskTracker, taskTrackerStorage.getTaskTrackerFilePath());
+        if (writeBehindSaver == null) {
+            saveTaskTracker(taskTracker, taskTrackerStorage.getTaskTrackerFilePath());
+            return;
+        }
+
+        logger.fine("Scheduling write to data file: " + taskTrackerStorage.getTaskTrackerFilePath());
+        writeBehindSaver.save(taskTracker);
     }
 
     @Override
@@ -78,4 +105,11 @@ public class StorageManager implements Storage {
         taskTrackerStorage.saveTaskTracker(taskTracker, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
+    }
+
 }
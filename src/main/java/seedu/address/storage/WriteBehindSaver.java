@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+
+/**
+ * Saves a task tracker to a {@code TaskTrackerStorage} on a single background thread, so that saving never waits for
+ * the task tracker to be written.
+ *
+ * A save takes a snapshot of the task tracker, and the snapshot is written at most {@code maxDelay} milliseconds
+ * later. Saves made before it is written replace the snapshot, so a burst of saves is written once, with the state
+ * after the last of them. If writing fails, the error is reported by the next save or flush, and the latest state is
+ * written again after a delay that doubles with each failure in a row, or earlier with the next save. Once a write
+ * succeeds, earlier failures are no longer reported.
+ */
+class WriteBehindSaver {
+
+    /** Delay before the first retry of a failed write, in milliseconds. Each further failure in a row doubles it. */
+    private static final long DEFAULT_INITIAL_RETRY_DELAY = 1_000;
+
+    /** Longest delay between retries of a failed write, in milliseconds. */
+    private static final long MAX_RETRY_DELAY = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final TaskTrackerStorage taskTrackerStorage;
+    private final long maxDelay;
+    private final long initialRetryDelay;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-tracker-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // guarded by this
+    private ReadOnlyTaskTracker pendingState;
+    private boolean isWriteScheduled;
+    private IOException writeFailure;
+    private long retryDelay;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code taskTrackerStorage} at most {@code maxDelay}
+     * milliseconds after each save.
+     */
+    WriteBehindSaver(TaskTrackerStorage taskTrackerStorage, long maxDelay) {
+        this(taskTrackerStorage, maxDelay, DEFAULT_INITIAL_RETRY_DELAY);
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code taskTrackerStorage} at most {@code maxDelay}
+     * milliseconds after each save, and first retries a failed write {@code initialRetryDelay} milliseconds later.
+     */
+    WriteBehindSaver(TaskTrackerStorage taskTrackerStorage, long maxDelay, long initialRetryDelay) {
+        requireNonNull(taskTrackerStorage);
+        this.taskTrackerStorage = taskTrackerStorage;
+        this.maxDelay = maxDelay;
+        this.initialRetryDelay = initialRetryDelay;
+        this.retryDelay = initialRetryDelay;
+    }
+
+    /**
+     * Schedules the current state of {@code taskTracker} to be written, unless a write is scheduled already, in which
+     * case that write writes this state instead.
+     * Takes O(1) time if {@code taskTracker} is a {@code TaskTracker}.
+     *
+     * @throws IOException if the last write failed. The state is still scheduled to be written.
+     */
+    synchronized void save(ReadOnlyTaskTracker taskTracker) throws IOException {
+        pendingState = TaskTracker.snapshotOf(taskTracker);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::write, maxDelay, TimeUnit.MILLISECONDS);
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes the state that is waiting to be written, if there is one, and waits for it to be written.
+     *
+     * @throws IOException if the state could not be written.
+     */
+    void flush() throws IOException {
+        try {
+            writer.submit(this::write).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Saving failed", e.getCause());
+        }
+        synchronized (this) {
+            throwWriteFailure();
+        }
+    }
+
+    private void write() {
+        ReadOnlyTaskTracker state;
+        synchronized (this) {
+            state = pendingState;
+            pendingState = null;
+            isWriteScheduled = false;
+        }
+        if (state == null) {
+            return;
+        }
+
+        try {
+            taskTrackerStorage.saveTaskTracker(state);
+        } catch (IOException e) {
+            logger.warning("Task tracker could not be saved: " + e);
+            synchronized (this) {
+                writeFailure = e;
+                if (pendingState == null) {
+                    pendingState = state;
+                }
+                if (!isWriteScheduled) {
+                    isWriteScheduled = true;
+                    writer.schedule(this::write, retryDelay, TimeUnit.MILLISECONDS);
+                }
+                retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+            }
+            return;
+        }
+        synchronized (this) {
+            writeFailure = null;
+            retryDelay = initialRetryDelay;
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+}
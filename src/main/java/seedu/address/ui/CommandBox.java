@@ -17,18 +17,25 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which passes the command text to
+     * {@code commandPreviewer} whenever it changes.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        // calls #setStyleToDefault() and previews the command whenever there is a change to the text of the command
+        // box.
+        commandTextField.textProperty().addListener((unused1, unused2, newCommandText) -> {
+            setStyleToDefault();
+            commandPreviewer.preview(newCommandText);
+        });
     }
 
     /**
@@ -82,4 +89,15 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview commands while they are being typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command, which is called with the text of the command box whenever it changes.
+         */
+        void preview(String commandText);
+    }
+
 }
@@ -0,0 +1,176 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.IsoFields;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javafx.beans.Observable;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.DeadlineCalendar;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskAggregate;
+
+/**
+ * Panel showing a month of deadlines as a heatmap, with a warning of the days and weeks that are overloaded.
+ * Each day is shaded by how much of the daily workload limits its unfinished tasks take up, and each week is numbered
+ * at the start of its row. The panel is redrawn from the buckets of the {@code DeadlineCalendar} when the tasks
+ * change, which does not go through the tasks.
+ */
+public class DeadlineCalendarPanel extends UiPart<Region> {
+
+    private static final String FXML = "DeadlineCalendarPanel.fxml";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM uuuu");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+    private static final int WEEKS_SHOWN = 6;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int MAX_OVERLOADS_LISTED = 3;
+
+    /** Opacity of the shading of a day whose tasks take up all of the daily limits. */
+    private static final double MAX_HEAT_OPACITY = 0.8;
+
+    private static final String STYLE_DAY = "calendar-day";
+    private static final String STYLE_OTHER_MONTH = "calendar-day-other-month";
+    private static final String STYLE_OVERLOADED = "calendar-overloaded";
+
+    private final DeadlineCalendar calendar;
+    private final Label[] weekCells = new Label[WEEKS_SHOWN];
+    private final Label[][] dayCells = new Label[WEEKS_SHOWN][DAYS_IN_WEEK];
+    private YearMonth shownMonth = YearMonth.now();
+
+    @FXML
+    private Label monthLabel;
+
+    @FXML
+    private GridPane calendarGrid;
+
+    @FXML
+    private Label overloadWarning;
+
+    /**
+     * Creates a {@code DeadlineCalendarPanel} showing {@code calendar}, which is redrawn when {@code tasks} change.
+     */
+    public DeadlineCalendarPanel(DeadlineCalendar calendar, ObservableList<Task> tasks) {
+        super(FXML);
+        this.calendar = calendar;
+        createCells();
+        tasks.addListener((Observable unused) -> refresh());
+        refresh();
+    }
+
+    @FXML
+    private void handlePreviousMonth() {
+        shownMonth = shownMonth.minusMonths(1);
+        refresh();
+    }
+
+    @FXML
+    private void handleNextMonth() {
+        shownMonth = shownMonth.plusMonths(1);
+        refresh();
+    }
+
+    private void createCells() {
+        calendarGrid.add(createCell("Wk"), 0, 0);
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            String dayName = DayOfWeek.of(day + 1).getDisplayName(TextStyle.SHORT, Locale.ENGLISH);
+            calendarGrid.add(createCell(dayName), day + 1, 0);
+        }
+        for (int week = 0; week < WEEKS_SHOWN; week++) {
+            weekCells[week] = createCell("");
+            calendarGrid.add(weekCells[week], 0, week + 1);
+            for (int day = 0; day < DAYS_IN_WEEK; day++) {
+                dayCells[week][day] = createCell("");
+                dayCells[week][day].getStyleClass().add(STYLE_DAY);
+                dayCells[week][day].setTooltip(new Tooltip());
+                calendarGrid.add(dayCells[week][day], day + 1, week + 1);
+            }
+        }
+    }
+
+    private static Label createCell(String text) {
+        Label cell = new Label(text);
+        cell.setMinWidth(28);
+        cell.setMaxWidth(Double.MAX_VALUE);
+        return cell;
+    }
+
+    /**
+     * Redraws the shown month and the overload warning.
+     */
+    private void refresh() {
+        monthLabel.setText(shownMonth.format(MONTH_FORMATTER));
+        LocalDate firstMonday = shownMonth.atDay(1).with(DayOfWeek.MONDAY);
+        for (int week = 0; week < WEEKS_SHOWN; week++) {
+            LocalDate monday = firstMonday.plusWeeks(week);
+            weekCells[week].setText(String.valueOf(monday.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR)));
+            setOverloaded(weekCells[week], calendar.isOverloadedWeek(monday));
+            for (int day = 0; day < DAYS_IN_WEEK; day++) {
+                refreshDay(dayCells[week][day], monday.plusDays(day));
+            }
+        }
+        refreshOverloadWarning();
+    }
+
+    private void refreshDay(Label cell, LocalDate date) {
+        TaskAggregate dueOnDate = calendar.getDueOn(date);
+        double load = Math.min(calendar.getLimits().getDailyLoad(dueOnDate), 1);
+        cell.setText(String.valueOf(date.getDayOfMonth()));
+        cell.setStyle(load > 0
+                ? String.format("-fx-background-color: rgba(231, 76, 60, %.2f);", load * MAX_HEAT_OPACITY)
+                : "");
+        cell.getTooltip().setText(date.format(DATE_FORMATTER) + ": " + dueOnDate);
+        setOverloaded(cell, calendar.isOverloadedDate(date));
+        cell.getStyleClass().remove(STYLE_OTHER_MONTH);
+        if (!YearMonth.from(date).equals(shownMonth)) {
+            cell.getStyleClass().add(STYLE_OTHER_MONTH);
+        }
+    }
+
+    private static void setOverloaded(Label cell, boolean isOverloaded) {
+        cell.getStyleClass().remove(STYLE_OVERLOADED);
+        if (isOverloaded) {
+            cell.getStyleClass().add(STYLE_OVERLOADED);
+        }
+    }
+
+    /**
+     * Shows the overloaded days and weeks from today on, or hides the warning if there are none.
+     */
+    private void refreshOverloadWarning() {
+        LocalDate today = LocalDate.now();
+        List<LocalDate> overloadedDates = calendar.getOverloadedDatesFrom(today);
+        List<LocalDate> overloadedWeeks = calendar.getOverloadedWeeksFrom(today);
+        StringBuilder warning = new StringBuilder();
+        if (!overloadedDates.isEmpty()) {
+            warning.append("Overloaded days: ").append(listDates(overloadedDates));
+        }
+        if (!overloadedWeeks.isEmpty()) {
+            warning.append(warning.length() > 0 ? "\n" : "")
+                    .append("Overloaded weeks from: ").append(listDates(overloadedWeeks));
+        }
+        overloadWarning.setText(warning.toString());
+        overloadWarning.setVisible(warning.length() > 0);
+        overloadWarning.setManaged(warning.length() > 0);
+    }
+
+    private static String listDates(List<LocalDate> dates) {
+        String listedDates = dates.stream()
+                .limit(MAX_OVERLOADS_LISTED)
+                .map(date -> date.format(DATE_FORMATTER))
+                .collect(Collectors.joining(", "));
+        return dates.size() > MAX_OVERLOADS_LISTED
+                ? listedDates + " and " + (dates.size() - MAX_OVERLOADS_LISTED) + " more"
+                : listedDates;
+    }
+}
@@ -33,6 +33,7 @@ public class MainWindow extends UiPart<Stage> {
     // Independent Ui parts residing in this Ui container
     private TaskListPanel taskListPanel;
     private TaskListPanel dailyTaskListPanel;
+    private UpcomingTaskPanel upcomingTaskPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -48,6 +49,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane dailyTaskListPanelPlaceholder;
 
+    @FXML
+    private StackPane upcomingTaskPanelPlaceholder;
+
+    @FXML
+    private StackPane deadlineCalendarPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -120,13 +127,21 @@ public class MainWindow extends UiPart<Stage> {
         dailyTaskListPanel = new TaskListPanel(logic.getDailyTaskList());
         dailyTaskListPanelPlaceholder.getChildren().add(dailyTaskListPanel.getRoot());
 
+        upcomingTaskPanel = new UpcomingTaskPanel();
+        upcomingTaskPanelPlaceholder.getChildren().add(upcomingTaskPanel.getRoot());
+
+        DeadlineCalendarPanel deadlineCalendarPanel = new DeadlineCalendarPanel(logic.getDeadlineCalendar(),
+                logic.getTaskTracker().getTaskList());
+        deadlineCalendarPanelPlaceholder.getChildren().add(deadlineCalendarPanel.getRoot());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTaskTrackerFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        TaskListPreview taskListPreview = new TaskListPreview(logic, taskListPanel);
+        CommandBox commandBox = new CommandBox(this::executeCommand, taskListPreview::preview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -185,6 +200,8 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
+            commandResult.getUpcomingTasks().ifPresent(upcomingTaskPanel::show);
+
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -17,6 +19,8 @@ public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
 
+    private final ObservableList<Task> taskList;
+
     @FXML
     private ListView<Task> taskListView;
 
@@ -25,10 +29,25 @@ public class TaskListPanel extends UiPart<Region> {
      */
     public TaskListPanel(ObservableList<Task> taskList) {
         super(FXML);
+        this.taskList = taskList;
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
     }
 
+    /**
+     * Shows {@code previewedTasks} instead of the task list, until {@link #clearPreview()} is called.
+     */
+    public void showPreview(List<Task> previewedTasks) {
+        taskListView.setItems(FXCollections.observableList(previewedTasks));
+    }
+
+    /**
+     * Shows the task list again, instead of the previewed tasks.
+     */
+    public void clearPreview() {
+        taskListView.setItems(taskList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
      */
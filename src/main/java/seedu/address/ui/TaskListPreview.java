@@ -0,0 +1,132 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Task;
+
+/**
+ * Previews the tasks that a command such as {@code find}, {@code filter} or {@code dueIn} will list in a
+ * {@code TaskListPanel}, while the command is being typed.
+ *
+ * A command is only evaluated once its text has not changed for {@link #DEBOUNCE_DELAY}. It is evaluated on a
+ * background thread, against a snapshot of the task list, so that typing never waits for it. The snapshot is taken on
+ * the JavaFX application thread in O(1) time, as it shares its tasks with the task tracker instead of copying them.
+ * Changing the command text cancels the evaluation of the previous text, and only the tasks of the latest text are
+ * shown.
+ *
+ * While a command being typed cannot be parsed yet, the tasks of the last command with the same command word stay
+ * shown. Commands that cannot be previewed show the task list again.
+ */
+public class TaskListPreview {
+
+    /** Time for which the command text must stay the same before the command is evaluated. */
+    public static final Duration DEBOUNCE_DELAY = Duration.millis(150);
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListPreview.class);
+
+    private final Logic logic;
+    private final TaskListPanel taskListPanel;
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE_DELAY);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-list-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private String commandText = "";
+    private long commandTextVersion;
+    private Future<?> evaluation;
+
+    /** Command word of the command whose tasks are shown, or null if the task list is shown. */
+    private String previewedCommandWord;
+
+    /**
+     * Creates a {@code TaskListPreview} that previews the commands parsed by {@code logic} in {@code taskListPanel}.
+     */
+    public TaskListPreview(Logic logic, TaskListPanel taskListPanel) {
+        this.logic = logic;
+        this.taskListPanel = taskListPanel;
+        debounce.setOnFinished(unused -> evaluate());
+    }
+
+    /**
+     * Previews the tasks that {@code newCommandText} will list, once it has not changed for the debounce delay.
+     * Must be called on the JavaFX application thread.
+     */
+    public void preview(String newCommandText) {
+        commandText = newCommandText;
+        commandTextVersion++;
+        if (evaluation != null) {
+            evaluation.cancel(true);
+            evaluation = null;
+        }
+
+        if (newCommandText.isBlank()) {
+            debounce.stop();
+            showTaskList();
+        } else {
+            debounce.playFromStart();
+        }
+    }
+
+    /**
+     * Starts evaluating the current command text on the background thread.
+     */
+    private void evaluate() {
+        String evaluatedCommandText = commandText;
+        long evaluatedVersion = commandTextVersion;
+        List<Task> tasks = logic.getTaskTrackerSnapshot().getTaskList();
+        evaluation = executor.submit(() -> evaluateInBackground(evaluatedCommandText, evaluatedVersion, tasks));
+    }
+
+    private void evaluateInBackground(String evaluatedCommandText, long evaluatedVersion, List<Task> tasks) {
+        try {
+            Optional<List<Task>> previewedTasks = logic.previewCommand(evaluatedCommandText, tasks);
+            Platform.runLater(() -> {
+                if (evaluatedVersion == commandTextVersion) {
+                    showPreview(evaluatedCommandText, previewedTasks);
+                }
+            });
+        } catch (ParseException pe) {
+            Platform.runLater(() -> {
+                if (evaluatedVersion == commandTextVersion && !commandWordOf(evaluatedCommandText)
+                        .equals(previewedCommandWord)) {
+                    showTaskList();
+                }
+            });
+        } catch (InterruptedException ie) {
+            logger.fine("Preview cancelled: " + evaluatedCommandText);
+        }
+    }
+
+    private void showPreview(String previewedCommandText, Optional<List<Task>> previewedTasks) {
+        if (previewedTasks.isEmpty()) {
+            showTaskList();
+            return;
+        }
+        previewedCommandWord = commandWordOf(previewedCommandText);
+        taskListPanel.showPreview(previewedTasks.get());
+    }
+
+    private void showTaskList() {
+        if (previewedCommandWord != null) {
+            previewedCommandWord = null;
+            taskListPanel.clearPreview();
+        }
+    }
+
+    private static String commandWordOf(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Task;
+
+/**
+ * Panel showing the tasks found by a command such as {@code next} on one line each, apart from the task list.
+ * The panel is hidden until tasks are shown in it, and can be closed again.
+ */
+public class UpcomingTaskPanel extends UiPart<Region> {
+
+    private static final String FXML = "UpcomingTaskPanel.fxml";
+
+    @FXML
+    private Label titleLabel;
+
+    @FXML
+    private ListView<Task> upcomingTaskListView;
+
+    /**
+     * Creates a hidden {@code UpcomingTaskPanel}.
+     */
+    public UpcomingTaskPanel() {
+        super(FXML);
+        upcomingTaskListView.setCellFactory(listView -> new UpcomingTaskCell());
+        setShown(false);
+    }
+
+    /**
+     * Shows {@code upcomingTasks}, in the given order.
+     */
+    public void show(List<Task> upcomingTasks) {
+        titleLabel.setText("Next deadlines (" + upcomingTasks.size() + ")");
+        upcomingTaskListView.getItems().setAll(upcomingTasks);
+        setShown(true);
+    }
+
+    @FXML
+    private void handleClose() {
+        upcomingTaskListView.getItems().clear();
+        setShown(false);
+    }
+
+    private void setShown(boolean isShown) {
+        getRoot().setVisible(isShown);
+        getRoot().setManaged(isShown);
+    }
+
+    /**
+     * Shows the deadline, module code and name of a {@code Task} on one line.
+     */
+    private static class UpcomingTaskCell extends ListCell<Task> {
+        @Override
+        protected void updateItem(Task task, boolean empty) {
+            super.updateItem(task, empty);
+
+            if (empty || task == null) {
+                setText(null);
+            } else {
+                setText(task.getDeadlineDate() + " " + task.getDeadlineTime() + "  " + task.getModuleCode() + " "
+                        + task.getTaskName());
+            }
+        }
+    }
+}
@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +33,38 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void getSiblingPath() {
+        assertEquals(Paths.get("data", "tasktracker.journal"),
+                FileUtil.getSiblingPath(Paths.get("data", "tasktracker.json"), ".journal"));
+        assertEquals(Paths.get("tasktracker.heap"), FileUtil.getSiblingPath(Paths.get("tasktracker"), ".heap"));
+        assertEquals(Paths.get(".hidden.heap"), FileUtil.getSiblingPath(Paths.get(".hidden"), ".heap"));
+    }
+
+    @Test
+    public void replaceFile_existingTarget_replacedBySource() throws Exception {
+        Path source = testFolder.resolve("source");
+        Path target = testFolder.resolve("target");
+        FileUtil.writeToFile(source, "new");
+        FileUtil.writeToFile(target, "old");
+
+        FileUtil.replaceFile(source, target);
+
+        assertFalse(Files.exists(source));
+        assertEquals("new", FileUtil.readFromFile(target));
+    }
+
+    @Test
+    public void readCompleteLines_incompleteLastLine_linesReadAndIncompleteLineCutOff() throws Exception {
+        Path file = testFolder.resolve("lines");
+        FileUtil.writeToFile(file, "first\nsecond\nthi");
+        List<String> lines = new ArrayList<>();
+
+        long length = FileUtil.readCompleteLines(file, (bytes, start, end) ->
+                lines.add(new String(bytes, start, end - start, StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("first", "second"), lines);
+        assertEquals(13, length);
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new, 10);
+        StringBuilder first = interner.intern("a");
+        assertSame(first, interner.intern("a"));
+        assertNotSame(first, interner.intern("b"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_capacityReached_newKeysNotKept() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new, 1);
+        StringBuilder first = interner.intern("a");
+        assertNotSame(interner.intern("b"), interner.intern("b"));
+        assertSame(first, interner.intern("a"));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        Interner<String, StringBuilder> interner = new Interner<>(StringBuilder::new, 1);
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+    }
+
+    @Test
+    public void of_elements_preservesOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(8, list.size());
+        assertEquals(9, list.get(5));
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+        assertTrue(PersistentList.empty().add(1).remove(0).isEmpty());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+    }
+
+    @Test
+    public void updates_originalListUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3));
+        original.add(1, 0);
+        original.set(0, 0);
+        original.remove(2);
+        assertEquals(Arrays.asList(1, 2, 3), original.asList());
+    }
+
+    @Test
+    public void updates_randomSequence_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual.asList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_randomUpdates_matchesElementComparison() {
+        Random random = new Random(2040);
+        PersistentList<Object> original = PersistentList.empty();
+        for (int i = 0; i < 500; i++) {
+            original = original.add(new Object());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            PersistentList<Object> updated = original;
+            for (int j = random.nextInt(4); j > 0; j--) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || updated.isEmpty()) {
+                    updated = updated.add(random.nextInt(updated.size() + 1), new Object());
+                } else if (operation == 1) {
+                    updated = updated.set(random.nextInt(updated.size()), new Object());
+                } else {
+                    updated = updated.remove(random.nextInt(updated.size()));
+                }
+            }
+
+            int maxLength = Math.min(original.size(), updated.size());
+            int expectedPrefixLength = 0;
+            while (expectedPrefixLength < maxLength
+                    && original.get(expectedPrefixLength) == updated.get(expectedPrefixLength)) {
+                expectedPrefixLength++;
+            }
+            int limit = maxLength - expectedPrefixLength;
+            int expectedSuffixLength = 0;
+            while (expectedSuffixLength < limit && original.get(original.size() - 1 - expectedSuffixLength)
+                    == updated.get(updated.size() - 1 - expectedSuffixLength)) {
+                expectedSuffixLength++;
+            }
+
+            assertEquals(expectedPrefixLength, original.commonPrefixLength(updated));
+            assertEquals(expectedSuffixLength, original.commonSuffixLength(updated, limit));
+            original = updated;
+        }
+    }
+
+    @Test
+    public void commonSuffixLength_limitWithinSharedSubtree_stopsAtLimit() {
+        Object element = new Object();
+        PersistentList<Object> list = PersistentList.of(Arrays.asList(element, element, element));
+        assertEquals(3, list.commonPrefixLength(list));
+        assertEquals(1, list.commonSuffixLength(list, 1));
+        assertEquals(2, list.commonSuffixLength(list.add(0, element), 2));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<String> list = new PersistentObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+    }
+
+    @Test
+    public void snapshot_laterMutations_snapshotUnchanged() {
+        list.addAll("a", "b", "c");
+        PersistentList<String> snapshot = list.snapshot();
+
+        list.remove("b");
+        list.set(0, "d");
+        list.add("e");
+
+        assertEquals(Arrays.asList("a", "b", "c"), snapshot.asList());
+        assertEquals(Arrays.asList("d", "c", "e"), list);
+    }
+
+    @Test
+    public void setAll_collection_singleChange() {
+        list.addAll("a", "b");
+        changes.clear();
+
+        list.setAll(Arrays.asList("c", "d", "e"));
+
+        assertEquals(Arrays.asList("c", "d", "e"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setAll_persistentList_sharesContents() {
+        PersistentList<String> contents = PersistentList.of(Arrays.asList("a", "b"));
+        list.setAll(contents);
+        assertTrue(list.snapshot() == contents);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setAll_earlierSnapshot_onlyDifferingRangeReported() {
+        list.addAll("a", "b", "c", "d");
+        PersistentList<String> snapshot = list.snapshot();
+        list.remove(1);
+        list.add(2, "e");
+        list.add(3, "f");
+        changes.clear();
+
+        List<ListChangeListener.Change<? extends String>> reportedChanges = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                assertEquals(1, change.getFrom());
+                assertEquals(3, change.getTo());
+                assertEquals(Arrays.asList("c", "e", "f"), change.getRemoved());
+                reportedChanges.add(change);
+            }
+        });
+        list.setAll(snapshot);
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), list);
+        assertEquals(1, reportedChanges.size());
+    }
+
+    @Test
+    public void setAll_sameContents_noChange() {
+        list.addAll("a", "b");
+        changes.clear();
+
+        list.setAll(list.snapshot());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setAll_emptyToEmpty_noChange() {
+        list.setAll(Collections.emptyList());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void move_differentIndex_singleChange() {
+        list.addAll("a", "b", "c", "d");
+        changes.clear();
+
+        list.move(0, 2, "e");
+        assertEquals(Arrays.asList("b", "c", "e", "d"), list);
+        list.move(3, 0, "f");
+        assertEquals(Arrays.asList("f", "b", "c", "e"), list);
+        list.move(1, 1, "g");
+        assertEquals(Arrays.asList("f", "g", "c", "e"), list);
+        assertEquals(3, changes.size());
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -128,6 +131,41 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertEquals(Collections.emptyList(), StringUtil.toLowerCaseWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.toLowerCaseWords(" \t\n "));
+        assertEquals(List.of("abc"), StringUtil.toLowerCaseWords("ABc"));
+        assertEquals(List.of("abc", "def", "p@ss"), StringUtil.toLowerCaseWords("  ABc \t def\nP@SS  "));
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("quiz", "quiz"));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(1, StringUtil.editDistance("assigment", "assignment")); // insertion
+        assertEquals(1, StringUtil.editDistance("tutorail", "tutoril")); // deletion
+        assertEquals(1, StringUtil.editDistance("lab", "lap")); // replacement
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(StringUtil.editDistance("sitting", "kitten"), StringUtil.editDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CODE_DESC_AMY;
@@ -10,9 +11,17 @@ import static seedu.address.logic.commands.CommandTestUtil.TIME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.WEIGHTAGE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.AMY;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +30,9 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.comparators.DateTimeComparator;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -89,6 +100,88 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_notSaved() throws Exception {
+        JsonTaskTrackerStorage taskTrackerStorage =
+                new JsonTaskTrackerIoExceptionThrowingStub(temporaryFolder.resolve("readOnlyTaskTracker.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("readOnlyUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(taskTrackerStorage, userPrefsStorage));
+
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess(StatsCommand.COMMAND_WORD, StatsCommand.MESSAGE_NO_TASKS, model);
+    }
+
+    @Test
+    public void constructor_sortOrderInUserPrefs_taskListKeptInOrder() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortOrder("dateTime");
+        Model sortedModel = new ModelManager(getTypicalTaskTracker(), userPrefs);
+        StorageManager storage = new StorageManager(
+                new JsonTaskTrackerStorage(temporaryFolder.resolve("sortedTaskTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("sortedUserPrefs.json")));
+        Logic sortedLogic = new LogicManager(sortedModel, storage);
+
+        List<Task> expectedTasks = getTypicalTasks();
+        expectedTasks.sort(new DateTimeComparator());
+        assertEquals(expectedTasks, sortedLogic.getFilteredTaskList());
+
+        Task newTask = new TaskBuilder(CS2103).withName("Week 11 Quiz").withDeadlineDate("12-10-2022").build();
+        sortedModel.addTask(newTask);
+        assertEquals(newTask, sortedLogic.getFilteredTaskList().get(expectedTasks.size() - 1));
+    }
+
+    @Test
+    public void constructor_invalidSortOrderInUserPrefs_sortOrderDiscarded() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortOrder("deadline");
+        Model modelWithInvalidSortOrder = new ModelManager(getTypicalTaskTracker(), userPrefs);
+        new LogicManager(modelWithInvalidSortOrder, new StorageManager(
+                new JsonTaskTrackerStorage(temporaryFolder.resolve("invalidTaskTracker.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("invalidUserPrefs.json"))));
+
+        assertEquals("", modelWithInvalidSortOrder.getUserPrefs().getSortOrder());
+        assertEquals(getTypicalTasks(), modelWithInvalidSortOrder.getFilteredTaskList());
+    }
+
+    @Test
+    public void previewCommand_listingCommand_tasksListedWithoutExecuting() throws Exception {
+        List<Task> tasks = getTypicalTasks();
+        assertEquals(Optional.of(List.of(CS2103, CS2030, CS3243)), logic.previewCommand("filter ptag/LOW", tasks));
+        assertEquals(Optional.of(List.of(CS1010E, CS2030)), logic.previewCommand("find tutorial", tasks));
+        assertEquals(Optional.of(List.of()), logic.previewCommand("find nothing", tasks));
+        assertEquals(0, model.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void previewCommand_otherCommand_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), logic.previewCommand(ListCommand.COMMAND_WORD, getTypicalTasks()));
+        assertEquals(Optional.empty(), logic.previewCommand("find -f tutorial", getTypicalTasks()));
+    }
+
+    @Test
+    public void previewCommand_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, () -> logic.previewCommand("filter (ptag/LOW", getTypicalTasks()));
+        assertThrows(ParseException.class, () -> logic.previewCommand("uicfhmowqewca", getTypicalTasks()));
+    }
+
+    @Test
+    public void previewCommand_interrupted_throwsInterruptedException() {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> logic.previewCommand("filter ptag/LOW", getTypicalTasks()));
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    public void getTaskTrackerSnapshot_laterChanges_snapshotUnchanged() throws Exception {
+        model.addTask(CS2103);
+        ReadOnlyTaskTracker snapshot = logic.getTaskTrackerSnapshot();
+        model.addTask(CS2030);
+
+        assertEquals(List.of(CS2103), snapshot.getTaskList());
+        assertEquals(Optional.of(List.of(CS2103)), logic.previewCommand("filter ptag/LOW", snapshot.getTaskList()));
+    }
+
     @Test
     public void getFilteredTaskList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTaskList().remove(0));
@@ -7,9 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,7 +27,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskTracker;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TaskTracker;
+import seedu.address.model.person.DeadlineCalendar;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.person.TaskKey;
+import seedu.address.model.person.TaskWordIndex;
 import seedu.address.testutil.TaskBuilder;
 
 public class AddCommandTest {
@@ -115,22 +125,57 @@ public class AddCommandTest {
         }
 
         @Override
-        public void refreshDailyTasks(Task target, Task editTask) {
+        public void setSortOrder(String sortOrder) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void finishDailyTask(Task task) {
+        public void addTask(Task task) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteDailyTask(Task task) {
+        public Set<Long> findTaskIds(TaskWordIndex.Field field, List<String> words) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void addTask(Task task) {
+        public Map<Long, Integer> findSimilarTaskIds(TaskWordIndex.Field field, List<String> words) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Long> findTaskIdsDueBetween(LocalDate startDate, LocalDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> findNextTasksDue(LocalDateTime start, Predicate<Task> predicate, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Long> findTaskIdsWithAllKeys(Collection<? extends TaskKey> keys) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int countTasksWithKey(TaskKey key) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <K extends TaskKey> Map<K, Integer> countTasksByKey(Class<K> keyType) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskAggregates getTaskAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DeadlineCalendar getDeadlineCalendar() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -181,22 +226,22 @@ public class AddCommandTest {
         }
 
         @Override
-        public void setDailyTask(Task target, Task editedTask) {
+        public ObservableList<Task> getFilteredTaskList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Task> getFilteredTaskList() {
+        public ObservableList<Task> getDailyTaskList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public ObservableList<Task> getDailyTaskList() {
+        public void updateFilteredTaskList(Predicate<Task> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateFilteredTaskList(Predicate<Task> predicate) {
+        public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> ranking) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -212,12 +257,12 @@ public class AddCommandTest {
 
         @Override
 
-        public TaskTracker undoTaskTracker() {
+        public ReadOnlyTaskTracker undoTaskTracker() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public TaskTracker redoTaskTracker() {
+        public ReadOnlyTaskTracker redoTaskTracker() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +37,12 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different upcoming tasks -> returns false
+        CommandResult upcomingResult = new CommandResult("feedback", List.of(CS2103));
+        assertFalse(commandResult.equals(upcomingResult));
+        assertFalse(upcomingResult.equals(new CommandResult("feedback", List.of(CS2040))));
+        assertTrue(upcomingResult.equals(new CommandResult("feedback", List.of(CS2103))));
     }
 
     @Test
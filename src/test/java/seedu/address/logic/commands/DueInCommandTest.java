@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 import static seedu.address.testutil.TypicalTasks.CS1010E;
 import static seedu.address.testutil.TypicalTasks.CS2030;
 import static seedu.address.testutil.TypicalTasks.CS2040;
@@ -13,19 +14,26 @@ import static seedu.address.testutil.TypicalTasks.CS2103;
 import static seedu.address.testutil.TypicalTasks.CS3243;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.TaskTracker;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.DeadlineDate;
 import seedu.address.model.person.DeadlineDateInRangePredicate;
 import seedu.address.model.person.DeadlineTime;
 import seedu.address.model.person.Task;
+import seedu.address.testutil.EditTaskDescriptorBuilder;
+import seedu.address.testutil.TaskBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code DueInCommand}.
@@ -33,6 +41,7 @@ import seedu.address.model.person.Task;
 public class DueInCommandTest {
     private static long numberOfDays = 9;
     private static long numberOfWeeks = 1;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
 
     private Model model = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
     private Model expectedModel = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
@@ -101,46 +110,90 @@ public class DueInCommandTest {
     }
 
     @Test
-    public void execute_numberOfDaysGiven_multipleTasksFound() {
-        DeadlineDateInRangePredicate predicate;
-        try {
-            predicate = new DeadlineDateInRangePredicateStub(numberOfDays);
-        } catch (ParseException e) {
-            assertFalse(true); // Must not be called
-            return;
-        }
-        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 6) + predicate.toString();
+    public void execute_numberOfDaysGiven_multipleTasksFound() throws ParseException {
+        List<Task> tasks = createTasksDueInDays(1, 7, 9, 10);
+        Model model = new ModelManager(createTaskTracker(tasks), new UserPrefs());
+        Model expectedModel = new ModelManager(createTaskTracker(tasks), new UserPrefs());
+        DeadlineDateInRangePredicate predicate = new DeadlineDateInRangePredicate(numberOfDays);
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3) + predicate.toString();
         DueInCommand command = new DueInCommand(predicate);
         expectedModel.updateFilteredTaskList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(CS2103, CS2040, CS1010E, CS2030, CS3243, CS2100), model.getFilteredTaskList());
+        assertEquals(tasks.subList(0, 3), model.getFilteredTaskList());
     }
 
     @Test
-    public void execute_numberOfWeeksGiven_multipleTasksFound() {
-        DeadlineDateInRangePredicate predicate;
-        try {
-            predicate = new DeadlineDateInRangePredicateStub(numberOfWeeks * 7);
-        } catch (ParseException e) {
-            assertFalse(true); // Must not be called
-            return;
-        }
-        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 6) + predicate.toString();
+    public void execute_numberOfWeeksGiven_multipleTasksFound() throws ParseException {
+        List<Task> tasks = createTasksDueInDays(1, 7, 9, 10);
+        Model model = new ModelManager(createTaskTracker(tasks), new UserPrefs());
+        Model expectedModel = new ModelManager(createTaskTracker(tasks), new UserPrefs());
+        DeadlineDateInRangePredicate predicate = new DeadlineDateInRangePredicate(numberOfWeeks * 7);
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2) + predicate.toString();
         DueInCommand command = new DueInCommand(predicate);
         expectedModel.updateFilteredTaskList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(CS2103, CS2040, CS1010E, CS2030, CS3243, CS2100), model.getFilteredTaskList());
+        assertEquals(tasks.subList(0, 2), model.getFilteredTaskList());
     }
 
-    private class DeadlineDateInRangePredicateStub extends DeadlineDateInRangePredicate {
+    @Test
+    public void execute_datesGiven_tasksInWindowFound() throws ParseException {
+        DeadlineDateInRangePredicate predicate =
+                new DeadlineDateInRangePredicate(LocalDate.of(2022, 10, 8), LocalDate.of(2022, 10, 9));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3) + predicate.toString();
+        DueInCommand command = new DueInCommand(predicate);
+        expectedModel.updateFilteredTaskList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CS2103, CS1010E, CS3243), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_datesGivenAfterTaskEdited_editedTaskFound() throws ParseException {
+        Task editedTask = new TaskBuilder(CS2100).withDeadlineDate("09-10-2022").build();
+        model.setTask(CS2100, editedTask);
+        DeadlineDateInRangePredicate predicate =
+                new DeadlineDateInRangePredicate(LocalDate.of(2022, 10, 9), LocalDate.of(2022, 10, 13));
+        new DueInCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(CS2103, CS2040, CS1010E, CS2030, editedTask), model.getFilteredTaskList());
+    }
 
-        public DeadlineDateInRangePredicateStub(long numberOfDays) throws ParseException {
-            super(numberOfDays);
-        };
+    @Test
+    public void execute_foundTaskEdited_editedTaskTestedAgainstDates() throws Exception {
+        DeadlineDateInRangePredicate predicate =
+                new DeadlineDateInRangePredicate(LocalDate.of(2022, 10, 8), LocalDate.of(2022, 10, 9));
+        new DueInCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(CS2103, CS1010E, CS3243), model.getFilteredTaskList());
+
+        // the found task is no longer due in the window
+        new EditCommand(INDEX_FIRST_TASK, new EditTaskDescriptorBuilder().withDeadlineDate("12-10-2022").build())
+                .execute(model);
+        assertEquals(Arrays.asList(CS1010E, CS3243), model.getFilteredTaskList());
+
+        // a task that was not found is now due in the window
+        Task postponedTask = model.getTaskTracker().getTaskList().get(0);
+        Task editedTask = new Task(postponedTask.getId(), postponedTask.getTaskName(), postponedTask.getModuleCode(),
+                new DeadlineDate("08-10-2022"), postponedTask.getDeadlineTime(), postponedTask.getStatus(),
+                postponedTask.getWeightage(), postponedTask.getNotes(), postponedTask.getTags(),
+                postponedTask.getPriorityTag());
+        model.setTask(postponedTask, editedTask);
+        assertEquals(Arrays.asList(editedTask, CS1010E, CS3243), model.getFilteredTaskList());
+    }
 
-        @Override
-        public boolean test(Task task) {
-            return true;
+    /**
+     * Returns tasks that are due the given numbers of days from today, so that they are in range of the same
+     * numbers of days whenever the tests run.
+     */
+    private static List<Task> createTasksDueInDays(long... days) {
+        List<Task> tasks = new ArrayList<>();
+        for (long day : days) {
+            tasks.add(new TaskBuilder().withName("Due in " + day + " days")
+                    .withDeadlineDate(LocalDate.now().plusDays(day).format(DATE_FORMATTER)).build());
         }
+        return tasks;
+    }
+
+    private static TaskTracker createTaskTracker(List<Task> tasks) {
+        TaskTracker taskTracker = new TaskTracker();
+        tasks.forEach(taskTracker::addTask);
+        return taskTracker;
     }
 }
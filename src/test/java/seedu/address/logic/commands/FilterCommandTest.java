@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.NotFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EditTaskDescriptorBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand firstCommand = new FilterCommand(FilterTerm.nameHasWord("first"));
+        FilterCommand secondCommand = new FilterCommand(FilterTerm.nameHasWord("second"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new FilterCommand(FilterTerm.nameHasWord("first"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different filter -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingTasks_noTaskFound() {
+        TaskFilter filter = new AndFilter(List.of(FilterTerm.nameHasWord("tutorial"),
+                FilterTerm.priority(PriorityTag.of("HIGH"))));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredTaskList(filter.compile());
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_combinedConditions_multipleTasksFound() {
+        // friends AND (due by 09-10-2022 OR NOT low priority)
+        TaskFilter filter = new AndFilter(List.of(FilterTerm.tag(Tag.of("friends")),
+                new OrFilter(List.of(FilterTerm.dueBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2022, 10, 9)),
+                        new NotFilter(FilterTerm.priority(PriorityTag.of("LOW")))))));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredTaskList(filter.compile());
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CS2103, CS2040), model.getFilteredTaskList());
+        assertFalse(model.getFilteredTaskList().contains(CS2030)); // friends, but low and due on 10-10-2022
+    }
+
+    @Test
+    public void execute_indexedKeys_sameTasksAsTestingEachTask() {
+        // friends AND low AND NOT tutorial, with the tags and priority tags looked up in the task tracker
+        TaskFilter filter = new AndFilter(List.of(FilterTerm.tag(Tag.of("friends")),
+                FilterTerm.priority(PriorityTag.of("LOW")), new NotFilter(FilterTerm.nameHasWord("tutorial"))));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredTaskList(filter.compile());
+        assertCommandSuccess(new FilterCommand(filter), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CS2103), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_afterTaskEdited_editedKeysFound() throws Exception {
+        Task editedCs2030 = new TaskBuilder(CS2030).withPriorityTag("HIGH").build();
+        model.setTask(CS2030, editedCs2030);
+        new FilterCommand(new AndFilter(List.of(FilterTerm.tag(Tag.of("friends")),
+                FilterTerm.priority(PriorityTag.of("HIGH"))))).execute(model);
+        assertEquals(Arrays.asList(CS2040, editedCs2030), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_listedTaskEdited_editedTaskTestedAgainstFilter() throws Exception {
+        TaskFilter filter = FilterTerm.moduleCode(ModuleCode.of("CS2103"));
+        new FilterCommand(filter).execute(model);
+        assertEquals(Arrays.asList(CS2103), model.getFilteredTaskList());
+
+        // the listed task no longer has the module code
+        new EditCommand(INDEX_FIRST_TASK, new EditTaskDescriptorBuilder().withCode("CS2101").build()).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+
+        // a task that was not listed now has the module code
+        Task movedTask = model.getTaskTracker().getTaskList().get(0);
+        Task editedTask = new Task(movedTask.getId(), movedTask.getTaskName(), ModuleCode.of("CS2103"),
+                movedTask.getDeadlineDate(), movedTask.getDeadlineTime(), movedTask.getStatus(),
+                movedTask.getWeightage(), movedTask.getNotes(), movedTask.getTags(), movedTask.getPriorityTag());
+        model.setTask(movedTask, editedTask);
+        assertEquals(Arrays.asList(editedTask), model.getFilteredTaskList());
+    }
+}
@@ -5,13 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 import static seedu.address.testutil.TypicalTasks.CS1010E;
 import static seedu.address.testutil.TypicalTasks.CS2030;
 import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +24,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskName;
+import seedu.address.testutil.EditTaskDescriptorBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -52,6 +60,9 @@ public class FindCommandTest {
 
         // different task -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -74,6 +85,65 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CS1010E, CS2030, CS2100), model.getFilteredTaskList());
     }
 
+    @Test
+    public void execute_similarKeywords_closestTasksFirst() {
+        // "week" is a word of CS2103, "read" is part of a word of CS3243, and "tutrial" has a typo
+        List<Task> expectedTasks = Arrays.asList(CS2103, CS3243, CS1010E, CS2030);
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, expectedTasks.size());
+        FindCommand command = new FindCommand(preparePredicate("tutrial Week read"), true);
+        expectedModel.updateFilteredTaskList(expectedTasks::contains, Comparator.comparingInt(expectedTasks::indexOf));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedTasks, model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_similarModeThenExactMode_listOrderRestored() {
+        new FindCommand(preparePredicate("Week tutorial"), true).execute(model);
+        new FindCommand(preparePredicate("Week tutorial")).execute(model);
+        assertEquals(Arrays.asList(CS2103, CS1010E, CS2030), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_foundTaskEdited_editedTaskTestedAgainstKeywords() throws Exception {
+        new FindCommand(preparePredicate("Quiz")).execute(model);
+        assertEquals(Collections.singletonList(CS2103), model.getFilteredTaskList());
+
+        // the found task no longer matches
+        new EditCommand(INDEX_FIRST_TASK, new EditTaskDescriptorBuilder().withName("Homework").build()).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+
+        // a task that was not found now matches
+        Task homework = model.getTaskTracker().getTaskList().get(0);
+        Task quiz = rename(homework, "Week 11 Quiz");
+        model.setTask(homework, quiz);
+        assertEquals(Collections.singletonList(quiz), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_similarTaskEdited_editedTaskRankedAgain() throws Exception {
+        new FindCommand(preparePredicate("tutrial Week read"), true).execute(model);
+        assertEquals(Arrays.asList(CS2103, CS3243, CS1010E, CS2030), model.getFilteredTaskList());
+
+        // the found task no longer has a similar word
+        new EditCommand(INDEX_FIRST_TASK, new EditTaskDescriptorBuilder().withName("Homework").build()).execute(model);
+        assertEquals(Arrays.asList(CS3243, CS1010E, CS2030), model.getFilteredTaskList());
+
+        // a task that was not found now has the same word as a keyword, so it is ranked first
+        Task homework = model.getTaskTracker().getTaskList().get(0);
+        Task reading = rename(homework, "Reading week");
+        model.setTask(homework, reading);
+        assertEquals(Arrays.asList(reading, CS3243, CS1010E, CS2030), model.getFilteredTaskList());
+    }
+
+    /**
+     * Returns {@code task} with the name {@code name}, as edited by the user.
+     */
+    private static Task rename(Task task, String name) {
+        return new Task(task.getId(), new TaskName(name), task.getModuleCode(), task.getDeadlineDate(),
+                task.getDeadlineTime(), task.getStatus(), task.getWeightage(), task.getNotes(), task.getTags(),
+                task.getPriorityTag());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code NextCommand}.
+ */
+public class NextCommandTest {
+
+    private static final TaskFilter UNFINISHED = FilterTerm.status(false);
+
+    private static final Task ESSAY = new TaskBuilder().withName("Essay").withCode("CS2101")
+            .withDeadlineDate("01-03-2099").withPriorityTag("HIGH").build();
+    private static final Task QUIZ = new TaskBuilder().withName("Quiz").withCode("CS2103")
+            .withDeadlineDate("01-01-2099").withDeadlineTime("09:00").build();
+    private static final Task LAB = new TaskBuilder().withName("Lab").withCode("CS2040")
+            .withDeadlineDate("01-01-2099").withDeadlineTime("08:00").withPriorityTag("HIGH").build();
+    private static final Task PROJECT = new TaskBuilder().withName("Project").withCode("CS2103")
+            .withDeadlineDate("01-02-2099").build();
+    private static final Task FINISHED = new TaskBuilder().withName("Finished").withCode("CS2103")
+            .withDeadlineDate("01-01-2099").withStatus("Finished").build();
+
+    private final Model model = new ModelManager(createTaskTracker(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(createTaskTracker(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NextCommand nextThree = new NextCommand(3, UNFINISHED);
+
+        // same object -> returns true
+        assertTrue(nextThree.equals(nextThree));
+
+        // same values -> returns true
+        assertTrue(nextThree.equals(new NextCommand(3, UNFINISHED)));
+
+        // different types -> returns false
+        assertFalse(nextThree.equals(1));
+
+        // null -> returns false
+        assertFalse(nextThree.equals(null));
+
+        // different count -> returns false
+        assertFalse(nextThree.equals(new NextCommand(4, UNFINISHED)));
+
+        // different filter -> returns false
+        assertFalse(nextThree.equals(new NextCommand(3, FilterTerm.status(true))));
+    }
+
+    @Test
+    public void execute_count_nearestUnfinishedUpcomingTasksShown() {
+        CommandResult expectedResult = new CommandResult(String.format(NextCommand.MESSAGE_NEXT_TASKS, 3),
+                List.of(LAB, QUIZ, PROJECT));
+        assertCommandSuccess(new NextCommand(3, UNFINISHED), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_countOverUpcomingTasks_allUpcomingTasksShown() {
+        CommandResult expectedResult = new CommandResult(String.format(NextCommand.MESSAGE_NEXT_TASKS, 4),
+                List.of(LAB, QUIZ, PROJECT, ESSAY));
+        assertCommandSuccess(new NextCommand(10, UNFINISHED), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_moduleOrPriority_matchingTasksShown() {
+        TaskFilter cs2103 = new AndFilter(List.of(UNFINISHED, FilterTerm.moduleCode(ModuleCode.of("CS2103"))));
+        assertCommandSuccess(new NextCommand(5, cs2103), model,
+                new CommandResult(String.format(NextCommand.MESSAGE_NEXT_TASKS, 2), List.of(QUIZ, PROJECT)),
+                expectedModel);
+
+        TaskFilter high = new AndFilter(List.of(UNFINISHED, FilterTerm.priority(PriorityTag.of("HIGH"))));
+        assertCommandSuccess(new NextCommand(1, high), model,
+                new CommandResult(String.format(NextCommand.MESSAGE_NEXT_TASKS, 1), List.of(LAB)), expectedModel);
+    }
+
+    @Test
+    public void execute_noUpcomingTasks_noTasksMessage() {
+        TaskFilter cs1010 = new AndFilter(List.of(UNFINISHED, FilterTerm.moduleCode(ModuleCode.of("CS1010"))));
+        assertCommandSuccess(new NextCommand(5, cs1010), model,
+                new CommandResult(NextCommand.MESSAGE_NO_TASKS, List.of()), expectedModel);
+    }
+
+    @Test
+    public void execute_filteredAndSortedTaskList_taskListUnchanged() {
+        model.updateFilteredTaskList(task -> task.getModuleCode().equals(ModuleCode.of("CS2103")));
+        List<Task> shownTasks = new ArrayList<>(model.getFilteredTaskList());
+
+        new NextCommand(2, UNFINISHED).execute(model);
+        assertEquals(shownTasks, model.getFilteredTaskList());
+        assertEquals(List.of(ESSAY, QUIZ, LAB, PROJECT, FINISHED), model.getTaskTracker().getTaskList());
+    }
+
+    private static TaskTracker createTaskTracker() {
+        TaskTracker taskTracker = new TaskTracker();
+        for (Task task : List.of(ESSAY, QUIZ, LAB, PROJECT, FINISHED)) {
+            taskTracker.addTask(task);
+        }
+        return taskTracker;
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.comparators.DateTimeComparator;
@@ -78,6 +80,7 @@ public class SortCommandTest {
         String expectedMessage = SortCommand.MESSAGE_SUCCESS + dateTimeFlag.toString();
         Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
         expectedModel.sortTasks(dateTimeComparator);
+        expectedModel.setSortOrder(dateTimeFlag.toString());
 
         assertCommandSuccess(sortCommandDateTime, model, expectedMessage, expectedModel);
     }
@@ -89,6 +92,7 @@ public class SortCommandTest {
         String expectedMessage = SortCommand.MESSAGE_SUCCESS + moduleCodeFlag.toString();
         Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
         expectedModel.sortTasks(moduleCodeComparator);
+        expectedModel.setSortOrder(moduleCodeFlag.toString());
 
         assertCommandSuccess(sortCommandModuleCode, model, expectedMessage, expectedModel);
     }
@@ -100,6 +104,7 @@ public class SortCommandTest {
         String expectedMessage = SortCommand.MESSAGE_SUCCESS + priorityTagFlag.toString();
         Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
         expectedModel.sortTasks(priorityTagComparator);
+        expectedModel.setSortOrder(priorityTagFlag.toString());
 
         assertCommandSuccess(sortCommandPriorityTag, model, expectedMessage, expectedModel);
     }
@@ -111,6 +116,7 @@ public class SortCommandTest {
         String expectedMessage = SortCommand.MESSAGE_SUCCESS + taskNameFlag.toString();
         Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
         expectedModel.sortTasks(taskNameComparator);
+        expectedModel.setSortOrder(taskNameFlag.toString());
 
         assertCommandSuccess(sortCommandTaskName, model, expectedMessage, expectedModel);
     }
@@ -122,8 +128,22 @@ public class SortCommandTest {
         String expectedMessage = SortCommand.MESSAGE_SUCCESS + weightageFlag.toString();
         Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
         expectedModel.sortTasks(weightageComparator);
+        expectedModel.setSortOrder(weightageFlag.toString());
 
         assertCommandSuccess(sortCommandWeightage, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_validSortByMultipleFlags_success() {
+        SortingFlag reversedTaskNameFlag = new SortingFlag("taskName-");
+        SortCommand sortCommand = new SortCommand(List.of(dateTimeFlag, reversedTaskNameFlag));
+
+        String expectedMessage = SortCommand.MESSAGE_SUCCESS + "dateTime taskName-";
+        Model expectedModel = new ModelManager(model.getTaskTracker(), new UserPrefs());
+        expectedModel.sortTasks(dateTimeComparator.thenComparing(taskNameComparator.reversed()));
+        expectedModel.setSortOrder("dateTime taskName-");
+
+        assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        assertFalse(sortCommand.equals(new SortCommand(List.of(dateTimeFlag, taskNameFlag))));
+    }
 }
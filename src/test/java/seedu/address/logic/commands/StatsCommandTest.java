@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand();
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // another stats command -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand()));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different command -> returns false
+        assertFalse(statsCommand.equals(new ListCommand()));
+    }
+
+    @Test
+    public void execute_noTasks_noTasksMessage() {
+        assertCommandSuccess(new StatsCommand(), new ModelManager(), StatsCommand.MESSAGE_NO_TASKS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_tasks_statsShown() {
+        Model model = new ModelManager(createTaskTracker(), new UserPrefs());
+        Model expectedModel = new ModelManager(createTaskTracker(), new UserPrefs());
+        String expectedMessage = "Workload: 3 tasks, 2 unfinished, 30% of 60% weightage outstanding\n"
+                + "By status:\n"
+                + "  Unfinished: 2 tasks, 30% weightage\n"
+                + "  Finished: 1 task, 30% weightage\n"
+                + "By priority:\n"
+                + "  HIGH: 1 task, 1 unfinished, 10% of 10% weightage outstanding\n"
+                + "  LOW: 2 tasks, 1 unfinished, 20% of 50% weightage outstanding\n"
+                + "By module:\n"
+                + "  CS2040: 1 task, 1 unfinished, 20% of 20% weightage outstanding\n"
+                + "  CS2103: 2 tasks, 1 unfinished, 10% of 40% weightage outstanding\n"
+                + "Due by week:\n"
+                + "  2022-W40 (03-10-2022 to 09-10-2022): 1 task, 1 unfinished, 10% of 10% weightage outstanding\n"
+                + "  2022-W41 (10-10-2022 to 16-10-2022): 2 tasks, 1 unfinished, 20% of 50% weightage outstanding";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void describeWeek_weekAcrossYears_isoWeekOfThursday() {
+        assertEquals("2020-W53 (28-12-2020 to 03-01-2021)", StatsCommand.describeWeek(LocalDate.of(2020, 12, 28)));
+        assertEquals("2023-W01 (02-01-2023 to 08-01-2023)", StatsCommand.describeWeek(LocalDate.of(2023, 1, 2)));
+    }
+
+    private static TaskTracker createTaskTracker() {
+        TaskTracker taskTracker = new TaskTracker();
+        taskTracker.addTask(new TaskBuilder().withName("Quiz").withCode("CS2103").withDeadlineDate("09-10-2022")
+                .withWeightage(10).withPriorityTag("HIGH").build());
+        taskTracker.addTask(new TaskBuilder().withName("Lab").withCode("CS2040").withDeadlineDate("10-10-2022")
+                .withWeightage(20).withPriorityTag("LOW").build());
+        taskTracker.addTask(new TaskBuilder().withName("Project").withCode("CS2103").withDeadlineDate("16-10-2022")
+                .withWeightage(30).withPriorityTag("LOW").withStatus("Finished").build());
+        return taskTracker;
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.DueInCommand;
@@ -61,6 +63,7 @@ public class DueInCommandParserTest {
         assertParseFailure(parser, "  week/0", expectedMessage); // invalid input for week param
         assertParseFailure(parser, "  day/999999999999999", expectedMessage); // invalid input for day param
         assertParseFailure(parser, "  week/999999999999999", expectedMessage); // invalid input for week param
+        assertParseFailure(parser, "  week/2635249153387078802", expectedMessage); // number of days overflows
     }
 
     @Test
@@ -101,6 +104,41 @@ public class DueInCommandParserTest {
         assertParseFailure(parser, " day/sada week/7", expectedMessage); // one valid and one invalid
         assertParseFailure(parser, " day/7 week/sdadas", expectedMessage); // one valid and one invalid
         assertParseFailure(parser, " day/adsad week/asdsdad", expectedMessage); // both invalid
+        assertParseFailure(parser, " day/7 from/01-10-2022", expectedMessage); // days and dates
+        assertParseFailure(parser, " week/1 to/31-10-2022", expectedMessage); // weeks and dates
+    }
+
+    @Test
+    public void parse_datesGiven_returnsDueInCommand() throws ParseException {
+        LocalDate startDate = LocalDate.of(2022, 10, 1);
+        LocalDate endDate = LocalDate.of(2022, 10, 31);
+
+        assertParseSuccess(parser, " from/01-10-2022 to/31-10-2022",
+                new DueInCommand(new DeadlineDateInRangePredicate(startDate, endDate)));
+        assertParseSuccess(parser, " to/31-10-2022   from/01-10-2022 ",
+                new DueInCommand(new DeadlineDateInRangePredicate(startDate, endDate))); // any order
+        assertParseSuccess(parser, " from/01-10-2022 to/01-10-2022",
+                new DueInCommand(new DeadlineDateInRangePredicate(startDate, startDate))); // single day
+
+        // no end date -> until the latest date allowed
+        assertParseSuccess(parser, " from/01-10-2022",
+                new DueInCommand(new DeadlineDateInRangePredicate(startDate, DeadlineDateInRangePredicate.MAX_DATE)));
+
+        // no start date -> from today
+        assertParseSuccess(parser, " to/31-10-2022",
+                new DueInCommand(new DeadlineDateInRangePredicate(LocalDate.now(), endDate)));
+    }
+
+    @Test
+    public void parse_invalidDates_throwsError() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueInCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, " from/", expectedMessage); // empty argument
+        assertParseFailure(parser, " from/01-10-2022 to/", expectedMessage); // empty argument
+        assertParseFailure(parser, " from/1-10-2022", expectedMessage); // not DD-MM-YYYY
+        assertParseFailure(parser, " from/2022-10-01", expectedMessage); // not DD-MM-YYYY
+        assertParseFailure(parser, " to/31-02-2022", expectedMessage); // does not exist on calendar
+        assertParseFailure(parser, " from/31-10-2022 to/01-10-2022", expectedMessage); // end before start
     }
 
 }
@@ -0,0 +1,107 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.NotFilter;
+import seedu.address.model.filter.OrFilter;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.DeadlineDateInRangePredicate;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Weightage;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final TaskFilter CS2103 = FilterTerm.moduleCode(ModuleCode.of("CS2103"));
+    private static final TaskFilter HIGH = FilterTerm.priority(PriorityTag.of("HIGH"));
+    private static final TaskFilter URGENT = FilterTerm.tag(Tag.of("URGENT"));
+    private static final TaskFilter QUIZ = FilterTerm.nameHasWord("quiz");
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_singleConditions_returnsFilterCommand() {
+        assertParseSuccess(parser, " mc/CS2103", new FilterCommand(CS2103));
+        assertParseSuccess(parser, " ptag/high", new FilterCommand(HIGH));
+        assertParseSuccess(parser, " pt/URGENT", new FilterCommand(URGENT));
+        assertParseSuccess(parser, " n/quiz", new FilterCommand(QUIZ));
+        assertParseSuccess(parser, " s/Finished", new FilterCommand(FilterTerm.status(true)));
+        assertParseSuccess(parser, " s/unfinished", new FilterCommand(FilterTerm.status(false)));
+        assertParseSuccess(parser, " w/30%", new FilterCommand(FilterTerm.weightageBetween(30, 30)));
+        assertParseSuccess(parser, " w/10%-40%", new FilterCommand(FilterTerm.weightageBetween(10, 40)));
+    }
+
+    @Test
+    public void parse_dates_returnsFilterCommand() {
+        LocalDate startDate = LocalDate.of(2021, 4, 1);
+        LocalDate endDate = LocalDate.of(2021, 4, 30);
+
+        // adjacent from/ and to/ make one window
+        assertParseSuccess(parser, " from/01-04-2021 to/30-04-2021",
+                new FilterCommand(FilterTerm.dueBetween(startDate, endDate)));
+
+        assertParseSuccess(parser, " from/01-04-2021",
+                new FilterCommand(FilterTerm.dueBetween(startDate, DeadlineDateInRangePredicate.MAX_DATE)));
+        assertParseSuccess(parser, " to/30-04-2021",
+                new FilterCommand(FilterTerm.dueBetween(DeadlineDateInRangePredicate.MIN_DATE, endDate)));
+    }
+
+    @Test
+    public void parse_operators_returnsFilterCommand() {
+        // implicit and explicit AND, in any case
+        FilterCommand expectedAnd = new FilterCommand(new AndFilter(List.of(CS2103, HIGH)));
+        assertParseSuccess(parser, " mc/CS2103 ptag/HIGH", expectedAnd);
+        assertParseSuccess(parser, " mc/CS2103 AND ptag/HIGH", expectedAnd);
+        assertParseSuccess(parser, " mc/CS2103 and ptag/HIGH", expectedAnd);
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, " mc/CS2103 NOT n/quiz OR ptag/HIGH", new FilterCommand(new OrFilter(List.of(
+                new AndFilter(List.of(CS2103, new NotFilter(QUIZ))), HIGH))));
+
+        // parentheses, with or without spaces around them
+        FilterCommand expectedGrouped = new FilterCommand(new AndFilter(List.of(CS2103,
+                new OrFilter(List.of(HIGH, URGENT)))));
+        assertParseSuccess(parser, " mc/CS2103 (ptag/HIGH OR pt/URGENT)", expectedGrouped);
+        assertParseSuccess(parser, " mc/CS2103 ( ptag/HIGH or pt/URGENT )", expectedGrouped);
+        assertParseSuccess(parser, " NOT (mc/CS2103)", new FilterCommand(new NotFilter(CS2103)));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "  ", expectedMessage); // empty query
+        assertParseFailure(parser, " quiz", expectedMessage); // no prefix
+        assertParseFailure(parser, " n/", expectedMessage); // empty word
+        assertParseFailure(parser, " mc/CS2103 AND", expectedMessage); // dangling operator
+        assertParseFailure(parser, " OR mc/CS2103", expectedMessage); // leading operator
+        assertParseFailure(parser, " NOT", expectedMessage); // dangling operator
+        assertParseFailure(parser, " (mc/CS2103", expectedMessage); // unclosed parenthesis
+        assertParseFailure(parser, " mc/CS2103)", expectedMessage); // unopened parenthesis
+        assertParseFailure(parser, " ()", expectedMessage); // empty parentheses
+        assertParseFailure(parser, " s/done", expectedMessage); // unknown status
+        assertParseFailure(parser, " w/40%-10%", expectedMessage); // empty weightage range
+        assertParseFailure(parser, " w/10%-20%-30%", expectedMessage); // too many bounds
+        assertParseFailure(parser, " from/30-04-2021 to/01-04-2021", expectedMessage); // empty date window
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " mc/CS21", ModuleCode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " pt/not*alnum", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ptag/URGENT", PriorityTag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " w/101%", Weightage.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/31-02-2021", ParserUtil.MESSAGE_INVALID_RANGE_DATE);
+    }
+}
@@ -23,6 +23,11 @@ public class FindCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_similarFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " -f ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -34,4 +39,16 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_similarFlag_returnsSimilarFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true);
+        assertParseSuccess(parser, "-f Alice Bob", expectedFindCommand);
+        assertParseSuccess(parser, " \n -f \t Alice Bob  \t", expectedFindCommand);
+
+        // flag after a keyword is a keyword
+        assertParseSuccess(parser, "Alice -f",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "-f"))));
+    }
+
 }
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.tag.PriorityTag;
+
+public class NextCommandParserTest {
+
+    private static final TaskFilter UNFINISHED = FilterTerm.status(false);
+    private static final TaskFilter CS2103 = FilterTerm.moduleCode(ModuleCode.of("CS2103"));
+    private static final TaskFilter HIGH = FilterTerm.priority(PriorityTag.of("HIGH"));
+
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultCount() {
+        assertParseSuccess(parser, "", new NextCommand(NextCommand.DEFAULT_COUNT, UNFINISHED));
+        assertParseSuccess(parser, "  ", new NextCommand(NextCommand.DEFAULT_COUNT, UNFINISHED));
+    }
+
+    @Test
+    public void parse_validArgs_returnsNextCommand() {
+        assertParseSuccess(parser, " 3", new NextCommand(3, UNFINISHED));
+        assertParseSuccess(parser, " 3 mc/CS2103", new NextCommand(3, new AndFilter(List.of(UNFINISHED, CS2103))));
+        assertParseSuccess(parser, " ptag/high", new NextCommand(NextCommand.DEFAULT_COUNT,
+                new AndFilter(List.of(UNFINISHED, HIGH))));
+        assertParseSuccess(parser, " 10 ptag/HIGH mc/CS2103", new NextCommand(10,
+                new AndFilter(List.of(UNFINISHED, CS2103, HIGH))));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -2", expectedMessage);
+        assertParseFailure(parser, " three", expectedMessage);
+        assertParseFailure(parser, " 99999999999", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFilters_throwsParseException() {
+        assertParseFailure(parser, " mc/CS 2103", ModuleCode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ptag/URGENT", PriorityTag.MESSAGE_CONSTRAINTS);
+    }
+}
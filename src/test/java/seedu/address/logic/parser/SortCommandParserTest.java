@@ -4,6 +4,8 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
@@ -42,6 +44,18 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, "weightage", new SortCommand(weightageFlag));
     }
 
+    @Test
+    public void parse_validArgsMultipleFlags_returnsSortCommand() {
+        assertParseSuccess(parser, " dateTime  priorityTag- weightage ", new SortCommand(List.of(dateTimeFlag,
+                new SortingFlag("priorityTag-"), weightageFlag)));
+    }
+
+    @Test
+    public void parse_invalidArgsAmongValidArgs_throwsParseException() {
+        assertParseFailure(parser, "dateTime a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortingFlag.MESSAGE_CONSTRAINTS));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortingFlag.MESSAGE_CONSTRAINTS));
@@ -23,16 +23,20 @@ import seedu.address.logic.commands.DueInCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NextCommand;
 import seedu.address.logic.commands.NotesCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.util.OperationFlag;
 import seedu.address.logic.util.SortingFlag;
+import seedu.address.model.filter.FilterTerm;
 import seedu.address.model.person.DeadlineDateInRangePredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Notes;
@@ -99,6 +103,26 @@ public class TaskTrackerParserTest {
         assertEquals(new DueInCommand(predicate), command);
     }
 
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command = (FilterCommand) parser.parseCommand(FilterCommand.COMMAND_WORD + " n/quiz");
+        assertEquals(new FilterCommand(FilterTerm.nameHasWord("quiz")), command);
+    }
+
+    @Test
+    public void parseCommand_next() throws Exception {
+        NextCommand command = (NextCommand) parser.parseCommand(NextCommand.COMMAND_WORD + " 3");
+        assertEquals(new NextCommand(3, FilterTerm.status(false)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + "  ") instanceof StatsCommand);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(StatsCommand.COMMAND_WORD + " foo"));
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Task task = new TaskBuilder().build();
@@ -99,4 +99,18 @@ public class SortingFlagTest {
         // invalid types
         assertFalse(SortingFlag.isValidSortingType(""));
     }
+
+    @Test
+    public void constructor_reversedSortingFlag_success() {
+        SortingFlag reversedFlag = new SortingFlag(SortingFlag.PRIORITY_TAG_FLAG + SortingFlag.REVERSED_SUFFIX);
+        assertEquals(SortingType.PRIORITY_TAG, reversedFlag.getSortingType());
+        assertTrue(reversedFlag.isReversed());
+        assertFalse(validPriorityTagSortingFlag.isReversed());
+        assertFalse(reversedFlag.equals(validPriorityTagSortingFlag));
+        assertEquals("priorityTag-", reversedFlag.toString());
+
+        assertTrue(SortingFlag.isValidSortingType("weightage-"));
+        assertFalse(SortingFlag.isValidSortingType("-"));
+        assertFalse(SortingFlag.isValidSortingType("weightage--"));
+    }
 }
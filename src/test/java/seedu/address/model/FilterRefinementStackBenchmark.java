@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.filter.AndFilter;
+import seedu.address.model.filter.FilterPredicate;
+import seedu.address.model.filter.FilterTerm;
+import seedu.address.model.filter.TaskFilter;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Measures the cost of narrowing a filter of the task list, and of going back to the wider filter, through the
+ * recent filter results of {@code ModelManager}, and compares it against filtering every task.
+ * Going back is timed without compiling the filter, as it only shows the kept positions of the wider filter.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class FilterRefinementStackBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int EXAM_EVERY = 20;
+
+    /**
+     * Prints the cost of filtering the tasks named exam with a weightage of at most 50%, after and without filtering
+     * the tasks named exam first, and of going back to the tasks named exam, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        TaskFilter exams = FilterTerm.nameHasWord("exam");
+        TaskFilter lightExams = new AndFilter(List.of(exams, FilterTerm.weightageBetween(0, 50)));
+        for (int size : SIZES) {
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(createTasks(size));
+            ModelManager model = new ModelManager(taskTracker, new UserPrefs());
+
+            model.updateFilteredTaskList(filteredBy(exams, model));
+            int examCount = model.getFilteredTaskList().size();
+            long start = System.nanoTime();
+            model.updateFilteredTaskList(filteredBy(lightExams, model));
+            long refinedNanos = System.nanoTime() - start;
+            List<Task> lightExamTasks = new ArrayList<>(model.getFilteredTaskList());
+
+            IndexedPredicate widenedPredicate = filteredBy(exams, model);
+            start = System.nanoTime();
+            model.updateFilteredTaskList(widenedPredicate);
+            long widenedNanos = System.nanoTime() - start;
+            assertEquals(examCount, model.getFilteredTaskList().size());
+
+            model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+            start = System.nanoTime();
+            model.updateFilteredTaskList(filteredBy(lightExams, model));
+            long unrefinedNanos = System.nanoTime() - start;
+            assertEquals(lightExamTasks, model.getFilteredTaskList());
+
+            System.out.printf("%,d tasks: %,d tasks narrowed in %,d us (filtering every task: %,d us), "
+                    + "%,d tasks widened back in %,d us%n", size, lightExamTasks.size(),
+                    refinedNanos / 1_000, unrefinedNanos / 1_000, examCount, widenedNanos / 1_000);
+        }
+    }
+
+    /**
+     * Returns the predicate that the filter command lists the tasks that pass {@code filter} with.
+     */
+    private static IndexedPredicate filteredBy(TaskFilter filter, Model model) {
+        return new IndexedPredicate(new FilterPredicate(filter), filter.compile(model));
+    }
+
+    private static List<Task> createTasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = (i % EXAM_EVERY == 0 ? "Exam " : "Homework ") + i;
+            tasks.add(new TaskBuilder().withName(name).withWeightage(i % 101).build());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.RefiningPredicate;
+import seedu.address.model.person.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class FilterRefinementStackTest {
+
+    private final List<Task> tasks = List.of(CS2103, CS2040, CS1010E, CS2030, CS3243, CS2100);
+    private final TaskTracker taskTracker = new TaskTracker();
+    private final FilteredTaskList filteredTasks = new FilteredTaskList(taskTracker);
+    private final FilterRefinementStack stack = new FilterRefinementStack(filteredTasks);
+
+    @BeforeEach
+    public void setUp() {
+        taskTracker.setTasks(tasks);
+    }
+
+    @Test
+    public void setPredicate_refiningPredicate_onlyFilteredTasksTested() {
+        ModuleCodePredicate wide = new ModuleCodePredicate("CS2103", "CS2040", "CS2030");
+        stack.setPredicate(wide);
+        assertEquals(tasks.size(), wide.testCount);
+        assertEquals(List.of(CS2103, CS2040, CS2030), filteredTasks);
+
+        ModuleCodePredicate narrow = new ModuleCodePredicate("CS2103", "CS2030");
+        stack.setPredicate(narrow);
+        assertEquals(3, narrow.testCount);
+        assertEquals(List.of(CS2103, CS2030), filteredTasks);
+        assertEquals(2, stack.size());
+    }
+
+    @Test
+    public void setPredicate_recentPredicate_noTasksTested() {
+        stack.setPredicate(new ModuleCodePredicate("CS2103", "CS2040", "CS2030", "CS3243"));
+        stack.setPredicate(new ModuleCodePredicate("CS2103", "CS2040", "CS2030"));
+        stack.setPredicate(new ModuleCodePredicate("CS2103"));
+
+        // going back to a wider predicate
+        ModuleCodePredicate wide = new ModuleCodePredicate("CS2103", "CS2040", "CS2030");
+        stack.setPredicate(wide);
+        assertEquals(0, wide.testCount);
+        assertEquals(List.of(CS2103, CS2040, CS2030), filteredTasks);
+        assertEquals(2, stack.size());
+
+        // a predicate between two recent predicates is tested on the tasks of the wider one
+        ModuleCodePredicate between = new ModuleCodePredicate("CS2103", "CS2040");
+        stack.setPredicate(between);
+        assertEquals(3, between.testCount);
+        assertEquals(List.of(CS2103, CS2040), filteredTasks);
+    }
+
+    @Test
+    public void setPredicate_predicateNotRefiningRecentPredicates_allTasksTested() {
+        stack.setPredicate(new ModuleCodePredicate("CS2103", "CS2040"));
+
+        ModuleCodePredicate other = new ModuleCodePredicate("CS2103", "CS3243");
+        stack.setPredicate(other);
+        assertEquals(tasks.size(), other.testCount);
+        assertEquals(List.of(CS2103, CS3243), filteredTasks);
+        assertEquals(1, stack.size());
+
+        // not a refining predicate
+        stack.setPredicate(task -> true);
+        assertEquals(tasks, filteredTasks);
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    public void setPredicate_manyRefinements_oldestDropped() {
+        List<String> moduleCodes = Arrays.asList("CS2103", "CS2040", "CS1010", "CS2030", "CS3243", "CS2100");
+        for (int size = moduleCodes.size(); size > 0; size--) {
+            stack.setPredicate(new ModuleCodePredicate(moduleCodes.subList(0, size).toArray(new String[0])));
+        }
+        assertEquals(FilterRefinementStack.MAX_SIZE, stack.size());
+        assertEquals(List.of(CS2103), filteredTasks);
+    }
+
+    @Test
+    public void setPredicate_indexedPredicateWithIds_onlyTasksWithIdsShown() {
+        ModuleCodePredicate moduleCodes = new ModuleCodePredicate("CS2040", "CS2030");
+        stack.setPredicate(new IndexedPredicate(moduleCodes, Set.of(CS2030.getId(), CS2040.getId())));
+        assertEquals(0, moduleCodes.testCount);
+        assertEquals(List.of(CS2040, CS2030), filteredTasks);
+        assertEquals(1, stack.size());
+
+        // added tasks are tested with the predicate itself
+        Task otherCs2040 = new TaskBuilder(CS2100).withCode("CS2040").build();
+        taskTracker.addTask(otherCs2040);
+        assertEquals(1, moduleCodes.testCount);
+        assertEquals(List.of(CS2040, CS2030, otherCs2040), filteredTasks);
+    }
+
+    @Test
+    public void taskListChanges_stackCleared() {
+        stack.setPredicate(new ModuleCodePredicate("CS2103", "CS2040"));
+        stack.setPredicate(new ModuleCodePredicate("CS2103"));
+
+        // added tasks are tested against the predicate of the shown tasks
+        Task otherCs2103 = new TaskBuilder(CS2030).withCode("CS2103").build();
+        taskTracker.addTask(otherCs2103);
+        taskTracker.removeTask(CS2040);
+        assertEquals(List.of(CS2103, otherCs2103), filteredTasks);
+        assertEquals(0, stack.size());
+
+        ModuleCodePredicate wide = new ModuleCodePredicate("CS2103", "CS2040");
+        stack.setPredicate(wide);
+        assertEquals(taskTracker.getTaskList().size(), wide.testCount);
+        assertEquals(List.of(CS2103, otherCs2103), filteredTasks);
+    }
+
+    /**
+     * Passes the tasks with any of the given module codes, and counts the tasks tested.
+     */
+    private static class ModuleCodePredicate implements RefiningPredicate {
+        private final Set<ModuleCode> moduleCodes;
+        private int testCount;
+
+        ModuleCodePredicate(String... moduleCodes) {
+            this.moduleCodes = Arrays.stream(moduleCodes).map(ModuleCode::of).collect(Collectors.toSet());
+        }
+
+        @Override
+        public boolean test(Task task) {
+            testCount++;
+            return moduleCodes.contains(task.getModuleCode());
+        }
+
+        @Override
+        public boolean refines(Predicate<Task> other) {
+            return other instanceof ModuleCodePredicate
+                    && ((ModuleCodePredicate) other).moduleCodes.containsAll(moduleCodes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ModuleCodePredicate
+                    && moduleCodes.equals(((ModuleCodePredicate) other).moduleCodes);
+        }
+    }
+}
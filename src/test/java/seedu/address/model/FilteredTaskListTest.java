@@ -0,0 +1,157 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class FilteredTaskListTest {
+
+    private final TaskTracker taskTracker = new TaskTracker();
+    private final FilteredTaskList filteredTasks = new FilteredTaskList(taskTracker);
+
+    /** The tasks in {@code filteredTasks}, as rebuilt from the changes it reports. */
+    private final List<Task> reportedTasks = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        taskTracker.setTasks(List.of(CS2103, CS2040, CS1010E, CS2030, CS3243, CS2100));
+        reportedTasks.addAll(filteredTasks);
+        filteredTasks.addListener((ListChangeListener<Task>) change -> applyChange(reportedTasks, change));
+    }
+
+    @Test
+    public void show_positions_tasksAtPositionsShownWithoutTesting() {
+        ModuleCodePredicate predicate = new ModuleCodePredicate("CS2040", "CS2030");
+        filteredTasks.show(predicate, new int[] {1, 3});
+        assertEquals(0, predicate.testCount);
+        assertEquals(List.of(CS2040, CS2030), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+
+        filteredTasks.showAll();
+        assertEquals(taskTracker.getTaskList(), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+    }
+
+    @Test
+    public void findPositions_ids_positionsInListOrder() {
+        int[] positions = filteredTasks.findPositions(List.of(CS2100.getId(), CS2040.getId()));
+        assertArrayEquals(new int[] {1, 5}, positions);
+    }
+
+    @Test
+    public void findPositions_candidatePositions_onlyCandidatesTested() {
+        ModuleCodePredicate predicate = new ModuleCodePredicate("CS2040", "CS2030");
+        assertArrayEquals(new int[] {3}, filteredTasks.findPositions(predicate, new int[] {0, 3, 5}));
+        assertEquals(3, predicate.testCount);
+    }
+
+    @Test
+    public void taskListChanges_onlyChangedTasksTested() {
+        ModuleCodePredicate predicate = new ModuleCodePredicate("CS2103", "CS2030");
+        filteredTasks.show(predicate, filteredTasks.findPositions(predicate));
+        predicate.testCount = 0;
+
+        Task otherCs2103 = new TaskBuilder(CS2100).withName("Other quiz").withCode("CS2103").build();
+        taskTracker.addTask(otherCs2103);
+        taskTracker.addTask(new TaskBuilder(CS2100).withName("Other tests").build());
+        assertEquals(2, predicate.testCount);
+        assertEquals(List.of(CS2103, CS2030, otherCs2103), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+
+        // shown task edited to fail, and task not shown edited to pass
+        Task editedCs2030 = new TaskBuilder(CS2030).withCode("CS2040").build();
+        taskTracker.setTask(CS2030, editedCs2030);
+        Task editedCs3243 = new TaskBuilder(CS3243).withCode("CS2030").build();
+        taskTracker.setTask(CS3243, editedCs3243);
+        assertEquals(List.of(CS2103, editedCs3243, otherCs2103), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+
+        taskTracker.removeTask(CS2040);
+        taskTracker.removeTask(CS2103);
+        assertEquals(List.of(editedCs3243, otherCs2103), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+        assertEquals(4, predicate.testCount);
+    }
+
+    @Test
+    public void taskListSorted_shownTasksInSortOrder() {
+        ModuleCodePredicate predicate = new ModuleCodePredicate("CS2103", "CS1010", "CS3243");
+        filteredTasks.show(predicate, filteredTasks.findPositions(predicate));
+
+        taskTracker.sortTasks(Comparator.comparing(task -> task.getModuleCode().toString()));
+        assertEquals(List.of(CS1010E, CS2103, CS3243), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+
+        Task otherCs1010 = new TaskBuilder(CS2100).withCode("CS1010").build();
+        taskTracker.addTask(otherCs1010);
+        assertEquals(List.of(CS1010E, otherCs1010, CS2103, CS3243), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+    }
+
+    @Test
+    public void taskListChanges_everyTaskShown_changesFollowed() {
+        Task task = new TaskBuilder(CS2100).withName("Other tests").build();
+        taskTracker.addTask(task);
+        taskTracker.removeTask(CS2040);
+        assertEquals(taskTracker.getTaskList(), filteredTasks);
+        assertEquals(filteredTasks, reportedTasks);
+    }
+
+    /**
+     * Applies {@code change} to {@code tasks}, as a listener that keeps a copy of the changed list would.
+     */
+    private static void applyChange(List<Task> tasks, ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Task> permutedTasks = new ArrayList<>(tasks);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutedTasks.set(change.getPermutation(i), tasks.get(i));
+                }
+                tasks.clear();
+                tasks.addAll(permutedTasks);
+            } else {
+                tasks.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                tasks.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Passes the tasks with any of the given module codes, and counts the tasks tested.
+     */
+    private static class ModuleCodePredicate implements Predicate<Task> {
+        private final Set<ModuleCode> moduleCodes;
+        private int testCount;
+
+        ModuleCodePredicate(String... moduleCodes) {
+            this.moduleCodes = Arrays.stream(moduleCodes).map(ModuleCode::of).collect(Collectors.toSet());
+        }
+
+        @Override
+        public boolean test(Task task) {
+            testCount++;
+            return moduleCodes.contains(task.getModuleCode());
+        }
+    }
+}
@@ -5,17 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TASKS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
 import static seedu.address.testutil.TypicalTasks.CS2040;
 import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.DeadlineDateInRangePredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Task;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskTrackerBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +102,44 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTaskList().remove(0));
     }
 
+    @Test
+    public void updateFilteredTaskList_ranking_rankedUntilUpdatedOrSorted() {
+        modelManager.addTask(CS2103);
+        modelManager.addTask(CS2040);
+        Comparator<Task> byName = Comparator.comparing(task -> task.getTaskName().fullName);
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS, byName.reversed());
+        assertEquals(List.of(CS2103, CS2040), modelManager.getFilteredTaskList());
+        modelManager.sortTasks(byName);
+        assertEquals(List.of(CS2040, CS2103), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS, byName.reversed());
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(List.of(CS2040, CS2103), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void updateFilteredTaskList_refiningPredicates_sameTasksAsTestingEachTask() throws Exception {
+        modelManager = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+        DeadlineDateInRangePredicate october = new DeadlineDateInRangePredicate(
+                LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        DeadlineDateInRangePredicate oct9To10 = new DeadlineDateInRangePredicate(
+                LocalDate.of(2022, 10, 9), LocalDate.of(2022, 10, 10));
+
+        modelManager.updateFilteredTaskList(october);
+        modelManager.updateFilteredTaskList(oct9To10);
+        assertEquals(List.of(CS2103, CS2040, CS1010E, CS2030), modelManager.getFilteredTaskList());
+
+        // edited tasks are tested against the shown predicate
+        Task editedCs2030 = new TaskBuilder(CS2030).withDeadlineDate("31-10-2022").build();
+        modelManager.setTask(CS2030, editedCs2030);
+        assertEquals(List.of(CS2103, CS2040, CS1010E), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(october);
+        assertEquals(getTypicalTaskTracker().getTaskList().size(), modelManager.getFilteredTaskList().size());
+        assertTrue(modelManager.getFilteredTaskList().contains(editedCs2030));
+    }
+
     @Test
     public void equals() {
         TaskTracker taskTracker = new TaskTrackerBuilder().withTask(CS2103).withTask(CS2040).build();
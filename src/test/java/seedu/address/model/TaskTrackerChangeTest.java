@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TaskTrackerChange.ListChange;
+
+public class TaskTrackerChangeTest {
+
+    @Test
+    public void constructor_removedTasksOutsideList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ListChange(1, 1, List.of(CS2103),
+                Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new ListChange(-1, 1, Collections.emptyList(),
+                Collections.emptyList()));
+    }
+
+    @Test
+    public void between_singleEdit_onlyEditedTaskRecorded() {
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        TaskTrackerSnapshot before = (TaskTrackerSnapshot) taskTracker.snapshot();
+        taskTracker.setTask(CS2030, CS2030.finishTask());
+        TaskTrackerSnapshot after = (TaskTrackerSnapshot) taskTracker.snapshot();
+
+        TaskTrackerChange change = TaskTrackerChange.between(before, after);
+        ListChange taskListChange = change.getTaskListChange();
+        assertEquals(List.of(CS2030), taskListChange.getRemovedTasks());
+        assertEquals(1, taskListChange.getAddedTasks().size());
+        assertEquals(0, change.getDailyTaskListChange().getRemovedTasks().size());
+
+        assertEquals(after.getTaskList(), change.applyTo(before).get().getTaskList());
+        assertEquals(before.getTaskList(), change.revertFrom(after).get().getTaskList());
+    }
+
+    @Test
+    public void revertFrom_differentState_returnsEmpty() {
+        TaskTracker taskTracker = new TaskTracker();
+        TaskTrackerSnapshot before = (TaskTrackerSnapshot) taskTracker.snapshot();
+        taskTracker.addTask(CS2103);
+        TaskTrackerChange change = TaskTrackerChange.between(before, (TaskTrackerSnapshot) taskTracker.snapshot());
+
+        assertFalse(change.revertFrom(before).isPresent());
+        assertFalse(change.applyTo((TaskTrackerSnapshot) taskTracker.snapshot()).isPresent());
+        assertTrue(change.revertFrom((TaskTrackerSnapshot) taskTracker.snapshot()).isPresent());
+    }
+}
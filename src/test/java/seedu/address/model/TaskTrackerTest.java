@@ -5,20 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
 import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskWordIndex;
 import seedu.address.model.person.exceptions.DuplicateTaskException;
+import seedu.address.model.person.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
 
 public class TaskTrackerTest {
@@ -84,6 +92,139 @@ public class TaskTrackerTest {
         assertThrows(UnsupportedOperationException.class, () -> taskTracker.getTaskList().remove(0));
     }
 
+    @Test
+    public void startBatch_multipleMutations_firesSingleChangeEvent() {
+        taskTracker.addTask(CS2103);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        taskTracker.getTaskList().addListener((ListChangeListener<Task>) changes::add);
+
+        taskTracker.startBatch()
+                .addTask(CS2040)
+                .addTask(CS2030)
+                .removeTask(CS2103)
+                .setTask(CS2030, CS3243)
+                .commit();
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(CS2040, CS3243), taskTracker.getTaskList());
+    }
+
+    @Test
+    public void startBatch_dailyTaskMutationsOnly_taskListUnchanged() {
+        taskTracker.addTask(CS2103);
+        taskTracker.addTask(CS2040);
+        taskTracker.addDailyTask(CS2040);
+        List<ListChangeListener.Change<? extends Task>> taskListChanges = new ArrayList<>();
+        taskTracker.getTaskList().addListener((ListChangeListener<Task>) taskListChanges::add);
+        List<ListChangeListener.Change<? extends Task>> dailyTaskListChanges = new ArrayList<>();
+        taskTracker.getDailyTaskList().addListener((ListChangeListener<Task>) dailyTaskListChanges::add);
+
+        taskTracker.startBatch()
+                .addDailyTask(CS2103)
+                .removeDailyTask(CS2040)
+                .commit();
+
+        assertEquals(0, taskListChanges.size());
+        assertEquals(1, dailyTaskListChanges.size());
+        assertEquals(Collections.singletonList(CS2103), taskTracker.getDailyTaskList());
+    }
+
+    @Test
+    public void startBatch_dailyTaskThenTaskMutations_allApplied() {
+        taskTracker.addTask(CS2103);
+        taskTracker.addTask(CS2040);
+
+        taskTracker.startBatch()
+                .addDailyTask(CS2103)
+                .addDailyTask(CS2040)
+                .removeTask(CS2040)
+                .commit();
+
+        assertEquals(Collections.singletonList(CS2103), taskTracker.getTaskList());
+        assertEquals(Collections.singletonList(CS2103), taskTracker.getDailyTaskList());
+    }
+
+    @Test
+    public void startBatch_notCommitted_taskTrackerUnchanged() {
+        TaskTracker.Batch batch = taskTracker.startBatch().addTask(CS2103);
+        assertTrue(batch.hasTask(CS2103));
+        assertFalse(taskTracker.hasTask(CS2103));
+    }
+
+    @Test
+    public void startBatch_invalidMutation_throwsAndLeavesTaskTrackerUnchanged() {
+        TaskTracker.Batch batch = taskTracker.startBatch().addTask(CS2103);
+        assertThrows(DuplicateTaskException.class, () -> batch.addTask(CS2103));
+        assertThrows(TaskNotFoundException.class, () -> batch.removeTask(CS2040));
+        assertEquals(Collections.emptyList(), taskTracker.getTaskList());
+    }
+
+    @Test
+    public void startBatch_commitTwice_throwsIllegalStateException() {
+        TaskTracker.Batch batch = taskTracker.startBatch().addTask(CS2103);
+        batch.commit();
+        assertThrows(IllegalStateException.class, batch::commit);
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        taskTracker.addTask(CS2103);
+        taskTracker.addDailyTask(CS2103);
+        ReadOnlyTaskTracker snapshot = taskTracker.snapshot();
+
+        taskTracker.addTask(CS2040);
+        taskTracker.finishTask(CS2103);
+        taskTracker.removeDailyTask(CS2103);
+
+        assertEquals(Collections.singletonList(CS2103), snapshot.getTaskList());
+        assertEquals(Collections.singletonList(CS2103), snapshot.getDailyTaskList());
+    }
+
+    @Test
+    public void snapshot_restored_equalsOriginalState() {
+        TaskTracker original = getTypicalTaskTracker();
+        ReadOnlyTaskTracker snapshot = original.snapshot();
+        TaskTracker expected = new TaskTracker(original);
+
+        original.removeTask(CS2103);
+        original.resetData(snapshot);
+
+        assertEquals(expected, original);
+    }
+
+    @Test
+    public void resetData_snapshotBeforeAdd_onlyAddedTaskReplaced() {
+        taskTracker.addTask(CS2103);
+        taskTracker.addDailyTask(CS2103);
+        ReadOnlyTaskTracker snapshot = taskTracker.snapshot();
+        taskTracker.addTask(CS2040);
+        taskTracker.addDailyTask(CS2040);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        taskTracker.getTaskList().addListener((ListChangeListener<Task>) changes::add);
+
+        taskTracker.resetData(snapshot);
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Task> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(Collections.singletonList(CS2040), change.getRemoved());
+        assertEquals(Collections.singletonList(CS2103), taskTracker.getDailyTaskList());
+        assertFalse(taskTracker.hasTask(CS2040));
+        assertTrue(taskTracker.hasTask(CS2103));
+    }
+
+    @Test
+    public void snapshotOf_tasks_indexedOnceLoaded() {
+        ReadOnlyTaskTracker snapshot = TaskTracker.snapshotOf(List.of(CS2103, CS2040), List.of(CS2040));
+        assertFalse(snapshot instanceof TaskTracker);
+        assertEquals(List.of(CS2103, CS2040), snapshot.getTaskList());
+        assertEquals(List.of(CS2040), snapshot.getDailyTaskList());
+
+        taskTracker.resetData(snapshot);
+        assertEquals(Set.of(CS2040.getId()), taskTracker.findTaskIds(TaskWordIndex.Field.NAME, List.of("lab")));
+        assertEquals(List.of(CS2040), taskTracker.getDailyTaskList());
+    }
+
     /**
      * A stub ReadOnlyTaskTracker whose tasks list can violate interface constraints.
      */
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Measures the cost of undoing and redoing the addition of a task in a {@code TaskTracker}, which only replaces the
+ * added task, and compares it against replacing the whole task list with the restored state.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class UndoRedoBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int REPEATS = 100;
+
+    /**
+     * Prints the average cost of undoing and redoing an addition, and the cost of replacing the whole list with the
+     * state before the addition, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        for (int size : SIZES) {
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size));
+            VersionedTaskTracker versionedTaskTracker = new VersionedTaskTracker(REPEATS);
+            versionedTaskTracker.commit(taskTracker);
+            taskTracker.addTask(new TaskBuilder().withName("Added task").build());
+            versionedTaskTracker.commit(taskTracker);
+
+            long undoNanos = 0;
+            long redoNanos = 0;
+            for (int i = 0; i < REPEATS; i++) {
+                long start = System.nanoTime();
+                taskTracker.resetData(versionedTaskTracker.undo());
+                undoNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                taskTracker.resetData(versionedTaskTracker.redo());
+                redoNanos += System.nanoTime() - start;
+            }
+            assertEquals(size + 1, taskTracker.getTaskList().size());
+
+            ReadOnlyTaskTracker before = copyOf(versionedTaskTracker.undo());
+            long start = System.nanoTime();
+            taskTracker.resetData(before);
+            long replaceNanos = System.nanoTime() - start;
+            assertEquals(size, taskTracker.getTaskList().size());
+
+            System.out.printf("%,d tasks: undo %,d us, redo %,d us (whole list replaced: %,d us)%n",
+                    size, undoNanos / REPEATS / 1_000, redoNanos / REPEATS / 1_000, replaceNanos / 1_000);
+        }
+    }
+
+    /**
+     * Returns a task tracker with the tasks of {@code taskTracker} that is not a snapshot, so that restoring it
+     * replaces the whole task list.
+     */
+    private static ReadOnlyTaskTracker copyOf(ReadOnlyTaskTracker taskTracker) {
+        List<Task> tasks = List.copyOf(taskTracker.getTaskList());
+        List<Task> dailyTasks = List.copyOf(taskTracker.getDailyTaskList());
+        return new ReadOnlyTaskTracker() {
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return FXCollections.observableList(tasks);
+            }
+
+            @Override
+            public ObservableList<Task> getDailyTaskList() {
+                return FXCollections.observableList(dailyTasks);
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +21,35 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setTaskTrackerFilePath(null));
     }
 
+    @Test
+    public void setSortOrder_nullSortOrder_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setSortOrder(null));
+    }
+
+    @Test
+    public void setWorkloadLimits_nullWorkloadLimits_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setWorkloadLimits(null));
+    }
+
+    @Test
+    public void setMaxSaveDelay_negativeDelay_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxSaveDelay(-1));
+    }
+
+    @Test
+    public void setTaskTrackerFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setTaskTrackerFileFormat(null));
+    }
+
+    @Test
+    public void replaceInvalidPrefs_validPrefs_nothingReplaced() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSortOrder("c/");
+        assertEquals(Collections.emptyList(), userPrefs.replaceInvalidPrefs());
+        assertEquals("c/", userPrefs.getSortOrder());
+    }
 }
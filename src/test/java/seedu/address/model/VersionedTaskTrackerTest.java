@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import org.junit.jupiter.api.Test;
+
+public class VersionedTaskTrackerTest {
+
+    @Test
+    public void undoRedo_afterCommits_restoresStates() {
+        VersionedTaskTracker versionedTaskTracker = new VersionedTaskTracker(10);
+        TaskTracker taskTracker = new TaskTracker();
+        versionedTaskTracker.commit(taskTracker);
+        assertFalse(versionedTaskTracker.canUndoTaskTracker());
+
+        taskTracker.addTask(CS2103);
+        versionedTaskTracker.commit(taskTracker);
+        TaskTracker afterFirstCommit = new TaskTracker(taskTracker);
+        taskTracker.addTask(CS2040);
+        taskTracker.finishTask(CS2103);
+        versionedTaskTracker.commit(taskTracker);
+        TaskTracker afterSecondCommit = new TaskTracker(taskTracker);
+
+        assertEquals(afterFirstCommit, new TaskTracker(versionedTaskTracker.undo()));
+        assertEquals(new TaskTracker(), new TaskTracker(versionedTaskTracker.undo()));
+        assertFalse(versionedTaskTracker.canUndoTaskTracker());
+        assertEquals(afterFirstCommit, new TaskTracker(versionedTaskTracker.redo()));
+        assertEquals(afterSecondCommit, new TaskTracker(versionedTaskTracker.redo()));
+        assertFalse(versionedTaskTracker.canRedoTaskTracker());
+    }
+
+    @Test
+    public void commit_afterUndo_purgesRedoStates() {
+        VersionedTaskTracker versionedTaskTracker = new VersionedTaskTracker(10);
+        TaskTracker taskTracker = new TaskTracker();
+        versionedTaskTracker.commit(taskTracker);
+        taskTracker.addTask(CS2103);
+        versionedTaskTracker.commit(taskTracker);
+
+        taskTracker.resetData(versionedTaskTracker.undo());
+        taskTracker.addTask(CS2030);
+        versionedTaskTracker.commit(taskTracker);
+
+        assertFalse(versionedTaskTracker.canRedoTaskTracker());
+        assertEquals(new TaskTracker(), new TaskTracker(versionedTaskTracker.undo()));
+    }
+
+    @Test
+    public void commit_beyondHistoryLimit_discardsOldestChanges() {
+        VersionedTaskTracker versionedTaskTracker = new VersionedTaskTracker(2);
+        TaskTracker taskTracker = new TaskTracker();
+        versionedTaskTracker.commit(taskTracker);
+        taskTracker.addTask(CS2103);
+        versionedTaskTracker.commit(taskTracker);
+        taskTracker.addTask(CS2040);
+        versionedTaskTracker.commit(taskTracker);
+        taskTracker.addTask(CS2030);
+        versionedTaskTracker.commit(taskTracker);
+
+        versionedTaskTracker.undo();
+        versionedTaskTracker.undo();
+        assertFalse(versionedTaskTracker.canUndoTaskTracker());
+    }
+}
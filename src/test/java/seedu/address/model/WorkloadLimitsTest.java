@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.TaskAggregate;
+import seedu.address.model.person.TaskAggregates;
+import seedu.address.model.person.UniqueTaskList;
+import seedu.address.testutil.TaskBuilder;
+
+public class WorkloadLimitsTest {
+
+    private final WorkloadLimits limits = new WorkloadLimits(2, 30, 4, 50);
+
+    @Test
+    public void constructor_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadLimits(0, 30, 4, 50));
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadLimits(2, 30, 4, -1));
+    }
+
+    @Test
+    public void getDailyLoad_largerOfTaskAndWeightageFractions() {
+        assertEquals(0, limits.getDailyLoad(new TaskAggregate()));
+        assertEquals(1.5, limits.getDailyLoad(aggregateOf(3, 10)));
+        assertEquals(2, limits.getDailyLoad(aggregateOf(1, 60)));
+    }
+
+    @Test
+    public void getWeeklyLoad_largerOfTaskAndWeightageFractions() {
+        assertEquals(0.75, limits.getWeeklyLoad(aggregateOf(3, 10)));
+        assertEquals(1.2, limits.getWeeklyLoad(aggregateOf(1, 60)));
+    }
+
+    @Test
+    public void getDailyLoad_finishedTasks_notCounted() {
+        UniqueTaskList tasks = new UniqueTaskList();
+        tasks.add(new TaskBuilder().withName("Finished").withWeightage(60).withStatus("Finished").build());
+        assertEquals(0, limits.getDailyLoad(new TaskAggregates(tasks).getTotal()));
+    }
+
+    @Test
+    public void json_roundTrip_sameLimits() throws Exception {
+        assertEquals(limits, JsonUtil.fromJsonString(JsonUtil.toJsonString(limits), WorkloadLimits.class));
+
+        // missing limits are kept at their defaults
+        WorkloadLimits partialLimits = JsonUtil.fromJsonString("{\"dailyTaskLimit\" : 5}", WorkloadLimits.class);
+        assertEquals(new WorkloadLimits(5, WorkloadLimits.DEFAULT_DAILY_WEIGHTAGE_LIMIT,
+                WorkloadLimits.DEFAULT_WEEKLY_TASK_LIMIT, WorkloadLimits.DEFAULT_WEEKLY_WEIGHTAGE_LIMIT),
+                partialLimits);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(limits.equals(limits));
+        assertTrue(limits.equals(new WorkloadLimits(2, 30, 4, 50)));
+        assertFalse(limits.equals(null));
+        assertFalse(limits.equals(new WorkloadLimits()));
+        assertFalse(limits.equals(new WorkloadLimits(2, 30, 4, 60)));
+    }
+
+    private static TaskAggregate aggregateOf(int taskCount, int weightage) {
+        UniqueTaskList tasks = new UniqueTaskList();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).withWeightage(i == 0 ? weightage : 0).build());
+        }
+        return new TaskAggregates(tasks).getTotal();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+public class CompositeFilterTest {
+
+    private static final TaskFilter TUTORIAL = FilterTerm.nameHasWord("tutorial");
+    private static final TaskFilter LOW = FilterTerm.priority(PriorityTag.of("LOW"));
+    private static final TaskFilter FRIENDS = FilterTerm.tag(Tag.of("friends"));
+
+    @Test
+    public void constructor_noFilters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndFilter(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new OrFilter(Collections.emptyList()));
+    }
+
+    @Test
+    public void compile_and() {
+        Predicate<Task> predicate = new AndFilter(List.of(TUTORIAL, LOW)).compile();
+        assertTrue(predicate.test(CS2030)); // tutorial, low
+        assertFalse(predicate.test(CS1010E)); // tutorial, medium
+        assertFalse(predicate.test(CS2103)); // quiz, low
+    }
+
+    @Test
+    public void compile_or() {
+        Predicate<Task> predicate = new OrFilter(List.of(TUTORIAL, LOW)).compile();
+        assertTrue(predicate.test(CS2030));
+        assertTrue(predicate.test(CS1010E));
+        assertTrue(predicate.test(CS2103));
+        assertFalse(predicate.test(CS2040)); // lab, high
+    }
+
+    @Test
+    public void compile_not() {
+        Predicate<Task> predicate = new AndFilter(List.of(FRIENDS, new NotFilter(LOW))).compile();
+        assertTrue(predicate.test(CS2040)); // friends, high
+        assertFalse(predicate.test(CS2103)); // friends, low
+        assertFalse(predicate.test(CS1010E)); // no tags, medium
+    }
+
+    @Test
+    public void compile_plannedOrder_sameResult() {
+        // conditions are tested out of the given order, without changing which tasks pass
+        AndFilter filter = new AndFilter(List.of(TUTORIAL, new OrFilter(List.of(LOW, FRIENDS))));
+        assertEquals(List.of(filter.getFilters().get(1), TUTORIAL), filter.getPlannedFilters());
+        assertTrue(filter.compile().test(CS2030));
+        assertFalse(filter.compile().test(CS1010E));
+    }
+
+    @Test
+    public void compile_withModel_sameResultAsTestingEachTask() {
+        Model model = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+        List<TaskFilter> filters = List.of(
+                new AndFilter(List.of(TUTORIAL, LOW)),
+                new AndFilter(List.of(FRIENDS, LOW, FilterTerm.moduleCode(ModuleCode.of("CS2030")))),
+                new AndFilter(List.of(FRIENDS, new NotFilter(LOW))),
+                new OrFilter(List.of(TUTORIAL, new AndFilter(List.of(FRIENDS, LOW)))),
+                new NotFilter(new AndFilter(List.of(FRIENDS, TUTORIAL))));
+        for (TaskFilter filter : filters) {
+            Predicate<Task> expected = filter.compile();
+            Predicate<Task> actual = filter.compile(model);
+            for (Task task : model.getFilteredTaskList()) {
+                assertEquals(expected.test(task), actual.test(task), filter + " on " + task);
+            }
+        }
+    }
+
+    @Test
+    public void findTaskIds_onlyKeys_idsOfPassingTasks() {
+        Model model = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+        assertEquals(Optional.of(Set.of(CS2103.getId(), CS2030.getId())),
+                new AndFilter(List.of(FRIENDS, LOW)).findTaskIds(model));
+        TaskFilter cs2030 = FilterTerm.moduleCode(ModuleCode.of("CS2030"));
+        assertEquals(Optional.of(Set.of(CS2030.getId())),
+                new AndFilter(List.of(FRIENDS, LOW, cs2030)).findTaskIds(model));
+    }
+
+    @Test
+    public void findTaskIds_conditionWithoutKey_empty() {
+        Model model = new ModelManager(getTypicalTaskTracker(), new UserPrefs());
+        assertEquals(Optional.empty(), new AndFilter(List.of(TUTORIAL, LOW)).findTaskIds(model));
+        assertEquals(Optional.empty(), new AndFilter(List.of(FRIENDS, new NotFilter(LOW))).findTaskIds(model));
+        assertEquals(Optional.empty(), new OrFilter(List.of(FRIENDS, LOW)).findTaskIds(model));
+    }
+
+    @Test
+    public void refines() {
+        TaskFilter tutorialAndLow = new AndFilter(List.of(TUTORIAL, LOW));
+
+        // more conditions that must all pass -> returns true
+        assertTrue(tutorialAndLow.refines(TUTORIAL));
+        assertTrue(new AndFilter(List.of(TUTORIAL, LOW, FRIENDS)).refines(tutorialAndLow));
+        assertTrue(new AndFilter(List.of(LOW, TUTORIAL)).refines(tutorialAndLow));
+        assertTrue(new AndFilter(List.of(TUTORIAL, FilterTerm.weightageBetween(10, 20)))
+                .refines(new AndFilter(List.of(FilterTerm.weightageBetween(0, 50), TUTORIAL))));
+        assertFalse(TUTORIAL.refines(tutorialAndLow));
+        assertFalse(new AndFilter(List.of(TUTORIAL, FRIENDS)).refines(tutorialAndLow));
+
+        // fewer conditions that may pass -> returns true
+        assertTrue(TUTORIAL.refines(new OrFilter(List.of(TUTORIAL, LOW))));
+        assertTrue(new OrFilter(List.of(TUTORIAL, LOW)).refines(new OrFilter(List.of(LOW, FRIENDS, TUTORIAL))));
+        assertFalse(new OrFilter(List.of(TUTORIAL, LOW)).refines(TUTORIAL));
+
+        // negation of a wider filter -> returns true
+        assertTrue(new NotFilter(TUTORIAL).refines(new NotFilter(tutorialAndLow)));
+        assertFalse(new NotFilter(tutorialAndLow).refines(new NotFilter(TUTORIAL)));
+    }
+
+    @Test
+    public void estimates() {
+        assertEquals(LOW.getSelectivity() * FRIENDS.getSelectivity(),
+                new AndFilter(List.of(LOW, FRIENDS)).getSelectivity(), 1e-9);
+        assertEquals(1 - (1 - LOW.getSelectivity()) * (1 - FRIENDS.getSelectivity()),
+                new OrFilter(List.of(LOW, FRIENDS)).getSelectivity(), 1e-9);
+        assertEquals(1 - LOW.getSelectivity(), new NotFilter(LOW).getSelectivity(), 1e-9);
+    }
+
+    @Test
+    public void equals() {
+        AndFilter and = new AndFilter(List.of(TUTORIAL, LOW));
+
+        assertTrue(and.equals(and));
+        assertTrue(and.equals(new AndFilter(List.of(TUTORIAL, LOW))));
+        assertTrue(new NotFilter(and).equals(new NotFilter(new AndFilter(List.of(TUTORIAL, LOW)))));
+
+        assertFalse(and.equals(null));
+        assertFalse(and.equals(new OrFilter(List.of(TUTORIAL, LOW))));
+        assertFalse(and.equals(new AndFilter(List.of(LOW, TUTORIAL)))); // order given by the user is kept
+        assertFalse(new NotFilter(TUTORIAL).equals(TUTORIAL));
+    }
+}
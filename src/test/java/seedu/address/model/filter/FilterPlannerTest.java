@@ -0,0 +1,52 @@
+package seedu.address.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+public class FilterPlannerTest {
+
+    private static final TaskFilter NAME = FilterTerm.nameHasWord("quiz");
+    private static final TaskFilter PRIORITY = FilterTerm.priority(PriorityTag.of("HIGH"));
+    private static final TaskFilter STATUS = FilterTerm.status(false);
+    private static final TaskFilter MODULE_CODE = FilterTerm.moduleCode(ModuleCode.of("CS2103"));
+    private static final TaskFilter TAG = FilterTerm.tag(Tag.of("friends"));
+    private static final TaskFilter ANY_DEADLINE =
+            FilterTerm.dueBetween(LocalDate.of(2020, 1, 1), LocalDate.of(2099, 12, 31));
+
+    @Test
+    public void orderConjuncts_cheapAndSelectiveFirst() {
+        assertEquals(List.of(MODULE_CODE, PRIORITY, STATUS, TAG, NAME),
+                FilterPlanner.orderConjuncts(List.of(NAME, TAG, STATUS, PRIORITY, MODULE_CODE)));
+
+        // a condition that keeps every task never rejects one, so it is tested last
+        assertEquals(List.of(PRIORITY, ANY_DEADLINE), FilterPlanner.orderConjuncts(List.of(ANY_DEADLINE, PRIORITY)));
+    }
+
+    @Test
+    public void orderDisjuncts_cheapAndInclusiveFirst() {
+        assertEquals(List.of(ANY_DEADLINE, STATUS, PRIORITY, MODULE_CODE, TAG, NAME),
+                FilterPlanner.orderDisjuncts(List.of(NAME, TAG, MODULE_CODE, PRIORITY, STATUS, ANY_DEADLINE)));
+    }
+
+    @Test
+    public void getExpectedCost_plannedOrderCheaper() {
+        List<TaskFilter> filters = List.of(NAME, TAG, STATUS, PRIORITY, MODULE_CODE);
+        assertTrue(FilterPlanner.getExpectedCost(FilterPlanner.orderConjuncts(filters), true)
+                < FilterPlanner.getExpectedCost(filters, true));
+        assertTrue(FilterPlanner.getExpectedCost(FilterPlanner.orderDisjuncts(filters), false)
+                < FilterPlanner.getExpectedCost(filters, false));
+
+        // a condition that keeps every task never stops the testing of the others
+        assertEquals(ANY_DEADLINE.getCost() + NAME.getCost(),
+                FilterPlanner.getExpectedCost(List.of(ANY_DEADLINE, NAME), true));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TaskBuilder;
+
+public class FilterTermTest {
+
+    @Test
+    public void compile_fieldConditions() {
+        assertTrue(FilterTerm.moduleCode(ModuleCode.of("CS2103")).compile().test(CS2103));
+        assertFalse(FilterTerm.moduleCode(ModuleCode.of("CS2103")).compile().test(CS2040));
+
+        assertTrue(FilterTerm.tag(Tag.of("owesMoney")).compile().test(CS2040));
+        assertFalse(FilterTerm.tag(Tag.of("owesMoney")).compile().test(CS2103));
+
+        assertTrue(FilterTerm.priority(PriorityTag.of("HIGH")).compile().test(CS2040));
+        assertFalse(FilterTerm.priority(PriorityTag.of("HIGH")).compile().test(CS1010E));
+
+        assertTrue(FilterTerm.status(false).compile().test(CS2103));
+        assertFalse(FilterTerm.status(true).compile().test(CS2103));
+        assertTrue(FilterTerm.status(true).compile().test(new TaskBuilder().withStatus("Finished").build()));
+
+        assertTrue(FilterTerm.nameHasWord("quiz").compile().test(CS2103));
+        assertFalse(FilterTerm.nameHasWord("qui").compile().test(CS2103));
+    }
+
+    @Test
+    public void compile_rangeConditions_boundsInclusive() {
+        FilterTerm weightage = FilterTerm.weightageBetween(10, 30);
+        assertTrue(weightage.compile().test(new TaskBuilder().withWeightage(10).build()));
+        assertTrue(weightage.compile().test(new TaskBuilder().withWeightage(30).build()));
+        assertFalse(weightage.compile().test(new TaskBuilder().withWeightage(31).build()));
+
+        FilterTerm deadline = FilterTerm.dueBetween(LocalDate.of(2022, 10, 9), LocalDate.of(2022, 10, 10));
+        assertTrue(deadline.compile().test(CS2103)); // 09-10-2022
+        assertTrue(deadline.compile().test(CS2040)); // 10-10-2022
+        assertFalse(FilterTerm.dueBetween(LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 31))
+                .compile().test(CS2103));
+    }
+
+    @Test
+    public void factories_invalidArguments_throwIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> FilterTerm.weightageBetween(30, 10));
+        assertThrows(IllegalArgumentException.class, () -> FilterTerm.weightageBetween(0, 101));
+        assertThrows(IllegalArgumentException.class, () ->
+                FilterTerm.dueBetween(LocalDate.of(2022, 10, 10), LocalDate.of(2022, 10, 9)));
+        assertThrows(IllegalArgumentException.class, () -> FilterTerm.nameHasWord("two words"));
+    }
+
+    @Test
+    public void estimates() {
+        // word matching costs more than comparing a field
+        assertTrue(FilterTerm.nameHasWord("quiz").getCost() > FilterTerm.priority(PriorityTag.of("HIGH")).getCost());
+
+        // wider ranges keep more tasks
+        assertEquals(1, FilterTerm.weightageBetween(0, 100).getSelectivity());
+        assertTrue(FilterTerm.weightageBetween(0, 10).getSelectivity()
+                < FilterTerm.weightageBetween(0, 50).getSelectivity());
+        assertTrue(FilterTerm.dueBetween(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 7)).getSelectivity()
+                < FilterTerm.dueBetween(LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)).getSelectivity());
+    }
+
+    @Test
+    public void refines() {
+        LocalDate oct1 = LocalDate.of(2022, 10, 1);
+        LocalDate oct31 = LocalDate.of(2022, 10, 31);
+
+        // narrower or equal range of the same field -> returns true
+        assertTrue(FilterTerm.weightageBetween(20, 30).refines(FilterTerm.weightageBetween(10, 30)));
+        assertTrue(FilterTerm.weightageBetween(10, 30).refines(FilterTerm.weightageBetween(10, 30)));
+        assertTrue(FilterTerm.dueBetween(oct1, oct1.plusDays(6)).refines(FilterTerm.dueBetween(oct1, oct31)));
+
+        // wider or overlapping range -> returns false
+        assertFalse(FilterTerm.weightageBetween(0, 30).refines(FilterTerm.weightageBetween(10, 30)));
+        assertFalse(FilterTerm.dueBetween(oct1.minusDays(1), oct1).refines(FilterTerm.dueBetween(oct1, oct31)));
+
+        // same bounds on a different field -> returns false
+        assertFalse(FilterTerm.dueBetween(LocalDate.ofEpochDay(10), LocalDate.ofEpochDay(20))
+                .refines(FilterTerm.weightageBetween(10, 20)));
+
+        // same or different key -> returns true only if the same
+        assertTrue(FilterTerm.tag(Tag.of("friends")).refines(FilterTerm.tag(Tag.of("friends"))));
+        assertFalse(FilterTerm.tag(Tag.of("friends")).refines(FilterTerm.tag(Tag.of("owesMoney"))));
+    }
+
+    @Test
+    public void equals() {
+        FilterTerm term = FilterTerm.moduleCode(ModuleCode.of("CS2103"));
+
+        assertTrue(term.equals(term));
+        assertTrue(term.equals(FilterTerm.moduleCode(ModuleCode.of("CS2103"))));
+
+        assertFalse(term.equals(null));
+        assertFalse(term.equals(FilterTerm.moduleCode(ModuleCode.of("CS2040"))));
+        assertFalse(term.equals(FilterTerm.nameHasWord("CS2103")));
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.model.person.exceptions.DuplicateTaskException;
+import seedu.address.model.person.exceptions.TaskNotFoundException;
+
+public class DailyTaskListTest {
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final DailyTaskList dailyTaskList = new DailyTaskList(tasks);
+
+    @Test
+    public void add_taskNotInTaskList_throwsTaskNotFoundException() {
+        assertThrows(TaskNotFoundException.class, () -> dailyTaskList.add(CS2103));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        tasks.add(CS2103);
+        dailyTaskList.add(CS2103);
+        assertThrows(DuplicateTaskException.class, () -> dailyTaskList.add(CS2103));
+    }
+
+    @Test
+    public void contains_taskWithSameId_returnsTrue() {
+        tasks.add(CS2103);
+        dailyTaskList.add(CS2103);
+        assertTrue(dailyTaskList.contains(CS2103.finishTask()));
+        assertFalse(dailyTaskList.contains(CS2030));
+    }
+
+    @Test
+    public void remove_taskNotInList_throwsTaskNotFoundException() {
+        tasks.add(CS2103);
+        assertThrows(TaskNotFoundException.class, () -> dailyTaskList.remove(CS2103));
+    }
+
+    @Test
+    public void remove_taskInList_removesTask() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        dailyTaskList.add(CS2103);
+        dailyTaskList.add(CS2030);
+        dailyTaskList.remove(CS2103);
+        assertEquals(List.of(CS2030), dailyTaskList.asUnmodifiableObservableList());
+        assertFalse(dailyTaskList.contains(CS2103));
+    }
+
+    @Test
+    public void remove_consecutiveRemovals_laterTasksFoundAtNewPositions() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030, CS2040));
+        dailyTaskList.add(CS2103);
+        dailyTaskList.add(CS2030);
+        dailyTaskList.add(CS2040);
+        dailyTaskList.remove(CS2103);
+        dailyTaskList.remove(CS2030);
+
+        tasks.finish(CS2040);
+        assertEquals(List.of(CS2040.finishTask()), dailyTaskList.asUnmodifiableObservableList());
+        dailyTaskList.remove(CS2040);
+        assertEquals(Collections.emptyList(), dailyTaskList.asUnmodifiableObservableList());
+
+        dailyTaskList.add(CS2030);
+        assertThrows(DuplicateTaskException.class, () -> dailyTaskList.add(CS2030));
+        dailyTaskList.remove(CS2030);
+        assertFalse(dailyTaskList.contains(CS2030));
+    }
+
+    @Test
+    public void taskListChanges_taskReplaced_replacementShown() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        dailyTaskList.add(CS2030);
+        dailyTaskList.add(CS2103);
+
+        tasks.finish(CS2103);
+        assertSame(tasks.getTask(CS2103.getId()).get(), dailyTaskList.asUnmodifiableObservableList().get(1));
+        assertTrue(dailyTaskList.asUnmodifiableObservableList().get(1).hasFinished());
+        assertEquals(CS2103.getId(), dailyTaskList.asUnmodifiableObservableList().get(1).getId());
+    }
+
+    @Test
+    public void taskListChanges_taskRemoved_taskRemovedFromList() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030, CS2040));
+        dailyTaskList.add(CS2030);
+        dailyTaskList.add(CS2103);
+
+        tasks.remove(CS2030);
+        assertEquals(List.of(CS2103), dailyTaskList.asUnmodifiableObservableList());
+        assertFalse(dailyTaskList.contains(CS2030));
+
+        tasks.setTasks(Collections.emptyList());
+        assertEquals(Collections.emptyList(), dailyTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void taskListChanges_taskListSorted_listUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2040, CS2030, CS2103));
+        dailyTaskList.add(CS2030);
+        dailyTaskList.add(CS2103);
+
+        tasks.sort(new DateTimeComparator());
+        assertEquals(List.of(CS2030, CS2103), dailyTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_list_resolvedAgainstTaskList() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        dailyTaskList.setTasks(Arrays.asList(CS2030, CS2040, CS2030.finishTask(), CS2103));
+        assertEquals(List.of(CS2030, CS2103), dailyTaskList.asUnmodifiableObservableList());
+        assertTrue(dailyTaskList.contains(CS2103));
+        assertFalse(dailyTaskList.contains(CS2040));
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        dailyTaskList.add(CS2103);
+        List<Task> snapshot = dailyTaskList.snapshot().asList();
+        tasks.remove(CS2103);
+        assertEquals(List.of(CS2103), snapshot);
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.WorkloadLimits;
+import seedu.address.testutil.TaskBuilder;
+
+public class DeadlineCalendarTest {
+
+    private static final LocalDate OCT_3 = LocalDate.of(2022, 10, 3);
+    private static final LocalDate OCT_9 = LocalDate.of(2022, 10, 9);
+    private static final LocalDate OCT_10 = LocalDate.of(2022, 10, 10);
+    private static final LocalDate OCT_14 = LocalDate.of(2022, 10, 14);
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final DeadlineCalendar calendar = new DeadlineCalendar(tasks);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DeadlineCalendar(null));
+    }
+
+    @Test
+    public void constructor_existingTasks_tasksBucketed() {
+        tasks.setTasks(Arrays.asList(taskDueOn("Quiz", "14-10-2022", 10), taskDueOn("Lab", "14-10-2022", 20)));
+        DeadlineCalendar newCalendar = new DeadlineCalendar(tasks);
+        assertEquals(2, newCalendar.getDueOn(OCT_14).getTaskCount());
+        assertEquals(30, newCalendar.getDueOn(OCT_14).getTotalWeightage());
+    }
+
+    @Test
+    public void getDueOn_tasksBucketedByDayAndWeek() {
+        tasks.setTasks(Arrays.asList(taskDueOn("Quiz", "09-10-2022", 10), taskDueOn("Lab", "10-10-2022", 20),
+                taskDueOn("Project", "14-10-2022", 30)));
+
+        assertEquals(1, calendar.getDueOn(OCT_9).getTaskCount());
+        assertEquals(20, calendar.getDueOn(OCT_10).getOutstandingWeightage());
+        assertTrue(calendar.getDueOn(OCT_3).isEmpty());
+
+        // Sunday 09-10-2022 ends the week from Monday 03-10-2022
+        assertEquals(10, calendar.getDueInWeekOf(OCT_3).getTotalWeightage());
+        assertEquals(50, calendar.getDueInWeekOf(OCT_14).getTotalWeightage());
+        assertEquals(calendar.getDueInWeekOf(OCT_10), calendar.getDueInWeekOf(OCT_14));
+    }
+
+    @Test
+    public void overloads_dayOverLimits_dayAndWeekOverloaded() {
+        calendar.setLimits(new WorkloadLimits(2, 30, 3, 50));
+        tasks.add(taskDueOn("Quiz", "14-10-2022", 10));
+        tasks.add(taskDueOn("Lab", "14-10-2022", 20));
+        assertFalse(calendar.isOverloadedDate(OCT_14));
+
+        // more weightage than the daily limit
+        Task project = taskDueOn("Project", "14-10-2022", 5);
+        tasks.add(project);
+        assertTrue(calendar.isOverloadedDate(OCT_14));
+        assertFalse(calendar.isOverloadedWeek(OCT_10));
+        assertEquals(List.of(OCT_14), calendar.getOverloadedDatesFrom(OCT_3));
+        assertEquals(Collections.emptyList(), calendar.getOverloadedDatesFrom(OCT_14.plusDays(1)));
+
+        // more tasks than the weekly limit
+        tasks.add(taskDueOn("Essay", "10-10-2022", 0));
+        assertTrue(calendar.isOverloadedWeek(OCT_14));
+        assertEquals(List.of(OCT_10), calendar.getOverloadedWeeksFrom(OCT_14));
+
+        // finished tasks do not count
+        tasks.finish(project);
+        assertFalse(calendar.isOverloadedDate(OCT_14));
+        assertFalse(calendar.isOverloadedWeek(OCT_14));
+        assertEquals(3, calendar.getDueOn(OCT_14).getTaskCount());
+    }
+
+    @Test
+    public void taskListChanges_bucketsAndOverloadsUpdated() {
+        calendar.setLimits(new WorkloadLimits(1, 30, 5, 100));
+        Task quiz = taskDueOn("Quiz", "14-10-2022", 10);
+        Task lab = taskDueOn("Lab", "14-10-2022", 20);
+        tasks.setTasks(Arrays.asList(quiz, lab));
+        assertTrue(calendar.isOverloadedDate(OCT_14));
+
+        Task movedLab = new Task(lab.getId(), lab.getTaskName(), lab.getModuleCode(), new DeadlineDate("03-10-2022"),
+                lab.getDeadlineTime(), lab.getStatus(), lab.getWeightage(), lab.getNotes(), lab.getTags(),
+                lab.getPriorityTag());
+        tasks.setTask(lab, movedLab);
+        assertFalse(calendar.isOverloadedDate(OCT_14));
+        assertEquals(1, calendar.getDueOn(OCT_3).getTaskCount());
+        assertEquals(20, calendar.getDueInWeekOf(OCT_9).getTotalWeightage());
+
+        tasks.remove(movedLab);
+        assertTrue(calendar.getDueInWeekOf(OCT_3).isEmpty());
+    }
+
+    @Test
+    public void setLimits_overloadsFoundAgain() {
+        tasks.setTasks(Arrays.asList(taskDueOn("Quiz", "14-10-2022", 10), taskDueOn("Lab", "14-10-2022", 20)));
+        assertFalse(calendar.isOverloadedDate(OCT_14));
+
+        calendar.setLimits(new WorkloadLimits(1, 100, 10, 100));
+        assertTrue(calendar.isOverloadedDate(OCT_14));
+        assertFalse(calendar.isOverloadedWeek(OCT_14));
+
+        calendar.setLimits(new WorkloadLimits(10, 100, 10, 25));
+        assertFalse(calendar.isOverloadedDate(OCT_14));
+        assertTrue(calendar.isOverloadedWeek(OCT_14));
+    }
+
+    @Test
+    public void getDueOn_returnedBucketModified_calendarUnchanged() {
+        Task quiz = taskDueOn("Quiz", "14-10-2022", 10);
+        tasks.add(quiz);
+        calendar.getDueOn(OCT_14).remove(quiz);
+        calendar.getDueInWeekOf(OCT_14).remove(quiz);
+        assertEquals(1, calendar.getDueOn(OCT_14).getTaskCount());
+        assertEquals(1, calendar.getDueInWeekOf(OCT_14).getTaskCount());
+    }
+
+    private static Task taskDueOn(String name, String deadlineDate, int weightage) {
+        return new TaskBuilder().withName(name).withDeadlineDate(deadlineDate).withWeightage(weightage).build();
+    }
+}
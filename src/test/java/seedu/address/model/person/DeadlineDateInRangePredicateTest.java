@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -17,6 +18,11 @@ public class DeadlineDateInRangePredicateTest {
     private static final DateTimeFormatter dateDateFormatter = DateTimeFormatter.ofPattern("dd-MM-uuuu")
             .withResolverStyle(ResolverStyle.STRICT);
 
+    @Test
+    public void constructor_negativeNumberOfDays_throwsParseException() {
+        assertThrows(ParseException.class, () -> new DeadlineDateInRangePredicate(-2));
+    }
+
     @Test
     public void equals() {
         long numberOfDays = 3;
@@ -71,6 +77,62 @@ public class DeadlineDateInRangePredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void equals_dateRange() throws ParseException {
+        LocalDate today = LocalDate.now();
+        DeadlineDateInRangePredicate rangePredicate = new DeadlineDateInRangePredicate(today, today.plusDays(3));
+
+        // same range as the number of days -> returns true
+        assertTrue(rangePredicate.equals(new DeadlineDateInRangePredicate(3)));
+
+        // different start date -> returns false
+        assertFalse(rangePredicate.equals(new DeadlineDateInRangePredicate(today.minusDays(1), today.plusDays(3))));
+
+        // different end date -> returns false
+        assertFalse(rangePredicate.equals(new DeadlineDateInRangePredicate(today, today.plusDays(4))));
+    }
+
+    @Test
+    public void refines() throws ParseException {
+        LocalDate today = LocalDate.now();
+        DeadlineDateInRangePredicate nextWeek = new DeadlineDateInRangePredicate(7);
+
+        // range within the other range -> returns true
+        assertTrue(new DeadlineDateInRangePredicate(3).refines(nextWeek));
+        assertTrue(nextWeek.refines(new DeadlineDateInRangePredicate(today.minusDays(1), today.plusDays(7))));
+        assertTrue(nextWeek.refines(nextWeek));
+
+        // range not within the other range -> returns false
+        assertFalse(new DeadlineDateInRangePredicate(8).refines(nextWeek));
+        assertFalse(new DeadlineDateInRangePredicate(today.minusDays(1), today).refines(nextWeek));
+
+        // different predicate -> returns false
+        assertFalse(nextWeek.refines(task -> true));
+    }
+
+    @Test
+    public void constructor_endDateBeforeStartDate_throwsParseException() {
+        LocalDate today = LocalDate.now();
+        assertThrows(ParseException.class, () -> new DeadlineDateInRangePredicate(today, today.minusDays(1)));
+    }
+
+    @Test
+    public void test_deadlineDateInDateRange() throws ParseException {
+        LocalDate startDate = LocalDate.now().plusDays(2);
+        DeadlineDateInRangePredicate predicate = new DeadlineDateInRangePredicate(startDate, startDate.plusDays(5));
+
+        // bounds are inclusive
+        assertTrue(predicate.test(new TaskBuilder().withDeadlineDate(startDate.format(dateDateFormatter)).build()));
+        assertTrue(predicate.test(new TaskBuilder()
+                .withDeadlineDate(startDate.plusDays(5).format(dateDateFormatter)).build()));
+
+        // outside range
+        assertFalse(predicate.test(new TaskBuilder()
+                .withDeadlineDate(startDate.minusDays(1).format(dateDateFormatter)).build()));
+        assertFalse(predicate.test(new TaskBuilder()
+                .withDeadlineDate(startDate.plusDays(6).format(dateDateFormatter)).build()));
+    }
+
     @Test
     public void test_deadlineDateInRange_returnsTrue() {
         long oneDayAfter = 1; // Lower bound
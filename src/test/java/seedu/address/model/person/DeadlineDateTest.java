@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 public class DeadlineDateTest {
@@ -101,4 +104,22 @@ public class DeadlineDateTest {
         //Equals to other DeadlineDate with same date
         assertTrue(toTest.equals(new DeadlineDate("11-11-2022")));
     }
+
+    @Test
+    public void ofEpochDay_validEpochDay_sameAsParsedDate() {
+        DeadlineDate deadlineDate = new DeadlineDate("31-12-2099");
+        assertEquals(deadlineDate, DeadlineDate.ofEpochDay(deadlineDate.toEpochDay()));
+        assertEquals("31-12-2099", DeadlineDate.ofEpochDay(deadlineDate.toEpochDay()).toString());
+    }
+
+    @Test
+    public void ofEpochDay_invalidEpochDay_throwsIllegalArgumentException() {
+        long afterLastYear = LocalDate.of(2100, 1, 1).toEpochDay();
+        long beforeToday = LocalDate.now().minusDays(1).toEpochDay();
+        assertFalse(DeadlineDate.isValidDeadlineDate(afterLastYear));
+        assertFalse(DeadlineDate.isValidDeadlineDate(beforeToday));
+        assertTrue(DeadlineDate.isValidDeadlineDate(LocalDate.now().toEpochDay()));
+        assertThrows(IllegalArgumentException.class, () -> DeadlineDate.ofEpochDay(afterLastYear));
+        assertThrows(IllegalArgumentException.class, () -> DeadlineDate.ofEpochDay(beforeToday));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -81,4 +82,17 @@ public class DeadlineTimeTest {
         //Equals to other DeadlineDate with same value
         assertTrue(toTest.equals(new DeadlineTime("11:20")));
     }
+
+    @Test
+    public void ofMinuteOfDay_validMinute_sameAsParsedTime() {
+        assertEquals(new DeadlineTime("00:00"), DeadlineTime.ofMinuteOfDay(0));
+        assertEquals(new DeadlineTime("23:59"), DeadlineTime.ofMinuteOfDay(new DeadlineTime("23:59").toMinuteOfDay()));
+    }
+
+    @Test
+    public void ofMinuteOfDay_invalidMinute_throwsIllegalArgumentException() {
+        assertFalse(DeadlineTime.isValidDeadlineTime(-1));
+        assertFalse(DeadlineTime.isValidDeadlineTime(24 * 60));
+        assertThrows(IllegalArgumentException.class, () -> DeadlineTime.ofMinuteOfDay(24 * 60));
+    }
 }
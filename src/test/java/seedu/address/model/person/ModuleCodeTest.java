@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -40,4 +42,11 @@ public class ModuleCodeTest {
         assertTrue(ModuleCode.isValidModuleCode("CS2103")); // typical value
         assertTrue(ModuleCode.isValidModuleCode("CS2103T")); // with an optional uppercase character
     }
+
+    @Test
+    public void of_sameCode_returnsSameInstance() {
+        assertSame(ModuleCode.of("CS2103T"), ModuleCode.of("CS2103T"));
+        assertEquals(new ModuleCode("CS2103T"), ModuleCode.of("CS2103T"));
+        assertThrows(IllegalArgumentException.class, () -> ModuleCode.of("cs2103"));
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -63,4 +64,12 @@ public class StatusTest {
         assertTrue(toTest.equals(new Status()));
         assertTrue(toTest.equals(toTest.toggle().toggle())); // Toggle even times
     }
+
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        assertSame(Status.of("Finished"), Status.of("Finished"));
+        assertSame(Status.unfinished(), Status.of("Unfinished"));
+        assertSame(Status.unfinished(), Status.unfinished().toggle().toggle());
+        assertTrue(Status.of("Finished").equals(new Status("Finished")));
+    }
 }
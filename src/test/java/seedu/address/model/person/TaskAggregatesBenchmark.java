@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the cost of reading the workload by week through {@code TaskAggregates}, and of keeping it up
+ * to date, and compares it against going through every task.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class TaskAggregatesBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int READS = 1_000;
+    private static final int EDITS = 1_000;
+
+    /**
+     * Prints the cost of building the aggregates, reading them, and finishing a task, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        for (int size : SIZES) {
+            List<Task> tasks = UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+            uniqueTaskList.setTasks(tasks);
+
+            long start = System.nanoTime();
+            TaskAggregates aggregates = new TaskAggregates(uniqueTaskList);
+            long buildNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int weeks = 0;
+            for (int i = 0; i < READS; i++) {
+                weeks = aggregates.getByDueWeek().size();
+            }
+            long readNanos = (System.nanoTime() - start) / READS;
+
+            start = System.nanoTime();
+            Map<LocalDate, Integer> scannedWeeks = new HashMap<>();
+            for (Task task : uniqueTaskList) {
+                scannedWeeks.merge(TaskAggregates.dueWeekOf(task), 1, Integer::sum);
+            }
+            long scanNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < EDITS; i++) {
+                uniqueTaskList.finish(tasks.get(i));
+            }
+            long editNanos = (System.nanoTime() - start) / EDITS;
+
+            System.out.printf("%,d tasks: aggregates built in %,d us, %,d weeks read in %,d us (scan: %,d us), "
+                    + "task finished in %,d us%n", size, buildNanos / 1_000, weeks, readNanos / 1_000,
+                    scanNanos / 1_000, editNanos / 1_000);
+            assertEquals(scannedWeeks.size(), weeks);
+            assertEquals(size - EDITS, aggregates.getTotal().getUnfinishedTaskCount());
+        }
+    }
+}
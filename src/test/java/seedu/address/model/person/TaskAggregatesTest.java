@@ -0,0 +1,146 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskAggregatesTest {
+
+    private static final LocalDate WEEK_OF_OCT_3 = LocalDate.of(2022, 10, 3);
+    private static final LocalDate WEEK_OF_OCT_10 = LocalDate.of(2022, 10, 10);
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final TaskAggregates aggregates = new TaskAggregates(tasks);
+
+    private final Task quiz = new TaskBuilder().withName("Quiz").withCode("CS2103").withDeadlineDate("09-10-2022")
+            .withWeightage(10).withPriorityTag("HIGH").build();
+    private final Task lab = new TaskBuilder().withName("Lab").withCode("CS2040").withDeadlineDate("10-10-2022")
+            .withWeightage(20).withPriorityTag("LOW").build();
+    private final Task project = new TaskBuilder().withName("Project").withCode("CS2103").withDeadlineDate("16-10-2022")
+            .withWeightage(30).withPriorityTag("LOW").withStatus("Finished").build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskAggregates(null));
+    }
+
+    @Test
+    public void constructor_existingTasks_tasksAggregated() {
+        tasks.setTasks(Arrays.asList(quiz, lab, project));
+        TaskAggregates newAggregates = new TaskAggregates(tasks);
+        assertAggregate(3, 2, 60, 30, newAggregates.getTotal());
+    }
+
+    @Test
+    public void getters_noTasks_emptyAggregates() {
+        assertTrue(aggregates.getTotal().isEmpty());
+        assertTrue(aggregates.getByModuleCode().isEmpty());
+        assertTrue(aggregates.getByStatus().isEmpty());
+        assertTrue(aggregates.getByPriority().isEmpty());
+        assertTrue(aggregates.getByDueWeek().isEmpty());
+    }
+
+    @Test
+    public void getters_tasks_aggregatedByGroupInOrder() {
+        tasks.setTasks(Arrays.asList(project, lab, quiz));
+
+        assertAggregate(3, 2, 60, 30, aggregates.getTotal());
+        assertEquals(List.of(ModuleCode.of("CS2040"), ModuleCode.of("CS2103")),
+                List.copyOf(aggregates.getByModuleCode().keySet()));
+        assertAggregate(2, 1, 40, 10, aggregates.getByModuleCode().get(ModuleCode.of("CS2103")));
+        assertEquals(List.of(Status.unfinished(), Status.of("Finished")),
+                List.copyOf(aggregates.getByStatus().keySet()));
+        assertAggregate(1, 0, 30, 0, aggregates.getByStatus().get(Status.of("Finished")));
+        assertEquals(List.of(PriorityTag.of("HIGH"), PriorityTag.of("LOW")),
+                List.copyOf(aggregates.getByPriority().keySet()));
+        assertAggregate(2, 1, 50, 20, aggregates.getByPriority().get(PriorityTag.of("LOW")));
+
+        // Sunday 09-10-2022 is in the week from Monday 03-10-2022, Monday 10-10-2022 starts the next week
+        Map<LocalDate, TaskAggregate> byDueWeek = aggregates.getByDueWeek();
+        assertEquals(List.of(WEEK_OF_OCT_3, WEEK_OF_OCT_10), List.copyOf(byDueWeek.keySet()));
+        assertAggregate(1, 1, 10, 10, byDueWeek.get(WEEK_OF_OCT_3));
+        assertAggregate(2, 1, 50, 20, byDueWeek.get(WEEK_OF_OCT_10));
+    }
+
+    @Test
+    public void dueWeekOf_deadlines_mondayOfIsoWeek() {
+        assertEquals(WEEK_OF_OCT_3, TaskAggregates.dueWeekOf(quiz));
+        assertEquals(WEEK_OF_OCT_10, TaskAggregates.dueWeekOf(lab));
+        assertEquals(WEEK_OF_OCT_10, TaskAggregates.dueWeekOf(project));
+
+        // the week may start in the previous year
+        Task newYear = new TaskBuilder().withDeadlineDate("01-01-2023").build();
+        assertEquals(LocalDate.of(2022, 12, 26), TaskAggregates.dueWeekOf(newYear));
+    }
+
+    @Test
+    public void taskListChanges_aggregatesUpdated() {
+        tasks.setTasks(Arrays.asList(quiz, lab));
+
+        tasks.finish(lab);
+        assertAggregate(2, 1, 30, 10, aggregates.getTotal());
+        assertAggregate(1, 0, 20, 0, aggregates.getByStatus().get(Status.of("Finished")));
+
+        Task editedQuiz = new Task(quiz.getId(), quiz.getTaskName(), ModuleCode.of("CS2040"),
+                new DeadlineDate("12-10-2022"), quiz.getDeadlineTime(), quiz.getStatus(),
+                new Weightage(15), quiz.getNotes(), quiz.getTags(), quiz.getPriorityTag());
+        tasks.setTask(quiz, editedQuiz);
+        assertAggregate(2, 1, 35, 15, aggregates.getTotal());
+        assertEquals(List.of(ModuleCode.of("CS2040")), List.copyOf(aggregates.getByModuleCode().keySet()));
+        assertEquals(List.of(WEEK_OF_OCT_10), List.copyOf(aggregates.getByDueWeek().keySet()));
+
+        tasks.add(project);
+        tasks.remove(editedQuiz);
+        assertAggregate(2, 0, 50, 0, aggregates.getTotal());
+        assertEquals(List.of(Status.of("Finished")), List.copyOf(aggregates.getByStatus().keySet()));
+        assertEquals(List.of(PriorityTag.of("LOW")), List.copyOf(aggregates.getByPriority().keySet()));
+    }
+
+    @Test
+    public void taskListChanges_tasksMovedOrReplaced_aggregatesUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2040, CS2030, CS2103, CS3243));
+        TaskAggregate total = aggregates.getTotal();
+        tasks.setSortOrder(new DateTimeComparator());
+        assertEquals(total, aggregates.getTotal());
+
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+        assertAggregate(2, 2, 0, 0, aggregates.getTotal());
+        assertEquals(List.of(ModuleCode.of("CS2040"), ModuleCode.of("CS2103")),
+                List.copyOf(aggregates.getByModuleCode().keySet()));
+    }
+
+    @Test
+    public void getters_returnedAggregatesModified_aggregatesUnchanged() {
+        tasks.setTasks(Arrays.asList(quiz, lab));
+        aggregates.getTotal().add(project);
+        aggregates.getByModuleCode().clear();
+        aggregates.getByDueWeek().get(WEEK_OF_OCT_3).remove(quiz);
+
+        assertAggregate(2, 2, 30, 30, aggregates.getTotal());
+        assertEquals(2, aggregates.getByModuleCode().size());
+        assertAggregate(1, 1, 10, 10, aggregates.getByDueWeek().get(WEEK_OF_OCT_3));
+    }
+
+    private static void assertAggregate(int taskCount, int unfinishedTaskCount, long totalWeightage,
+            long outstandingWeightage, TaskAggregate aggregate) {
+        assertEquals(taskCount, aggregate.getTaskCount());
+        assertEquals(unfinishedTaskCount, aggregate.getUnfinishedTaskCount());
+        assertEquals(totalWeightage, aggregate.getTotalWeightage());
+        assertEquals(outstandingWeightage, aggregate.getOutstandingWeightage());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.logic.comparators.ModuleCodeComparator;
+import seedu.address.logic.comparators.PriorityTagComparator;
+import seedu.address.logic.comparators.TaskNameComparator;
+import seedu.address.logic.comparators.WeightageComparator;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskColumnsTest {
+
+    @Test
+    public void constructor_typicalTasks_columnsMatchTasks() {
+        TaskColumns columns = new TaskColumns(PersistentList.of(List.of(CS2103, CS1010E, CS2100)));
+
+        assertEquals(3, columns.size());
+        assertEquals(LocalDate.of(2022, 10, 9).toEpochDay(), columns.getEpochDay(0));
+        assertEquals(10 * 60 + 10, columns.getMinuteOfDay(0));
+        assertEquals(CS2100.getWeightage().weightage, columns.getWeightage(2));
+        assertEquals(CS2100.getPriorityTag().getPriority(), columns.getPriority(2));
+        // CS1010 < CS2100 < CS2103
+        assertEquals(2, columns.getModuleCodeRank(0));
+        assertEquals(0, columns.getModuleCodeRank(1));
+        assertEquals(1, columns.getModuleCodeRank(2));
+        assertEquals(CS1010E, columns.getTask(1));
+    }
+
+    @Test
+    public void sortedBy_columnarComparators_sameAsStableSort() {
+        List<Task> tasks = getTypicalTasks();
+        tasks.add(new TaskBuilder(CS2103).withName("Week 11 Quiz").withDeadlineTime("09:00")
+                .withPriorityTag("HIGH").withWeightage(40).build());
+        TaskColumns columns = new TaskColumns(PersistentList.of(tasks));
+
+        List<ColumnarComparator> comparators = List.of(new DateTimeComparator(), new ModuleCodeComparator(),
+                new PriorityTagComparator(), new WeightageComparator(), new TaskNameComparator(),
+                new DateTimeComparator().reversed(),
+                new PriorityTagComparator().thenComparing(new DateTimeComparator().reversed()),
+                new WeightageComparator().thenComparing(new ModuleCodeComparator())
+                        .thenComparing(new TaskNameComparator().reversed()));
+        for (ColumnarComparator comparator : comparators) {
+            List<Task> expectedTasks = new ArrayList<>(tasks);
+            expectedTasks.sort(comparator);
+            assertEquals(expectedTasks, columns.sortedBy(comparator));
+        }
+    }
+
+    @Test
+    public void sortedBy_sortKeysTooWide_sameAsStableSort() {
+        List<Task> tasks = getTypicalTasks();
+        TaskColumns columns = new TaskColumns(PersistentList.of(tasks));
+        ColumnarComparator comparator = new DateTimeComparator();
+        while (comparator.getSortKeyBits(columns) < Long.SIZE) {
+            comparator = comparator.thenComparing(new DateTimeComparator().reversed());
+        }
+
+        List<Task> expectedTasks = new ArrayList<>(tasks);
+        expectedTasks.sort(comparator);
+        assertEquals(expectedTasks, columns.sortedBy(comparator));
+    }
+
+    @Test
+    public void permutedBy_sortedRows_sameAsColumnsOfSortedTasks() {
+        TaskColumns columns = new TaskColumns(PersistentList.of(getTypicalTasks()));
+        columns.getModuleCodeCount();
+
+        TaskColumns permutedColumns = columns.permutedBy(columns.sortedRows(new DateTimeComparator()));
+
+        TaskColumns expectedColumns = new TaskColumns(permutedColumns.getTasks());
+        for (int row = 0; row < columns.size(); row++) {
+            assertEquals(expectedColumns.getEpochDay(row), permutedColumns.getEpochDay(row));
+            assertEquals(expectedColumns.getMinuteOfDay(row), permutedColumns.getMinuteOfDay(row));
+            assertEquals(expectedColumns.getWeightage(row), permutedColumns.getWeightage(row));
+            assertEquals(expectedColumns.getPriority(row), permutedColumns.getPriority(row));
+            assertEquals(expectedColumns.getModuleCodeRank(row), permutedColumns.getModuleCodeRank(row));
+            assertEquals(expectedColumns.getTaskNameRank(row), permutedColumns.getTaskNameRank(row));
+        }
+        assertEquals(expectedColumns.getMinEpochDay(), permutedColumns.getMinEpochDay());
+        assertEquals(expectedColumns.getMaxEpochDay(), permutedColumns.getMaxEpochDay());
+    }
+
+    @Test
+    public void permutedBy_rowsOfOtherSize_throwsIllegalArgumentException() {
+        TaskColumns columns = new TaskColumns(PersistentList.of(List.of(CS2103, CS1010E)));
+        assertThrows(IllegalArgumentException.class, () -> columns.permutedBy(new int[] {0}));
+    }
+
+    @Test
+    public void getSortKeyBits_emptyColumns_noBitsNeededForRanks() {
+        TaskColumns columns = new TaskColumns(PersistentList.empty());
+        assertEquals(0, new ModuleCodeComparator().getSortKeyBits(columns));
+        assertEquals(0, new TaskNameComparator().getSortKeyBits(columns));
+        assertEquals(List.of(), columns.sortedBy(new DateTimeComparator()));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.DueInCommand;
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Measures the cost of finding the tasks due within a week, and the next few tasks due, through
+ * {@code TaskDeadlineIndex}, and compares it against testing every task with {@code DeadlineDateInRangePredicate}, and
+ * against sorting the tasks. Also measures the {@code dueIn} command end to end, from the lookup to the displayed list
+ * of the model.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class TaskDeadlineIndexBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 1_000;
+    private static final int NEXT_COUNT = 10;
+
+    /**
+     * Prints the cost of building the index, of finding the tasks due in the next week, and of finding the next
+     * {@code NEXT_COUNT} tasks due, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() throws ParseException {
+        for (int size : SIZES) {
+            List<Task> tasks = UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+            uniqueTaskList.setTasks(tasks);
+
+            long start = System.nanoTime();
+            TaskDeadlineIndex index = new TaskDeadlineIndex(uniqueTaskList);
+            long buildNanos = System.nanoTime() - start;
+
+            DeadlineDateInRangePredicate predicate = new DeadlineDateInRangePredicate(7);
+            LocalDate startDate = predicate.getStartDate();
+            LocalDate endDate = predicate.getEndDate();
+            start = System.nanoTime();
+            List<Long> ids = null;
+            for (int i = 0; i < LOOKUPS; i++) {
+                ids = index.getIdsDueBetween(startDate, endDate);
+            }
+            long indexNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            start = System.nanoTime();
+            List<Task> scannedTasks = tasks.stream().filter(predicate).collect(Collectors.toList());
+            long scanNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: index built in %,d us, %,d tasks due in a week found in %,d us "
+                    + "(predicate scan: %,d us)%n",
+                    size, buildNanos / 1_000, ids.size(), indexNanos / 1_000, scanNanos / 1_000);
+            assertEquals(scannedTasks.stream().map(Task::getId).collect(Collectors.toSet()), Set.copyOf(ids));
+
+            LocalDateTime now = LocalDateTime.now();
+            start = System.nanoTime();
+            List<Long> nextIds = null;
+            for (int i = 0; i < LOOKUPS; i++) {
+                nextIds = index.streamIdsDueFrom(now).limit(NEXT_COUNT).collect(Collectors.toList());
+            }
+            long nextNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            start = System.nanoTime();
+            List<Task> sortedTasks = tasks.stream().sorted(new DateTimeComparator()).limit(NEXT_COUNT)
+                    .collect(Collectors.toList());
+            long sortNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: next %d deadlines found in %,d us (sort: %,d us)%n",
+                    size, NEXT_COUNT, nextNanos / 1_000, sortNanos / 1_000);
+            assertEquals(NEXT_COUNT, nextIds.size());
+            assertEquals(sortedTasks.get(0).getDeadlineDate(),
+                    uniqueTaskList.getTask(nextIds.get(0)).get().getDeadlineDate());
+        }
+    }
+
+    /**
+     * Prints the cost of executing {@code dueIn} on a model, for each of the {@code SIZES}, and compares it against
+     * filtering the displayed list with the predicate of the dates.
+     * The displayed list alternates between the tasks due in the next week and the tasks due in the next day, so that
+     * every command changes it.
+     */
+    @Test
+    public void benchmarkDueInCommand() throws ParseException {
+        for (int size : SIZES) {
+            Model model = createModel(size);
+            DeadlineDateInRangePredicate predicate = new DeadlineDateInRangePredicate(7);
+            DueInCommand dueInCommand = new DueInCommand(predicate);
+            DueInCommand otherDueInCommand = new DueInCommand(new DeadlineDateInRangePredicate(1));
+
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                otherDueInCommand.execute(model);
+                dueInCommand.execute(model);
+            }
+            long dueInNanos = (System.nanoTime() - start) / (2 * LOOKUPS);
+            int dueCount = model.getFilteredTaskList().size();
+
+            model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+            start = System.nanoTime();
+            // not a refining predicate, so that it is tested on every task rather than only the tasks found before
+            model.updateFilteredTaskList(task -> predicate.test(task));
+            long filterNanos = System.nanoTime() - start;
+            assertEquals(dueCount, model.getFilteredTaskList().size());
+
+            System.out.printf("%,d tasks: dueIn command for %,d tasks %,d us (filtering every task: %,d us)%n",
+                    size, dueCount, dueInNanos / 1_000, filterNanos / 1_000);
+        }
+    }
+
+    /**
+     * Returns a model of {@code size} tasks, copied from a plain list of the tasks rather than from another task
+     * tracker, so that the indexes are only built once.
+     */
+    private static Model createModel(int size) {
+        ObservableList<Task> tasks =
+                FXCollections.observableList(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size));
+        ReadOnlyTaskTracker taskTracker = new ReadOnlyTaskTracker() {
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return tasks;
+            }
+
+            @Override
+            public ObservableList<Task> getDailyTaskList() {
+                return FXCollections.emptyObservableList();
+            }
+        };
+        return new ModelManager(taskTracker, new UserPrefs());
+    }
+}
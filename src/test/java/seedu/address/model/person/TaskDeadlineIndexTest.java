@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2100;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.CS3243;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskDeadlineIndexTest {
+
+    private static final LocalDate OCT_8 = LocalDate.of(2022, 10, 8);
+    private static final LocalDate OCT_9 = LocalDate.of(2022, 10, 9);
+    private static final LocalDate OCT_10 = LocalDate.of(2022, 10, 10);
+    private static final LocalDate OCT_31 = LocalDate.of(2022, 10, 31);
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final TaskDeadlineIndex index = new TaskDeadlineIndex(tasks);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskDeadlineIndex(null));
+    }
+
+    @Test
+    public void constructor_existingTasks_tasksIndexed() {
+        tasks.setTasks(Arrays.asList(CS2100, CS3243));
+        TaskDeadlineIndex newIndex = new TaskDeadlineIndex(tasks);
+        assertEquals(List.of(CS3243.getId(), CS2100.getId()), newIndex.getIdsDueBetween(OCT_8, OCT_31));
+    }
+
+    @Test
+    public void getIdsDueBetween_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getIdsDueBetween(OCT_9, OCT_8));
+    }
+
+    @Test
+    public void getIdsDueBetween_tasksInRange_returnsIdsInDeadlineOrder() {
+        Task evening = new TaskBuilder().withDeadlineDate("09-10-2022").withDeadlineTime("23:59").build();
+        Task midnight = new TaskBuilder().withDeadlineDate("10-10-2022").withDeadlineTime("00:00").build();
+        tasks.setTasks(Arrays.asList(CS2100, evening, CS2103, midnight, CS3243, CS1010E));
+
+        // bounds are inclusive, over the whole day
+        assertEquals(List.of(CS2103.getId(), CS1010E.getId(), evening.getId()), index.getIdsDueBetween(OCT_9, OCT_9));
+        assertEquals(List.of(CS3243.getId(), CS2103.getId(), CS1010E.getId(), evening.getId(), midnight.getId()),
+                index.getIdsDueBetween(OCT_8, OCT_10));
+        assertEquals(List.of(midnight.getId(), CS2100.getId()), index.getIdsDueBetween(OCT_10, OCT_31));
+
+        // no tasks in range
+        assertEquals(Collections.emptyList(), index.getIdsDueBetween(OCT_31, OCT_31));
+    }
+
+    @Test
+    public void streamIdsDueFrom_tasksDueAfterStart_returnsIdsInDeadlineOrder() {
+        Task earlyMorning = new TaskBuilder().withDeadlineDate("10-10-2022").withDeadlineTime("08:00").build();
+        tasks.setTasks(Arrays.asList(CS2100, earlyMorning, CS2103, CS2040, CS3243));
+
+        // deadlines at the start are included
+        assertEquals(List.of(CS2103.getId(), earlyMorning.getId(), CS2040.getId(), CS2100.getId()),
+                index.streamIdsDueFrom(LocalDateTime.of(2022, 10, 9, 10, 10)).collect(Collectors.toList()));
+
+        // deadlines earlier in the minute of the start have passed
+        assertEquals(List.of(earlyMorning.getId(), CS2040.getId()),
+                index.streamIdsDueFrom(LocalDateTime.of(2022, 10, 9, 10, 10, 30)).limit(2)
+                        .collect(Collectors.toList()));
+
+        // no tasks due after the start
+        assertEquals(Collections.emptyList(),
+                index.streamIdsDueFrom(LocalDateTime.of(2022, 10, 13, 10, 11)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void taskListChanges_indexUpdated() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+
+        Task editedCs2040 = new Task(CS2040.getId(), CS2040.getTaskName(), CS2040.getModuleCode(),
+                new DeadlineDate("09-10-2022"), new DeadlineTime("08:00"), CS2040.getStatus(),
+                CS2040.getWeightage(), CS2040.getNotes(), CS2040.getTags(), CS2040.getPriorityTag());
+        tasks.setTask(CS2040, editedCs2040);
+        assertEquals(List.of(CS2040.getId(), CS2103.getId()), index.getIdsDueBetween(OCT_9, OCT_9));
+        assertEquals(Collections.emptyList(), index.getIdsDueBetween(OCT_10, OCT_10));
+
+        tasks.add(CS2030);
+        tasks.remove(CS2103);
+        assertEquals(List.of(CS2040.getId(), CS2030.getId()), index.getIdsDueBetween(OCT_8, OCT_10));
+    }
+
+    @Test
+    public void taskListChanges_tasksMovedOrReplaced_indexUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2040, CS2030, CS2103));
+        tasks.setSortOrder(new DateTimeComparator());
+        tasks.finish(CS2040);
+        assertEquals(List.of(CS2103.getId(), CS2030.getId(), CS2040.getId()), index.getIdsDueBetween(OCT_8, OCT_10));
+
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+        assertEquals(List.of(CS2103.getId(), CS2040.getId()), index.getIdsDueBetween(OCT_8, OCT_10));
+    }
+}
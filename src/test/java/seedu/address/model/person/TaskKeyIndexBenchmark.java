@@ -0,0 +1,81 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures the cost of finding the tasks with a module code, priority tag and tag through {@code TaskKeyIndex}, and
+ * compares it against testing every task.
+ * Run with {@code gradlew benchmark}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+public class TaskKeyIndexBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 1_000;
+    private static final int MODULE_CODES = 50;
+    private static final int TAGS = 20;
+    private static final String[] PRIORITY_TAGS = {"LOW", "MEDIUM", "HIGH"};
+
+    /**
+     * Prints the cost of building the index, and of finding the HIGH priority CS2103 tasks tagged exam, for each of
+     * the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        for (int size : SIZES) {
+            List<Task> tasks = createTasksWithSpreadKeys(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+            uniqueTaskList.setTasks(tasks);
+
+            long start = System.nanoTime();
+            TaskKeyIndex index = new TaskKeyIndex(uniqueTaskList);
+            long buildNanos = System.nanoTime() - start;
+
+            ModuleCode moduleCode = ModuleCode.of("CS2103");
+            PriorityTag priorityTag = PriorityTag.of("HIGH");
+            Tag tag = Tag.of("exam");
+            start = System.nanoTime();
+            Set<Long> ids = null;
+            for (int i = 0; i < LOOKUPS; i++) {
+                ids = index.getIdsWithAllKeys(List.of(moduleCode, priorityTag, tag));
+            }
+            long indexNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            Predicate<Task> predicate = task -> task.getModuleCode().equals(moduleCode)
+                    && task.getPriorityTag().equals(priorityTag) && task.getTags().contains(tag);
+            start = System.nanoTime();
+            List<Task> scannedTasks = tasks.stream().filter(predicate).collect(Collectors.toList());
+            long scanNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: index built in %,d us, %,d tasks found in %,d us (predicate scan: %,d us)%n",
+                    size, buildNanos / 1_000, ids.size(), indexNanos / 1_000, scanNanos / 1_000);
+            assertEquals(scannedTasks.stream().map(Task::getId).collect(Collectors.toSet()), ids);
+        }
+    }
+
+    private static List<Task> createTasksWithSpreadKeys(int size) {
+        Random random = new Random(size);
+        List<Task> tasks = new ArrayList<>(size);
+        for (Task task : UniqueTaskListBenchmark.createTasks(size)) {
+            ModuleCode moduleCode = ModuleCode.of("CS" + (2100 + random.nextInt(MODULE_CODES)));
+            int tagNumber = random.nextInt(TAGS);
+            Tag tag = Tag.of(tagNumber == 0 ? "exam" : "tag" + tagNumber);
+            tasks.add(new Task(task.getTaskName(), moduleCode, task.getDeadlineDate(), task.getDeadlineTime(),
+                    task.getStatus(), task.getWeightage(), task.getNotes(), Set.of(tag),
+                    PriorityTag.of(PRIORITY_TAGS[random.nextInt(PRIORITY_TAGS.length)])));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.model.tag.PriorityTag;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskKeyIndexTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag OWES_MONEY = Tag.of("owesMoney");
+    private static final PriorityTag LOW = PriorityTag.of("LOW");
+    private static final PriorityTag HIGH = PriorityTag.of("HIGH");
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final TaskKeyIndex index = new TaskKeyIndex(tasks);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskKeyIndex(null));
+    }
+
+    @Test
+    public void constructor_existingTasks_tasksIndexed() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+        TaskKeyIndex newIndex = new TaskKeyIndex(tasks);
+        assertEquals(Set.of(CS2103.getId(), CS2040.getId()), newIndex.getIdsWithAllKeys(List.of(FRIENDS)));
+    }
+
+    @Test
+    public void getIdsWithAllKeys_noKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getIdsWithAllKeys(Collections.emptyList()));
+    }
+
+    @Test
+    public void getIdsWithAllKeys_keysOfEachField_returnsIntersection() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2040, CS1010E, CS2030));
+
+        assertEquals(Set.of(CS2103.getId(), CS2030.getId()), index.getIdsWithAllKeys(List.of(FRIENDS, LOW)));
+        assertEquals(Set.of(CS2040.getId()),
+                index.getIdsWithAllKeys(List.of(ModuleCode.of("CS2040"), HIGH, FRIENDS, OWES_MONEY)));
+        assertEquals(Set.of(CS1010E.getId()), index.getIdsWithAllKeys(List.of(ModuleCode.of("CS1010"))));
+
+        // no task with all the keys, or with a key
+        assertEquals(Collections.emptySet(), index.getIdsWithAllKeys(List.of(OWES_MONEY, LOW)));
+        assertEquals(Collections.emptySet(), index.getIdsWithAllKeys(List.of(Tag.of("exam"), FRIENDS)));
+    }
+
+    @Test
+    public void getCounts_countsPerKey() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2040, CS1010E, CS2030));
+
+        assertEquals(3, index.getCount(FRIENDS));
+        assertEquals(0, index.getCount(Tag.of("exam")));
+        assertEquals(Map.of(FRIENDS, 3, OWES_MONEY, 1), index.getCounts(Tag.class));
+        assertEquals(Map.of(LOW, 2, HIGH, 1, PriorityTag.of("MEDIUM"), 1), index.getCounts(PriorityTag.class));
+        assertEquals(4, index.getCounts(ModuleCode.class).size());
+    }
+
+    @Test
+    public void taskListChanges_indexUpdated() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+
+        Task editedCs2040 = new Task(CS2040.getId(), CS2040.getTaskName(), CS2040.getModuleCode(),
+                CS2040.getDeadlineDate(), CS2040.getDeadlineTime(), CS2040.getStatus(), CS2040.getWeightage(),
+                CS2040.getNotes(), Set.of(Tag.of("exam")), LOW);
+        tasks.setTask(CS2040, editedCs2040);
+        assertEquals(Set.of(CS2103.getId(), CS2040.getId()), index.getIdsWithAllKeys(List.of(LOW)));
+        assertEquals(Set.of(CS2103.getId()), index.getIdsWithAllKeys(List.of(FRIENDS)));
+        assertEquals(Map.of(LOW, 2), index.getCounts(PriorityTag.class)); // keys without tasks are dropped
+
+        Task newTask = new TaskBuilder().withTags("exam").build();
+        tasks.add(newTask);
+        tasks.remove(CS2103);
+        assertEquals(Set.of(CS2040.getId(), newTask.getId()), index.getIdsWithAllKeys(List.of(Tag.of("exam"))));
+        assertEquals(0, index.getCount(FRIENDS));
+    }
+
+    @Test
+    public void taskListChanges_tasksMovedOrReplaced_indexUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2040, CS2030, CS2103));
+        tasks.setSortOrder(new DateTimeComparator());
+        tasks.finish(CS2040);
+        assertEquals(3, index.getCount(FRIENDS));
+
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+        assertEquals(Set.of(CS2103.getId(), CS2040.getId()), index.getIdsWithAllKeys(List.of(FRIENDS)));
+        assertEquals(0, index.getCount(ModuleCode.of("CS2030")));
+    }
+}
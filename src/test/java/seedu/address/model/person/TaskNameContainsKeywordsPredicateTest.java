@@ -38,6 +38,21 @@ public class TaskNameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("quiz", "lab"));
+
+        // subset of the keywords, ignoring case -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Collections.singletonList("QUIZ")).refines(predicate));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("lab", "Quiz")).refines(predicate));
+
+        // more keywords -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("quiz", "lab", "tutorial")).refines(predicate));
+
+        // different predicate -> returns false
+        assertFalse(predicate.refines(task -> true));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Measures the cost of finding tasks by the words in their names through {@code TaskWordIndex}, and compares it
+ * against testing every task with {@code NameContainsKeywordsPredicate}, or the edit distance to every word.
+ * Also measures the {@code find} command end to end, from the lookup to the displayed list of the model.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class TaskWordIndexBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 1_000;
+
+    /**
+     * Prints the cost of building the index, and of finding a few tasks by name, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        for (int size : SIZES) {
+            List<Task> tasks = UniqueTaskListBenchmark.createTasks(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+            uniqueTaskList.setTasks(tasks);
+
+            long start = System.nanoTime();
+            TaskWordIndex index = new TaskWordIndex(uniqueTaskList);
+            long buildNanos = System.nanoTime() - start;
+
+            List<String> keywords = List.of(String.valueOf(size - 1), "missing", String.valueOf(size / 2));
+            start = System.nanoTime();
+            Set<Long> ids = null;
+            for (int i = 0; i < LOOKUPS; i++) {
+                ids = index.getIdsWithAnyWord(TaskWordIndex.Field.NAME, keywords);
+            }
+            long indexNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            start = System.nanoTime();
+            List<Task> scannedTasks = tasks.stream().filter(predicate).collect(Collectors.toList());
+            long scanNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: index built in %,d us, find %,d ns (predicate scan: %,d us)%n",
+                    size, buildNanos / 1_000, indexNanos, scanNanos / 1_000);
+            assertEquals(scannedTasks.stream().map(Task::getId).collect(Collectors.toSet()), ids);
+
+            // A typo in the number of the last task
+            String typo = (size - 1) + "x";
+            int maxTypos = TaskWordIndex.getMaxTypos(typo.length());
+            start = System.nanoTime();
+            Map<Long, Integer> ranks = null;
+            for (int i = 0; i < LOOKUPS; i++) {
+                ranks = index.getIdsWithSimilarWord(TaskWordIndex.Field.NAME, List.of(typo));
+            }
+            long similarNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            start = System.nanoTime();
+            long scannedCount = tasks.stream()
+                    .map(task -> task.getTaskName().fullName.split(" ")[1])
+                    .filter(number -> StringUtil.editDistance(typo, number) <= maxTypos)
+                    .count();
+            long editDistanceScanNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: find similar %,d us (edit distance scan: %,d us)%n",
+                    size, similarNanos / 1_000, editDistanceScanNanos / 1_000);
+            assertEquals(scannedCount, ranks.size());
+        }
+    }
+
+    /**
+     * Prints the cost of executing {@code find} on a model, for each of the {@code SIZES}, and compares it against
+     * filtering the displayed list with the predicate of the keywords.
+     * The displayed list alternates between the found tasks and a task found with other keywords, so that every
+     * command changes it.
+     */
+    @Test
+    public void benchmarkFindCommand() {
+        for (int size : SIZES) {
+            Model model = createModel(size);
+            List<String> keywords = List.of(String.valueOf(size - 1), "missing", String.valueOf(size / 2));
+            FindCommand findCommand = new FindCommand(new NameContainsKeywordsPredicate(keywords));
+            FindCommand otherFindCommand = new FindCommand(new NameContainsKeywordsPredicate(List.of("0")));
+
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                otherFindCommand.execute(model);
+                findCommand.execute(model);
+            }
+            long findNanos = (System.nanoTime() - start) / (2 * LOOKUPS);
+            assertEquals(2, model.getFilteredTaskList().size());
+
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+            start = System.nanoTime();
+            // not a refining predicate, so that it is tested on every task rather than only the tasks found before
+            model.updateFilteredTaskList(task -> predicate.test(task));
+            long filterNanos = System.nanoTime() - start;
+            assertEquals(2, model.getFilteredTaskList().size());
+
+            System.out.printf("%,d tasks: find command %,d ns (filtering every task: %,d us)%n",
+                    size, findNanos, filterNanos / 1_000);
+        }
+    }
+
+    /**
+     * Returns a model of {@code size} tasks, without keeping the task tracker it was copied from.
+     */
+    private static Model createModel(int size) {
+        TaskTracker taskTracker = new TaskTracker();
+        taskTracker.setTasks(UniqueTaskListBenchmark.createTasks(size));
+        return new ModelManager(taskTracker, new UserPrefs());
+    }
+}
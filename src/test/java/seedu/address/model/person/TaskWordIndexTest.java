@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS1010E;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.model.person.TaskWordIndex.Field;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskWordIndexTest {
+
+    private final UniqueTaskList tasks = new UniqueTaskList();
+    private final TaskWordIndex index = new TaskWordIndex(tasks);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TaskWordIndex(null));
+    }
+
+    @Test
+    public void constructor_existingTasks_tasksIndexed() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        TaskWordIndex newIndex = new TaskWordIndex(tasks);
+        assertEquals(Set.of(CS2030.getId()), newIndex.getIdsWithAnyWord(Field.NAME, List.of("tutorial")));
+    }
+
+    @Test
+    public void getIdsWithAnyWord_matchingWords_returnsUnion() {
+        tasks.setTasks(Arrays.asList(CS2103, CS1010E, CS2030, CS2040));
+
+        assertEquals(Set.of(CS1010E.getId(), CS2030.getId(), CS2103.getId()),
+                index.getIdsWithAnyWord(Field.NAME, List.of("TUTORIAL", "quiz")));
+    }
+
+    @Test
+    public void getIdsWithAnyWord_partialOrMultipleWords_noMatch() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        assertEquals(Collections.emptySet(), index.getIdsWithAnyWord(Field.NAME, List.of("Tutor", "Tutorial 5", "")));
+        assertEquals(Collections.emptySet(), index.getIdsWithAnyWord(Field.NAME, Collections.emptyList()));
+    }
+
+    @Test
+    public void getIdsWithAllWords_matchingWords_returnsIntersection() {
+        tasks.setTasks(Arrays.asList(CS1010E, CS2030, CS2040));
+
+        assertEquals(Set.of(CS2030.getId()), index.getIdsWithAllWords(Field.NAME, List.of("tutorial", "5")));
+        assertEquals(Collections.emptySet(), index.getIdsWithAllWords(Field.NAME, List.of("tutorial", "lab")));
+        assertEquals(Collections.emptySet(), index.getIdsWithAllWords(Field.NAME, Collections.emptyList()));
+    }
+
+    @Test
+    public void getIdsWithSimilarWord_similarWords_returnsClosestRanks() {
+        Task assignment = new TaskBuilder().withName("Final Assignment").build();
+        Task assignments = new TaskBuilder().withName("Assignments due").build();
+        Task sign = new TaskBuilder().withName("Sign up").build();
+        tasks.setTasks(Arrays.asList(assignment, assignments, sign, CS2030));
+
+        // typos
+        assertEquals(Map.of(assignment.getId(), 2, assignments.getId(), 3),
+                index.getIdsWithSimilarWord(Field.NAME, List.of("Assigment")));
+
+        // same word and containing words
+        assertEquals(Map.of(assignment.getId(), 1, assignments.getId(), 1, sign.getId(), 0),
+                index.getIdsWithSimilarWord(Field.NAME, List.of("sign")));
+
+        // closest of several words
+        assertEquals(Map.of(assignment.getId(), 0, assignments.getId(), 1, CS2030.getId(), 2),
+                index.getIdsWithSimilarWord(Field.NAME, List.of("assignment", "tutoral")));
+    }
+
+    @Test
+    public void getIdsWithSimilarWord_dissimilarOrShortWords_noMatch() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+
+        // too many typos
+        assertEquals(Collections.emptyMap(), index.getIdsWithSimilarWord(Field.NAME, List.of("tuturoal")));
+
+        // short words only match the same word
+        assertEquals(Collections.emptyMap(), index.getIdsWithSimilarWord(Field.NAME, List.of("tu", "1")));
+        assertEquals(Map.of(CS2103.getId(), 0), index.getIdsWithSimilarWord(Field.NAME, List.of("10")));
+    }
+
+    @Test
+    public void getSimilarWordRank_singleTask_sameRankAsIndex() {
+        Task assignment = new TaskBuilder().withName("Final Assignment").build();
+        tasks.setTasks(Arrays.asList(assignment, CS2103, CS2030));
+        for (List<String> words : List.of(List.of("Assigment"), List.of("sign"), List.of("assignment", "tutoral"),
+                List.of("tuturoal"), List.of("tu", "10"))) {
+            Map<Long, Integer> ranks = index.getIdsWithSimilarWord(Field.NAME, words);
+            for (Task task : Arrays.asList(assignment, CS2103, CS2030)) {
+                assertEquals(Optional.ofNullable(ranks.get(task.getId())),
+                        TaskWordIndex.getSimilarWordRank(Field.NAME, task, words));
+            }
+        }
+    }
+
+    @Test
+    public void getIdsWithSimilarWord_wordsRemoved_noLongerSimilar() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+        tasks.remove(CS2030);
+        assertEquals(Collections.emptyMap(), index.getIdsWithSimilarWord(Field.NAME, List.of("tutoral")));
+    }
+
+    @Test
+    public void taskListChanges_indexUpdated() {
+        tasks.setTasks(Arrays.asList(CS2103, CS2030));
+
+        Task editedCs2030 = new Task(CS2030.getId(), new TaskName("Lab 5"), CS2030.getModuleCode(),
+                CS2030.getDeadlineDate(), CS2030.getDeadlineTime(), CS2030.getStatus(), CS2030.getWeightage(),
+                CS2030.getNotes(), CS2030.getTags(), CS2030.getPriorityTag());
+        tasks.setTask(CS2030, editedCs2030);
+        assertEquals(Collections.emptySet(), index.getIdsWithAnyWord(Field.NAME, List.of("tutorial")));
+        assertEquals(Set.of(CS2030.getId()), index.getIdsWithAnyWord(Field.NAME, List.of("lab")));
+        assertEquals(Set.of(CS2030.getId()), index.getIdsWithAnyWord(Field.NAME, List.of("5")));
+
+        Task newTask = new TaskBuilder().withName("Lab 6").build();
+        tasks.add(newTask);
+        tasks.remove(CS2103);
+        assertEquals(Set.of(CS2030.getId(), newTask.getId()), index.getIdsWithAnyWord(Field.NAME, List.of("lab")));
+        assertEquals(Collections.emptySet(), index.getIdsWithAnyWord(Field.NAME, List.of("quiz")));
+    }
+
+    @Test
+    public void taskListChanges_tasksMovedOrReplaced_indexUnchanged() {
+        tasks.setTasks(Arrays.asList(CS2040, CS2030, CS2103));
+        tasks.setSortOrder(new DateTimeComparator());
+        tasks.finish(CS2040);
+        assertEquals(Set.of(CS2040.getId()), index.getIdsWithAnyWord(Field.NAME, List.of("lab")));
+
+        tasks.setTasks(Arrays.asList(CS2103, CS2040));
+        assertEquals(Set.of(CS2040.getId(), CS2103.getId()),
+                index.getIdsWithAnyWord(Field.NAME, List.of("lab", "quiz")));
+        assertEquals(Collections.emptySet(), index.getIdsWithAnyWord(Field.NAME, List.of("tutorial")));
+    }
+}
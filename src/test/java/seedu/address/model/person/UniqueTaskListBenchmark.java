@@ -0,0 +1,201 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.comparators.DateTimeComparator;
+import seedu.address.logic.comparators.ModuleCodeComparator;
+import seedu.address.logic.comparators.TaskNameComparator;
+import seedu.address.logic.comparators.WeightageComparator;
+
+/**
+ * Measures the cost of identity lookups, bulk replacement and sorting in {@code UniqueTaskList} for large lists,
+ * and compares it against the linear scans and comparisons that the list used to perform.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class UniqueTaskListBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int LOOKUPS = 1_000;
+    private static final int LEGACY_UNIQUENESS_CHECK_LIMIT = 10_000;
+    private static final int SORT_REPEATS = 5;
+    private static final int MODULE_CODES = 50;
+
+    /**
+     * Prints the cost of bulk replacement and identity lookups for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() {
+        for (int size : SIZES) {
+            List<Task> tasks = createTasks(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+            long start = System.nanoTime();
+            uniqueTaskList.setTasks(tasks);
+            long setTasksNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                assertTrue(uniqueTaskList.contains(tasks.get(size - 1 - i)));
+            }
+            long containsNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                Task lastTask = tasks.get(size - 1 - i);
+                assertTrue(tasks.stream().anyMatch(lastTask::isSameTask));
+            }
+            long legacyContainsNanos = (System.nanoTime() - start) / LOOKUPS;
+
+            System.out.printf("%,d tasks: setTasks %,d us, contains %,d ns (linear scan: %,d ns)%n",
+                    size, setTasksNanos / 1_000, containsNanos, legacyContainsNanos);
+
+            if (size <= LEGACY_UNIQUENESS_CHECK_LIMIT) {
+                start = System.nanoTime();
+                assertTrue(legacyTasksAreUnique(tasks));
+                System.out.printf("%,d tasks: pairwise uniqueness check %,d us%n",
+                        size, (System.nanoTime() - start) / 1_000);
+            }
+            assertEquals(size, uniqueTaskList.asUnmodifiableObservableList().size());
+        }
+    }
+
+    /**
+     * Prints the cost of sorting by deadline, and by module code, weightage and deadline, through the columns of
+     * the list, and by comparing the tasks, for each of the {@code SIZES}.
+     * The sort of the rows by their keys is timed apart from rearranging the columns in the sorted order, and from
+     * the whole sort of the list, which also replaces its contents. Each sort starts from the tasks in name order,
+     * and the first round of sorts only warms up.
+     */
+    @Test
+    public void sortBenchmark() {
+        Map<String, ColumnarComparator> comparators = new LinkedHashMap<>();
+        comparators.put("deadline", new DateTimeComparator());
+        comparators.put("module code, weightage and deadline", new ModuleCodeComparator()
+                .thenComparing(new WeightageComparator()).thenComparing(new DateTimeComparator()));
+        for (int size : SIZES) {
+            List<Task> tasks = createTasksWithSpreadFields(size);
+            UniqueTaskList uniqueTaskList = new UniqueTaskList();
+            uniqueTaskList.setTasks(tasks);
+
+            for (Map.Entry<String, ColumnarComparator> entry : comparators.entrySet()) {
+                ColumnarComparator comparator = entry.getValue();
+                long keySortNanos = 0;
+                long permutationNanos = 0;
+                long sortNanos = 0;
+                long comparatorSortNanos = 0;
+                List<Task> expectedTasks = null;
+                for (int round = 0; round <= SORT_REPEATS; round++) {
+                    uniqueTaskList.sort(new TaskNameComparator());
+                    List<Task> tasksInNameOrder = new ArrayList<>(uniqueTaskList.asUnmodifiableObservableList());
+                    TaskColumns columns = uniqueTaskList.columns();
+
+                    long start = System.nanoTime();
+                    int[] sortedRows = columns.sortedRows(comparator);
+                    long keySortEnd = System.nanoTime();
+                    columns.permutedBy(sortedRows);
+                    long permutationEnd = System.nanoTime();
+                    uniqueTaskList.sort(comparator);
+                    long sortEnd = System.nanoTime();
+
+                    expectedTasks = tasksInNameOrder;
+                    long comparatorSortStart = System.nanoTime();
+                    expectedTasks.sort(comparator);
+                    long comparatorSortEnd = System.nanoTime();
+
+                    if (round > 0) {
+                        keySortNanos += keySortEnd - start;
+                        permutationNanos += permutationEnd - keySortEnd;
+                        sortNanos += sortEnd - permutationEnd;
+                        comparatorSortNanos += comparatorSortEnd - comparatorSortStart;
+                    }
+                }
+
+                System.out.printf("%,d tasks by %s: key sort %,d us, permutation %,d us, whole sort %,d us "
+                        + "(comparator sort: %,d us)%n", size, entry.getKey(), keySortNanos / SORT_REPEATS / 1_000,
+                        permutationNanos / SORT_REPEATS / 1_000, sortNanos / SORT_REPEATS / 1_000,
+                        comparatorSortNanos / SORT_REPEATS / 1_000);
+                assertEquals(expectedTasks, uniqueTaskList.asUnmodifiableObservableList());
+            }
+        }
+    }
+
+    /**
+     * Returns {@code size} distinct tasks with deadlines spread over the coming years.
+     */
+    public static List<Task> createTasksWithSpreadDeadlines(int size) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+        Random random = new Random(size);
+        List<Task> tasks = new ArrayList<>(size);
+        for (Task task : createTasks(size)) {
+            DeadlineDate deadlineDate = new DeadlineDate(LocalDate.now().plusDays(1 + random.nextInt(2000))
+                    .format(formatter));
+            DeadlineTime deadlineTime = new DeadlineTime(String.format("%02d:%02d",
+                    random.nextInt(24), random.nextInt(60)));
+            tasks.add(new Task(task.getTaskName(), task.getModuleCode(), deadlineDate, deadlineTime,
+                    task.getStatus(), task.getWeightage(), task.getNotes(), task.getTags()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns {@code size} distinct tasks with deadlines spread over the coming years, and module codes and
+     * weightages spread over a few values.
+     */
+    private static List<Task> createTasksWithSpreadFields(int size) {
+        Random random = new Random(size);
+        List<Task> tasks = new ArrayList<>(size);
+        for (Task task : createTasksWithSpreadDeadlines(size)) {
+            tasks.add(new Task(task.getTaskName(), new ModuleCode("CS" + (2000 + random.nextInt(MODULE_CODES))),
+                    task.getDeadlineDate(), task.getDeadlineTime(), task.getStatus(),
+                    new Weightage(random.nextInt(Weightage.MAX_WEIGHTAGE + 1)), task.getNotes(), task.getTags()));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns {@code size} distinct tasks with deadlines in the future.
+     */
+    static List<Task> createTasks(int size) {
+        String deadline = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("dd-MM-uuuu"));
+        ModuleCode moduleCode = new ModuleCode("CS2103");
+        DeadlineDate deadlineDate = new DeadlineDate(deadline);
+        DeadlineTime deadlineTime = new DeadlineTime("23:59");
+        Weightage weightage = new Weightage(10);
+        Notes notes = new Notes("");
+
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new Task(new TaskName("Task " + i), moduleCode, deadlineDate, deadlineTime,
+                    new Status(), weightage, notes, new HashSet<>()));
+        }
+        return tasks;
+    }
+
+    /**
+     * The pairwise uniqueness check previously performed by {@code UniqueTaskList#setTasks(List)}.
+     */
+    private static boolean legacyTasksAreUnique(List<Task> tasks) {
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            for (int j = i + 1; j < tasks.size(); j++) {
+                if (tasks.get(i).isSameTask(tasks.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
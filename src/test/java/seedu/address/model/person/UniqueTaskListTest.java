@@ -1,19 +1,27 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.BOB;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
 import static seedu.address.testutil.TypicalTasks.CS2103;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.PersistentList;
+import seedu.address.logic.comparators.DateTimeComparator;
 import seedu.address.model.person.exceptions.DuplicateTaskException;
 import seedu.address.model.person.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
@@ -161,9 +169,128 @@ public class UniqueTaskListTest {
         assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTasks));
     }
 
+    @Test
+    public void getTask_taskInList_returnsTask() {
+        uniqueTaskList.add(CS2103);
+        uniqueTaskList.add(BOB);
+        uniqueTaskList.remove(CS2103);
+        assertEquals(Optional.of(BOB), uniqueTaskList.getTask(BOB.getId()));
+        assertEquals(Optional.empty(), uniqueTaskList.getTask(CS2103.getId()));
+    }
+
+    @Test
+    public void getPositions_idsAfterRemoval_positionsInListOrder() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2103, BOB, CS2040, CS2030));
+        uniqueTaskList.remove(BOB);
+        int[] positions = uniqueTaskList.getPositions(
+                Arrays.asList(CS2030.getId(), BOB.getId(), CS2103.getId(), CS2040.getId()));
+        assertArrayEquals(new int[] {0, 1, 2}, positions);
+    }
+
+    @Test
+    public void add_taskWithExistingId_throwsDuplicateTaskException() {
+        uniqueTaskList.add(CS2103);
+        Task taskWithSameId = new Task(CS2103.getId(), BOB.getTaskName(), BOB.getModuleCode(),
+                BOB.getDeadlineDate(), BOB.getDeadlineTime(), BOB.getStatus(), BOB.getWeightage(),
+                BOB.getNotes(), BOB.getTags(), BOB.getPriorityTag());
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(taskWithSameId));
+    }
+
+    @Test
+    public void remove_equivalentCopyOfTask_removesTask() {
+        uniqueTaskList.add(CS2103);
+        Task copy = new TaskBuilder(CS2103).build();
+        uniqueTaskList.remove(copy);
+        assertFalse(uniqueTaskList.contains(CS2103));
+        assertEquals(Optional.empty(), uniqueTaskList.getTask(CS2103.getId()));
+    }
+
+    @Test
+    public void setTask_afterRemovals_replacesTaskAtCorrectPosition() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2103, BOB, CS2040, CS2030));
+        uniqueTaskList.remove(CS2103);
+        uniqueTaskList.remove(CS2040);
+        Task editedCs2030 = new TaskBuilder(CS2030).withNotes("edited").build();
+        uniqueTaskList.setTask(CS2030, editedCs2030);
+        assertEquals(Arrays.asList(BOB, editedCs2030), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_listWithSameIds_throwsDuplicateTaskException() {
+        Task finishedCs2103 = CS2103.finishTask();
+        List<Task> listWithSameIds = Arrays.asList(CS2103, finishedCs2103);
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithSameIds));
+    }
+
+    @Test
+    public void setTasks_earlierSnapshot_restoresTasksAndPositions() {
+        uniqueTaskList.add(CS2103);
+        uniqueTaskList.add(CS2040);
+        PersistentList<Task> snapshot = uniqueTaskList.snapshot();
+        uniqueTaskList.remove(CS2103);
+        uniqueTaskList.add(CS2030);
+
+        uniqueTaskList.setTasks(snapshot);
+
+        assertEquals(Arrays.asList(CS2103, CS2040), uniqueTaskList.asUnmodifiableObservableList());
+        assertTrue(uniqueTaskList.contains(CS2103));
+        assertFalse(uniqueTaskList.contains(CS2030));
+        assertArrayEquals(new int[] {0, 1},
+                uniqueTaskList.getPositions(Arrays.asList(CS2040.getId(), CS2030.getId(), CS2103.getId())));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueTaskList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void sort_columnarComparator_sortsAndReusesColumnsUntilChanged() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2040, CS2103, CS2030));
+        TaskColumns columns = uniqueTaskList.columns();
+        assertSame(columns, uniqueTaskList.columns());
+
+        uniqueTaskList.sort(new DateTimeComparator());
+        assertEquals(Arrays.asList(CS2103, CS2040, CS2030), uniqueTaskList.asUnmodifiableObservableList());
+        assertNotSame(columns, uniqueTaskList.columns());
+        assertEquals(Optional.of(CS2030), uniqueTaskList.getTask(CS2030.getId()));
+    }
+
+    @Test
+    public void setSortOrder_laterMutations_keptInOrder() {
+        uniqueTaskList.setTasks(Arrays.asList(CS2040, CS2103));
+        uniqueTaskList.setSortOrder(new DateTimeComparator());
+        assertEquals(Arrays.asList(CS2103, CS2040), uniqueTaskList.asUnmodifiableObservableList());
+
+        // added task goes after tasks with the same deadline
+        uniqueTaskList.add(CS2030);
+        assertEquals(Arrays.asList(CS2103, CS2040, CS2030), uniqueTaskList.asUnmodifiableObservableList());
+
+        // edited task that stays in order keeps its position
+        Task editedCs2040 = new TaskBuilder(CS2040).withNotes("Bring a laptop").build();
+        uniqueTaskList.setTask(CS2040, editedCs2040);
+        assertEquals(Arrays.asList(CS2103, editedCs2040, CS2030), uniqueTaskList.asUnmodifiableObservableList());
+
+        // edited task that is out of order is moved
+        Task editedCs2103 = new TaskBuilder(CS2103).withDeadlineDate("11-10-2022").build();
+        uniqueTaskList.setTask(CS2103, editedCs2103);
+        assertEquals(Arrays.asList(editedCs2040, CS2030, editedCs2103),
+                uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(CS2030), uniqueTaskList.getTask(CS2030.getId()));
+        assertEquals(Optional.of(editedCs2103), uniqueTaskList.getTask(editedCs2103.getId()));
+
+        // replacement tasks are sorted
+        uniqueTaskList.setTasks(Arrays.asList(CS2040, CS2103));
+        assertEquals(Arrays.asList(CS2103, CS2040), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sort_afterSetSortOrder_sortOrderDiscarded() {
+        uniqueTaskList.setSortOrder(new DateTimeComparator());
+        uniqueTaskList.sort(new DateTimeComparator().reversed());
+        uniqueTaskList.add(CS2040);
+        uniqueTaskList.add(CS2103);
+        assertEquals(Arrays.asList(CS2040, CS2103), uniqueTaskList.asUnmodifiableObservableList());
+    }
 }
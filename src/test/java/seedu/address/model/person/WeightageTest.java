@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -36,4 +38,12 @@ public class WeightageTest {
         assertTrue(Weightage.isValidWeightage(50)); // typical value
 
     }
+
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        assertSame(Weightage.of(0), Weightage.of(0));
+        assertSame(Weightage.of(100), Weightage.of(100));
+        assertEquals(new Weightage(50), Weightage.of(50));
+        assertThrows(IllegalArgumentException.class, () -> Weightage.of(101));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -89,7 +91,12 @@ public class PriorityTagTest {
 
     }
 
-
-
-
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(PriorityTag.of(HIGH), PriorityTag.of(HIGH));
+        assertSame(PriorityTag.getDefault(), PriorityTag.of(LOW));
+        assertEquals(new PriorityTag(MEDIUM), PriorityTag.of(MEDIUM));
+        assertEquals(new PriorityTag(MEDIUM).hashCode(), PriorityTag.of(MEDIUM).hashCode());
+        assertThrows(IllegalArgumentException.class, () -> PriorityTag.of("URGENT"));
+    }
 }
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+
+/**
+ * Measures the cost of saving and reading the whole data file with {@code BinaryTaskTrackerStorage}, and compares it
+ * against the json data file of {@code JsonTaskTrackerStorage}.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class BinaryTaskTrackerStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int RUNS = 1;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Prints the cost of saving and reading back the data file in each format, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        for (int size : SIZES) {
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size));
+            Path binaryFile = testFolder.resolve("binary" + size);
+            Path jsonFile = testFolder.resolve("json" + size);
+            TaskTrackerStorage binaryStorage = new BinaryTaskTrackerStorage(binaryFile);
+            TaskTrackerStorage jsonStorage = new JsonTaskTrackerStorage(jsonFile);
+
+            long[] binaryNanos = measure(binaryStorage, taskTracker);
+            long[] jsonNanos = measure(jsonStorage, taskTracker);
+
+            System.out.printf("%,d tasks: binary save in %,d ms and read in %,d ms (%,d KB); "
+                    + "json save in %,d ms and read in %,d ms (%,d KB)%n", size,
+                    binaryNanos[0] / 1_000_000, binaryNanos[1] / 1_000_000, Files.size(binaryFile) / 1024,
+                    jsonNanos[0] / 1_000_000, jsonNanos[1] / 1_000_000, Files.size(jsonFile) / 1024);
+        }
+    }
+
+    /**
+     * Returns the average time that {@code storage} takes to save {@code taskTracker}, and to read it back.
+     */
+    private static long[] measure(TaskTrackerStorage storage, TaskTracker taskTracker) throws Exception {
+        long saveNanos = 0;
+        long readNanos = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveTaskTracker(taskTracker);
+            saveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ReadOnlyTaskTracker readBack = storage.readTaskTracker().get();
+            readNanos += System.nanoTime() - start;
+            assertEquals(taskTracker, readBack);
+        }
+        return new long[] {saveNanos / RUNS, readNanos / RUNS};
+    }
+}
@@ -0,0 +1,191 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.AMY;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.Task;
+
+public class BinaryTaskTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskTracker_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryTaskTrackerStorage(filePath).readTaskTracker().isPresent());
+        assertFalse(BinaryTaskTrackerStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveTaskTracker_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        BinaryTaskTrackerStorage storage = new BinaryTaskTrackerStorage(filePath);
+        TaskTracker original = getTypicalTaskTracker();
+        original.addDailyTask(CS2040);
+        original.addDailyTask(CS2103);
+        original.finishTask(CS2040);
+        storage.saveTaskTracker(original);
+
+        assertTrue(BinaryTaskTrackerStorage.isBinaryFile(filePath));
+        assertReadBack(original, storage.readTaskTracker().get());
+
+        original.removeTask(CS2103);
+        original.addTask(AMY);
+        storage.saveTaskTracker(original);
+        assertReadBack(original, storage.readTaskTracker().get());
+    }
+
+    @Test
+    public void saveTaskTracker_failsPartway_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        BinaryTaskTrackerStorage storage = new BinaryTaskTrackerStorage(filePath);
+        TaskTracker original = getTypicalTaskTracker();
+        storage.saveTaskTracker(original);
+
+        // the tasks are written before the daily tasks fail
+        ReadOnlyTaskTracker failingTaskTracker = new ReadOnlyTaskTracker() {
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return original.getTaskList();
+            }
+
+            @Override
+            public ObservableList<Task> getDailyTaskList() {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> storage.saveTaskTracker(failingTaskTracker));
+
+        assertReadBack(original, storage.readTaskTracker().get());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void saveTaskTracker_typicalTasks_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("tasktracker.bin");
+        Path jsonFilePath = testFolder.resolve("tasktracker.json");
+        new BinaryTaskTrackerStorage(binaryFilePath).saveTaskTracker(getTypicalTaskTracker());
+        new JsonTaskTrackerStorage(jsonFilePath).saveTaskTracker(getTypicalTaskTracker());
+
+        assertTrue(Files.size(binaryFilePath) * 3 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readTaskTracker_jsonFileWithJournal_readAndConvertedBySave() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.json");
+        JournaledTaskTrackerStorage jsonStorage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        jsonStorage.saveTaskTracker(taskTracker);
+        taskTracker.addDailyTask(CS2030);
+        jsonStorage.saveTaskTracker(taskTracker);
+
+        BinaryTaskTrackerStorage binaryStorage = new BinaryTaskTrackerStorage(filePath);
+        ReadOnlyTaskTracker readBack = binaryStorage.readTaskTracker().get();
+        assertReadBack(taskTracker, readBack);
+
+        binaryStorage.saveTaskTracker(readBack);
+        assertTrue(BinaryTaskTrackerStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(jsonStorage.getJournalFilePath()));
+        assertReadBack(taskTracker, binaryStorage.readTaskTracker().get());
+    }
+
+    @Test
+    public void readTaskTracker_binaryFileWithJsonStorages_detectedAndConvertedBySave() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.json");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        taskTracker.addDailyTask(CS2030);
+        new BinaryTaskTrackerStorage(filePath).saveTaskTracker(taskTracker);
+
+        assertReadBack(taskTracker, new JsonTaskTrackerStorage(filePath).readTaskTracker().get());
+
+        JournaledTaskTrackerStorage jsonStorage = new JournaledTaskTrackerStorage(filePath);
+        ReadOnlyTaskTracker readBack = jsonStorage.readTaskTracker().get();
+        assertReadBack(taskTracker, readBack);
+
+        // the first save writes the whole data file as json, instead of appending to the journal
+        jsonStorage.saveTaskTracker(readBack);
+        assertFalse(BinaryTaskTrackerStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(jsonStorage.getJournalFilePath()));
+        assertReadBack(taskTracker, new JsonTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("original.json");
+        Path binaryFilePath = testFolder.resolve("converted.bin");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        taskTracker.addDailyTask(CS2103);
+        taskTracker.finishTask(CS2040);
+        new JsonTaskTrackerStorage(jsonFilePath).saveTaskTracker(taskTracker);
+
+        ReadOnlyTaskTracker fromJson = new JsonTaskTrackerStorage(jsonFilePath).readTaskTracker().get();
+        new BinaryTaskTrackerStorage(binaryFilePath).saveTaskTracker(fromJson);
+        ReadOnlyTaskTracker fromBinary = new BinaryTaskTrackerStorage(binaryFilePath).readTaskTracker().get();
+        new JsonTaskTrackerStorage(convertedBackFilePath).saveTaskTracker(fromBinary);
+
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedBackFilePath));
+    }
+
+    @Test
+    public void readTaskTracker_invalidData_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        BinaryTaskTrackerStorage storage = new BinaryTaskTrackerStorage(filePath);
+        storage.saveTaskTracker(getTypicalTaskTracker());
+        byte[] valid = Files.readAllBytes(filePath);
+
+        // truncated
+        Files.write(filePath, Arrays.copyOf(valid, valid.length - 1));
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // trailing bytes
+        Files.write(filePath, Arrays.copyOf(valid, valid.length + 1));
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // unsupported version
+        byte[] otherVersion = valid.clone();
+        otherVersion[BinaryTaskTrackerFormat.MAGIC.length] = BinaryTaskTrackerFormat.VERSION + 1;
+        Files.write(filePath, otherVersion);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // header only
+        Files.write(filePath, BinaryTaskTrackerFormat.MAGIC);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+    }
+
+    private static void assertReadBack(TaskTracker expected, ReadOnlyTaskTracker readBack) {
+        assertEquals(expected, new TaskTracker(readBack));
+        assertEquals(List.copyOf(expected.getDailyTaskList()), List.<Task>copyOf(readBack.getDailyTaskList()));
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            assertEquals(expected.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+            assertEquals(expected.getTaskList().get(i).getStatus(), readBack.getTaskList().get(i).getStatus());
+        }
+    }
+}
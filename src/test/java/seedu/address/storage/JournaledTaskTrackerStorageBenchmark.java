@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+
+/**
+ * Measures the cost of saving the task tracker after finishing a task through {@code JournaledTaskTrackerStorage},
+ * and compares it against writing the whole data file with {@code JsonTaskTrackerStorage}, and against the time that
+ * a save takes to return in write-behind mode.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class JournaledTaskTrackerStorageBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int SAVES = 20;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Prints the cost of a save with each storage, and of reading the data back, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        for (int size : SIZES) {
+            List<Task> tasks = UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size);
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(tasks);
+
+            JsonTaskTrackerStorage jsonStorage = new JsonTaskTrackerStorage(testFolder.resolve("full" + size));
+            long start = System.nanoTime();
+            for (int i = 0; i < SAVES; i++) {
+                taskTracker.finishTask(taskTracker.getTaskList().get(i));
+                jsonStorage.saveTaskTracker(taskTracker);
+            }
+            long fullSaveNanos = (System.nanoTime() - start) / SAVES;
+
+            JournaledTaskTrackerStorage journaledStorage =
+                    new JournaledTaskTrackerStorage(testFolder.resolve("journaled" + size));
+            journaledStorage.saveTaskTracker(taskTracker);
+            start = System.nanoTime();
+            for (int i = SAVES; i < 2 * SAVES; i++) {
+                taskTracker.finishTask(taskTracker.getTaskList().get(i));
+                journaledStorage.saveTaskTracker(taskTracker);
+            }
+            long journaledSaveNanos = (System.nanoTime() - start) / SAVES;
+
+            StorageManager writeBehindStorage = new StorageManager(journaledStorage,
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs" + size)), 500);
+            start = System.nanoTime();
+            for (int i = 2 * SAVES; i < 3 * SAVES; i++) {
+                taskTracker.finishTask(taskTracker.getTaskList().get(i));
+                writeBehindStorage.saveTaskTracker(taskTracker);
+            }
+            long writeBehindSaveNanos = (System.nanoTime() - start) / SAVES;
+            writeBehindStorage.flush();
+
+            start = System.nanoTime();
+            TaskTracker readBack = new TaskTracker(journaledStorage.readTaskTracker().get());
+            long readNanos = System.nanoTime() - start;
+
+            System.out.printf("%,d tasks: journaled save in %,d us (whole file: %,d us, write-behind: %,d us), "
+                    + "read with journal in %,d ms%n", size, journaledSaveNanos / 1_000, fullSaveNanos / 1_000,
+                    writeBehindSaveNanos / 1_000, readNanos / 1_000_000);
+            assertEquals(taskTracker, readBack);
+        }
+    }
+}
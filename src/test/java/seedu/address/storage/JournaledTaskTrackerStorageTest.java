@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.AMY;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.Task;
+
+public class JournaledTaskTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getJournalFilePath_dataFilePath_nextToDataFile() {
+        assertEquals(Paths.get("data", "tasktracker.journal"),
+                JournaledTaskTrackerStorage.getJournalFilePath(Paths.get("data", "tasktracker.json")));
+        assertEquals(Paths.get("tasktracker.journal"),
+                JournaledTaskTrackerStorage.getJournalFilePath(Paths.get("tasktracker")));
+    }
+
+    @Test
+    public void readTaskTracker_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledTaskTrackerStorage(testFolder.resolve("missing.json")).readTaskTracker()
+                .isPresent());
+    }
+
+    @Test
+    public void saveTaskTracker_changesAfterFirstSave_onlyJournalWritten() throws Exception {
+        Path filePath = testFolder.resolve("journaled.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        byte[] dataFile = Files.readAllBytes(filePath);
+
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.addTask(AMY);
+        taskTracker.addDailyTask(CS2040);
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.finishTask(CS2040);
+        storage.saveTaskTracker(taskTracker);
+        storage.saveTaskTracker(taskTracker); // unchanged, so nothing is appended
+
+        assertArrayEquals(dataFile, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertReadBack(taskTracker, filePath);
+    }
+
+    @Test
+    public void saveTaskTracker_afterRead_continuesJournal() throws Exception {
+        Path filePath = testFolder.resolve("restart.json");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        JournaledTaskTrackerStorage beforeRestart = new JournaledTaskTrackerStorage(filePath);
+        beforeRestart.saveTaskTracker(taskTracker);
+        taskTracker.removeTask(CS2103);
+        beforeRestart.saveTaskTracker(taskTracker);
+
+        JournaledTaskTrackerStorage afterRestart = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker readBack = new TaskTracker(afterRestart.readTaskTracker().get());
+        readBack.addTask(AMY);
+        afterRestart.saveTaskTracker(readBack);
+
+        assertEquals(2, Files.readAllLines(afterRestart.getJournalFilePath()).size());
+        assertReadBack(readBack, filePath);
+    }
+
+    @Test
+    public void saveTaskTracker_journalPastThreshold_foldedIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("compacted.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath, 0);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        storage.awaitCompaction();
+
+        assertEquals(0, Files.size(storage.getJournalFilePath()));
+        assertReadBack(taskTracker, filePath);
+
+        taskTracker.addTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        storage.awaitCompaction();
+        assertReadBack(taskTracker, filePath);
+    }
+
+    @Test
+    public void readTaskTracker_changesAlreadyInDataFile_changesSkipped() throws Exception {
+        Path filePath = testFolder.resolve("folded.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        byte[] journal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // the application stopped after the data file was written, but before the journal was rewritten
+        JournaledTaskTrackerStorage compactingStorage = new JournaledTaskTrackerStorage(filePath, 0);
+        compactingStorage.readTaskTracker();
+        taskTracker.addTask(AMY);
+        compactingStorage.saveTaskTracker(taskTracker);
+        compactingStorage.awaitCompaction();
+        Files.write(storage.getJournalFilePath(), journal);
+
+        assertReadBack(taskTracker, filePath);
+    }
+
+    @Test
+    public void readTaskTracker_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("incomplete.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        Files.write(storage.getJournalFilePath(), "{\"sequenceNumber\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertReadBack(taskTracker, filePath);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void readTaskTracker_journalOfOtherData_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("mismatch.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        new JsonTaskTrackerStorage(filePath).saveTaskTracker(new TaskTracker());
+
+        assertThrows(DataConversionException.class, () -> new JournaledTaskTrackerStorage(filePath)
+                .readTaskTracker());
+    }
+
+    @Test
+    public void readTaskTracker_notJsonJournal_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(filePath);
+        storage.saveTaskTracker(getTypicalTaskTracker());
+        Files.write(storage.getJournalFilePath(), "not json\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+    }
+
+    @Test
+    public void saveTaskTracker_otherFile_wholeTaskTrackerWritten() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledTaskTrackerStorage storage = new JournaledTaskTrackerStorage(testFolder.resolve("main.json"));
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker, otherFilePath);
+
+        assertFalse(Files.exists(JournaledTaskTrackerStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(taskTracker, new TaskTracker(new JsonTaskTrackerStorage(otherFilePath).readTaskTracker().get()));
+    }
+
+    private static void assertReadBack(TaskTracker expected, Path filePath) throws Exception {
+        Optional<ReadOnlyTaskTracker> readBack = new JournaledTaskTrackerStorage(filePath).readTaskTracker();
+        assertEquals(expected, new TaskTracker(readBack.get()));
+        assertEquals(List.copyOf(expected.getDailyTaskList()), List.<Task>copyOf(readBack.get().getDailyTaskList()));
+    }
+}
@@ -1,20 +1,30 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.CS2040;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.person.DeadlineDate;
 import seedu.address.model.person.DeadlineTime;
 import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Task;
 import seedu.address.model.person.TaskName;
 import seedu.address.model.person.Weightage;
 import seedu.address.model.tag.PriorityTag;
@@ -28,6 +38,7 @@ public class JsonAdaptedTaskTest {
     private static final String INVALID_CODE = "CT2103";
     private static final String INVALID_PRIORITY_TAG = "MED";
 
+    private static final Long VALID_ID = CS2040.getId();
     private static final String VALID_NAME = CS2040.getTaskName().toString();
     private static final String VALID_CODE = CS2040.getModuleCode().toString();
     private static final String VALID_DATE = CS2040.getDeadlineDate().toString();
@@ -46,10 +57,32 @@ public class JsonAdaptedTaskTest {
         assertEquals(CS2040, task.toModelType());
     }
 
+    @Test
+    public void toModelType_validTaskDetails_preservesId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(CS2040);
+        assertEquals(CS2040.getId(), task.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_assignsNewId() throws Exception {
+        JsonAdaptedTask task = new JsonAdaptedTask(null, VALID_NAME, VALID_CODE, VALID_DATE,
+                VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
+        Task modelTask = task.toModelType();
+        assertEquals(CS2040, modelTask);
+        assertNotEquals(CS2040.getId(), modelTask.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedTask task = new JsonAdaptedTask(0L, VALID_NAME, VALID_CODE, VALID_DATE,
+                VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
+        assertThrows(IllegalValueException.class, Task.MESSAGE_ID_CONSTRAINTS, task::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTask task =
-                new JsonAdaptedTask(INVALID_NAME, VALID_CODE, VALID_DATE,
+                new JsonAdaptedTask(VALID_ID, INVALID_NAME, VALID_CODE, VALID_DATE,
                         VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                         VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = TaskName.MESSAGE_CONSTRAINTS;
@@ -58,7 +91,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(null, VALID_CODE, VALID_DATE,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, null, VALID_CODE, VALID_DATE,
                 VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE,
             VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TaskName.class.getSimpleName());
@@ -68,7 +101,7 @@ public class JsonAdaptedTaskTest {
     @Test
     public void toModelType_invalidCode_throwsIllegalValueException() {
         JsonAdaptedTask task =
-            new JsonAdaptedTask(VALID_NAME, INVALID_CODE, VALID_DATE,
+            new JsonAdaptedTask(VALID_ID, VALID_NAME, INVALID_CODE, VALID_DATE,
                     VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                     VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = ModuleCode.MESSAGE_CONSTRAINTS;
@@ -77,7 +110,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModelType_nullCode_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, null, VALID_DATE,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, VALID_NAME, null, VALID_DATE,
                 VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE,
             VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, ModuleCode.class.getSimpleName());
@@ -87,7 +120,7 @@ public class JsonAdaptedTaskTest {
     @Test
     public void toModelType_invalidDeadlineDate_throwsIllegalValueException() {
         JsonAdaptedTask task =
-                new JsonAdaptedTask(VALID_NAME, VALID_CODE, INVALID_DATE,
+                new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, INVALID_DATE,
                         VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                         VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = DeadlineDate.MESSAGE_CONSTRAINTS;
@@ -97,7 +130,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModelType_nullDeadlineDate_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CODE, null,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, null,
                 VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE,
                 VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DeadlineDate.class.getSimpleName());
@@ -107,7 +140,7 @@ public class JsonAdaptedTaskTest {
     @Test
     public void toModelType_invalidDeadlineTime_throwsIllegalValueException() {
         JsonAdaptedTask task =
-                new JsonAdaptedTask(VALID_NAME, VALID_CODE, VALID_DATE,
+                new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, VALID_DATE,
                         INVALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                         VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = DeadlineTime.MESSAGE_CONSTRAINTS;
@@ -117,7 +150,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModelType_nullDeadlineTime_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CODE, VALID_DATE,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, VALID_DATE,
                 null, VALID_STATUS, VALID_WEIGHTAGE,
                 VALID_REMARK, VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, DeadlineTime.class.getSimpleName());
@@ -129,7 +162,7 @@ public class JsonAdaptedTaskTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedTask task =
-                new JsonAdaptedTask(VALID_NAME, VALID_CODE, VALID_DATE,
+                new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, VALID_DATE,
                         VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                         invalidTags, VALID_PRIORITY_TAG);
         assertThrows(IllegalValueException.class, task::toModelType);
@@ -137,7 +170,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModelType_invalidPriorityTag_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CODE, VALID_DATE,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, VALID_DATE,
                 VALID_TIME, VALID_STATUS, VALID_WEIGHTAGE, VALID_REMARK,
                 VALID_TAGS, INVALID_PRIORITY_TAG);
         String expectedMessage = PriorityTag.MESSAGE_INVALID_INPUT;
@@ -146,7 +179,7 @@ public class JsonAdaptedTaskTest {
 
     @Test
     public void toModeType_invalidWeightage_throwsIllegalValueException() {
-        JsonAdaptedTask task = new JsonAdaptedTask(VALID_NAME, VALID_CODE, VALID_DATE,
+        JsonAdaptedTask task = new JsonAdaptedTask(VALID_ID, VALID_NAME, VALID_CODE, VALID_DATE,
                 VALID_TIME, VALID_STATUS, INVALID_WEIGHTAGE, VALID_REMARK,
                 VALID_TAGS, VALID_PRIORITY_TAG);
         String expectedMessage = Weightage.MESSAGE_CONSTRAINTS;
@@ -154,4 +187,61 @@ public class JsonAdaptedTaskTest {
 
     }
 
+    @Test
+    public void readTask_writtenTask_returnsSameTask() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            JsonAdaptedTask.writeTask(CS2040, generator);
+        }
+
+        Task readBack = readTask(out.toString());
+        assertEquals(CS2040, readBack);
+        assertEquals(CS2040.getId(), readBack.getId());
+    }
+
+    @Test
+    public void readTask_sameFormatAsJsonAdaptedTask_returnsTask() throws Exception {
+        assertEquals(CS2040, readTask(JsonUtil.toJsonString(new JsonAdaptedTask(CS2040))));
+    }
+
+    @Test
+    public void readTask_unknownFields_fieldsSkipped() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedTask(CS2040))
+                .replaceFirst("\\{", "{\"_comment\":{\"nested\":[1,2]},\"extra\":null,");
+        assertEquals(CS2040, readTask(json));
+    }
+
+    @Test
+    public void readTask_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAdaptedTask.NOT_AN_OBJECT_MESSAGE, () -> readTask("[]"));
+    }
+
+    @Test
+    public void readTask_wrongFieldTypes_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedTask(CS2040));
+        String textWeightage = json.replaceFirst("\"weightage\":\\d+", "\"weightage\":\"ten\"");
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedTask.INVALID_FIELD_MESSAGE_FORMAT,
+                "weightage", "whole number"), () -> readTask(textWeightage));
+
+        String textTags = json.replaceFirst("\"tagged\":\\[[^]]*]", "\"tagged\":\"friends\"");
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedTask.INVALID_FIELD_MESSAGE_FORMAT,
+                "tagged", "list"), () -> readTask(textTags));
+    }
+
+    @Test
+    public void readTask_missingField_throwsIllegalValueException() throws Exception {
+        String json = JsonUtil.toCompactJsonString(new JsonAdaptedTask(CS2040))
+                .replaceFirst("\"taskName\":\"[^\"]*\",", "");
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, TaskName.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> readTask(json));
+    }
+
+    private static Task readTask(String json) throws IOException, IllegalValueException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(bytes))) {
+            parser.nextToken();
+            return JsonAdaptedTask.readTask(parser);
+        }
+    }
+
 }
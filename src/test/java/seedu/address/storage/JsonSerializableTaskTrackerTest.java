@@ -2,15 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2103;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
 import seedu.address.model.TaskTracker;
+import seedu.address.storage.JsonSerializableTaskTracker.StreamedTaskTracker;
 import seedu.address.testutil.TypicalTasks;
 
 public class JsonSerializableTaskTrackerTest {
@@ -19,12 +33,17 @@ public class JsonSerializableTaskTrackerTest {
     private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("typicalTasksTaskTracker.json");
     private static final Path INVALID_TASK_FILE = TEST_DATA_FOLDER.resolve("invalidTaskTaskTracker.json");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskTaskTracker.json");
+    private static final Path DUPLICATE_TASK_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskIdTaskTracker.json");
+    private static final Path UNKNOWN_DAILY_TASK_ID_FILE =
+            TEST_DATA_FOLDER.resolve("unknownDailyTaskIdTaskTracker.json");
+    private static final Path DUPLICATE_DAILY_TASK_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateDailyTaskIdTaskTracker.json");
 
     @Test
     public void toModelType_typicalTasksFile_success() throws Exception {
         JsonSerializableTaskTracker dataFromFile = JsonUtil.readJsonFile(TYPICAL_TASKS_FILE,
                 JsonSerializableTaskTracker.class).get();
-        TaskTracker taskTrackerFromFile = dataFromFile.toModelType();
+        TaskTracker taskTrackerFromFile = new TaskTracker(dataFromFile.toModelType());
         TaskTracker typicalTasksTaskTracker = TypicalTasks.getTypicalTaskTracker();
         assertEquals(taskTrackerFromFile, typicalTasksTaskTracker);
     }
@@ -44,4 +63,106 @@ public class JsonSerializableTaskTrackerTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateTaskIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableTaskTracker dataFromFile = JsonUtil.readJsonFile(DUPLICATE_TASK_ID_FILE,
+                JsonSerializableTaskTracker.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_DUPLICATE_TASK_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_unknownDailyTaskId_throwsIllegalValueException() throws Exception {
+        JsonSerializableTaskTracker dataFromFile = JsonUtil.readJsonFile(UNKNOWN_DAILY_TASK_ID_FILE,
+                JsonSerializableTaskTracker.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_UNKNOWN_DAILY_TASK_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateDailyTaskIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableTaskTracker dataFromFile = JsonUtil.readJsonFile(DUPLICATE_DAILY_TASK_ID_FILE,
+                JsonSerializableTaskTracker.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_DUPLICATE_DAILY_TASK_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_dailyTasks_dailyTaskListRestored() throws Exception {
+        TaskTracker taskTracker = TypicalTasks.getTypicalTaskTracker();
+        taskTracker.addDailyTask(CS2103);
+        taskTracker.addDailyTask(CS2030);
+
+        ReadOnlyTaskTracker taskTrackerFromData = new JsonSerializableTaskTracker(taskTracker).toModelType();
+        assertEquals(List.of(CS2103, CS2030), taskTrackerFromData.getDailyTaskList());
+        assertEquals(CS2103.getId(), taskTrackerFromData.getDailyTaskList().get(0).getId());
+    }
+
+    @Test
+    public void readTaskTracker_typicalTasksFile_success() throws Exception {
+        StreamedTaskTracker dataFromFile = readTaskTracker(TYPICAL_TASKS_FILE);
+        assertEquals(TypicalTasks.getTypicalTaskTracker(), new TaskTracker(dataFromFile.getTaskTracker()));
+        assertEquals(0, dataFromFile.getJournalSequenceNumber());
+    }
+
+    @Test
+    public void readTaskTracker_invalidTaskFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readTaskTracker(INVALID_TASK_FILE));
+    }
+
+    @Test
+    public void readTaskTracker_inconsistentTasks_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_DUPLICATE_TASK, () ->
+                readTaskTracker(DUPLICATE_TASK_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_DUPLICATE_TASK_ID, () ->
+                readTaskTracker(DUPLICATE_TASK_ID_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_UNKNOWN_DAILY_TASK_ID, () ->
+                readTaskTracker(UNKNOWN_DAILY_TASK_ID_FILE));
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_DUPLICATE_DAILY_TASK_ID, () ->
+                readTaskTracker(DUPLICATE_DAILY_TASK_ID_FILE));
+    }
+
+    @Test
+    public void readTaskTracker_notATaskTracker_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_NOT_A_TASK_TRACKER, () ->
+                readTaskTracker(toInputStream("[]")));
+        assertThrows(IllegalValueException.class, JsonSerializableTaskTracker.MESSAGE_NOT_A_TASK_TRACKER, () ->
+                readTaskTracker(toInputStream("{\"dailyTaskIds\":[]}")));
+    }
+
+    @Test
+    public void readTaskTracker_writtenTaskTracker_dailyTasksAndSequenceNumberRestored() throws Exception {
+        TaskTracker taskTracker = TypicalTasks.getTypicalTaskTracker();
+        taskTracker.addDailyTask(CS2103);
+        taskTracker.addDailyTask(CS2030);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+            JsonSerializableTaskTracker.writeTaskTracker(taskTracker, 42L, generator);
+        }
+
+        StreamedTaskTracker readBack = readTaskTracker(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(taskTracker, new TaskTracker(readBack.getTaskTracker()));
+        assertEquals(List.of(CS2103, CS2030), readBack.getTaskTracker().getDailyTaskList());
+        assertEquals(42, readBack.getJournalSequenceNumber());
+
+        // the data written is the same as that of this class
+        JsonSerializableTaskTracker dataFromOutput = JsonUtil.fromJsonString(out.toString(StandardCharsets.UTF_8),
+                JsonSerializableTaskTracker.class);
+        assertEquals(taskTracker, new TaskTracker(dataFromOutput.toModelType()));
+    }
+
+    private static StreamedTaskTracker readTaskTracker(Path filePath) throws IOException, IllegalValueException {
+        return readTaskTracker(Files.newInputStream(filePath));
+    }
+
+    private static StreamedTaskTracker readTaskTracker(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return JsonSerializableTaskTracker.readTaskTracker(parser);
+        }
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
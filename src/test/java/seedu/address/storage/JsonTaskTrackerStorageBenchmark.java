@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+
+/**
+ * Measures the cost of saving and reading the whole data file with {@code JsonTaskTrackerStorage}, which streams the
+ * tasks to and from the file, and compares it against going through a {@code JsonSerializableTaskTracker} and a
+ * pretty-printed string of the whole file.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class JsonTaskTrackerStorageBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final int RUNS = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Prints the cost of saving and reading back the data file each way, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        for (int size : SIZES) {
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size));
+            Path streamedFile = testFolder.resolve("streamed" + size + ".json");
+            Path copiedFile = testFolder.resolve("copied" + size + ".json");
+            JsonTaskTrackerStorage storage = new JsonTaskTrackerStorage(streamedFile);
+
+            long streamedSaveNanos = 0;
+            long streamedReadNanos = 0;
+            long copiedSaveNanos = 0;
+            long copiedReadNanos = 0;
+            for (int i = 0; i < RUNS; i++) {
+                long start = System.nanoTime();
+                storage.saveTaskTracker(taskTracker);
+                streamedSaveNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                ReadOnlyTaskTracker readBack = storage.readTaskTracker().get();
+                streamedReadNanos += System.nanoTime() - start;
+                assertEquals(taskTracker, readBack);
+
+                start = System.nanoTime();
+                JsonUtil.saveJsonFile(new JsonSerializableTaskTracker(taskTracker), copiedFile);
+                copiedSaveNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                JsonUtil.readJsonFile(copiedFile, JsonSerializableTaskTracker.class).get().toModelType();
+                copiedReadNanos += System.nanoTime() - start;
+            }
+
+            System.out.printf("%,d tasks: streamed save in %,d ms and read in %,d ms (%,d KB); "
+                    + "through copies, save in %,d ms and read in %,d ms (%,d KB)%n", size,
+                    streamedSaveNanos / RUNS / 1_000_000, streamedReadNanos / RUNS / 1_000_000,
+                    Files.size(streamedFile) / 1024, copiedSaveNanos / RUNS / 1_000_000,
+                    copiedReadNanos / RUNS / 1_000_000, Files.size(copiedFile) / 1024);
+        }
+    }
+}
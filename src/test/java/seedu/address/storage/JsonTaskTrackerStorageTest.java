@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.CS2103;
 import static seedu.address.testutil.TypicalTasks.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalTasks.IDA;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,19 @@ public class JsonTaskTrackerStorageTest {
 
     }
 
+    @Test
+    public void saveTaskTracker_prettyPrinting_onlyWhenEnabled() throws Exception {
+        Path compactFilePath = testFolder.resolve("compact.json");
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        TaskTracker original = getTypicalTaskTracker();
+        new JsonTaskTrackerStorage(compactFilePath).saveTaskTracker(original);
+        new JsonTaskTrackerStorage(prettyFilePath, true).saveTaskTracker(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.readAllLines(prettyFilePath).size() > original.getTaskList().size());
+        assertEquals(original, new TaskTracker(new JsonTaskTrackerStorage(prettyFilePath).readTaskTracker().get()));
+    }
+
     @Test
     public void saveTaskTracker_nullTaskTracker_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTaskTracker(null, "SomeFile.json"));
@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.UndoHistoryJournal.HistoryRange;
+import seedu.address.model.VersionedTaskTracker;
+
+public class JsonUndoHistoryJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getJournalFilePath_dataFilePath_nextToDataFile() {
+        assertEquals(Paths.get("data", "tasktracker.history"),
+                JsonUndoHistoryJournal.getJournalFilePath(Paths.get("data", "tasktracker.json")));
+        assertEquals(Paths.get("tasktracker.history"),
+                JsonUndoHistoryJournal.getJournalFilePath(Paths.get("tasktracker")));
+    }
+
+    @Test
+    public void load_missingFile_emptyHistory() throws Exception {
+        HistoryRange range = new JsonUndoHistoryJournal(testFolder.resolve("missing.history")).load();
+        assertEquals(1, range.getOldestChange());
+        assertEquals(0, range.getNewestChange());
+        assertEquals(0, range.getCurrentState());
+    }
+
+    @Test
+    public void load_notJsonFormat_throwsDataConversionException() throws IOException {
+        Path filePath = testFolder.resolve("invalid.history");
+        Files.write(filePath, "not json\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new JsonUndoHistoryJournal(filePath).load());
+    }
+
+    @Test
+    public void undo_afterRestart_restoresPreviousStates() throws Exception {
+        Path filePath = testFolder.resolve("restart.history");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        TaskTracker original = new TaskTracker(taskTracker);
+
+        VersionedTaskTracker beforeRestart = new VersionedTaskTracker(10, new JsonUndoHistoryJournal(filePath));
+        beforeRestart.commit(taskTracker);
+        taskTracker.removeTask(CS2103);
+        beforeRestart.commit(taskTracker);
+        TaskTracker afterRemoval = new TaskTracker(taskTracker);
+        taskTracker.finishTask(CS2040);
+        beforeRestart.commit(taskTracker);
+        taskTracker.resetData(beforeRestart.undo());
+
+        VersionedTaskTracker afterRestart = new VersionedTaskTracker(10, new JsonUndoHistoryJournal(filePath));
+        afterRestart.commit(new TaskTracker(taskTracker));
+        assertTrue(afterRestart.canRedoTaskTracker());
+        assertEquals(original, new TaskTracker(afterRestart.undo()));
+        assertFalse(afterRestart.canUndoTaskTracker());
+        assertEquals(afterRemoval, new TaskTracker(afterRestart.redo()));
+    }
+
+    @Test
+    public void undo_afterRestartWithDifferentData_discardsHistory() throws Exception {
+        Path filePath = testFolder.resolve("mismatch.history");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+
+        VersionedTaskTracker beforeRestart = new VersionedTaskTracker(10, new JsonUndoHistoryJournal(filePath));
+        beforeRestart.commit(taskTracker);
+        taskTracker.removeTask(CS2103);
+        beforeRestart.commit(taskTracker);
+
+        VersionedTaskTracker afterRestart = new VersionedTaskTracker(10, new JsonUndoHistoryJournal(filePath));
+        afterRestart.commit(new TaskTracker());
+        assertTrue(afterRestart.canUndoTaskTracker());
+        assertEquals(new TaskTracker(), new TaskTracker(afterRestart.undo()));
+        assertFalse(afterRestart.canUndoTaskTracker());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void appendChange_manyChanges_fileCompactedAndHistoryBounded() throws Exception {
+        Path filePath = testFolder.resolve("compaction.history");
+        TaskTracker taskTracker = new TaskTracker();
+        VersionedTaskTracker versionedTaskTracker =
+                new VersionedTaskTracker(3, new JsonUndoHistoryJournal(filePath));
+        versionedTaskTracker.commit(taskTracker);
+        for (int i = 0; i < 200; i++) {
+            if (i % 2 == 0) {
+                taskTracker.addTask(CS2103);
+            } else {
+                taskTracker.removeTask(CS2103);
+            }
+            versionedTaskTracker.commit(taskTracker);
+        }
+
+        assertTrue(Files.readAllLines(filePath).size() <= 2 * 3 + 64);
+        HistoryRange range = new JsonUndoHistoryJournal(filePath).load();
+        assertEquals(198, range.getOldestChange());
+        assertEquals(200, range.getNewestChange());
+        assertEquals(200, range.getCurrentState());
+    }
+
+    @Test
+    public void load_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("incomplete.history");
+        TaskTracker taskTracker = new TaskTracker();
+        VersionedTaskTracker versionedTaskTracker =
+                new VersionedTaskTracker(10, new JsonUndoHistoryJournal(filePath));
+        versionedTaskTracker.commit(taskTracker);
+        taskTracker.addTask(CS2103);
+        versionedTaskTracker.commit(taskTracker);
+        Files.write(filePath, "{\"current\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JsonUndoHistoryJournal journal = new JsonUndoHistoryJournal(filePath);
+        HistoryRange range = journal.load();
+        assertEquals(1, range.getCurrentState());
+        assertTrue(journal.readChange(1).isPresent());
+        assertEquals(1, Files.readAllLines(filePath).size());
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TaskTrackerFileFormat;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -70,6 +71,19 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidValuesInFile_defaultValuesUsed() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPrefs.json").get();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void readUserPrefs_nullFileFormat_defaultFileFormatUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("NullFileFormatUserPrefs.json").get();
+        assertEquals(TaskTrackerFileFormat.JSON, actual.getTaskTrackerFileFormat());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
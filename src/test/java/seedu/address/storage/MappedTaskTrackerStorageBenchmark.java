@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+
+/**
+ * Measures the cost of saving the task tracker after finishing a task through {@code MappedTaskTrackerStorage}, and
+ * of reading it back at startup, and compares them against {@code JournaledTaskTrackerStorage}.
+ * Run with {@code gradlew benchmark}.
+ */
+@Tag("benchmark")
+public class MappedTaskTrackerStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int SAVES = 200;
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Prints the cost of a save and of a read with each storage, for each of the {@code SIZES}.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        for (int size : SIZES) {
+            TaskTracker taskTracker = new TaskTracker();
+            taskTracker.setTasks(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(size));
+
+            TaskTrackerStorage mappedStorage = new MappedTaskTrackerStorage(testFolder.resolve("mapped" + size));
+            long[] mappedNanos = measure(mappedStorage, taskTracker, 0);
+            TaskTrackerStorage journaledStorage =
+                    new JournaledTaskTrackerStorage(testFolder.resolve("journaled" + size));
+            long[] journaledNanos = measure(journaledStorage, taskTracker, SAVES);
+
+            System.out.printf("%,d tasks: mapped save in %,d us and read in %,d ms; "
+                    + "journaled save in %,d us and read in %,d ms%n", size, mappedNanos[0] / 1_000,
+                    mappedNanos[1] / 1_000_000, journaledNanos[0] / 1_000, journaledNanos[1] / 1_000_000);
+        }
+    }
+
+    /**
+     * Returns the average time that {@code storage} takes to save {@code taskTracker} after a task is finished,
+     * starting from the task at {@code firstTask}, and the time that it takes to read it back.
+     */
+    private static long[] measure(TaskTrackerStorage storage, TaskTracker taskTracker, int firstTask)
+            throws Exception {
+        storage.saveTaskTracker(taskTracker);
+        long start = System.nanoTime();
+        for (int i = firstTask; i < firstTask + SAVES; i++) {
+            taskTracker.finishTask(taskTracker.getTaskList().get(i));
+            storage.saveTaskTracker(taskTracker);
+        }
+        long saveNanos = (System.nanoTime() - start) / SAVES;
+
+        start = System.nanoTime();
+        TaskTracker readBack = new TaskTracker(storage.readTaskTracker().get());
+        long readNanos = System.nanoTime() - start;
+        assertEquals(taskTracker, readBack);
+        return new long[] {saveNanos, readNanos};
+    }
+}
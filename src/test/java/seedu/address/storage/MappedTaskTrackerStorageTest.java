@@ -0,0 +1,406 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.AMY;
+import static seedu.address.testutil.TypicalTasks.CS2030;
+import static seedu.address.testutil.TypicalTasks.CS2040;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+import seedu.address.model.person.Task;
+import seedu.address.model.person.TaskName;
+import seedu.address.model.person.UniqueTaskListBenchmark;
+
+public class MappedTaskTrackerStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTaskTracker_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new MappedTaskTrackerStorage(filePath).readTaskTracker().isPresent());
+        assertFalse(MappedTaskTrackerStorage.isMappedFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveTaskTracker_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        TaskTracker original = getTypicalTaskTracker();
+        original.addDailyTask(CS2040);
+        original.addDailyTask(CS2103);
+        original.finishTask(CS2040);
+        storage.saveTaskTracker(original);
+
+        assertTrue(MappedTaskTrackerStorage.isMappedFile(filePath));
+        assertReadBack(original, storage.readTaskTracker().get());
+
+        // changes written in place, read back by a new storage
+        original.removeTask(CS2103);
+        original.addTask(AMY);
+        original.setTask(CS2030, renamed(CS2030, "Tutorial 7"));
+        original.addDailyTask(AMY);
+        storage.saveTaskTracker(original);
+        assertReadBack(original, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+
+        original.sortTasks(Comparator.comparing(task -> task.getTaskName().fullName));
+        storage.saveTaskTracker(original);
+        assertReadBack(original, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void saveTaskTracker_finishTask_writesOneRecordInPlace() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        byte[] dataFileBefore = Files.readAllBytes(filePath);
+        byte[] heapFileBefore = Files.readAllBytes(storage.getHeapFilePath());
+
+        taskTracker.finishTask(CS2030);
+        storage.saveTaskTracker(taskTracker);
+
+        byte[] dataFileAfter = Files.readAllBytes(filePath);
+        int firstChange = -1;
+        int lastChange = -1;
+        for (int i = 0; i < dataFileAfter.length; i++) {
+            if (dataFileBefore[i] != dataFileAfter[i]) {
+                firstChange = firstChange == -1 ? i : firstChange;
+                lastChange = i;
+            }
+        }
+        assertEquals(dataFileBefore.length, dataFileAfter.length);
+        int firstChangedRecord = (firstChange - MappedTaskTrackerFile.HEADER_SIZE) / MappedTaskTrackerFile.RECORD_SIZE;
+        int lastChangedRecord = (lastChange - MappedTaskTrackerFile.HEADER_SIZE) / MappedTaskTrackerFile.RECORD_SIZE;
+        assertTrue(firstChange >= MappedTaskTrackerFile.HEADER_SIZE);
+        assertEquals(firstChangedRecord, lastChangedRecord);
+        assertArrayEquals(heapFileBefore, Files.readAllBytes(storage.getHeapFilePath()));
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void readTaskTracker_saveInterruptedAfterRedoLog_saveReplayed() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        new MappedTaskTrackerStorage(filePath).saveTaskTracker(taskTracker);
+        byte[] dataFileBefore = Files.readAllBytes(filePath);
+
+        // the redo log is on disk, and the record of the first task was only partly written to the data file
+        finishTaskWithoutApplying(filePath, taskTracker, CS2103);
+        byte[] partlyWritten = Files.readAllBytes(filePath);
+        assertArrayEquals(dataFileBefore, partlyWritten);
+        Arrays.fill(partlyWritten, MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES,
+                MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES + Integer.BYTES, (byte) 0x7F);
+        Files.write(filePath, partlyWritten);
+
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+        assertFalse(Files.exists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath)));
+    }
+
+    @Test
+    public void readTaskTracker_saveInterruptedWritingRedoLog_previousSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        new MappedTaskTrackerStorage(filePath).saveTaskTracker(taskTracker);
+        TaskTracker previousTaskTracker = new TaskTracker(taskTracker);
+
+        // the redo log was cut short, so the save was never committed
+        finishTaskWithoutApplying(filePath, taskTracker, CS2103);
+        Path redoLogFilePath = MappedTaskTrackerStorage.getRedoLogFilePath(filePath);
+        byte[] redoLog = Files.readAllBytes(redoLogFilePath);
+        Files.write(redoLogFilePath, Arrays.copyOf(redoLog, redoLog.length - 1));
+
+        assertReadBack(previousTaskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+        assertFalse(Files.exists(redoLogFilePath));
+    }
+
+    @Test
+    public void saveTaskTracker_deleteThenAdd_reusesFreedRecord() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        int recordCount = openDataFile(filePath).getRecordCount();
+
+        taskTracker.removeTask(CS2103);
+        storage.saveTaskTracker(taskTracker);
+        taskTracker.addTask(AMY);
+        storage.saveTaskTracker(taskTracker);
+
+        assertEquals(recordCount, openDataFile(filePath).getRecordCount());
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void saveTaskTracker_addedTasksPastCapacity_dataFileGrows() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = new TaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        long emptySize = Files.size(filePath);
+
+        taskTracker.setTasks(UniqueTaskListBenchmark.createTasksWithSpreadDeadlines(3000));
+        storage.saveTaskTracker(taskTracker);
+
+        assertTrue(Files.size(filePath) > emptySize);
+        assertEquals(3000, openDataFile(filePath).getRecordCount());
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void saveTaskTracker_mostlyGarbageHeap_dataFileWrittenAgain() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath, 0);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        storage.saveTaskTracker(taskTracker);
+        Object fileKey = Files.readAttributes(filePath, BasicFileAttributes.class).fileKey();
+
+        // each rename leaves the entry of the old name as garbage, until the data file is written again
+        for (int i = 0; i < 20; i++) {
+            Task task = taskTracker.getTaskList().get(0);
+            taskTracker.setTask(task, renamed(task, "Renamed " + i));
+            storage.saveTaskTracker(taskTracker);
+
+            MappedTaskTrackerFile dataFile = openDataFile(filePath);
+            assertTrue(dataFile.getHeapGarbage() <= dataFile.getHeapLength() - dataFile.getHeapGarbage());
+            assertEquals(dataFile.getHeapLength(), Files.size(storage.getHeapFilePath()));
+        }
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+
+        // the data file, which may be mapped, is written again in place instead of being replaced
+        assertEquals(fileKey, Files.readAttributes(filePath, BasicFileAttributes.class).fileKey());
+    }
+
+    @Test
+    public void readTaskTracker_rewriteInterruptedAfterRedoLog_rewriteReplayed() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        Path heapFilePath = MappedTaskTrackerStorage.getHeapFilePath(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        new MappedTaskTrackerStorage(filePath).saveTaskTracker(taskTracker);
+        byte[] dataFileBefore = Files.readAllBytes(filePath);
+        byte[] heapFileBefore = Files.readAllBytes(heapFilePath);
+
+        // the redo log and the new heap file are on disk, and neither was moved into place
+        taskTracker.removeTask(CS2103);
+        taskTracker.addTask(AMY);
+        MappedTaskTrackerFile.writeRewriteRedoLog(taskTracker, filePath, heapFilePath);
+        assertArrayEquals(dataFileBefore, Files.readAllBytes(filePath));
+        assertArrayEquals(heapFileBefore, Files.readAllBytes(heapFilePath));
+        assertTrue(Files.exists(testFolder.resolve("tasktracker.heap.new")));
+
+        assertReadBack(taskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+        assertFalse(Files.exists(MappedTaskTrackerStorage.getRedoLogFilePath(filePath)));
+        assertFalse(Files.exists(testFolder.resolve("tasktracker.heap.new")));
+    }
+
+    @Test
+    public void readTaskTracker_rewriteInterruptedWritingRedoLog_previousSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        Path heapFilePath = MappedTaskTrackerStorage.getHeapFilePath(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        new MappedTaskTrackerStorage(filePath).saveTaskTracker(taskTracker);
+        TaskTracker previousTaskTracker = new TaskTracker(taskTracker);
+
+        // the redo log was cut short, so the rewrite was never committed
+        taskTracker.removeTask(CS2103);
+        MappedTaskTrackerFile.writeRewriteRedoLog(taskTracker, filePath, heapFilePath);
+        Path redoLogFilePath = MappedTaskTrackerStorage.getRedoLogFilePath(filePath);
+        byte[] redoLog = Files.readAllBytes(redoLogFilePath);
+        Files.write(redoLogFilePath, Arrays.copyOf(redoLog, redoLog.length - 1));
+
+        assertReadBack(previousTaskTracker, new MappedTaskTrackerStorage(filePath).readTaskTracker().get());
+        assertFalse(Files.exists(redoLogFilePath));
+        assertFalse(Files.exists(testFolder.resolve("tasktracker.heap.new")));
+    }
+
+    @Test
+    public void readTaskTracker_jsonFileWithJournal_readAndConvertedBySave() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.json");
+        JournaledTaskTrackerStorage jsonStorage = new JournaledTaskTrackerStorage(filePath);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        jsonStorage.saveTaskTracker(taskTracker);
+        taskTracker.addDailyTask(CS2030);
+        jsonStorage.saveTaskTracker(taskTracker);
+
+        MappedTaskTrackerStorage mappedStorage = new MappedTaskTrackerStorage(filePath);
+        ReadOnlyTaskTracker readBack = mappedStorage.readTaskTracker().get();
+        assertReadBack(taskTracker, readBack);
+
+        mappedStorage.saveTaskTracker(readBack);
+        assertTrue(MappedTaskTrackerStorage.isMappedFile(filePath));
+        assertFalse(Files.exists(jsonStorage.getJournalFilePath()));
+        assertReadBack(taskTracker, mappedStorage.readTaskTracker().get());
+    }
+
+    @Test
+    public void readTaskTracker_mappedFileWithOtherStorages_detectedAndConvertedBySave() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.json");
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        taskTracker.addDailyTask(CS2030);
+        MappedTaskTrackerStorage mappedStorage = new MappedTaskTrackerStorage(filePath);
+        mappedStorage.saveTaskTracker(taskTracker);
+
+        assertReadBack(taskTracker, new JsonTaskTrackerStorage(filePath).readTaskTracker().get());
+        assertReadBack(taskTracker, new BinaryTaskTrackerStorage(filePath).readTaskTracker().get());
+
+        JournaledTaskTrackerStorage jsonStorage = new JournaledTaskTrackerStorage(filePath);
+        ReadOnlyTaskTracker readBack = jsonStorage.readTaskTracker().get();
+        assertReadBack(taskTracker, readBack);
+
+        // the first save writes the whole data file as json, instead of appending to the journal
+        jsonStorage.saveTaskTracker(readBack);
+        assertFalse(MappedTaskTrackerStorage.isMappedFile(filePath));
+        assertFalse(Files.exists(mappedStorage.getHeapFilePath()));
+        assertReadBack(taskTracker, new JsonTaskTrackerStorage(filePath).readTaskTracker().get());
+    }
+
+    @Test
+    public void readTaskTracker_invalidData_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        storage.saveTaskTracker(getTypicalTaskTracker());
+        byte[] validDataFile = Files.readAllBytes(filePath);
+        byte[] validHeapFile = Files.readAllBytes(storage.getHeapFilePath());
+
+        // header only
+        Files.write(filePath, MappedTaskTrackerFile.MAGIC);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // unsupported version
+        byte[] otherVersion = validDataFile.clone();
+        otherVersion[MappedTaskTrackerFile.MAGIC.length + Integer.BYTES - 1]++;
+        Files.write(filePath, otherVersion);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // first task links to a record past the last one
+        byte[] invalidSlot = validDataFile.clone();
+        Arrays.fill(invalidSlot, MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES,
+                MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES + Integer.BYTES, (byte) 0x7F);
+        Files.write(filePath, invalidSlot);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // truncated heap file
+        Files.write(filePath, validDataFile);
+        Files.write(storage.getHeapFilePath(), Arrays.copyOf(validHeapFile, validHeapFile.length - 1));
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // heap file of another data file
+        Path otherFilePath = testFolder.resolve("other.bin");
+        new MappedTaskTrackerStorage(otherFilePath).saveTaskTracker(getTypicalTaskTracker());
+        Files.copy(MappedTaskTrackerStorage.getHeapFilePath(otherFilePath), storage.getHeapFilePath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        // missing heap file
+        Files.delete(storage.getHeapFilePath());
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+    }
+
+    @Test
+    public void backUpDataFile_unreadableDataFile_keptAndNotOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        MappedTaskTrackerStorage storage = new MappedTaskTrackerStorage(filePath);
+        storage.saveTaskTracker(getTypicalTaskTracker());
+        storage.readTaskTracker();
+
+        // a save interrupted partway left the first task linking to a record past the last one
+        byte[] unreadableDataFile = Files.readAllBytes(filePath);
+        Arrays.fill(unreadableDataFile, MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES,
+                MappedTaskTrackerFile.HEADER_SIZE + Long.BYTES + Integer.BYTES, (byte) 0x7F);
+        Files.write(filePath, unreadableDataFile);
+        byte[] heapFile = Files.readAllBytes(storage.getHeapFilePath());
+        assertThrows(DataConversionException.class, storage::readTaskTracker);
+
+        Path backupFilePath = JournaledTaskTrackerStorage.backUpDataFile(filePath);
+        assertEquals(testFolder.resolve("tasktracker.bin.bak"), backupFilePath);
+        assertFalse(Files.exists(filePath));
+
+        // the next save writes a new data file, and leaves the backup as it was
+        TaskTracker newTaskTracker = new TaskTracker();
+        newTaskTracker.addTask(AMY);
+        storage.saveTaskTracker(newTaskTracker);
+        assertReadBack(newTaskTracker, storage.readTaskTracker().get());
+        assertArrayEquals(unreadableDataFile, Files.readAllBytes(backupFilePath));
+        assertArrayEquals(heapFile, Files.readAllBytes(testFolder.resolve("tasktracker.heap.bak")));
+    }
+
+    @Test
+    public void write_failsPartway_temporaryFilesDeleted() throws Exception {
+        Path filePath = testFolder.resolve("tasktracker.bin");
+        TaskTracker original = getTypicalTaskTracker();
+        ReadOnlyTaskTracker failingTaskTracker = new ReadOnlyTaskTracker() {
+            @Override
+            public ObservableList<Task> getTaskList() {
+                return original.getTaskList();
+            }
+
+            @Override
+            public ObservableList<Task> getDailyTaskList() {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+        };
+
+        assertThrows(UncheckedIOException.class, () -> MappedTaskTrackerFile.write(failingTaskTracker, filePath,
+                MappedTaskTrackerStorage.getHeapFilePath(filePath)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * Finishes {@code task} in {@code taskTracker}, and saves it to the data file at {@code filePath} up to writing the
+     * redo log, as a save that is interrupted before the changed records are written to the data file.
+     */
+    private static void finishTaskWithoutApplying(Path filePath, TaskTracker taskTracker, Task task)
+            throws Exception {
+        int position = taskTracker.getTaskList().indexOf(task);
+        taskTracker.finishTask(task);
+        MappedTaskTrackerFile dataFile = openDataFile(filePath);
+        dataFile.replaceTasks(position, List.of(task), List.of(taskTracker.getTaskList().get(position)));
+        dataFile.writeRedoLog();
+    }
+
+    private static MappedTaskTrackerFile openDataFile(Path filePath) throws Exception {
+        return MappedTaskTrackerFile.open(filePath, MappedTaskTrackerStorage.getHeapFilePath(filePath));
+    }
+
+    private static Task renamed(Task task, String name) {
+        return new Task(task.getId(), new TaskName(name), task.getModuleCode(), task.getDeadlineDate(),
+                task.getDeadlineTime(), task.getStatus(), task.getWeightage(), task.getNotes(), task.getTags(),
+                task.getPriorityTag());
+    }
+
+    private static void assertReadBack(TaskTracker expected, ReadOnlyTaskTracker readBack) {
+        assertEquals(expected, new TaskTracker(readBack));
+        assertEquals(List.copyOf(expected.getTaskList()), List.<Task>copyOf(readBack.getTaskList()));
+        assertEquals(List.copyOf(expected.getDailyTaskList()), List.<Task>copyOf(readBack.getDailyTaskList()));
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            assertEquals(expected.getTaskList().get(i).getId(), readBack.getTaskList().get(i).getId());
+            assertEquals(expected.getTaskList().get(i).getPriorityTag(),
+                    readBack.getTaskList().get(i).getPriorityTag());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
 
@@ -61,6 +62,19 @@ public class StorageManagerTest {
 
     }
 
+    @Test
+    public void taskTrackerReadSave_writeBehind_writtenAfterFlush() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new JournaledTaskTrackerStorage(getTempFilePath("writeBehind")),
+                new JsonUserPrefsStorage(getTempFilePath("writeBehindPrefs")), 60_000);
+        TaskTracker original = getTypicalTaskTracker();
+        writeBehindStorageManager.saveTaskTracker(original);
+        assertFalse(writeBehindStorageManager.readTaskTracker().isPresent());
+
+        writeBehindStorageManager.flush();
+        assertEquals(original, new TaskTracker(writeBehindStorageManager.readTaskTracker().get()));
+    }
+
     @Test
     public void getTaskTrackerFilePath() {
         assertNotNull(storageManager.getTaskTrackerFilePath());
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.CS2103;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskTracker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ReadOnlyTaskTracker;
+import seedu.address.model.TaskTracker;
+
+public class WriteBehindSaverTest {
+
+    /** Long enough that no write happens before the test flushes. */
+    private static final long LONG_DELAY = 60_000;
+
+    @Test
+    public void save_burstOfSaves_writtenOnceWithLastState() throws Exception {
+        TaskTrackerStorageStub storage = new TaskTrackerStorageStub(0);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        saver.save(taskTracker);
+        taskTracker.removeTask(CS2103);
+        saver.save(taskTracker);
+        TaskTracker expected = new TaskTracker(taskTracker);
+
+        // changes after the last save are not written
+        taskTracker.addTask(CS2103);
+        assertEquals(List.of(), storage.writtenStates);
+        saver.flush();
+
+        assertEquals(List.of(expected), storage.writtenStates);
+    }
+
+    @Test
+    public void flush_nothingSaved_nothingWritten() throws Exception {
+        TaskTrackerStorageStub storage = new TaskTrackerStorageStub(0);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY);
+        saver.flush();
+        saver.save(new TaskTracker());
+        saver.flush();
+        saver.flush();
+
+        assertEquals(List.of(new TaskTracker()), storage.writtenStates);
+    }
+
+    @Test
+    public void save_lastWriteFailed_failureReportedAndStateWrittenAgain() throws Exception {
+        TaskTrackerStorageStub storage = new TaskTrackerStorageStub(1);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY);
+        TaskTracker taskTracker = getTypicalTaskTracker();
+        saver.save(taskTracker);
+        assertThrows(IOException.class, saver::flush);
+
+        saver.flush();
+        assertEquals(List.of(getTypicalTaskTracker()), storage.writtenStates);
+    }
+
+    @Test
+    public void save_writesFailed_retriedWithoutSaveAndFailureCleared() throws Exception {
+        TaskTrackerStorageStub storage = new TaskTrackerStorageStub(2);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0, 1);
+        saver.save(getTypicalTaskTracker());
+        assertTrue(storage.written.await(LONG_DELAY, TimeUnit.MILLISECONDS));
+
+        // the failures are not reported once a retry has written the state
+        saver.flush();
+        assertEquals(List.of(getTypicalTaskTracker()), storage.writtenStates);
+    }
+
+    @Test
+    public void save_noDelay_writtenInBackground() throws Exception {
+        TaskTrackerStorageStub storage = new TaskTrackerStorageStub(0);
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0);
+        saver.save(getTypicalTaskTracker());
+        saver.flush();
+
+        assertEquals(List.of(getTypicalTaskTracker()), storage.writtenStates);
+    }
+
+    /**
+     * A {@code TaskTrackerStorage} that records the states written to it, after failing a given number of times.
+     */
+    private static class TaskTrackerStorageStub implements TaskTrackerStorage {
+        private final List<TaskTracker> writtenStates = new ArrayList<>();
+        private final CountDownLatch written = new CountDownLatch(1);
+        private int failuresLeft;
+
+        TaskTrackerStorageStub(int failures) {
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public Path getTaskTrackerFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskTracker> readTaskTracker() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTaskTracker> readTaskTracker(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTaskTracker(ReadOnlyTaskTracker taskTracker) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy exception");
+            }
+            writtenStates.add(new TaskTracker(taskTracker));
+            written.countDown();
+        }
+
+        @Override
+        public void saveTaskTracker(ReadOnlyTaskTracker taskTracker, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}